@@ -3,12 +3,14 @@ package io.github.resilience4j.decorators;
 import io.github.resilience4j.bulkhead.Bulkhead;
 import io.github.resilience4j.cache.Cache;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.Deadline;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.retry.Retry;
 import io.vavr.CheckedFunction0;
 import io.vavr.CheckedFunction1;
 import io.vavr.CheckedRunnable;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
@@ -17,7 +19,10 @@ import java.util.function.Supplier;
 
 /**
  * A Decorator builder which can be used to apply multiple decorators to a (Checked-)Supplier, (Checked-)Function,
- * (Checked-)Runnable, (Checked-)CompletionStage or (Checked-)Consumer
+ * (Checked-)Runnable, (Checked-)CompletionStage or (Checked-)Consumer.
+ * <p>
+ * A {@link Deadline} added with {@code withDeadline} bounds the total latency of all decorators which were added
+ * before it, so it should usually be added last.
  */
 public interface Decorators {
 
@@ -85,6 +90,11 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateSupplier<T> withDeadline(Duration budget) {
+			supplier = Deadline.decorateSupplier(budget, supplier);
+			return this;
+		}
+
 		public Supplier<T> decorate() {
 			return supplier;
 		}
@@ -121,6 +131,12 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateFunction<T, R> withDeadline(Duration budget) {
+			Function<T, R> function = this.function;
+			this.function = t -> Deadline.after(budget).executeSupplier(() -> function.apply(t));
+			return this;
+		}
+
 		public Function<T, R> decorate() {
 			return function;
 		}
@@ -157,6 +173,15 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateRunnable withDeadline(Duration budget) {
+			Runnable runnable = this.runnable;
+			this.runnable = () -> Deadline.after(budget).executeSupplier(() -> {
+				runnable.run();
+				return null;
+			});
+			return this;
+		}
+
 		public Runnable decorate() {
 			return runnable;
 		}
@@ -198,6 +223,11 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateCheckedSupplier<T> withDeadline(Duration budget) {
+			supplier = Deadline.decorateCheckedSupplier(budget, supplier);
+			return this;
+		}
+
 		public CheckedFunction0<T> decorate() {
 			return supplier;
 		}
@@ -234,6 +264,12 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateCheckedFunction<T, R> withDeadline(Duration budget) {
+			CheckedFunction1<T, R> function = this.function;
+			this.function = t -> Deadline.after(budget).executeCheckedSupplier(() -> function.apply(t));
+			return this;
+		}
+
 		public CheckedFunction1<T, R> decorate() {
 			return function;
 		}
@@ -270,6 +306,15 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateCheckedRunnable withDeadline(Duration budget) {
+			CheckedRunnable runnable = this.runnable;
+			this.runnable = () -> Deadline.after(budget).executeCheckedSupplier(() -> {
+				runnable.run();
+				return null;
+			});
+			return this;
+		}
+
 		public CheckedRunnable decorate() {
 			return runnable;
 		}
@@ -307,6 +352,15 @@ public interface Decorators {
 			return this;
 		}
 
+		public <K> DecorateFunction<K, CompletionStage<T>> withCache(Cache<K, T> cache) {
+			return Decorators.ofFunction(Cache.decorateCompletionStage(cache, stageSupplier));
+		}
+
+		public DecorateCompletionStage<T> withDeadline(Duration budget) {
+			stageSupplier = Deadline.decorateCompletionStage(budget, stageSupplier);
+			return this;
+		}
+
 		public Supplier<CompletionStage<T>> decorate() {
 			return stageSupplier;
 		}
@@ -339,6 +393,15 @@ public interface Decorators {
 			return this;
 		}
 
+		public DecorateConsumer<T> withDeadline(Duration budget) {
+			Consumer<T> consumer = this.consumer;
+			this.consumer = t -> Deadline.after(budget).executeSupplier(() -> {
+				consumer.accept(t);
+				return null;
+			});
+			return this;
+		}
+
 		public Consumer<T> decorate() {
 			return consumer;
 		}
@@ -25,11 +25,13 @@ import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.test.HelloWorldService;
 import io.vavr.CheckedFunction0;
 import io.vavr.CheckedFunction1;
 import io.vavr.CheckedRunnable;
 import io.vavr.control.Try;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.BDDMockito;
@@ -40,6 +42,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -51,10 +54,17 @@ import static org.mockito.Mockito.times;
 public class DecoratorsTest {
     public boolean state = false;
     private HelloWorldService helloWorldService;
+    private ScheduledExecutorService scheduler;
 
     @Before
     public void setUp() {
         helloWorldService = mock(HelloWorldService.class);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
     }
 
     @Test
@@ -156,7 +166,7 @@ public class DecoratorsTest {
 
         CompletionStage<String> completionStage = Decorators.ofCompletionStage(completionStageSupplier)
                 .withCircuitBreaker(circuitBreaker)
-                .withRetry(Retry.ofDefaults("id"), Executors.newSingleThreadScheduledExecutor())
+                .withRetry(Retry.ofDefaults("id"), scheduler)
                 .withBulkhead(Bulkhead.ofDefaults("testName"))
                 .get();
 
@@ -182,7 +192,7 @@ public class DecoratorsTest {
 
         CompletionStage<String> completionStage = Decorators.ofCompletionStage(completionStageSupplier)
                 .withCircuitBreaker(circuitBreaker)
-                .withRetry(Retry.ofDefaults("id"), Executors.newSingleThreadScheduledExecutor())
+                .withRetry(Retry.ofDefaults("id"), scheduler)
                 .withBulkhead(Bulkhead.ofDefaults("testName"))
                 .get();
 
@@ -311,6 +321,70 @@ public class DecoratorsTest {
         BDDMockito.then(helloWorldService).should(times(1)).returnHelloWorld();
     }
 
+    @Test
+    public void testDecoratorBuilderWithDeadlineBoundsRateLimiterWait() {
+        given(helloWorldService.returnHelloWorld()).willReturn("Hello world");
+        RateLimiter rateLimiter = RateLimiter.of("backendName", RateLimiterConfig.custom()
+                .timeoutDuration(Duration.ofSeconds(5))
+                .limitRefreshPeriod(Duration.ofSeconds(10))
+                .limitForPeriod(1)
+                .build());
+
+        CheckedFunction0<String> restrictedSupplier = Decorators.ofCheckedSupplier(() -> helloWorldService.returnHelloWorld())
+                .withRateLimiter(rateLimiter)
+                .withDeadline(Duration.ofMillis(100))
+                .decorate();
+
+        Try<String> firstTry = Try.of(restrictedSupplier);
+        assertThat(firstTry.isSuccess()).isTrue();
+        long start = System.nanoTime();
+        Try<String> secondTry = Try.of(restrictedSupplier);
+        assertThat(secondTry.getCause()).isInstanceOf(RequestNotPermitted.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        BDDMockito.then(helloWorldService).should(times(1)).returnHelloWorld();
+    }
+
+    @Test
+    public void testDecoratorBuilderWithDeadlineStopsRetry() {
+        given(helloWorldService.returnHelloWorld()).willThrow(new RuntimeException("BAM!"));
+        Retry retry = Retry.of("id", RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofSeconds(1))
+                .build());
+
+        Supplier<String> decoratedSupplier = Decorators.ofSupplier(() -> helloWorldService.returnHelloWorld())
+                .withRetry(retry)
+                .withDeadline(Duration.ofMillis(500))
+                .decorate();
+
+        Try<String> result = Try.ofSupplier(decoratedSupplier);
+
+        assertThat(result.getCause()).hasMessage("BAM!");
+        assertThat(retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(1);
+        BDDMockito.then(helloWorldService).should(times(1)).returnHelloWorld();
+    }
+
+    @Test
+    public void testDecorateCompletionStageWithDeadlineStopsRetry() throws InterruptedException {
+        given(helloWorldService.returnHelloWorld()).willThrow(new RuntimeException("BAM!"));
+        Retry retry = Retry.of("id", RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofSeconds(1))
+                .build());
+
+        CompletionStage<String> completionStage = Decorators
+                .ofCompletionStage(() -> CompletableFuture.supplyAsync(helloWorldService::returnHelloWorld))
+                .withRetry(retry, scheduler)
+                .withDeadline(Duration.ofMillis(500))
+                .get();
+
+        Try<String> result = Try.of(() -> completionStage.toCompletableFuture().get());
+
+        assertThat(result.getCause()).isInstanceOf(ExecutionException.class);
+        BDDMockito.then(helloWorldService).should(times(1)).returnHelloWorld();
+    }
+
     private void alignTime(RateLimiter rateLimiter) {
         RateLimiter.Metrics metrics = rateLimiter.getMetrics();
         while (rateLimiter.acquirePermission(Duration.ZERO)) {
@@ -356,4 +430,19 @@ public class DecoratorsTest {
         assertThat(value).isEqualTo("Hello from cache");
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testDecorateCompletionStageWithCache() throws ExecutionException, InterruptedException {
+        javax.cache.Cache<String, String> cache = mock(javax.cache.Cache.class);
+        // Given the cache contains the key
+        given(cache.get("testKey")).willReturn("Hello from cache");
+
+        Function<String, CompletionStage<String>> cachedFunction = Decorators
+                .ofCompletionStage(() -> CompletableFuture.completedFuture("Hello world"))
+                .withCache(Cache.of(cache))
+                .decorate();
+        String value = cachedFunction.apply("testKey").toCompletableFuture().get();
+        assertThat(value).isEqualTo("Hello from cache");
+    }
+
 }
@@ -22,8 +22,11 @@ import io.github.resilience4j.bulkhead.event.BulkheadEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallFinishedEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallPermittedEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallRejectedEvent;
+import io.github.resilience4j.bulkhead.internal.BulkheadMetricsSnapshot;
 import io.github.resilience4j.bulkhead.internal.SemaphoreBulkhead;
 import io.github.resilience4j.core.EventConsumer;
+import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
 import io.vavr.CheckedConsumer;
 import io.vavr.CheckedFunction0;
 import io.vavr.CheckedFunction1;
@@ -32,6 +35,7 @@ import io.vavr.CheckedRunnable;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -83,6 +87,26 @@ public interface Bulkhead {
      */
     void acquirePermission();
 
+    /**
+     * Acquires a permission to execute a call if one is available right now, without waiting for the
+     * configured max wait time. Otherwise the given waiter is queued, no event is published, and the
+     * waiter is offered the next released permission. This lets asynchronous callers wait for a permission
+     * without blocking a thread.
+     * <p>
+     * The waiter returns {@code true} if it takes the offered permission and is responsible for releasing it.
+     * A waiter which gave up returns {@code false} and the permission is offered to the next waiter.
+     * Without a waiter a rejected event is published if no permission is available.
+     * <p>
+     * The default implementation cannot queue waiters. It acquires the permission like
+     * {@link Bulkhead#tryAcquirePermission()} and never calls the waiter.
+     *
+     * @param waiter the waiter to queue if no permission is available, or {@code null} to reject the call
+     * @return {@code true} if a permission was acquired right now and {@code false} otherwise
+     */
+    default boolean tryAcquirePermissionOrEnqueue(@Nullable BooleanSupplier waiter) {
+        return tryAcquirePermission();
+    }
+
     /**
      * Releases a permission and increases the number of available permits by one.
      *
@@ -457,6 +481,40 @@ public interface Bulkhead {
          * @return max allowed concurrent calls
          */
         int getMaxAllowedConcurrentCalls();
+
+        /**
+         * Returns the percentiles of the time permitted calls have waited for a permission. It does not contain the
+         * duration of the calls themselves. The snapshot is empty, if wait time recording is not enabled in the
+         * BulkheadConfig.
+         *
+         * @return a snapshot of the recorded waiting times
+         */
+        default LatencySnapshot getWaitTimeSnapshot() {
+            return LatencySnapshot.empty();
+        }
+
+        /**
+         * Returns the percentiles of the time permitted calls have waited for a permission since the previous interval
+         * snapshot, and starts a new interval. It is meant for a single reader, like a metrics exporter. The snapshot
+         * is empty, if wait time recording is not enabled in the BulkheadConfig, and for an immutable
+         * {@link #snapshot()} of the metrics.
+         *
+         * @return a snapshot of the waiting times recorded in the last interval
+         */
+        default LatencySnapshot getIntervalWaitTimeSnapshot() {
+            return LatencySnapshot.empty();
+        }
+
+        /**
+         * Returns an immutable snapshot of the metrics, whose values are read at once.
+         * <p>
+         * The default implementation copies the values of the getters one after another.
+         *
+         * @return an immutable snapshot of the metrics
+         */
+        default Metrics snapshot() {
+            return BulkheadMetricsSnapshot.of(this);
+        }
     }
 
     /**
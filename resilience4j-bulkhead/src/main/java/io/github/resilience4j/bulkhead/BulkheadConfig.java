@@ -30,6 +30,7 @@ public class BulkheadConfig {
 
 	private int maxConcurrentCalls = DEFAULT_MAX_CONCURRENT_CALLS;
 	private long maxWaitTime = DEFAULT_MAX_WAIT_TIME;
+	private boolean waitTimeRecordingEnabled = false;
 
 	private BulkheadConfig() {
 	}
@@ -69,6 +70,10 @@ public class BulkheadConfig {
 		return maxWaitTime;
 	}
 
+	public boolean isWaitTimeRecordingEnabled() {
+		return waitTimeRecordingEnabled;
+	}
+
 	public static class Builder {
 
 		private BulkheadConfig config = new BulkheadConfig();
@@ -132,6 +137,18 @@ public class BulkheadConfig {
 			return this;
 		}
 
+		/**
+		 * Enables recording the time calls wait for a permission into a fixed-size histogram, so that its
+		 * percentiles are available through {@link Bulkhead.Metrics#getWaitTimeSnapshot()}.
+		 *
+		 * @param waitTimeRecordingEnabled true, if the waiting time of calls should be recorded
+		 * @return the BulkheadConfig.Builder
+		 */
+		public Builder waitTimeRecordingEnabled(boolean waitTimeRecordingEnabled) {
+			config.waitTimeRecordingEnabled = waitTimeRecordingEnabled;
+			return this;
+		}
+
 		/**
 		 * Builds a BulkheadConfig
 		 *
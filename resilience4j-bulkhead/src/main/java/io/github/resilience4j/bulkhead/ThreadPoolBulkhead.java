@@ -27,6 +27,7 @@ import io.github.resilience4j.bulkhead.event.BulkheadOnCallFinishedEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallPermittedEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallRejectedEvent;
 import io.github.resilience4j.bulkhead.internal.FixedThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.internal.ThreadPoolBulkheadMetricsSnapshot;
 import io.github.resilience4j.core.EventConsumer;
 
 /**
@@ -225,6 +226,17 @@ public interface ThreadPoolBulkhead {
 		 * @return the queue capacity
 		 */
 		int getQueueCapacity();
+
+		/**
+		 * Returns an immutable snapshot of the metrics, whose values are read at once.
+		 * <p>
+		 * The default implementation copies the values of the getters one after another.
+		 *
+		 * @return an immutable snapshot of the metrics
+		 */
+		default Metrics snapshot() {
+			return ThreadPoolBulkheadMetricsSnapshot.of(this);
+		}
 	}
 
 	/**
@@ -18,16 +18,18 @@
  */
 package io.github.resilience4j.bulkhead.event;
 
+import io.github.resilience4j.core.EventClock;
+
 import java.time.ZonedDateTime;
 
 abstract class AbstractBulkheadEvent implements BulkheadEvent {
 
     private final String bulkheadName;
-    private final ZonedDateTime creationTime;
+    private final long creationTimeInMillis;
 
     AbstractBulkheadEvent(String bulkheadName) {
         this.bulkheadName = bulkheadName;
-        this.creationTime = ZonedDateTime.now();
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
     }
 
     @Override
@@ -37,6 +39,11 @@ abstract class AbstractBulkheadEvent implements BulkheadEvent {
 
     @Override
     public ZonedDateTime getCreationTime() {
-        return creationTime;
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
     }
 }
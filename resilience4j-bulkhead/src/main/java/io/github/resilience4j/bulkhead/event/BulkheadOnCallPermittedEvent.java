@@ -18,13 +18,31 @@
  */
 package io.github.resilience4j.bulkhead.event;
 
+import java.time.Duration;
+
 /**
  * A BulkheadEvent which informs that a call has been permitted to execute
  */
 public class BulkheadOnCallPermittedEvent extends AbstractBulkheadEvent {
 
+    private final Duration waitDuration;
+
     public BulkheadOnCallPermittedEvent(String bulkheadName) {
+        this(bulkheadName, Duration.ZERO);
+    }
+
+    public BulkheadOnCallPermittedEvent(String bulkheadName, Duration waitDuration) {
         super(bulkheadName);
+        this.waitDuration = waitDuration;
+    }
+
+    /**
+     * Returns how long the call waited for a free slot before it was permitted.
+     *
+     * @return the wait duration, zero if the call was permitted immediately
+     */
+    public Duration getWaitDuration() {
+        return waitDuration;
     }
 
     @Override
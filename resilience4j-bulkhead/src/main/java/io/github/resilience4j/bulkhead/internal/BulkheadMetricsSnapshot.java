@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.bulkhead.internal;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
+
+/**
+ * An immutable snapshot of the {@link Bulkhead.Metrics} of a Bulkhead.
+ */
+public final class BulkheadMetricsSnapshot implements Bulkhead.Metrics {
+
+    private final int availableConcurrentCalls;
+    private final int maxAllowedConcurrentCalls;
+    private final LatencySnapshot waitTimeSnapshot;
+
+    BulkheadMetricsSnapshot(int availableConcurrentCalls, int maxAllowedConcurrentCalls, LatencySnapshot waitTimeSnapshot) {
+        this.availableConcurrentCalls = availableConcurrentCalls;
+        this.maxAllowedConcurrentCalls = maxAllowedConcurrentCalls;
+        this.waitTimeSnapshot = waitTimeSnapshot;
+    }
+
+    /**
+     * Copies the values of the given metrics. They are read one after another, so they are only consistent with
+     * each other if the metrics do not change meanwhile.
+     *
+     * @param metrics the metrics to copy
+     * @return an immutable copy of the metrics
+     */
+    public static Bulkhead.Metrics of(Bulkhead.Metrics metrics) {
+        return new BulkheadMetricsSnapshot(metrics.getAvailableConcurrentCalls(), metrics.getMaxAllowedConcurrentCalls(),
+                metrics.getWaitTimeSnapshot());
+    }
+
+    @Override
+    public int getAvailableConcurrentCalls() {
+        return availableConcurrentCalls;
+    }
+
+    @Override
+    public int getMaxAllowedConcurrentCalls() {
+        return maxAllowedConcurrentCalls;
+    }
+
+    @Override
+    public LatencySnapshot getWaitTimeSnapshot() {
+        return waitTimeSnapshot;
+    }
+
+    @Override
+    public Bulkhead.Metrics snapshot() {
+        return this;
+    }
+}
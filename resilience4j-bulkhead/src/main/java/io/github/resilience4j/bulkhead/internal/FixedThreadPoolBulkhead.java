@@ -263,5 +263,13 @@ public class FixedThreadPoolBulkhead implements ThreadPoolBulkhead {
 		public int getQueueCapacity() {
 			return config.getQueueCapacity();
 		}
+
+		@Override
+		public Metrics snapshot() {
+			int queueDepth = getQueueDepth();
+			// the queue is bounded, so the remaining capacity is derived from the same read as the queue depth
+			return new ThreadPoolBulkheadMetricsSnapshot(getCoreThreadPoolSize(), getThreadPoolSize(),
+					getMaximumThreadPoolSize(), queueDepth, getQueueCapacity() - queueDepth, getQueueCapacity());
+		}
 	}
 }
@@ -26,12 +26,20 @@ import io.github.resilience4j.bulkhead.event.BulkheadEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallFinishedEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallPermittedEvent;
 import io.github.resilience4j.bulkhead.event.BulkheadOnCallRejectedEvent;
+import io.github.resilience4j.core.Deadline;
 import io.github.resilience4j.core.EventConsumer;
 import io.github.resilience4j.core.EventProcessor;
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.core.metrics.LatencyRecorder;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
 
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
@@ -49,6 +57,9 @@ public class SemaphoreBulkhead implements Bulkhead {
     private volatile BulkheadConfig config;
     private final BulkheadMetrics metrics;
     private final BulkheadEventProcessor eventProcessor;
+    @Nullable
+    private final LatencyRecorder waitTimeRecorder;
+    private final Queue<BooleanSupplier> permissionWaiters = new ConcurrentLinkedQueue<>();
 
     /**
      * Creates a bulkhead using a configuration supplied
@@ -64,6 +75,7 @@ public class SemaphoreBulkhead implements Bulkhead {
 
         this.metrics = new BulkheadMetrics();
         this.eventProcessor = new BulkheadEventProcessor();
+        this.waitTimeRecorder = this.config.isWaitTimeRecordingEnabled() ? new LatencyRecorder() : null;
     }
 
     /**
@@ -95,7 +107,9 @@ public class SemaphoreBulkhead implements Bulkhead {
             if (delta < 0) {
                 semaphore.acquireUninterruptibly(-delta);
             } else if (delta > 0) {
-                semaphore.release(delta);
+                for (int i = 0; i < delta; i++) {
+                    releaseSlot();
+                }
             }
             config = newConfig;
         }
@@ -111,12 +125,16 @@ public class SemaphoreBulkhead implements Bulkhead {
 
     @Override
     public boolean tryAcquirePermission() {
-        boolean callPermitted = tryEnterBulkhead();
+        long waitDurationInNanos = enterBulkhead();
+        boolean callPermitted = waitDurationInNanos >= 0;
 
-        publishBulkheadEvent(
-                () -> callPermitted ? new BulkheadOnCallPermittedEvent(name)
-                        : new BulkheadOnCallRejectedEvent(name)
-        );
+        if (callPermitted) {
+            if (eventProcessor.hasConsumers(BulkheadOnCallPermittedEvent.class)) {
+                eventProcessor.consumeEvent(new BulkheadOnCallPermittedEvent(name, Duration.ofNanos(waitDurationInNanos)));
+            }
+        } else {
+            publishBulkheadEvent(BulkheadOnCallRejectedEvent.class, BulkheadOnCallRejectedEvent::new);
+        }
 
         return callPermitted;
     }
@@ -128,9 +146,32 @@ public class SemaphoreBulkhead implements Bulkhead {
         }
     }
 
+    @Override
+    public boolean tryAcquirePermissionOrEnqueue(@Nullable BooleanSupplier waiter) {
+        if (tryEnterBulkheadWithoutWaiting()) {
+            publishBulkheadEvent(BulkheadOnCallPermittedEvent.class, BulkheadOnCallPermittedEvent::new);
+            return true;
+        }
+        if (waiter == null) {
+            publishBulkheadEvent(BulkheadOnCallRejectedEvent.class, BulkheadOnCallRejectedEvent::new);
+            return false;
+        }
+        permissionWaiters.add(waiter);
+        // a permission may have been released before the waiter was queued
+        if (tryEnterBulkheadWithoutWaiting()) {
+            if (permissionWaiters.remove(waiter)) {
+                publishBulkheadEvent(BulkheadOnCallPermittedEvent.class, BulkheadOnCallPermittedEvent::new);
+                return true;
+            }
+            // a releasing call has already offered a permission to the waiter
+            releaseSlot();
+        }
+        return false;
+    }
+
     @Override
     public void releasePermission() {
-        semaphore.release();
+        releaseSlot();
     }
 
     /**
@@ -138,8 +179,8 @@ public class SemaphoreBulkhead implements Bulkhead {
      */
     @Override
     public void onComplete() {
-        semaphore.release();
-        publishBulkheadEvent(() -> new BulkheadOnCallFinishedEvent(name));
+        publishBulkheadEvent(BulkheadOnCallFinishedEvent.class, BulkheadOnCallFinishedEvent::new);
+        releaseSlot();
     }
 
     /**
@@ -206,25 +247,80 @@ public class SemaphoreBulkhead implements Bulkhead {
     }
 
     boolean tryEnterBulkhead() {
+        return enterBulkhead() >= 0;
+    }
+
+    /**
+     * Tries to acquire a slot, waiting at most the configured max wait time.
+     * The wait is only timed if a wait time recorder or a permitted event consumer needs it.
+     *
+     * @return the nanoseconds waited for the slot, or -1 if no slot could be acquired
+     */
+    private long enterBulkhead() {
 
         boolean callPermitted;
-        long timeout = config.getMaxWaitTime();
+        long waitDurationInNanos = 0;
+        long timeout = Deadline.boundedWaitNanos(TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitTime()));
 
         if (timeout == 0) {
             callPermitted = semaphore.tryAcquire();
         } else {
             try {
-                callPermitted = semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+                // a timed tryAcquire honours the fairness of the semaphore, a zero timeout doesn't block
+                callPermitted = semaphore.tryAcquire(0, TimeUnit.NANOSECONDS);
+                if (!callPermitted) {
+                    boolean timed = waitTimeRecorder != null || eventProcessor.hasConsumers(BulkheadOnCallPermittedEvent.class);
+                    long start = timed ? System.nanoTime() : 0;
+                    callPermitted = semaphore.tryAcquire(timeout, TimeUnit.NANOSECONDS);
+                    if (callPermitted && timed) {
+                        waitDurationInNanos = System.nanoTime() - start;
+                    }
+                }
             } catch (InterruptedException ex) {
                 callPermitted = false;
             }
         }
-        return callPermitted;
+        if (!callPermitted) {
+            return -1;
+        }
+        if (waitTimeRecorder != null) {
+            waitTimeRecorder.record(waitDurationInNanos);
+        }
+        return waitDurationInNanos;
     }
 
-    private void publishBulkheadEvent(Supplier<BulkheadEvent> eventSupplier) {
-        if (eventProcessor.hasConsumers()) {
-            eventProcessor.consumeEvent(eventSupplier.get());
+    private boolean tryEnterBulkheadWithoutWaiting() {
+        try {
+            // unlike tryAcquire(), a timed tryAcquire honours the fairness of the semaphore
+            return semaphore.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Offers a released permission to the queued waiters and returns it to the semaphore if none takes it.
+     * Queued waiters take precedence over threads which wait for the semaphore.
+     */
+    private void releaseSlot() {
+        BooleanSupplier waiter;
+        while ((waiter = permissionWaiters.poll()) != null) {
+            if (waiter.getAsBoolean()) {
+                publishBulkheadEvent(BulkheadOnCallPermittedEvent.class, BulkheadOnCallPermittedEvent::new);
+                return;
+            }
+        }
+        semaphore.release();
+    }
+
+    /**
+     * Creates and publishes an event only if an enabled consumer listens to its type. The event is created from the
+     * name of the bulkhead, so that callers can pass a constructor reference instead of allocating a capturing lambda.
+     */
+    private void publishBulkheadEvent(Class<? extends BulkheadEvent> eventType, Function<String, BulkheadEvent> eventFactory) {
+        if (eventProcessor.hasConsumers(eventType)) {
+            eventProcessor.consumeEvent(eventFactory.apply(name));
         }
     }
 
@@ -241,5 +337,21 @@ public class SemaphoreBulkhead implements Bulkhead {
         public int getMaxAllowedConcurrentCalls() {
             return config.getMaxConcurrentCalls();
         }
+
+        @Override
+        public LatencySnapshot getWaitTimeSnapshot() {
+            return waitTimeRecorder != null ? waitTimeRecorder.getSnapshot() : LatencySnapshot.empty();
+        }
+
+        @Override
+        public LatencySnapshot getIntervalWaitTimeSnapshot() {
+            return waitTimeRecorder != null ? waitTimeRecorder.getIntervalSnapshot() : LatencySnapshot.empty();
+        }
+
+        @Override
+        public Metrics snapshot() {
+            return new BulkheadMetricsSnapshot(getAvailableConcurrentCalls(), getMaxAllowedConcurrentCalls(),
+                    getWaitTimeSnapshot());
+        }
     }
 }
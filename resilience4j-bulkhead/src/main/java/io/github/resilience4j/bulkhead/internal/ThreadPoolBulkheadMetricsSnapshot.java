@@ -0,0 +1,92 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.bulkhead.internal;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+
+/**
+ * An immutable snapshot of the {@link ThreadPoolBulkhead.Metrics} of a ThreadPoolBulkhead.
+ */
+public final class ThreadPoolBulkheadMetricsSnapshot implements ThreadPoolBulkhead.Metrics {
+
+	private final int coreThreadPoolSize;
+	private final int threadPoolSize;
+	private final int maximumThreadPoolSize;
+	private final int queueDepth;
+	private final int remainingQueueCapacity;
+	private final int queueCapacity;
+
+	ThreadPoolBulkheadMetricsSnapshot(int coreThreadPoolSize, int threadPoolSize, int maximumThreadPoolSize,
+									  int queueDepth, int remainingQueueCapacity, int queueCapacity) {
+		this.coreThreadPoolSize = coreThreadPoolSize;
+		this.threadPoolSize = threadPoolSize;
+		this.maximumThreadPoolSize = maximumThreadPoolSize;
+		this.queueDepth = queueDepth;
+		this.remainingQueueCapacity = remainingQueueCapacity;
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Copies the values of the given metrics. They are read one after another, so they are only consistent with
+	 * each other if the metrics do not change meanwhile.
+	 *
+	 * @param metrics the metrics to copy
+	 * @return an immutable copy of the metrics
+	 */
+	public static ThreadPoolBulkhead.Metrics of(ThreadPoolBulkhead.Metrics metrics) {
+		return new ThreadPoolBulkheadMetricsSnapshot(metrics.getCoreThreadPoolSize(), metrics.getThreadPoolSize(),
+				metrics.getMaximumThreadPoolSize(), metrics.getQueueDepth(), metrics.getRemainingQueueCapacity(),
+				metrics.getQueueCapacity());
+	}
+
+	@Override
+	public int getCoreThreadPoolSize() {
+		return coreThreadPoolSize;
+	}
+
+	@Override
+	public int getThreadPoolSize() {
+		return threadPoolSize;
+	}
+
+	@Override
+	public int getMaximumThreadPoolSize() {
+		return maximumThreadPoolSize;
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	@Override
+	public int getRemainingQueueCapacity() {
+		return remainingQueueCapacity;
+	}
+
+	@Override
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	@Override
+	public ThreadPoolBulkhead.Metrics snapshot() {
+		return this;
+	}
+}
@@ -32,6 +32,7 @@ public class BulkheadEventTest {
         assertThat(event.getBulkheadName()).isEqualTo("test");
         assertThat(event.getEventType()).isEqualTo(Type.CALL_REJECTED);
         assertThat(event.getCreationTime()).isNotNull();
+        assertThat(event.getCreationTime().toInstant().toEpochMilli()).isEqualTo(event.getCreationTimeInMillis());
         assertThat(event.toString()).contains("Bulkhead 'test' rejected a call.");
     }
 
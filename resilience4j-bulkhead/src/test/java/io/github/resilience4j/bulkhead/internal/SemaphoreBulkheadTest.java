@@ -446,6 +446,47 @@ public class SemaphoreBulkheadTest {
 		assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(3); // main thread is still holding
 	}
 
+	@Test
+	public void shouldHandOverAReleasedPermissionToAQueuedWaiter() {
+		// given
+		bulkhead.tryAcquirePermission();
+		bulkhead.tryAcquirePermission();
+		AtomicBoolean permitted = new AtomicBoolean();
+
+		// when
+		boolean acquired = bulkhead.tryAcquirePermissionOrEnqueue(() -> {
+			permitted.set(true);
+			return true;
+		});
+
+		// then
+		assertThat(acquired).isFalse();
+		assertThat(permitted.get()).isFalse();
+
+		bulkhead.onComplete();
+
+		assertThat(permitted.get()).isTrue();
+		assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(0);
+		testSubscriber.assertValues(CALL_PERMITTED, CALL_PERMITTED, CALL_FINISHED, CALL_PERMITTED);
+	}
+
+	@Test
+	public void shouldSkipAWaiterWhichGaveUp() {
+		// given
+		bulkhead.tryAcquirePermission();
+		bulkhead.tryAcquirePermission();
+		bulkhead.tryAcquirePermissionOrEnqueue(() -> false);
+
+		// when
+		bulkhead.onComplete();
+
+		// then
+		assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+		assertThat(bulkhead.tryAcquirePermissionOrEnqueue(null)).isTrue();
+		assertThat(bulkhead.tryAcquirePermissionOrEnqueue(null)).isFalse();
+		testSubscriber.assertValues(CALL_PERMITTED, CALL_PERMITTED, CALL_FINISHED, CALL_PERMITTED, CALL_REJECTED);
+	}
+
 	void sleep(long time) {
 		try {
 			Thread.sleep(time);
@@ -453,4 +494,23 @@ public class SemaphoreBulkheadTest {
 			ex.printStackTrace();
 		}
 	}
+
+	@Test
+	public void testWaitTimeRecording() {
+		// given
+		Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+				.maxConcurrentCalls(1)
+				.waitTimeRecordingEnabled(true)
+				.build());
+
+		// when
+		bulkhead.tryAcquirePermission();
+		bulkhead.tryAcquirePermission();
+
+		// then
+		assertThat(bulkhead.getMetrics().getWaitTimeSnapshot().getCount()).isEqualTo(1);
+		assertThat(this.bulkhead.getMetrics().getWaitTimeSnapshot().getCount()).isEqualTo(0);
+		assertThat(bulkhead.getMetrics().getIntervalWaitTimeSnapshot().getCount()).isEqualTo(1);
+		assertThat(bulkhead.getMetrics().getIntervalWaitTimeSnapshot().getCount()).isEqualTo(0);
+	}
 }
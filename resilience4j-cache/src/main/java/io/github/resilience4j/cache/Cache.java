@@ -22,13 +22,18 @@ import io.github.resilience4j.cache.event.CacheEvent;
 import io.github.resilience4j.cache.event.CacheOnErrorEvent;
 import io.github.resilience4j.cache.event.CacheOnHitEvent;
 import io.github.resilience4j.cache.event.CacheOnMissEvent;
+import io.github.resilience4j.cache.event.CacheOnStaleHitEvent;
 import io.github.resilience4j.cache.internal.CacheImpl;
+import io.github.resilience4j.cache.internal.CacheMetricsSnapshot;
 import io.github.resilience4j.core.EventConsumer;
 import io.vavr.CheckedFunction0;
 import io.vavr.CheckedFunction1;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -58,6 +63,33 @@ public interface Cache<K, V>  {
      */
     V computeIfAbsent(K key, CheckedFunction0<V> supplier);
 
+    /**
+     * If the key is not already associated with a cached value, attempts to compute its value asynchronously using
+     * the given supplier and puts it into the cache once the CompletionStage completes successfully.
+     * Otherwise it returns a completed CompletionStage with the cached value.
+     * If the supplier or the CompletionStage fails, the returned CompletionStage fails with the same exception.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param supplier supplier of a CompletionStage of the value to be associated with the specified key
+     *
+     * @return a CompletionStage of the cached value
+     */
+    CompletionStage<V> computeIfAbsentAsync(K key, Supplier<CompletionStage<V>> supplier);
+
+    /**
+     * Returns the cached values of all given keys. The values of the keys which are not already associated with a
+     * cached value are computed with a single invocation of the given loader and put into the cache.
+     * Only the values of the missing keys are taken from the loader result. Keys without a value, null values and a
+     * null result of the loader are treated as not found.
+     * If the loader itself throws an (unchecked) exception, the exception is rethrown.
+     *
+     * @param keys   the keys whose values are requested
+     * @param loader function which computes the values of all keys missing in the cache
+     *
+     * @return the values of all keys which are cached or were computed by the loader
+     */
+    Map<K, V> computeAllIfAbsent(Set<K> keys, Function<Set<K>, Map<K, V>> loader);
+
     /**
      * Returns an EventPublisher which can be used to register event consumers.
      *
@@ -65,6 +97,13 @@ public interface Cache<K, V>  {
      */
     EventPublisher getEventPublisher();
 
+    /**
+     * Releases the resources this Cache registered on the wrapped JCache instance, such as the invalidation listener
+     * of the near cache, and disables the near cache. The JCache instance itself is not closed.
+     */
+    default void close() {
+    }
+
     /**
      * Creates a Retry with default configuration.
      *
@@ -78,6 +117,43 @@ public interface Cache<K, V>  {
         return new CacheImpl<>(cache);
     }
 
+    /**
+     * Creates a Cache with a bounded in-process near cache in front of the JCache instance.
+     * Entries of the near cache are invalidated when they are updated, removed or expired in the JCache instance.
+     * The invalidation listener must be invoked in this JVM. If the JCache provider rejects it, for example because
+     * it serializes listeners to remote members, the near cache is disabled and every lookup goes to the JCache
+     * instance. {@link #close()} deregisters the listener.
+     *
+     * @param cache the wrapped JCache instance
+     * @param nearCacheConfig the near cache configuration
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a Cache
+     */
+    static <K,V> Cache<K,V> of(javax.cache.Cache<K, V> cache, NearCacheConfig nearCacheConfig){
+        Objects.requireNonNull(cache, "Cache must not be null");
+        Objects.requireNonNull(nearCacheConfig, "NearCacheConfig must not be null");
+        return new CacheImpl<>(cache, nearCacheConfig);
+    }
+
+    /**
+     * Creates a Cache which retains the last known values after they have expired in the JCache instance and
+     * serves them stale while they are refreshed in the background or while the backend is unavailable.
+     * It cannot be combined with a near cache: the near cache stops serving values which were updated or removed in
+     * the JCache instance, while stale-while-revalidate deliberately serves values the JCache instance no longer holds.
+     *
+     * @param cache the wrapped JCache instance
+     * @param staleWhileRevalidateConfig the stale-while-revalidate configuration
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a Cache
+     */
+    static <K,V> Cache<K,V> of(javax.cache.Cache<K, V> cache, StaleWhileRevalidateConfig staleWhileRevalidateConfig){
+        Objects.requireNonNull(cache, "Cache must not be null");
+        Objects.requireNonNull(staleWhileRevalidateConfig, "StaleWhileRevalidateConfig must not be null");
+        return new CacheImpl<>(cache, null, staleWhileRevalidateConfig);
+    }
+
     /**
      * Creates a functions which returns a value from a cache, if it exists.
      * Otherwise it calls the Supplier.
@@ -120,6 +196,34 @@ public interface Cache<K, V>  {
         return (K cacheKey) -> cache.computeIfAbsent(cacheKey, callable::call);
     }
 
+    /**
+     * Creates a functions which returns a CompletionStage of a value from a cache, if it exists.
+     * Otherwise it calls the Supplier.
+     *
+     * @param cache the Cache
+     * @param supplier the original Supplier
+     * @param <K> the type of key
+     * @param <R> the type of value
+     * @return a function which is backed by the Cache
+     */
+    static <K, R> Function<K, CompletionStage<R>> decorateCompletionStage(Cache<K, R> cache, Supplier<CompletionStage<R>> supplier){
+        return (K cacheKey) -> cache.computeIfAbsentAsync(cacheKey, supplier);
+    }
+
+    /**
+     * Creates a functions which returns the values of a set of keys from a cache, if they exist.
+     * Otherwise it calls the batch loader once with all missing keys.
+     *
+     * @param cache the Cache
+     * @param loader the original batch loader
+     * @param <K> the type of key
+     * @param <R> the type of value
+     * @return a function which is backed by the Cache
+     */
+    static <K, R> Function<Set<K>, Map<K, R>> decorateBatchFunction(Cache<K, R> cache, Function<Set<K>, Map<K, R>> loader){
+        return (Set<K> cacheKeys) -> cache.computeAllIfAbsent(cacheKeys, loader);
+    }
+
     interface Metrics {
 
         /**
@@ -129,12 +233,44 @@ public interface Cache<K, V>  {
          */
         long getNumberOfCacheHits();
 
+        /**
+         * Returns the current number of cache hits which were served by the near cache.
+         *
+         * @return the current number of near cache hits
+         */
+        long getNumberOfNearCacheHits();
+
+        /**
+         * Returns the current number of cache hits which were served by the wrapped JCache instance.
+         *
+         * @return the current number of JCache hits
+         */
+        long getNumberOfBackingCacheHits();
+
+        /**
+         * Returns the current number of lookups which were served with a stale value.
+         *
+         * @return the current number of stale hits
+         */
+        long getNumberOfStaleHits();
+
         /**
          * Returns the current number of cache misses.
          *
          * @return the current number of cache misses
          */
         long getNumberOfCacheMisses();
+
+        /**
+         * Returns an immutable snapshot of the metrics, whose values are read at once.
+         * <p>
+         * The default implementation copies the values of the getters one after another.
+         *
+         * @return an immutable snapshot of the metrics
+         */
+        default Metrics snapshot() {
+            return CacheMetricsSnapshot.of(this);
+        }
     }
 
     /**
@@ -146,6 +282,8 @@ public interface Cache<K, V>  {
 
         EventPublisher onCacheMiss(EventConsumer<CacheOnMissEvent> eventConsumer);
 
+        EventPublisher onStaleHit(EventConsumer<CacheOnStaleHitEvent> eventConsumer);
+
         EventPublisher onError(EventConsumer<CacheOnErrorEvent> eventConsumer);
 
     }
@@ -0,0 +1,40 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Keeps every reference to the optional resilience4j-circuitbreaker dependency out of
+ * {@link StaleWhileRevalidateConfig}, so that this class is only loaded when a CircuitBreaker is associated.
+ */
+final class CircuitBreakerBackendState {
+
+    private CircuitBreakerBackendState() {
+    }
+
+    static BooleanSupplier isOpen(CircuitBreaker circuitBreaker) {
+        return () -> {
+            CircuitBreaker.State state = circuitBreaker.getState();
+            return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+        };
+    }
+}
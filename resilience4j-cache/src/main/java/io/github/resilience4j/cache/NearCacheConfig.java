@@ -0,0 +1,117 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration of the bounded in-process near cache which can be put in front of a JCache instance.
+ */
+public class NearCacheConfig {
+    private static final String EXPIRE_AFTER_WRITE_MUST_NOT_BE_NULL = "ExpireAfterWrite must not be null";
+
+    private final int maximumSize;
+    private final Duration expireAfterWrite;
+
+    private NearCacheConfig(int maximumSize, Duration expireAfterWrite) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * Returns a builder to create a custom NearCacheConfig.
+     *
+     * @return a {@link NearCacheConfig.Builder}
+     */
+    public static Builder custom() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a default NearCache configuration.
+     *
+     * @return a default NearCache configuration.
+     */
+    public static NearCacheConfig ofDefaults() {
+        return new Builder().build();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheConfig{" +
+            "maximumSize=" + maximumSize +
+            ", expireAfterWrite=" + expireAfterWrite +
+            '}';
+    }
+
+    public static class Builder {
+        private int maximumSize = 1000;
+        private Duration expireAfterWrite = Duration.ofMinutes(1);
+
+        /**
+         * Builds a NearCacheConfig
+         *
+         * @return the NearCacheConfig
+         */
+        public NearCacheConfig build() {
+            return new NearCacheConfig(maximumSize, expireAfterWrite);
+        }
+
+        /**
+         * Configures the maximum number of entries held by the near cache.
+         * Default value is 1000.
+         *
+         * @param maximumSize the maximum number of entries
+         * @return the NearCacheConfig.Builder
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("MaximumSize must be greater than 0");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Configures the time after which an entry is evicted from the near cache once it has been written.
+         * Default value is 1 minute.
+         *
+         * @param expireAfterWrite the time to live of an entry
+         * @return the NearCacheConfig.Builder
+         */
+        public Builder expireAfterWrite(Duration expireAfterWrite) {
+            requireNonNull(expireAfterWrite, EXPIRE_AFTER_WRITE_MUST_NOT_BE_NULL);
+            if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+                throw new IllegalArgumentException("ExpireAfterWrite must be positive");
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration of the stale-while-revalidate mode of a Cache.
+ * <p>
+ * The last known values are retained in process after they have expired in the JCache instance. An expired value is
+ * served for a grace period while a single background refresh per key computes a new value. While the backend is
+ * unavailable, for example because its CircuitBreaker is open, retained values are served regardless of the grace
+ * period.
+ * <p>
+ * resilience4j-circuitbreaker is an optional dependency. It is only needed on the classpath to associate a
+ * CircuitBreaker with {@link Builder#circuitBreaker(CircuitBreaker)}.
+ */
+public class StaleWhileRevalidateConfig {
+    private static final String STALE_GRACE_PERIOD_MUST_NOT_BE_NULL = "StaleGracePeriod must not be null";
+    private static final String REFRESH_EXECUTOR_MUST_NOT_BE_NULL = "RefreshExecutor must not be null";
+
+    private final int maximumSize;
+    private final Duration staleGracePeriod;
+    private final Executor refreshExecutor;
+    @Nullable
+    private final BooleanSupplier backendUnavailable;
+
+    private StaleWhileRevalidateConfig(int maximumSize, Duration staleGracePeriod, Executor refreshExecutor,
+                                       @Nullable BooleanSupplier backendUnavailable) {
+        this.maximumSize = maximumSize;
+        this.staleGracePeriod = staleGracePeriod;
+        this.refreshExecutor = refreshExecutor;
+        this.backendUnavailable = backendUnavailable;
+    }
+
+    /**
+     * Returns a builder to create a custom StaleWhileRevalidateConfig.
+     *
+     * @return a {@link StaleWhileRevalidateConfig.Builder}
+     */
+    public static Builder custom() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a default StaleWhileRevalidate configuration.
+     *
+     * @return a default StaleWhileRevalidate configuration.
+     */
+    public static StaleWhileRevalidateConfig ofDefaults() {
+        return new Builder().build();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getStaleGracePeriod() {
+        return staleGracePeriod;
+    }
+
+    public Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    @Nullable
+    public BooleanSupplier getBackendUnavailable() {
+        return backendUnavailable;
+    }
+
+    @Override
+    public String toString() {
+        return "StaleWhileRevalidateConfig{" +
+            "maximumSize=" + maximumSize +
+            ", staleGracePeriod=" + staleGracePeriod +
+            ", backendUnavailable=" + backendUnavailable +
+            '}';
+    }
+
+    public static class Builder {
+        private int maximumSize = 1000;
+        private Duration staleGracePeriod = Duration.ofMinutes(1);
+        private Executor refreshExecutor = ForkJoinPool.commonPool();
+        @Nullable
+        private BooleanSupplier backendUnavailable;
+
+        /**
+         * Builds a StaleWhileRevalidateConfig
+         *
+         * @return the StaleWhileRevalidateConfig
+         */
+        public StaleWhileRevalidateConfig build() {
+            return new StaleWhileRevalidateConfig(maximumSize, staleGracePeriod, refreshExecutor, backendUnavailable);
+        }
+
+        /**
+         * Configures the maximum number of values which are retained after they have expired.
+         * Default value is 1000.
+         *
+         * @param maximumSize the maximum number of retained values
+         * @return the StaleWhileRevalidateConfig.Builder
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("MaximumSize must be greater than 0");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Configures how long an expired value is served while it is refreshed in the background.
+         * Default value is 1 minute.
+         * <p>
+         * The JCache instance does not report when a value expires, so the grace period starts at the first lookup
+         * which misses the value in the JCache instance, not at the time the value actually expired. A value which
+         * is not looked up for a while after it expired can therefore be served longer after its expiry than the
+         * grace period.
+         *
+         * @param staleGracePeriod the grace period of expired values
+         * @return the StaleWhileRevalidateConfig.Builder
+         */
+        public Builder staleGracePeriod(Duration staleGracePeriod) {
+            requireNonNull(staleGracePeriod, STALE_GRACE_PERIOD_MUST_NOT_BE_NULL);
+            if (staleGracePeriod.isNegative()) {
+                throw new IllegalArgumentException("StaleGracePeriod must not be negative");
+            }
+            this.staleGracePeriod = staleGracePeriod;
+            return this;
+        }
+
+        /**
+         * Configures the executor which runs the background refreshes.
+         * Default value is the common ForkJoinPool.
+         *
+         * @param refreshExecutor the executor of background refreshes
+         * @return the StaleWhileRevalidateConfig.Builder
+         */
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = requireNonNull(refreshExecutor, REFRESH_EXECUTOR_MUST_NOT_BE_NULL);
+            return this;
+        }
+
+        /**
+         * Associates a CircuitBreaker which protects the backend of the cached values.
+         * While it is open, retained values are served regardless of the grace period and no refresh is started.
+         *
+         * @param circuitBreaker the CircuitBreaker of the backend
+         * @return the StaleWhileRevalidateConfig.Builder
+         */
+        public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            requireNonNull(circuitBreaker, "CircuitBreaker must not be null");
+            return backendUnavailable(CircuitBreakerBackendState.isOpen(circuitBreaker));
+        }
+
+        /**
+         * Configures a condition which tells whether the backend of the cached values is unavailable.
+         * While it is true, retained values are served regardless of the grace period and no refresh is started.
+         *
+         * @param backendUnavailable true while the backend is unavailable
+         * @return the StaleWhileRevalidateConfig.Builder
+         */
+        public Builder backendUnavailable(BooleanSupplier backendUnavailable) {
+            this.backendUnavailable = requireNonNull(backendUnavailable, "BackendUnavailable must not be null");
+            return this;
+        }
+    }
+}
@@ -18,16 +18,18 @@
  */
 package io.github.resilience4j.cache.event;
 
+import io.github.resilience4j.core.EventClock;
+
 import java.time.ZonedDateTime;
 
 abstract class AbstractCacheEvent implements CacheEvent {
 
     private final String cacheName;
-    private final ZonedDateTime creationTime;
+    private final long creationTimeInMillis;
 
     AbstractCacheEvent(String cacheName) {
         this.cacheName = cacheName;
-        this.creationTime = ZonedDateTime.now();
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
     }
 
     @Override
@@ -37,6 +39,11 @@ abstract class AbstractCacheEvent implements CacheEvent {
 
     @Override
     public ZonedDateTime getCreationTime() {
-        return creationTime;
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
     }
 }
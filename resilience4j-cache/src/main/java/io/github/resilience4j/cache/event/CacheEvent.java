@@ -40,6 +40,15 @@ public interface CacheEvent {
      */
     ZonedDateTime getCreationTime();
 
+    /**
+     * Returns the creation time of Cache event in milliseconds since the epoch.
+     *
+     * @return the creation time of Cache event in milliseconds since the epoch
+     */
+    default long getCreationTimeInMillis() {
+        return getCreationTime().toInstant().toEpochMilli();
+    }
+
     /**
      * Returns the type of the Cache event.
      *
@@ -56,6 +65,8 @@ public interface CacheEvent {
         /** A CacheEvent which informs a cache hit */
         CACHE_HIT,
         /** A CacheEvent which informs a cache miss */
-        CACHE_MISS
+        CACHE_MISS,
+        /** A CacheEvent which informs that a stale value was served */
+        CACHE_STALE_HIT
     }
 }
@@ -19,19 +19,30 @@
 package io.github.resilience4j.cache.internal;
 
 import io.github.resilience4j.cache.Cache;
+import io.github.resilience4j.cache.NearCacheConfig;
+import io.github.resilience4j.cache.StaleWhileRevalidateConfig;
 import io.github.resilience4j.cache.event.CacheEvent;
 import io.github.resilience4j.cache.event.CacheOnErrorEvent;
 import io.github.resilience4j.cache.event.CacheOnHitEvent;
 import io.github.resilience4j.cache.event.CacheOnMissEvent;
+import io.github.resilience4j.cache.event.CacheOnStaleHitEvent;
 import io.github.resilience4j.core.EventConsumer;
 import io.github.resilience4j.core.EventProcessor;
+import io.github.resilience4j.core.lang.Nullable;
 import io.vavr.CheckedFunction0;
-import io.vavr.control.Option;
 import io.vavr.control.Try;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class CacheImpl<K, V>  implements Cache<K,V> {
@@ -39,13 +50,56 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
     private static final Logger LOG = LoggerFactory.getLogger(CacheImpl.class);
 
     private final javax.cache.Cache<K, V> cache;
+    @Nullable
+    private volatile NearCache<K, V> nearCache;
+    @Nullable
+    private final StaleValueStore<K, V> staleValues;
+    @Nullable
+    private final StaleWhileRevalidateConfig staleConfig;
     private final CacheMetrics metrics;
     private final CacheEventProcessor eventProcessor;
 
     public CacheImpl(javax.cache.Cache<K, V> cache) {
+        this(cache, null, null);
+    }
+
+    public CacheImpl(javax.cache.Cache<K, V> cache, @Nullable NearCacheConfig nearCacheConfig) {
+        this(cache, nearCacheConfig, null);
+    }
+
+    /**
+     * A Cache either has a near cache or serves stale values, not both. The near cache guarantees that values which
+     * are updated or removed in the JCache instance are no longer served, while the stale value store deliberately
+     * serves values which the JCache instance no longer holds. Both would also retain separate in-process copies of
+     * the same values with their own bounds and expiry.
+     */
+    public CacheImpl(javax.cache.Cache<K, V> cache, @Nullable NearCacheConfig nearCacheConfig,
+                     @Nullable StaleWhileRevalidateConfig staleConfig) {
+        if (nearCacheConfig != null && staleConfig != null) {
+            throw new IllegalArgumentException("A near cache cannot be combined with stale-while-revalidate");
+        }
         this.cache = cache;
         this.metrics = new CacheMetrics();
         this.eventProcessor = new CacheEventProcessor();
+        this.nearCache = nearCacheConfig != null ? createNearCache(nearCacheConfig) : null;
+        this.staleConfig = staleConfig;
+        this.staleValues = staleConfig != null ? new StaleValueStore<>(staleConfig) : null;
+    }
+
+    /**
+     * Creates a near cache and registers its invalidation listener. Without the listener the near cache would serve
+     * updated and removed entries until they expire, so it is disabled if the JCache provider rejects the listener.
+     */
+    @Nullable
+    private NearCache<K, V> createNearCache(NearCacheConfig nearCacheConfig) {
+        NearCache<K, V> newNearCache = new NearCache<>(nearCacheConfig);
+        try {
+            cache.registerCacheEntryListener(newNearCache.invalidationListenerConfiguration());
+            return newNearCache;
+        } catch (Exception exception) {
+            LOG.warn("Failed to register the near cache invalidation listener on Cache {}, the near cache is disabled", getName(), exception);
+            return null;
+        }
     }
 
     @Override
@@ -58,10 +112,117 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
         return metrics;
     }
 
+    @Override
+    public void close() {
+        NearCache<K, V> closedNearCache = nearCache;
+        if (closedNearCache == null) {
+            return;
+        }
+        nearCache = null;
+        try {
+            cache.deregisterCacheEntryListener(closedNearCache.invalidationListenerConfiguration());
+        } catch (Exception exception) {
+            LOG.warn("Failed to deregister the near cache invalidation listener from Cache {}", getName(), exception);
+        }
+    }
+
     @Override
     public V computeIfAbsent(K cacheKey, CheckedFunction0<V> supplier) {
-        return getValueFromCache(cacheKey)
-                .getOrElse(() -> computeAndPut(cacheKey, supplier));
+        V cachedValue = getValueFromCache(cacheKey);
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+        V staleValue = getStaleValue(cacheKey);
+        if (staleValue != null) {
+            refreshInBackground(cacheKey, () -> CompletableFuture.supplyAsync(
+                () -> Try.of(supplier).get(), staleConfig.getRefreshExecutor()));
+            return staleValue;
+        }
+        return computeAndPut(cacheKey, supplier);
+    }
+
+    @Override
+    public CompletionStage<V> computeIfAbsentAsync(K cacheKey, Supplier<CompletionStage<V>> supplier) {
+        V cachedValue = getValueFromCache(cacheKey);
+        if (cachedValue != null) {
+            return CompletableFuture.completedFuture(cachedValue);
+        }
+        V staleValue = getStaleValue(cacheKey);
+        if (staleValue != null) {
+            refreshInBackground(cacheKey, supplier);
+            return CompletableFuture.completedFuture(staleValue);
+        }
+        try {
+            return supplier.get().whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    putValueIntoCache(cacheKey, value);
+                }
+            });
+        } catch (Exception exception) {
+            CompletableFuture<V> promise = new CompletableFuture<>();
+            promise.completeExceptionally(exception);
+            return promise;
+        }
+    }
+
+    @Override
+    public Map<K, V> computeAllIfAbsent(Set<K> cacheKeys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> values = getValuesFromCache(cacheKeys);
+        if (values.size() == cacheKeys.size()) {
+            return values;
+        }
+        Set<K> missingKeys = new HashSet<>(cacheKeys);
+        missingKeys.removeAll(values.keySet());
+        Map<K, V> loadedValues = loader.apply(missingKeys);
+        if (loadedValues == null || loadedValues.isEmpty()) {
+            return values;
+        }
+        Map<K, V> missingValues = new HashMap<>(missingKeys.size());
+        for (K cacheKey : missingKeys) {
+            V value = loadedValues.get(cacheKey);
+            if (value != null) {
+                missingValues.put(cacheKey, value);
+            }
+        }
+        putValuesIntoCache(missingValues);
+        values.putAll(missingValues);
+        return values;
+    }
+
+    @Nullable
+    private V getStaleValue(K cacheKey) {
+        if (staleValues == null) {
+            return null;
+        }
+        V staleValue = staleValues.getStale(cacheKey, isBackendUnavailable());
+        if (staleValue != null) {
+            onStaleHit(cacheKey);
+        }
+        return staleValue;
+    }
+
+    private boolean isBackendUnavailable() {
+        BooleanSupplier backendUnavailable = staleConfig != null ? staleConfig.getBackendUnavailable() : null;
+        return backendUnavailable != null && backendUnavailable.getAsBoolean();
+    }
+
+    private void refreshInBackground(K cacheKey, Supplier<CompletionStage<V>> supplier) {
+        if (staleValues == null || isBackendUnavailable() || !staleValues.startRefresh(cacheKey)) {
+            return;
+        }
+        try {
+            supplier.get().whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    putValueIntoCache(cacheKey, value);
+                } else {
+                    LOG.debug("Failed to refresh a stale value of Cache {}", getName(), throwable);
+                }
+                staleValues.finishRefresh(cacheKey);
+            });
+        } catch (Exception exception) {
+            LOG.debug("Failed to refresh a stale value of Cache {}", getName(), exception);
+            staleValues.finishRefresh(cacheKey);
+        }
     }
 
     private V computeAndPut(K cacheKey, CheckedFunction0<V> supplier) {
@@ -70,27 +231,87 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
             .get();
     }
 
-    private Option<V> getValueFromCache(K cacheKey){
+    @Nullable
+    private V getValueFromCache(K cacheKey){
+        NearCache<K, V> nearCache = this.nearCache;
+        long invalidationVersion = 0;
+        if (nearCache != null) {
+            V nearCachedValue = nearCache.get(cacheKey);
+            if (nearCachedValue != null) {
+                onNearCacheHit(cacheKey);
+                return nearCachedValue;
+            }
+            invalidationVersion = nearCache.invalidationVersion(cacheKey);
+        }
         try {
-            Option<V> result = Option.of(cache.get(cacheKey));
-            if (result.isDefined()) {
+            V result = cache.get(cacheKey);
+            if (result != null) {
+                if (nearCache != null) {
+                    nearCache.put(cacheKey, result, invalidationVersion);
+                }
+                retainValue(cacheKey, result);
                 onCacheHit(cacheKey);
-                return result;
             } else {
                 onCacheMiss(cacheKey);
-                return result;
             }
+            return result;
         }catch (Exception exception){
             LOG.warn("Failed to get a value from Cache {}", getName(), exception);
             onError(exception);
-            return Option.none();
+            return null;
         }
     }
 
+    private Map<K, V> getValuesFromCache(Set<K> cacheKeys){
+        Map<K, V> result = new HashMap<>();
+        Set<K> remainingKeys = cacheKeys;
+        Map<K, Long> invalidationVersions = null;
+        NearCache<K, V> nearCache = this.nearCache;
+        if (nearCache != null) {
+            remainingKeys = new HashSet<>();
+            invalidationVersions = new HashMap<>();
+            for (K cacheKey : cacheKeys) {
+                V nearCachedValue = nearCache.get(cacheKey);
+                if (nearCachedValue != null) {
+                    onNearCacheHit(cacheKey);
+                    result.put(cacheKey, nearCachedValue);
+                } else {
+                    remainingKeys.add(cacheKey);
+                    invalidationVersions.put(cacheKey, nearCache.invalidationVersion(cacheKey));
+                }
+            }
+            if (remainingKeys.isEmpty()) {
+                return result;
+            }
+        }
+        try {
+            Map<K, V> cachedValues = cache.getAll(remainingKeys);
+            for (K cacheKey : remainingKeys) {
+                V value = cachedValues.get(cacheKey);
+                if (value != null) {
+                    if (nearCache != null) {
+                        nearCache.put(cacheKey, value, invalidationVersions.get(cacheKey));
+                    }
+                    retainValue(cacheKey, value);
+                    onCacheHit(cacheKey);
+                    result.put(cacheKey, value);
+                } else {
+                    onCacheMiss(cacheKey);
+                }
+            }
+        }catch (Exception exception){
+            LOG.warn("Failed to get values from Cache {}", getName(), exception);
+            onError(exception);
+        }
+        return result;
+    }
+
     private void putValueIntoCache(K cacheKey, V value) {
         try {
             if(value != null) {
                 cache.put(cacheKey, value);
+                putValueIntoNearCache(cacheKey, value);
+                retainValue(cacheKey, value);
             }
         } catch (Exception exception){
             LOG.warn("Failed to put a value into Cache {}", getName(), exception);
@@ -98,6 +319,32 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
         }
     }
 
+    private void putValuesIntoCache(Map<K, V> values) {
+        try {
+            if (!values.isEmpty()) {
+                cache.putAll(values);
+                values.forEach(this::putValueIntoNearCache);
+                values.forEach(this::retainValue);
+            }
+        } catch (Exception exception){
+            LOG.warn("Failed to put values into Cache {}", getName(), exception);
+            onError(exception);
+        }
+    }
+
+    private void putValueIntoNearCache(K cacheKey, V value) {
+        NearCache<K, V> nearCache = this.nearCache;
+        if (nearCache != null) {
+            nearCache.put(cacheKey, value);
+        }
+    }
+
+    private void retainValue(K cacheKey, V value) {
+        if (staleValues != null) {
+            staleValues.retain(cacheKey, value);
+        }
+    }
+
     private void onError(Throwable throwable) {
         publishCacheEvent(() -> new CacheOnErrorEvent(cache.getName(), throwable));
     }
@@ -112,6 +359,16 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
         publishCacheEvent(() -> new CacheOnHitEvent<>(cache.getName(), cacheKey));
     }
 
+    private void onNearCacheHit(K cacheKey) {
+        metrics.onNearCacheHit();
+        publishCacheEvent(() -> new CacheOnHitEvent<>(cache.getName(), cacheKey));
+    }
+
+    private void onStaleHit(K cacheKey) {
+        metrics.onStaleHit();
+        publishCacheEvent(() -> new CacheOnStaleHitEvent<>(cache.getName(), cacheKey));
+    }
+
     private void publishCacheEvent(Supplier<CacheEvent> event) {
         if(eventProcessor.hasConsumers()) {
             eventProcessor.processEvent(event.get());
@@ -137,6 +394,12 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
             return this;
         }
 
+        @Override
+        public EventPublisher onStaleHit(EventConsumer<CacheOnStaleHitEvent> eventConsumer) {
+            registerConsumer(CacheOnStaleHitEvent.class.getSimpleName(), eventConsumer);
+            return this;
+        }
+
         @Override
         public EventPublisher onError(EventConsumer<CacheOnErrorEvent> eventConsumer) {
             registerConsumer(CacheOnErrorEvent.class.getSimpleName(), eventConsumer);
@@ -153,9 +416,13 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
 
         private final LongAdder cacheMisses;
         private final LongAdder cacheHits;
+        private final LongAdder nearCacheHits;
+        private final LongAdder staleHits;
         private CacheMetrics() {
             cacheMisses = new LongAdder();
             cacheHits = new LongAdder();
+            nearCacheHits = new LongAdder();
+            staleHits = new LongAdder();
         }
 
         void onCacheMiss(){
@@ -166,14 +433,43 @@ public class CacheImpl<K, V>  implements Cache<K,V> {
             cacheHits.increment();
         }
 
+        void onNearCacheHit(){
+            nearCacheHits.increment();
+        }
+
+        void onStaleHit(){
+            staleHits.increment();
+        }
+
         @Override
         public long getNumberOfCacheHits() {
+            return nearCacheHits.longValue() + cacheHits.longValue();
+        }
+
+        @Override
+        public long getNumberOfNearCacheHits() {
+            return nearCacheHits.longValue();
+        }
+
+        @Override
+        public long getNumberOfBackingCacheHits() {
             return cacheHits.longValue();
         }
 
+        @Override
+        public long getNumberOfStaleHits() {
+            return staleHits.longValue();
+        }
+
         @Override
         public long getNumberOfCacheMisses() {
             return cacheMisses.longValue();
         }
+
+        @Override
+        public Metrics snapshot() {
+            return new CacheMetricsSnapshot(getNumberOfNearCacheHits(), getNumberOfBackingCacheHits(),
+                    getNumberOfStaleHits(), getNumberOfCacheMisses());
+        }
     }
 }
@@ -0,0 +1,82 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache.internal;
+
+import io.github.resilience4j.cache.Cache;
+
+/**
+ * An immutable snapshot of the {@link Cache.Metrics} of a Cache.
+ */
+public final class CacheMetricsSnapshot implements Cache.Metrics {
+
+    private final long numberOfNearCacheHits;
+    private final long numberOfBackingCacheHits;
+    private final long numberOfStaleHits;
+    private final long numberOfCacheMisses;
+
+    CacheMetricsSnapshot(long numberOfNearCacheHits, long numberOfBackingCacheHits, long numberOfStaleHits,
+                         long numberOfCacheMisses) {
+        this.numberOfNearCacheHits = numberOfNearCacheHits;
+        this.numberOfBackingCacheHits = numberOfBackingCacheHits;
+        this.numberOfStaleHits = numberOfStaleHits;
+        this.numberOfCacheMisses = numberOfCacheMisses;
+    }
+
+    /**
+     * Copies the values of the given metrics. They are read one after another, so they are only consistent with
+     * each other if the metrics do not change meanwhile.
+     *
+     * @param metrics the metrics to copy
+     * @return an immutable copy of the metrics
+     */
+    public static Cache.Metrics of(Cache.Metrics metrics) {
+        return new CacheMetricsSnapshot(metrics.getNumberOfNearCacheHits(), metrics.getNumberOfBackingCacheHits(),
+                metrics.getNumberOfStaleHits(), metrics.getNumberOfCacheMisses());
+    }
+
+    @Override
+    public long getNumberOfCacheHits() {
+        return numberOfNearCacheHits + numberOfBackingCacheHits;
+    }
+
+    @Override
+    public long getNumberOfNearCacheHits() {
+        return numberOfNearCacheHits;
+    }
+
+    @Override
+    public long getNumberOfBackingCacheHits() {
+        return numberOfBackingCacheHits;
+    }
+
+    @Override
+    public long getNumberOfStaleHits() {
+        return numberOfStaleHits;
+    }
+
+    @Override
+    public long getNumberOfCacheMisses() {
+        return numberOfCacheMisses;
+    }
+
+    @Override
+    public Cache.Metrics snapshot() {
+        return this;
+    }
+}
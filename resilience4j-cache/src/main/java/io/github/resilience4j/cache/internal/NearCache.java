@@ -0,0 +1,227 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache.internal;
+
+import io.github.resilience4j.cache.NearCacheConfig;
+import io.github.resilience4j.core.lang.Nullable;
+
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded in-process cache which is put in front of a JCache instance.
+ * <p>
+ * Entries expire a fixed time after they have been written. When the near cache is full, a new entry is only
+ * admitted if it is accessed more frequently than the least recently used entry (TinyLFU admission), so that
+ * one-off lookups do not evict popular entries.
+ * <p>
+ * Larger near caches are split into up to 16 segments by the hash of the key. Each segment has its own lock, LRU
+ * order and frequency sketch, so that concurrent lookups of different keys rarely contend.
+ */
+class NearCache<K, V> {
+
+    private static final int MAXIMUM_SEGMENTS = 16;
+    private static final int MINIMUM_SEGMENT_SIZE = 16;
+
+    private final long expireAfterWriteInNanos;
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final CacheEntryListenerConfiguration<K, V> invalidationListenerConfiguration;
+
+    @SuppressWarnings("unchecked")
+    NearCache(NearCacheConfig config) {
+        int maximumSize = config.getMaximumSize();
+        int segmentCount = Integer.highestOneBit(
+            Math.max(1, Math.min(MAXIMUM_SEGMENTS, maximumSize / MINIMUM_SEGMENT_SIZE)));
+        this.expireAfterWriteInNanos = config.getExpireAfterWrite().toNanos();
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+        this.segmentMask = segmentCount - 1;
+        this.invalidationListenerConfiguration = new MutableCacheEntryListenerConfiguration<>(
+            new FactoryBuilder.SingletonFactory<>(new InvalidationListener()), null, false, false);
+    }
+
+    @Nullable
+    V get(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    void put(K key, V value) {
+        segmentFor(key).put(key, new Entry<>(value, System.nanoTime() + expireAfterWriteInNanos));
+    }
+
+    /**
+     * Returns the number of invalidations of the segment of the given key. A value read from the JCache instance
+     * is only put into the near cache if this number has not changed since before the read, see
+     * {@link #put(Object, Object, long)}.
+     *
+     * @param key the key
+     * @return the invalidation version of the segment of the key
+     */
+    long invalidationVersion(K key) {
+        return segmentFor(key).invalidations;
+    }
+
+    /**
+     * Puts a value which has been read from the JCache instance, unless an entry of the same segment has been
+     * invalidated since the given version was taken. Otherwise an invalidation which arrives while the value is read
+     * would be lost, and the outdated value would be served until it expires.
+     *
+     * @param key the key
+     * @param value the value which has been read
+     * @param invalidationVersion the {@link #invalidationVersion(Object) invalidation version} taken before the read
+     */
+    void put(K key, V value, long invalidationVersion) {
+        segmentFor(key).put(key, new Entry<>(value, System.nanoTime() + expireAfterWriteInNanos), invalidationVersion);
+    }
+
+    void invalidate(K key) {
+        segmentFor(key).invalidate(key);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Returns the listener configuration which invalidates entries of this near cache when they are updated,
+     * removed or expired in the JCache instance. The same configuration is returned on every call, so that it can be
+     * deregistered again.
+     * <p>
+     * The listener invalidates this very instance, so it only works with JCache providers which invoke listeners in
+     * this JVM. Providers which serialize listeners to remote members reject it, as it is not serializable.
+     */
+    CacheEntryListenerConfiguration<K, V> invalidationListenerConfiguration() {
+        return invalidationListenerConfiguration;
+    }
+
+    private static final class Segment<K, V> {
+        private final int maximumSize;
+        private final LinkedHashMap<K, Entry<V>> entries;
+        private final FrequencySketch sketch;
+        private volatile long invalidations;
+
+        private Segment(int maximumSize) {
+            this.maximumSize = maximumSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+
+        @Nullable
+        private synchronized V get(K key) {
+            sketch.increment(key);
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(K key, Entry<V> entry, long invalidationVersion) {
+            if (invalidations == invalidationVersion) {
+                put(key, entry);
+            }
+        }
+
+        private synchronized void put(K key, Entry<V> entry) {
+            if (entries.size() < maximumSize || entries.containsKey(key)) {
+                entries.put(key, entry);
+                return;
+            }
+            Iterator<Map.Entry<K, Entry<V>>> leastRecentlyUsed = entries.entrySet().iterator();
+            Map.Entry<K, Entry<V>> victim = leastRecentlyUsed.next();
+            if (victim.getValue().isExpired(System.nanoTime())
+                || sketch.frequency(key) > sketch.frequency(victim.getKey())) {
+                leastRecentlyUsed.remove();
+                entries.put(key, entry);
+            }
+        }
+
+        private synchronized void invalidate(K key) {
+            invalidations++;
+            entries.remove(key);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expireAtNanos;
+
+        private Entry(V value, long expireAtNanos) {
+            this.value = value;
+            this.expireAtNanos = expireAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expireAtNanos >= 0;
+        }
+    }
+
+    private final class InvalidationListener implements CacheEntryUpdatedListener<K, V>,
+        CacheEntryRemovedListener<K, V>, CacheEntryExpiredListener<K, V> {
+
+        @Override
+        public void onUpdated(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+            invalidateAll(events);
+        }
+
+        @Override
+        public void onRemoved(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+            invalidateAll(events);
+        }
+
+        @Override
+        public void onExpired(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+            invalidateAll(events);
+        }
+
+        private void invalidateAll(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+            for (CacheEntryEvent<? extends K, ? extends V> event : events) {
+                invalidate(event.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache.internal;
+
+import io.github.resilience4j.cache.StaleWhileRevalidateConfig;
+import io.github.resilience4j.core.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retains the last known value of each key so that it can be served after it has expired in the JCache instance.
+ * <p>
+ * A retained value becomes stale when a lookup misses it in the JCache instance. Stale values are served for the
+ * configured grace period, or regardless of it when requested. The number of retained values is bounded, the least
+ * recently used values are dropped first.
+ * <p>
+ * Like the near cache, larger stores are split into up to 16 segments by the hash of the key, each with its own lock
+ * and LRU order, because every hit in the JCache instance retains the value it returned.
+ */
+class StaleValueStore<K, V> {
+
+    private static final int MAXIMUM_SEGMENTS = 16;
+    private static final int MINIMUM_SEGMENT_SIZE = 16;
+    private static final long NOT_EXPIRED = Long.MIN_VALUE;
+
+    private final long staleGracePeriodInNanos;
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final Set<K> refreshingKeys;
+
+    @SuppressWarnings("unchecked")
+    StaleValueStore(StaleWhileRevalidateConfig config) {
+        int maximumSize = config.getMaximumSize();
+        int segmentCount = Integer.highestOneBit(
+            Math.max(1, Math.min(MAXIMUM_SEGMENTS, maximumSize / MINIMUM_SEGMENT_SIZE)));
+        this.staleGracePeriodInNanos = config.getStaleGracePeriod().toNanos();
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+        this.segmentMask = segmentCount - 1;
+        this.refreshingKeys = ConcurrentHashMap.newKeySet();
+    }
+
+    void retain(K key, V value) {
+        segmentFor(key).retain(key, value);
+    }
+
+    /**
+     * Returns the stale value of the given key, if it is still within its grace period or if the grace period
+     * should be ignored. The grace period starts at the first lookup which misses the value in the JCache instance.
+     */
+    @Nullable
+    V getStale(K key, boolean ignoreGracePeriod) {
+        return segmentFor(key).getStale(key, ignoreGracePeriod, staleGracePeriodInNanos);
+    }
+
+    /**
+     * Returns true if the caller should start a refresh of the given key, false if a refresh is already running.
+     */
+    boolean startRefresh(K key) {
+        return refreshingKeys.add(key);
+    }
+
+    void finishRefresh(K key) {
+        refreshingKeys.remove(key);
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private static final class Segment<K, V> {
+        private final Map<K, RetainedValue<V>> values;
+
+        private Segment(int maximumSize) {
+            this.values = new LinkedHashMap<K, RetainedValue<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, RetainedValue<V>> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        private synchronized void retain(K key, V value) {
+            RetainedValue<V> retainedValue = values.get(key);
+            if (retainedValue != null && retainedValue.holds(value)) {
+                retainedValue.expiredAtNanos = NOT_EXPIRED;
+                return;
+            }
+            values.put(key, new RetainedValue<>(value));
+        }
+
+        @Nullable
+        private synchronized V getStale(K key, boolean ignoreGracePeriod, long staleGracePeriodInNanos) {
+            RetainedValue<V> retainedValue = values.get(key);
+            if (retainedValue == null) {
+                return null;
+            }
+            long now = System.nanoTime();
+            if (retainedValue.expiredAtNanos == NOT_EXPIRED) {
+                retainedValue.expiredAtNanos = now;
+            }
+            if (ignoreGracePeriod || now - retainedValue.expiredAtNanos < staleGracePeriodInNanos) {
+                return retainedValue.value;
+            }
+            return null;
+        }
+    }
+
+    private static final class RetainedValue<V> {
+        private final V value;
+        private long expiredAtNanos = NOT_EXPIRED;
+
+        private RetainedValue(V value) {
+            this.value = value;
+        }
+
+        private boolean holds(V otherValue) {
+            return value == otherValue || value.equals(otherValue);
+        }
+    }
+}
@@ -19,15 +19,35 @@
 package io.github.resilience4j.cache;
 
 import io.github.resilience4j.cache.event.CacheEvent;
+import io.github.resilience4j.cache.internal.CacheImpl;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.reactivex.subscribers.TestSubscriber;
 import io.vavr.CheckedFunction1;
 import org.junit.Before;
 import org.junit.Test;
-
+import org.mockito.ArgumentCaptor;
+
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.xml.ws.WebServiceException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import static io.github.resilience4j.adapter.RxJava2Adapter.toFlowable;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.mock;
 
@@ -195,4 +215,340 @@ public class CacheTest {
                 .assertValueCount(1)
                 .assertValues(CacheEvent.Type.ERROR);
     }
+
+    @Test
+    public void shouldReturnCachedValueAsync() throws Exception {
+        // Return the value from cache
+        given(cache.get("testKey")).willReturn("Hello from cache");
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        Function<String, CompletionStage<String>> cachedFunction = Cache.decorateCompletionStage(cacheContext,
+                () -> CompletableFuture.completedFuture("Hello world"));
+        String value = cachedFunction.apply("testKey").toCompletableFuture().get();
+        assertThat(value).isEqualTo("Hello from cache");
+
+        assertThat(cacheContext.getMetrics().getNumberOfCacheHits()).isEqualTo(1);
+        then(cache).should(never()).put(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldPutValueOfCompletedStageIntoCache() throws Exception {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletionStage<String> stage = cacheContext.computeIfAbsentAsync("testKey", () -> future);
+
+        then(cache).should(never()).put(anyString(), anyString());
+        future.complete("Hello world");
+
+        assertThat(stage.toCompletableFuture().get()).isEqualTo("Hello world");
+        assertThat(cacheContext.getMetrics().getNumberOfCacheMisses()).isEqualTo(1);
+        then(cache).should().put("testKey", "Hello world");
+    }
+
+    @Test
+    public void shouldNotPutValueOfFailedStageIntoCache() {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        CompletableFuture<String> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new WebServiceException("BLA"));
+        CompletionStage<String> stage = cacheContext.computeIfAbsentAsync("testKey", () -> failedFuture);
+
+        assertThat(stage.toCompletableFuture()).isCompletedExceptionally();
+        then(cache).should(never()).put(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldLoadOnlyMissingValuesWithOneBatch() {
+        // Given the cache contains only one of the keys
+        given(cache.getAll(anySet())).willReturn(Collections.singletonMap("key1", "cached1"));
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        TestSubscriber<CacheEvent.Type> testSubscriber = toFlowable(cacheContext.getEventPublisher())
+                .map(CacheEvent::getEventType)
+                .test();
+        Set<Set<String>> loadedKeys = new HashSet<>();
+
+        Function<Set<String>, Map<String, String>> cachedFunction = Cache.decorateBatchFunction(cacheContext, keys -> {
+            loadedKeys.add(keys);
+            Map<String, String> loaded = new HashMap<>();
+            keys.forEach(key -> loaded.put(key, "loaded" + key.substring(3)));
+            return loaded;
+        });
+        Map<String, String> values = cachedFunction.apply(new HashSet<>(Arrays.asList("key1", "key2", "key3")));
+
+        assertThat(values).containsOnly(entry("key1", "cached1"), entry("key2", "loaded2"), entry("key3", "loaded3"));
+        assertThat(loadedKeys).containsExactly(new HashSet<>(Arrays.asList("key2", "key3")));
+        assertThat(cacheContext.getMetrics().getNumberOfCacheHits()).isEqualTo(1);
+        assertThat(cacheContext.getMetrics().getNumberOfCacheMisses()).isEqualTo(2);
+
+        Map<String, String> putValues = new HashMap<>();
+        putValues.put("key2", "loaded2");
+        putValues.put("key3", "loaded3");
+        then(cache).should().putAll(putValues);
+        testSubscriber.assertValueCount(3);
+    }
+
+    @Test
+    public void shouldNotCallBatchLoaderIfAllValuesAreCached() {
+        // Given the cache contains all keys
+        given(cache.getAll(anySet())).willReturn(Collections.singletonMap("key1", "cached1"));
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        Map<String, String> values = cacheContext.computeAllIfAbsent(Collections.singleton("key1"), keys -> {
+            throw new WebServiceException("BLA");
+        });
+
+        assertThat(values).containsOnly(entry("key1", "cached1"));
+        then(cache).should(never()).putAll(anyMap());
+    }
+
+    @Test
+    public void shouldTreatNullBatchLoaderResultAsNotFound() {
+        // Given the cache does not contain the key
+        given(cache.getAll(anySet())).willReturn(Collections.emptyMap());
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        Map<String, String> values = cacheContext.computeAllIfAbsent(Collections.singleton("key1"), keys -> null);
+
+        assertThat(values).isEmpty();
+        then(cache).should(never()).putAll(anyMap());
+    }
+
+    @Test
+    public void shouldOnlyCacheLoadedValuesOfMissingKeys() {
+        // Given the cache contains key1
+        given(cache.getAll(anySet())).willReturn(Collections.singletonMap("key1", "cached1"));
+
+        Cache<String, String> cacheContext = Cache.of(cache);
+        Map<String, String> values = cacheContext.computeAllIfAbsent(new HashSet<>(Arrays.asList("key1", "key2")), keys -> {
+            Map<String, String> loadedValues = new HashMap<>();
+            loadedValues.put("key1", "loaded1");
+            loadedValues.put("key2", "loaded2");
+            loadedValues.put("key3", "loaded3");
+            return loadedValues;
+        });
+
+        assertThat(values).containsOnly(entry("key1", "cached1"), entry("key2", "loaded2"));
+        then(cache).should().putAll(Collections.singletonMap("key2", "loaded2"));
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupsFromNearCache() throws Throwable {
+        // Return the value from cache
+        given(cache.get("testKey")).willReturn("Hello from cache");
+
+        Cache<String, String> cacheContext = Cache.of(cache, NearCacheConfig.ofDefaults());
+        CheckedFunction1<String, String> cachedFunction = Cache.decorateCheckedSupplier(cacheContext, () -> "Hello world");
+
+        assertThat(cachedFunction.apply("testKey")).isEqualTo("Hello from cache");
+        assertThat(cachedFunction.apply("testKey")).isEqualTo("Hello from cache");
+
+        assertThat(cacheContext.getMetrics().getNumberOfCacheHits()).isEqualTo(2);
+        assertThat(cacheContext.getMetrics().getNumberOfBackingCacheHits()).isEqualTo(1);
+        assertThat(cacheContext.getMetrics().getNumberOfNearCacheHits()).isEqualTo(1);
+        then(cache).should(times(1)).get("testKey");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldInvalidateNearCacheOnJCacheUpdate() throws Throwable {
+        // Return the value from cache
+        given(cache.get("testKey")).willReturn("Hello from cache");
+        ArgumentCaptor<CacheEntryListenerConfiguration<String, String>> listenerConfiguration =
+                ArgumentCaptor.forClass(CacheEntryListenerConfiguration.class);
+
+        Cache<String, String> cacheContext = Cache.of(cache, NearCacheConfig.ofDefaults());
+        then(cache).should().registerCacheEntryListener(listenerConfiguration.capture());
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+
+        CacheEntryUpdatedListener<String, String> listener = (CacheEntryUpdatedListener<String, String>)
+                listenerConfiguration.getValue().getCacheEntryListenerFactory().create();
+        CacheEntryEvent<String, String> event = mock(CacheEntryEvent.class);
+        given(event.getKey()).willReturn("testKey");
+        listener.onUpdated(Collections.singletonList(event));
+        given(cache.get("testKey")).willReturn("Updated value");
+
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello world")).isEqualTo("Updated value");
+        assertThat(cacheContext.getMetrics().getNumberOfNearCacheHits()).isEqualTo(0);
+        then(cache).should(times(2)).get("testKey");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotPutValueIntoNearCacheIfItIsInvalidatedWhileReading() throws Throwable {
+        ArgumentCaptor<CacheEntryListenerConfiguration<String, String>> listenerConfiguration =
+                ArgumentCaptor.forClass(CacheEntryListenerConfiguration.class);
+        Cache<String, String> cacheContext = Cache.of(cache, NearCacheConfig.ofDefaults());
+        then(cache).should().registerCacheEntryListener(listenerConfiguration.capture());
+        CacheEntryUpdatedListener<String, String> listener = (CacheEntryUpdatedListener<String, String>)
+                listenerConfiguration.getValue().getCacheEntryListenerFactory().create();
+        CacheEntryEvent<String, String> event = mock(CacheEntryEvent.class);
+        given(event.getKey()).willReturn("testKey");
+        // the value is updated after the JCache instance has returned the old value to the reading thread
+        given(cache.get("testKey")).willAnswer(invocation -> {
+            listener.onUpdated(Collections.singletonList(event));
+            return "Old value";
+        }).willReturn("Updated value");
+
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello world")).isEqualTo("Old value");
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello world")).isEqualTo("Updated value");
+        assertThat(cacheContext.getMetrics().getNumberOfNearCacheHits()).isEqualTo(0);
+        then(cache).should(times(2)).get("testKey");
+    }
+
+    @Test
+    public void shouldDisableNearCacheIfInvalidationListenerIsRejected() throws Throwable {
+        // Given the JCache provider rejects the listener
+        willThrow(new IllegalArgumentException("Listener is not serializable"))
+            .given(cache).registerCacheEntryListener(any());
+        given(cache.get("testKey")).willReturn("Hello from cache");
+
+        Cache<String, String> cacheContext = Cache.of(cache, NearCacheConfig.ofDefaults());
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+
+        assertThat(cacheContext.getMetrics().getNumberOfNearCacheHits()).isEqualTo(0);
+        then(cache).should(times(2)).get("testKey");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldDeregisterInvalidationListenerOnClose() throws Throwable {
+        given(cache.get("testKey")).willReturn("Hello from cache");
+        ArgumentCaptor<CacheEntryListenerConfiguration<String, String>> listenerConfiguration =
+                ArgumentCaptor.forClass(CacheEntryListenerConfiguration.class);
+
+        Cache<String, String> cacheContext = Cache.of(cache, NearCacheConfig.ofDefaults());
+        then(cache).should().registerCacheEntryListener(listenerConfiguration.capture());
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+        cacheContext.close();
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+
+        then(cache).should().deregisterCacheEntryListener(listenerConfiguration.getValue());
+        assertThat(cacheContext.getMetrics().getNumberOfNearCacheHits()).isEqualTo(0);
+        then(cache).should(times(2)).get("testKey");
+    }
+
+    @Test
+    public void shouldServeBatchLookupsFromNearCache() {
+        // Given the cache contains all keys
+        given(cache.getAll(anySet())).willReturn(Collections.singletonMap("key1", "cached1"));
+
+        Cache<String, String> cacheContext = Cache.of(cache, NearCacheConfig.ofDefaults());
+        cacheContext.computeAllIfAbsent(Collections.singleton("key1"), keys -> Collections.emptyMap());
+        Map<String, String> values = cacheContext.computeAllIfAbsent(Collections.singleton("key1"), keys -> Collections.emptyMap());
+
+        assertThat(values).containsOnly(entry("key1", "cached1"));
+        assertThat(cacheContext.getMetrics().getNumberOfNearCacheHits()).isEqualTo(1);
+        then(cache).should(times(1)).getAll(anySet());
+    }
+
+    @Test
+    public void shouldServeStaleValueWhileRefreshingInBackground() throws Throwable {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+        List<Runnable> refreshes = new ArrayList<>();
+
+        Cache<String, String> cacheContext = Cache.of(cache, StaleWhileRevalidateConfig.custom()
+                .refreshExecutor(refreshes::add)
+                .build());
+        TestSubscriber<CacheEvent.Type> testSubscriber = toFlowable(cacheContext.getEventPublisher())
+                .map(CacheEvent::getEventType)
+                .test();
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+
+        // When the value has expired in the cache
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello again")).isEqualTo("Hello world");
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello again")).isEqualTo("Hello world");
+
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+        then(cache).should().put("testKey", "Hello again");
+        assertThat(cacheContext.getMetrics().getNumberOfStaleHits()).isEqualTo(2);
+        testSubscriber.assertValues(CacheEvent.Type.CACHE_MISS, CacheEvent.Type.CACHE_MISS, CacheEvent.Type.CACHE_STALE_HIT,
+                CacheEvent.Type.CACHE_MISS, CacheEvent.Type.CACHE_STALE_HIT);
+    }
+
+    @Test
+    public void shouldNotServeStaleValueAfterGracePeriod() throws Throwable {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+
+        Cache<String, String> cacheContext = Cache.of(cache, StaleWhileRevalidateConfig.custom()
+                .staleGracePeriod(Duration.ZERO)
+                .build());
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello again")).isEqualTo("Hello again");
+        assertThat(cacheContext.getMetrics().getNumberOfStaleHits()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldServeStaleValueWhileCircuitBreakerIsOpen() throws Throwable {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("backend");
+        List<Runnable> refreshes = new ArrayList<>();
+
+        Cache<String, String> cacheContext = Cache.of(cache, StaleWhileRevalidateConfig.custom()
+                .staleGracePeriod(Duration.ZERO)
+                .circuitBreaker(circuitBreaker)
+                .refreshExecutor(refreshes::add)
+                .build());
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+        circuitBreaker.transitionToOpenState();
+
+        String value = cacheContext.computeIfAbsent("testKey", () -> {
+            throw new WebServiceException("BAM!");
+        });
+
+        assertThat(value).isEqualTo("Hello world");
+        assertThat(refreshes).isEmpty();
+        assertThat(cacheContext.getMetrics().getNumberOfStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldServeStaleValueWhileBackendIsUnavailable() throws Throwable {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+        AtomicBoolean backendUnavailable = new AtomicBoolean();
+        List<Runnable> refreshes = new ArrayList<>();
+
+        Cache<String, String> cacheContext = Cache.of(cache, StaleWhileRevalidateConfig.custom()
+                .staleGracePeriod(Duration.ZERO)
+                .backendUnavailable(backendUnavailable::get)
+                .refreshExecutor(refreshes::add)
+                .build());
+        cacheContext.computeIfAbsent("testKey", () -> "Hello world");
+        backendUnavailable.set(true);
+
+        assertThat(cacheContext.computeIfAbsent("testKey", () -> "Hello again")).isEqualTo("Hello world");
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCombineNearCacheWithStaleWhileRevalidate() {
+        new CacheImpl<>(cache, NearCacheConfig.ofDefaults(), StaleWhileRevalidateConfig.ofDefaults());
+    }
+
+    @Test
+    public void shouldServeStaleValueAsyncWhileRefreshing() throws Exception {
+        // Given the cache does not contain the key
+        given(cache.get("testKey")).willReturn(null);
+
+        Cache<String, String> cacheContext = Cache.of(cache, StaleWhileRevalidateConfig.ofDefaults());
+        cacheContext.computeIfAbsentAsync("testKey", () -> CompletableFuture.completedFuture("Hello world"));
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+
+        CompletionStage<String> stage = cacheContext.computeIfAbsentAsync("testKey", () -> refresh);
+
+        assertThat(stage.toCompletableFuture().get()).isEqualTo("Hello world");
+        refresh.complete("Hello again");
+        then(cache).should().put("testKey", "Hello again");
+    }
 }
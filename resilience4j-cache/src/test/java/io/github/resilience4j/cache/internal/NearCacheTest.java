@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache.internal;
+
+import io.github.resilience4j.cache.NearCacheConfig;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NearCacheTest {
+
+    @Test
+    public void shouldNotExceedMaximumSize() {
+        NearCache<Integer, String> nearCache = new NearCache<>(NearCacheConfig.custom().maximumSize(2).build());
+
+        for (int i = 0; i < 10; i++) {
+            nearCache.get(i);
+            nearCache.put(i, "value" + i);
+        }
+
+        assertThat(nearCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotExceedMaximumSizeAcrossSegments() {
+        NearCache<Integer, String> nearCache = new NearCache<>(NearCacheConfig.custom().maximumSize(1000).build());
+
+        for (int i = 0; i < 10_000; i++) {
+            nearCache.get(i);
+            nearCache.put(i, "value" + i);
+        }
+
+        assertThat(nearCache.size()).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldNotPutValueReadBeforeAnInvalidation() {
+        NearCache<String, String> nearCache = new NearCache<>(NearCacheConfig.custom().maximumSize(10).build());
+        long invalidationVersion = nearCache.invalidationVersion("key");
+
+        nearCache.invalidate("key");
+        nearCache.put("key", "outdated", invalidationVersion);
+
+        assertThat(nearCache.get("key")).isNull();
+
+        nearCache.put("key", "current", nearCache.invalidationVersion("key"));
+
+        assertThat(nearCache.get("key")).isEqualTo("current");
+    }
+
+    @Test
+    public void shouldNotAdmitRarelyUsedKeyOverFrequentlyUsedKey() {
+        NearCache<String, String> nearCache = new NearCache<>(NearCacheConfig.custom().maximumSize(1).build());
+        nearCache.put("popular", "popular");
+        for (int i = 0; i < 5; i++) {
+            nearCache.get("popular");
+        }
+
+        nearCache.get("oneOff");
+        nearCache.put("oneOff", "oneOff");
+
+        assertThat(nearCache.get("popular")).isEqualTo("popular");
+        assertThat(nearCache.get("oneOff")).isNull();
+    }
+
+    @Test
+    public void shouldAdmitFrequentlyUsedKeyOverRarelyUsedKey() {
+        NearCache<String, String> nearCache = new NearCache<>(NearCacheConfig.custom().maximumSize(1).build());
+        nearCache.put("rare", "rare");
+        for (int i = 0; i < 5; i++) {
+            nearCache.get("frequent");
+        }
+
+        nearCache.put("frequent", "frequent");
+
+        assertThat(nearCache.get("frequent")).isEqualTo("frequent");
+        assertThat(nearCache.get("rare")).isNull();
+    }
+
+    @Test
+    public void shouldExpireEntriesAfterWrite() throws InterruptedException {
+        NearCache<String, String> nearCache = new NearCache<>(NearCacheConfig.custom()
+            .expireAfterWrite(Duration.ofMillis(10))
+            .build());
+        nearCache.put("key", "value");
+
+        Thread.sleep(20);
+
+        assertThat(nearCache.get("key")).isNull();
+        assertThat(nearCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldInvalidateEntry() {
+        NearCache<String, String> nearCache = new NearCache<>(NearCacheConfig.ofDefaults());
+        nearCache.put("key", "value");
+
+        nearCache.invalidate("key");
+
+        assertThat(nearCache.get("key")).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.cache.internal;
+
+import io.github.resilience4j.cache.StaleWhileRevalidateConfig;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StaleValueStoreTest {
+
+    @Test
+    public void shouldDropLeastRecentlyUsedValuesOfEachSegment() {
+        StaleValueStore<Integer, String> store = new StaleValueStore<>(StaleWhileRevalidateConfig.custom()
+                .maximumSize(256)
+                .build());
+
+        for (int i = 0; i < 1000; i++) {
+            store.retain(i, "value" + i);
+        }
+
+        int retainedValues = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (store.getStale(i, true) != null) {
+                retainedValues++;
+            }
+        }
+        assertThat(retainedValues).isEqualTo(256);
+        assertThat(store.getStale(999, true)).isEqualTo("value999");
+        assertThat(store.getStale(0, true)).isNull();
+    }
+
+    @Test
+    public void shouldKeepRetainedValueWhenEqualValueIsRetainedAgain() {
+        StaleValueStore<String, String> store = new StaleValueStore<>(StaleWhileRevalidateConfig.ofDefaults());
+        String value = "value";
+        store.retain("key", value);
+
+        store.retain("key", new String(value));
+
+        assertThat(store.getStale("key", false)).isSameAs(value);
+    }
+
+    @Test
+    public void shouldReplaceRetainedValueWithNewValue() {
+        StaleValueStore<String, String> store = new StaleValueStore<>(StaleWhileRevalidateConfig.ofDefaults());
+        store.retain("key", "old value");
+
+        store.retain("key", "new value");
+
+        assertThat(store.getStale("key", false)).isEqualTo("new value");
+    }
+}
@@ -19,12 +19,15 @@
 package io.github.resilience4j.circuitbreaker;
 
 import io.github.resilience4j.circuitbreaker.event.*;
+import io.github.resilience4j.circuitbreaker.internal.CircuitBreakerMetricsSnapshot;
 import io.github.resilience4j.circuitbreaker.internal.CircuitBreakerStateMachine;
 import io.github.resilience4j.core.EventConsumer;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
 import io.vavr.*;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -197,6 +200,34 @@ public interface CircuitBreaker {
      */
     EventPublisher getEventPublisher();
 
+    /**
+     * Adds a MetricsRecorder which is invoked directly for every recorded call, without creating and dispatching
+     * events. Calls are only recorded in the states which allow to publish events.
+     * <p>
+     * The default implementation registers event consumers which forward the events to the MetricsRecorder, so that
+     * it cannot be removed again.
+     *
+     * @param metricsRecorder the MetricsRecorder
+     */
+    default void addMetricsRecorder(MetricsRecorder metricsRecorder) {
+        Objects.requireNonNull(metricsRecorder, "MetricsRecorder must not be null");
+        getEventPublisher()
+                .onSuccess(event -> metricsRecorder.onSuccess(event.getElapsedDuration().toNanos()))
+                .onError(event -> metricsRecorder.onError(event.getElapsedDuration().toNanos()))
+                .onIgnoredError(event -> metricsRecorder.onIgnoredError(event.getElapsedDuration().toNanos()))
+                .onCallNotPermitted(event -> metricsRecorder.onCallNotPermitted());
+    }
+
+    /**
+     * Removes a MetricsRecorder which was added by {@link #addMetricsRecorder(MetricsRecorder)}.
+     *
+     * @param metricsRecorder the MetricsRecorder
+     * @return true if the MetricsRecorder was removed, false if it was not added or cannot be removed
+     */
+    default boolean removeMetricsRecorder(MetricsRecorder metricsRecorder) {
+        return false;
+    }
+
     /**
      * Decorates and executes the decorated Supplier.
      *
@@ -475,6 +506,43 @@ public interface CircuitBreaker {
         EventPublisher onCallNotPermitted(EventConsumer<CircuitBreakerOnCallNotPermittedEvent> eventConsumer);
     }
 
+    /**
+     * A MetricsRecorder records the calls of a CircuitBreaker, for example in a metrics library.
+     * It is invoked on the calling thread and must neither block nor throw.
+     */
+    interface MetricsRecorder {
+
+        /**
+         * Records a successful call.
+         *
+         * @param durationInNanos The elapsed time duration of the call
+         */
+        default void onSuccess(long durationInNanos) {
+        }
+
+        /**
+         * Records a failed call.
+         *
+         * @param durationInNanos The elapsed time duration of the call
+         */
+        default void onError(long durationInNanos) {
+        }
+
+        /**
+         * Records a call which failed with an ignored exception.
+         *
+         * @param durationInNanos The elapsed time duration of the call
+         */
+        default void onIgnoredError(long durationInNanos) {
+        }
+
+        /**
+         * Records a call which was not permitted.
+         */
+        default void onCallNotPermitted() {
+        }
+    }
+
     interface Metrics {
 
         /**
@@ -522,6 +590,40 @@ public interface CircuitBreaker {
          * @return the current number of successful buffered calls in the ring buffer
          */
         int getNumberOfSuccessfulCalls();
+
+        /**
+         * Returns the percentiles of the durations of the calls which have been recorded since the CircuitBreaker
+         * was created or reset. The snapshot is empty, if latency recording is not enabled in the CircuitBreakerConfig.
+         *
+         * @return a snapshot of the recorded call durations
+         */
+        default LatencySnapshot getLatencySnapshot() {
+            return LatencySnapshot.empty();
+        }
+
+        /**
+         * Returns the percentiles of the durations of the calls which have been recorded since the previous interval
+         * snapshot, and starts a new interval. It is meant for a single reader, like a metrics exporter. The snapshot
+         * is empty, if latency recording is not enabled in the CircuitBreakerConfig, and for an immutable
+         * {@link #snapshot()} of the metrics.
+         *
+         * @return a snapshot of the call durations recorded in the last interval
+         */
+        default LatencySnapshot getIntervalLatencySnapshot() {
+            return LatencySnapshot.empty();
+        }
+
+        /**
+         * Returns an immutable snapshot of the metrics. The values of the snapshot are read at once, so that they are
+         * consistent with each other, e.g. the number of buffered calls is always the sum of the failed and successful calls.
+         * <p>
+         * The default implementation copies the values of the getters one after another.
+         *
+         * @return an immutable snapshot of the metrics
+         */
+        default Metrics snapshot() {
+            return CircuitBreakerMetricsSnapshot.of(this);
+        }
     }
 
     /**
@@ -48,6 +48,7 @@ public class CircuitBreakerConfig {
     // The default exception predicate counts all exceptions as failures.
     private Predicate<Throwable> recordFailurePredicate = DEFAULT_RECORD_FAILURE_PREDICATE;
     private boolean automaticTransitionFromOpenToHalfOpenEnabled = false;
+    private boolean latencyRecordingEnabled = false;
 
     private CircuitBreakerConfig() {
     }
@@ -103,6 +104,10 @@ public class CircuitBreakerConfig {
         return automaticTransitionFromOpenToHalfOpenEnabled;
     }
 
+    public boolean isLatencyRecordingEnabled() {
+        return latencyRecordingEnabled;
+    }
+
     public static class Builder {
         @Nullable
         private Predicate<Throwable> recordFailurePredicate;
@@ -115,6 +120,7 @@ public class CircuitBreakerConfig {
         private int ringBufferSizeInClosedState = DEFAULT_RING_BUFFER_SIZE_IN_CLOSED_STATE;
         private Duration waitDurationInOpenState = Duration.ofSeconds(DEFAULT_WAIT_DURATION_IN_OPEN_STATE);
         private boolean automaticTransitionFromOpenToHalfOpenEnabled = false;
+        private boolean latencyRecordingEnabled = false;
 
         public Builder(CircuitBreakerConfig baseConfig) {
             this.waitDurationInOpenState = baseConfig.waitDurationInOpenState;
@@ -125,6 +131,7 @@ public class CircuitBreakerConfig {
             this.recordExceptions = baseConfig.recordExceptions;
             this.recordFailurePredicate = baseConfig.recordFailurePredicate;
             this.automaticTransitionFromOpenToHalfOpenEnabled = baseConfig.automaticTransitionFromOpenToHalfOpenEnabled;
+            this.latencyRecordingEnabled = baseConfig.latencyRecordingEnabled;
         }
 
         public Builder() {
@@ -278,6 +285,18 @@ public class CircuitBreakerConfig {
             return this;
         }
 
+        /**
+         * Enables recording the durations of calls into a fixed-size histogram, so that their percentiles are
+         * available through {@link CircuitBreaker.Metrics#getLatencySnapshot()}.
+         *
+         * @param latencyRecordingEnabled true, if the durations of calls should be recorded
+         * @return the CircuitBreakerConfig.Builder
+         */
+        public Builder latencyRecordingEnabled(boolean latencyRecordingEnabled) {
+            this.latencyRecordingEnabled = latencyRecordingEnabled;
+            return this;
+        }
+
         /**
          * Builds a CircuitBreakerConfig
          *
@@ -292,6 +311,7 @@ public class CircuitBreakerConfig {
             config.recordExceptions = recordExceptions;
             config.ignoreExceptions = ignoreExceptions;
             config.automaticTransitionFromOpenToHalfOpenEnabled = automaticTransitionFromOpenToHalfOpenEnabled;
+            config.latencyRecordingEnabled = latencyRecordingEnabled;
             config.recordFailurePredicate = createRecordFailurePredicate();
             return config;
         }
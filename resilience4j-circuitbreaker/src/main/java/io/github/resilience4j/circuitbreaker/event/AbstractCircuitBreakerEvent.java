@@ -18,16 +18,18 @@
  */
 package io.github.resilience4j.circuitbreaker.event;
 
+import io.github.resilience4j.core.EventClock;
+
 import java.time.ZonedDateTime;
 
 abstract class AbstractCircuitBreakerEvent implements CircuitBreakerEvent {
 
     private final String circuitBreakerName;
-    private final ZonedDateTime creationTime;
+    private final long creationTimeInMillis;
 
     AbstractCircuitBreakerEvent(String circuitBreakerName) {
         this.circuitBreakerName = circuitBreakerName;
-        this.creationTime = ZonedDateTime.now();
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
     }
 
     @Override
@@ -37,6 +39,11 @@ abstract class AbstractCircuitBreakerEvent implements CircuitBreakerEvent {
 
     @Override
     public ZonedDateTime getCreationTime() {
-        return creationTime;
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
     }
 }
@@ -46,6 +46,15 @@ public interface CircuitBreakerEvent {
      */
     ZonedDateTime getCreationTime();
 
+    /**
+     * Returns the creation time of CircuitBreaker event in milliseconds since the epoch.
+     *
+     * @return the creation time of CircuitBreaker event in milliseconds since the epoch
+     */
+    default long getCreationTimeInMillis() {
+        return getCreationTime().toInstant().toEpochMilli();
+    }
+
     /**
      * Event types which are created by a CircuitBreaker.
      */
@@ -21,6 +21,8 @@ package io.github.resilience4j.circuitbreaker.internal;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.core.metrics.LatencyRecorder;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
 
 import java.util.concurrent.atomic.LongAdder;
 
@@ -29,13 +31,20 @@ class CircuitBreakerMetrics implements CircuitBreaker.Metrics {
     private final int ringBufferSize;
     private final RingBitSet ringBitSet;
     private final LongAdder numberOfNotPermittedCalls;
+    @Nullable
+    private final LatencyRecorder latencyRecorder;
 
     CircuitBreakerMetrics(int ringBufferSize) {
-        this(ringBufferSize, null);
+        this(ringBufferSize, null, null);
     }
 
-    CircuitBreakerMetrics(int ringBufferSize, @Nullable RingBitSet sourceSet) {
+    CircuitBreakerMetrics(int ringBufferSize, @Nullable LatencyRecorder latencyRecorder) {
+        this(ringBufferSize, null, latencyRecorder);
+    }
+
+    CircuitBreakerMetrics(int ringBufferSize, @Nullable RingBitSet sourceSet, @Nullable LatencyRecorder latencyRecorder) {
         this.ringBufferSize = ringBufferSize;
+        this.latencyRecorder = latencyRecorder;
         if(sourceSet != null) {
             this.ringBitSet = new RingBitSet(this.ringBufferSize, sourceSet);
         }else{
@@ -46,13 +55,13 @@ class CircuitBreakerMetrics implements CircuitBreaker.Metrics {
 
     /**
      * Creates a new CircuitBreakerMetrics instance and copies the content of the current RingBitSet
-     * into the new RingBitSet.
+     * into the new RingBitSet. The LatencyRecorder is shared with the new instance.
      *
      * @param targetRingBufferSize the ringBufferSize of the new CircuitBreakerMetrics instances
      * @return a CircuitBreakerMetrics
      */
     public CircuitBreakerMetrics copy(int targetRingBufferSize) {
-        return new CircuitBreakerMetrics(targetRingBufferSize, this.ringBitSet);
+        return new CircuitBreakerMetrics(targetRingBufferSize, this.ringBitSet, this.latencyRecorder);
     }
 
     /**
@@ -87,7 +96,8 @@ class CircuitBreakerMetrics implements CircuitBreaker.Metrics {
      */
     @Override
     public float getFailureRate() {
-        return getFailureRate(getNumberOfFailedCalls());
+        long lengthAndCardinality = ringBitSet.lengthAndCardinality();
+        return getFailureRate(RingBitSet.lengthOf(lengthAndCardinality), RingBitSet.cardinalityOf(lengthAndCardinality));
     }
 
     /**
@@ -103,7 +113,8 @@ class CircuitBreakerMetrics implements CircuitBreaker.Metrics {
      */
     @Override
     public int getNumberOfSuccessfulCalls() {
-        return getNumberOfBufferedCalls() - getNumberOfFailedCalls();
+        long lengthAndCardinality = ringBitSet.lengthAndCardinality();
+        return RingBitSet.lengthOf(lengthAndCardinality) - RingBitSet.cardinalityOf(lengthAndCardinality);
     }
 
     /**
@@ -130,8 +141,41 @@ class CircuitBreakerMetrics implements CircuitBreaker.Metrics {
         return this.ringBitSet.cardinality();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LatencySnapshot getLatencySnapshot() {
+        return latencyRecorder != null ? latencyRecorder.getSnapshot() : LatencySnapshot.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LatencySnapshot getIntervalLatencySnapshot() {
+        return latencyRecorder != null ? latencyRecorder.getIntervalSnapshot() : LatencySnapshot.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreaker.Metrics snapshot() {
+        long lengthAndCardinality = ringBitSet.lengthAndCardinality();
+        int numberOfBufferedCalls = RingBitSet.lengthOf(lengthAndCardinality);
+        int numberOfFailedCalls = RingBitSet.cardinalityOf(lengthAndCardinality);
+        return new CircuitBreakerMetricsSnapshot(getFailureRate(numberOfBufferedCalls, numberOfFailedCalls),
+                numberOfBufferedCalls, numberOfFailedCalls, getNumberOfNotPermittedCalls(), ringBufferSize,
+                getLatencySnapshot());
+    }
+
     private float getFailureRate(int numberOfFailedCalls) {
-        if (getNumberOfBufferedCalls() < ringBufferSize) {
+        return getFailureRate(getNumberOfBufferedCalls(), numberOfFailedCalls);
+    }
+
+    private float getFailureRate(int numberOfBufferedCalls, int numberOfFailedCalls) {
+        if (numberOfBufferedCalls < ringBufferSize) {
             return -1.0f;
         }
         return numberOfFailedCalls * 100.0f / ringBufferSize;
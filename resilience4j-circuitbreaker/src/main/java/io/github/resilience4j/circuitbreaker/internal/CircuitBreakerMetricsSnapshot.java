@@ -0,0 +1,109 @@
+/*
+ *
+ *  Copyright 2016 Robert Winkler and Bohdan Storozhuk
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.circuitbreaker.internal;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
+
+/**
+ * An immutable snapshot of the {@link CircuitBreaker.Metrics} of a CircuitBreaker.
+ */
+public final class CircuitBreakerMetricsSnapshot implements CircuitBreaker.Metrics {
+
+    private final float failureRate;
+    private final int numberOfBufferedCalls;
+    private final int numberOfFailedCalls;
+    private final long numberOfNotPermittedCalls;
+    private final int maxNumberOfBufferedCalls;
+    private final LatencySnapshot latencySnapshot;
+
+    CircuitBreakerMetricsSnapshot(float failureRate, int numberOfBufferedCalls, int numberOfFailedCalls,
+                                  long numberOfNotPermittedCalls, int maxNumberOfBufferedCalls,
+                                  LatencySnapshot latencySnapshot) {
+        this.failureRate = failureRate;
+        this.numberOfBufferedCalls = numberOfBufferedCalls;
+        this.numberOfFailedCalls = numberOfFailedCalls;
+        this.numberOfNotPermittedCalls = numberOfNotPermittedCalls;
+        this.maxNumberOfBufferedCalls = maxNumberOfBufferedCalls;
+        this.latencySnapshot = latencySnapshot;
+    }
+
+    /**
+     * Copies the values of the given metrics. They are read one after another, so they are only consistent with
+     * each other if the metrics do not change meanwhile.
+     *
+     * @param metrics the metrics to copy
+     * @return an immutable copy of the metrics
+     */
+    public static CircuitBreaker.Metrics of(CircuitBreaker.Metrics metrics) {
+        return new CircuitBreakerMetricsSnapshot(metrics.getFailureRate(), metrics.getNumberOfBufferedCalls(), metrics.getNumberOfFailedCalls(),
+                metrics.getNumberOfNotPermittedCalls(), metrics.getMaxNumberOfBufferedCalls(), metrics.getLatencySnapshot());
+    }
+
+    @Override
+    public float getFailureRate() {
+        return failureRate;
+    }
+
+    @Override
+    public int getNumberOfBufferedCalls() {
+        return numberOfBufferedCalls;
+    }
+
+    @Override
+    public int getNumberOfFailedCalls() {
+        return numberOfFailedCalls;
+    }
+
+    @Override
+    public long getNumberOfNotPermittedCalls() {
+        return numberOfNotPermittedCalls;
+    }
+
+    @Override
+    public int getMaxNumberOfBufferedCalls() {
+        return maxNumberOfBufferedCalls;
+    }
+
+    @Override
+    public int getNumberOfSuccessfulCalls() {
+        return numberOfBufferedCalls - numberOfFailedCalls;
+    }
+
+    @Override
+    public LatencySnapshot getLatencySnapshot() {
+        return latencySnapshot;
+    }
+
+    @Override
+    public CircuitBreaker.Metrics snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerMetricsSnapshot{" +
+                "failureRate=" + failureRate +
+                ", numberOfBufferedCalls=" + numberOfBufferedCalls +
+                ", numberOfFailedCalls=" + numberOfFailedCalls +
+                ", numberOfNotPermittedCalls=" + numberOfNotPermittedCalls +
+                ", maxNumberOfBufferedCalls=" + maxNumberOfBufferedCalls +
+                '}';
+    }
+}
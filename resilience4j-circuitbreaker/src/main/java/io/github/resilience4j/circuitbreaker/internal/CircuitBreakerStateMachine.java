@@ -25,12 +25,14 @@ import io.github.resilience4j.circuitbreaker.event.*;
 import io.github.resilience4j.core.EventConsumer;
 import io.github.resilience4j.core.EventProcessor;
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.core.metrics.LatencyRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -49,6 +51,7 @@ import static io.github.resilience4j.circuitbreaker.CircuitBreaker.State.*;
 public final class CircuitBreakerStateMachine implements CircuitBreaker {
 
     private static final Logger LOG = LoggerFactory.getLogger(CircuitBreakerStateMachine.class);
+    private static final MetricsRecorder[] NO_METRICS_RECORDERS = new MetricsRecorder[0];
 
     private final String name;
     private final AtomicReference<CircuitBreakerState> stateReference;
@@ -56,6 +59,9 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
     private final CircuitBreakerEventProcessor eventProcessor;
     private final Clock clock;
     private final SchedulerFactory schedulerFactory;
+    @Nullable
+    private final LatencyRecorder latencyRecorder;
+    private volatile MetricsRecorder[] metricsRecorders = NO_METRICS_RECORDERS;
 
     /**
      * Creates a circuitBreaker.
@@ -68,6 +74,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
     private CircuitBreakerStateMachine(String name, CircuitBreakerConfig circuitBreakerConfig, Clock clock, SchedulerFactory schedulerFactory) {
         this.name = name;
         this.circuitBreakerConfig = Objects.requireNonNull(circuitBreakerConfig, "Config must not be null");
+        this.latencyRecorder = circuitBreakerConfig.isLatencyRecordingEnabled() ? new LatencyRecorder() : null;
         this.stateReference = new AtomicReference<>(new ClosedState());
         this.eventProcessor = new CircuitBreakerEventProcessor();
         this.clock = clock;
@@ -138,6 +145,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
     public boolean tryAcquirePermission() {
         boolean callPermitted = stateReference.get().tryAcquirePermission();
         if (!callPermitted) {
+            recordCallNotPermitted();
             publishCallNotPermittedEvent();
         }
         return callPermitted;
@@ -153,6 +161,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
         try {
             stateReference.get().acquirePermission();
         } catch(Exception e) {
+            recordCallNotPermitted();
             publishCallNotPermittedEvent();
             throw e;
         }
@@ -172,17 +181,22 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
     }
 
     private void handleThrowable(long durationInNanos, Predicate<Throwable> recordFailurePredicate, Throwable throwable) {
+        recordLatency(durationInNanos);
         if (recordFailurePredicate.test(throwable)) {
             LOG.debug("CircuitBreaker '{}' recorded a failure:", name, throwable);
+            recordError(durationInNanos);
             publishCircuitErrorEvent(name, durationInNanos, throwable);
             stateReference.get().onError(throwable);
         } else {
+            recordIgnoredError(durationInNanos);
             publishCircuitIgnoredErrorEvent(name, durationInNanos, throwable);
         }
     }
 
     @Override
     public void onSuccess(long durationInNanos) {
+        recordLatency(durationInNanos);
+        recordSuccess(durationInNanos);
         publishSuccessEvent(durationInNanos);
         stateReference.get().onSuccess();
     }
@@ -233,6 +247,9 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
     @Override
     public void reset() {
         CircuitBreakerState previousState = stateReference.getAndUpdate(currentState -> new ClosedState());
+        if (latencyRecorder != null) {
+            latencyRecorder.reset();
+        }
         if (previousState.getState() != CLOSED) {
             publishStateTransitionEvent(StateTransition.transitionBetween(previousState.getState(), CLOSED));
         }
@@ -309,21 +326,33 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
     }
 
     private void publishCallNotPermittedEvent() {
+        if (!eventProcessor.hasConsumers(CircuitBreakerOnCallNotPermittedEvent.class)) {
+            return;
+        }
         final CircuitBreakerOnCallNotPermittedEvent event = new CircuitBreakerOnCallNotPermittedEvent(name);
         publishEventIfPossible(event);
     }
 
     private void publishSuccessEvent(final long durationInNanos) {
+        if (!eventProcessor.hasConsumers(CircuitBreakerOnSuccessEvent.class)) {
+            return;
+        }
         final CircuitBreakerOnSuccessEvent event = new CircuitBreakerOnSuccessEvent(name, Duration.ofNanos(durationInNanos));
         publishEventIfPossible(event);
     }
 
     private void publishCircuitErrorEvent(final String name, final long durationInNanos, final Throwable throwable) {
+        if (!eventProcessor.hasConsumers(CircuitBreakerOnErrorEvent.class)) {
+            return;
+        }
         final CircuitBreakerOnErrorEvent event = new CircuitBreakerOnErrorEvent(name, Duration.ofNanos(durationInNanos), throwable);
         publishEventIfPossible(event);
     }
 
     private void publishCircuitIgnoredErrorEvent(String name, long durationInNanos, Throwable throwable) {
+        if (!eventProcessor.hasConsumers(CircuitBreakerOnIgnoredErrorEvent.class)) {
+            return;
+        }
         final CircuitBreakerOnIgnoredErrorEvent event = new CircuitBreakerOnIgnoredErrorEvent(name, Duration.ofNanos(durationInNanos), throwable);
         publishEventIfPossible(event);
     }
@@ -333,6 +362,70 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
         return eventProcessor;
     }
 
+    @Override
+    public synchronized void addMetricsRecorder(MetricsRecorder metricsRecorder) {
+        MetricsRecorder[] recorders = Arrays.copyOf(metricsRecorders, metricsRecorders.length + 1);
+        recorders[recorders.length - 1] = Objects.requireNonNull(metricsRecorder, "MetricsRecorder must not be null");
+        metricsRecorders = recorders;
+    }
+
+    @Override
+    public synchronized boolean removeMetricsRecorder(MetricsRecorder metricsRecorder) {
+        MetricsRecorder[] recorders = metricsRecorders;
+        for (int i = 0; i < recorders.length; i++) {
+            if (recorders[i] == metricsRecorder) {
+                MetricsRecorder[] remainingRecorders = new MetricsRecorder[recorders.length - 1];
+                System.arraycopy(recorders, 0, remainingRecorders, 0, i);
+                System.arraycopy(recorders, i + 1, remainingRecorders, i, remainingRecorders.length - i);
+                metricsRecorders = remainingRecorders;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the MetricsRecorders which should record a call, in the same states in which its event would be
+     * published.
+     */
+    private MetricsRecorder[] activeMetricsRecorders() {
+        MetricsRecorder[] recorders = metricsRecorders;
+        if (recorders.length == 0 || !getState().allowPublish) {
+            return NO_METRICS_RECORDERS;
+        }
+        return recorders;
+    }
+
+    private void recordLatency(long durationInNanos) {
+        if (latencyRecorder != null) {
+            latencyRecorder.record(durationInNanos);
+        }
+    }
+
+    private void recordSuccess(long durationInNanos) {
+        for (MetricsRecorder metricsRecorder : activeMetricsRecorders()) {
+            metricsRecorder.onSuccess(durationInNanos);
+        }
+    }
+
+    private void recordError(long durationInNanos) {
+        for (MetricsRecorder metricsRecorder : activeMetricsRecorders()) {
+            metricsRecorder.onError(durationInNanos);
+        }
+    }
+
+    private void recordIgnoredError(long durationInNanos) {
+        for (MetricsRecorder metricsRecorder : activeMetricsRecorders()) {
+            metricsRecorder.onIgnoredError(durationInNanos);
+        }
+    }
+
+    private void recordCallNotPermitted() {
+        for (MetricsRecorder metricsRecorder : activeMetricsRecorders()) {
+            metricsRecorder.onCallNotPermitted();
+        }
+    }
+
     private class CircuitBreakerEventProcessor extends EventProcessor<CircuitBreakerEvent> implements EventConsumer<CircuitBreakerEvent>, EventPublisher {
         @Override
         public EventPublisher onSuccess(EventConsumer<CircuitBreakerOnSuccessEvent> onSuccessEventConsumer) {
@@ -387,7 +480,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
 
         ClosedState(@Nullable CircuitBreakerMetrics circuitBreakerMetrics) {
             if(circuitBreakerMetrics == null){
-                this.circuitBreakerMetrics = new CircuitBreakerMetrics(circuitBreakerConfig.getRingBufferSizeInClosedState());
+                this.circuitBreakerMetrics = new CircuitBreakerMetrics(circuitBreakerConfig.getRingBufferSizeInClosedState(), latencyRecorder);
             }else{
                 this.circuitBreakerMetrics = circuitBreakerMetrics.copy(circuitBreakerConfig.getRingBufferSizeInClosedState());
             }
@@ -546,7 +639,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
 
         DisabledState() {
             final int size = circuitBreakerConfig.getRingBufferSizeInClosedState();
-            this.circuitBreakerMetrics = new CircuitBreakerMetrics(size);
+            this.circuitBreakerMetrics = new CircuitBreakerMetrics(size, latencyRecorder);
         }
 
         /**
@@ -606,7 +699,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
 
         ForcedOpenState() {
             final int size = circuitBreakerConfig.getRingBufferSizeInHalfOpenState();
-            this.circuitBreakerMetrics = new CircuitBreakerMetrics(size);
+            this.circuitBreakerMetrics = new CircuitBreakerMetrics(size, latencyRecorder);
         }
 
         /**
@@ -669,7 +762,7 @@ public final class CircuitBreakerStateMachine implements CircuitBreaker {
 
         HalfOpenState() {
             this.circuitBreakerMetrics = new CircuitBreakerMetrics(
-                    circuitBreakerConfig.getRingBufferSizeInHalfOpenState());
+                    circuitBreakerConfig.getRingBufferSizeInHalfOpenState(), latencyRecorder);
             this.failureRateThreshold = circuitBreakerConfig.getFailureRateThreshold();
             this.testRequestCounter = new AtomicInteger(circuitBreakerConfig.getRingBufferSizeInHalfOpenState());
         }
@@ -29,8 +29,8 @@ class RingBitSet {
     private boolean notFull;
     private int index = -1;
 
-    private volatile int length;
-    private volatile int cardinality = 0;
+    // the length is stored in the upper and the cardinality in the lower 32 bits, so that both are read at once
+    private volatile long lengthAndCardinality;
 
 
     /**
@@ -61,7 +61,7 @@ class RingBitSet {
     RingBitSet(int bitSetSize, RingBitSet sourceSet) {
         this(bitSetSize);
 
-        int targetLength = Integer.min(bitSetSize, sourceSet.length);
+        int targetLength = Integer.min(bitSetSize, sourceSet.length());
         int sourceIndex = sourceSet.index;
         int forwardIndex = sourceSet.size - sourceIndex;
         for (int i = 0; i < targetLength; i++) {
@@ -79,12 +79,14 @@ class RingBitSet {
      * @return the number of bits set to {@code true}
      */
     public synchronized int setNextBit(boolean value) {
-        increaseLength();
+        long currentLengthAndCardinality = lengthAndCardinality;
+        int length = increaseLength(lengthOf(currentLengthAndCardinality));
         index = (index + 1) % size;
 
         int previous = bitSet.set(index, value);
         int current = value ? 1 : 0;
-        cardinality = cardinality - previous + current;
+        int cardinality = cardinalityOf(currentLengthAndCardinality) - previous + current;
+        lengthAndCardinality = ((long) length << 32) | cardinality;
         return cardinality;
     }
 
@@ -94,7 +96,7 @@ class RingBitSet {
      * @return the number of bits set to {@code true} in this {@code RingBitSet}
      */
     public int cardinality() {
-        return cardinality;
+        return cardinalityOf(lengthAndCardinality);
     }
 
     /**
@@ -115,7 +117,25 @@ class RingBitSet {
      * @return the logical size of this {@code RingBitSet}
      */
     public int length() {
-        return length;
+        return lengthOf(lengthAndCardinality);
+    }
+
+    /**
+     * Returns the length and the cardinality of this {@code RingBitSet} as a single value, so that both can be read
+     * consistently. Use {@link #lengthOf(long)} and {@link #cardinalityOf(long)} to extract them.
+     *
+     * @return the length and the cardinality of this {@code RingBitSet}
+     */
+    long lengthAndCardinality() {
+        return lengthAndCardinality;
+    }
+
+    static int lengthOf(long lengthAndCardinality) {
+        return (int) (lengthAndCardinality >>> 32);
+    }
+
+    static int cardinalityOf(long lengthAndCardinality) {
+        return (int) lengthAndCardinality;
     }
 
     /**
@@ -141,15 +161,15 @@ class RingBitSet {
         return index;
     }
 
-    private void increaseLength() {
+    private int increaseLength(int length) {
         if (notFull) {
             int nextLength = length + 1;
             if (nextLength < size) {
-                length = nextLength;
-            } else {
-                length = size;
-                notFull = false;
+                return nextLength;
             }
+            notFull = false;
+            return size;
         }
+        return length;
     }
 }
@@ -9,4 +9,7 @@ public class MetricNames {
     public static final String BUFFERED_MAX = "buffered_max";
     public static final String STATE = "state";
     public static final String FAILURE_RATE = "failure_rate";
+    public static final String SUCCESSFUL_CALLS = "successful_calls";
+    public static final String FAILED_CALLS = "failed_calls";
+    public static final String IGNORED_CALLS = "ignored_calls";
 }
@@ -18,9 +18,13 @@
  */
 package io.github.resilience4j.circuitbreaker.internal;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 
 public class CircuitBreakerMetricsTest {
 
@@ -83,4 +87,46 @@ public class CircuitBreakerMetricsTest {
         assertThat(closedCircuitBreakerMetrics.getNumberOfSuccessfulCalls()).isEqualTo(2);
         assertThat(closedCircuitBreakerMetrics.getNumberOfNotPermittedCalls()).isEqualTo(0);
     }
+
+    @Test
+    public void testCircuitBreakerMetricsSnapshot(){
+        CircuitBreakerMetrics circuitBreakerMetrics = new CircuitBreakerMetrics(4);
+        circuitBreakerMetrics.onSuccess();
+        circuitBreakerMetrics.onError();
+        circuitBreakerMetrics.onError();
+        circuitBreakerMetrics.onCallNotPermitted();
+
+        CircuitBreaker.Metrics snapshot = circuitBreakerMetrics.snapshot();
+
+        assertThat(snapshot.getNumberOfBufferedCalls()).isEqualTo(3);
+        assertThat(snapshot.getNumberOfFailedCalls()).isEqualTo(2);
+        assertThat(snapshot.getNumberOfSuccessfulCalls()).isEqualTo(1);
+        assertThat(snapshot.getNumberOfNotPermittedCalls()).isEqualTo(1);
+        assertThat(snapshot.getMaxNumberOfBufferedCalls()).isEqualTo(4);
+        assertThat(snapshot.getFailureRate()).isEqualTo(-1);
+        assertThat(snapshot.snapshot()).isSameAs(snapshot);
+
+        circuitBreakerMetrics.onError();
+
+        // The snapshot is immutable
+        assertThat(snapshot.getNumberOfBufferedCalls()).isEqualTo(3);
+        assertThat(snapshot.getFailureRate()).isEqualTo(-1);
+        assertThat(circuitBreakerMetrics.snapshot().getFailureRate()).isEqualTo(75);
+    }
+
+    @Test
+    public void shouldCopyMetricsWhichDoNotOverrideSnapshot() {
+        CircuitBreaker.Metrics metrics = mock(CircuitBreaker.Metrics.class, CALLS_REAL_METHODS);
+        given(metrics.getNumberOfBufferedCalls()).willReturn(3);
+        given(metrics.getNumberOfFailedCalls()).willReturn(2);
+        given(metrics.getFailureRate()).willReturn(-1f);
+
+        CircuitBreaker.Metrics snapshot = metrics.snapshot();
+        given(metrics.getNumberOfBufferedCalls()).willReturn(4);
+
+        assertThat(snapshot.getNumberOfBufferedCalls()).isEqualTo(3);
+        assertThat(snapshot.getNumberOfFailedCalls()).isEqualTo(2);
+        assertThat(snapshot.getNumberOfSuccessfulCalls()).isEqualTo(1);
+        assertThat(snapshot.getFailureRate()).isEqualTo(-1);
+    }
 }
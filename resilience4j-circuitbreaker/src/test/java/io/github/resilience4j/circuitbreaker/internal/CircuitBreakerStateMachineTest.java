@@ -30,6 +30,8 @@ import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 
 public class CircuitBreakerStateMachineTest {
 
@@ -314,6 +316,84 @@ public class CircuitBreakerStateMachineTest {
         assertCircuitBreakerMetricsEqualTo(-1f, 0, 0, 4, 0, 2L);
     }
 
+    @Test
+    public void shouldRecordCallsWithMetricsRecorder() {
+        CircuitBreaker.MetricsRecorder metricsRecorder = mock(CircuitBreaker.MetricsRecorder.class);
+        circuitBreaker.addMetricsRecorder(metricsRecorder);
+
+        circuitBreaker.onSuccess(1);
+        circuitBreaker.onError(2, new RuntimeException());
+        circuitBreaker.onError(3, new NumberFormatException());
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.tryAcquirePermission();
+
+        then(metricsRecorder).should().onSuccess(1);
+        then(metricsRecorder).should().onError(2);
+        then(metricsRecorder).should().onIgnoredError(3);
+        then(metricsRecorder).should().onCallNotPermitted();
+    }
+
+    @Test
+    public void shouldNotRecordCallsWithMetricsRecorderWhenDisabled() {
+        CircuitBreaker.MetricsRecorder metricsRecorder = mock(CircuitBreaker.MetricsRecorder.class);
+        circuitBreaker.addMetricsRecorder(metricsRecorder);
+        circuitBreaker.transitionToDisabledState();
+
+        circuitBreaker.onSuccess(1);
+        circuitBreaker.onError(2, new RuntimeException());
+
+        then(metricsRecorder).shouldHaveZeroInteractions();
+    }
+
+    @Test
+    public void shouldRecordLatencyWhenEnabled() {
+        CircuitBreaker circuitBreaker = new CircuitBreakerStateMachine("testName", CircuitBreakerConfig.custom()
+                .latencyRecordingEnabled(true)
+                .build(), mockClock);
+
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+        circuitBreaker.onError(Duration.ofMillis(20).toNanos(), new RuntimeException());
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(circuitBreaker.getMetrics().getLatencySnapshot().getCount()).isEqualTo(2);
+        assertThat(circuitBreaker.getMetrics().getLatencySnapshot().getMax()).isEqualTo(Duration.ofMillis(20));
+
+        circuitBreaker.reset();
+
+        assertThat(circuitBreaker.getMetrics().getLatencySnapshot().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldResetIntervalLatencySnapshotOnRead() {
+        CircuitBreaker circuitBreaker = new CircuitBreakerStateMachine("testName", CircuitBreakerConfig.custom()
+                .latencyRecordingEnabled(true)
+                .build(), mockClock);
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+
+        assertThat(circuitBreaker.getMetrics().getIntervalLatencySnapshot().getCount()).isEqualTo(1);
+        assertThat(circuitBreaker.getMetrics().getIntervalLatencySnapshot().getCount()).isEqualTo(0);
+        assertThat(circuitBreaker.getMetrics().getLatencySnapshot().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotRecordLatencyByDefault() {
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+
+        assertThat(circuitBreaker.getMetrics().getLatencySnapshot().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotRecordCallsWithRemovedMetricsRecorder() {
+        CircuitBreaker.MetricsRecorder metricsRecorder = mock(CircuitBreaker.MetricsRecorder.class);
+        circuitBreaker.addMetricsRecorder(metricsRecorder);
+
+        assertThat(circuitBreaker.removeMetricsRecorder(metricsRecorder)).isTrue();
+        assertThat(circuitBreaker.removeMetricsRecorder(metricsRecorder)).isFalse();
+        circuitBreaker.onSuccess(1);
+
+        then(metricsRecorder).shouldHaveZeroInteractions();
+    }
+
     private void assertCircuitBreakerMetricsEqualTo(Float expectedFailureRate, Integer expectedSuccessCalls, Integer expectedBufferedCalls, Integer expectedMaxBufferedCalls, Integer expectedFailedCalls, Long expectedNotPermittedCalls) {
         final CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
         assertThat(metrics.getFailureRate()).isEqualTo(expectedFailureRate);
@@ -237,4 +237,17 @@ public class RingBitSetTest {
         // The length must be 3, because the ring bit set contains only 3 entries after copying
         assertThat(setCopy.length()).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLengthAndCardinality() {
+        RingBitSet ringBitSet = new RingBitSet(3);
+        ringBitSet.setNextBit(true);
+        ringBitSet.setNextBit(false);
+        ringBitSet.setNextBit(true);
+        ringBitSet.setNextBit(true);
+
+        long lengthAndCardinality = ringBitSet.lengthAndCardinality();
+        assertThat(RingBitSet.lengthOf(lengthAndCardinality)).isEqualTo(3);
+        assertThat(RingBitSet.cardinalityOf(lengthAndCardinality)).isEqualTo(2);
+    }
+}
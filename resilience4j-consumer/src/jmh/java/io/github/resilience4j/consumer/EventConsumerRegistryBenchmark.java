@@ -0,0 +1,146 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.consumer;
+
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures consuming events with several threads into the consumers of one {@link DefaultEventConsumerRegistry},
+ * while another thread pages through the merged buffers.
+ */
+@State(Scope.Group)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class EventConsumerRegistryBenchmark {
+
+    private static final int ITERATION_COUNT = 10;
+    private static final int WARMUP_COUNT = 10;
+    private static final int FORK_COUNT = 2;
+    private static final int CONSUMER_COUNT = 4;
+    private static final int BUFFER_SIZE = 100;
+    private static final int PAGE_SIZE = 10;
+
+    private DefaultEventConsumerRegistry<Object> registry;
+    private AtomicInteger publisherCount;
+    private Object event;
+
+    @Setup
+    public void setUp() {
+        registry = new DefaultEventConsumerRegistry<>();
+        for (int i = 0; i < CONSUMER_COUNT; i++) {
+            registry.createEventConsumer("backend" + i, BUFFER_SIZE);
+        }
+        publisherCount = new AtomicInteger();
+        event = new Object();
+    }
+
+    @State(Scope.Thread)
+    public static class Publisher {
+
+        private CircularEventConsumer<Object> ownConsumer;
+        private CircularEventConsumer<Object> sharedConsumer;
+
+        @Setup
+        public void setUp(EventConsumerRegistryBenchmark benchmark) {
+            int index = benchmark.publisherCount.getAndIncrement() % CONSUMER_COUNT;
+            ownConsumer = benchmark.registry.getEventConsumer("backend" + index);
+            sharedConsumer = benchmark.registry.getEventConsumer("backend0");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Reader {
+
+        private long cursor;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_COUNT)
+    @Fork(value = FORK_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    @Group("consumerPerThread")
+    @GroupThreads(4)
+    public void consumeEventIntoOwnConsumer(Publisher publisher) {
+        publisher.ownConsumer.consumeEvent(event);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_COUNT)
+    @Fork(value = FORK_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    @Group("consumerPerThread")
+    @GroupThreads(1)
+    public List<SequencedEvent<Object>> pageThroughConsumersPerThread(Reader reader) {
+        return readPage(reader);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_COUNT)
+    @Fork(value = FORK_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    @Group("sharedConsumer")
+    @GroupThreads(4)
+    public void consumeEventIntoSharedConsumer(Publisher publisher) {
+        publisher.sharedConsumer.consumeEvent(event);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_COUNT)
+    @Fork(value = FORK_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    @Group("sharedConsumer")
+    @GroupThreads(1)
+    public List<SequencedEvent<Object>> pageThroughSharedConsumer(Reader reader) {
+        return readPage(reader);
+    }
+
+    private List<SequencedEvent<Object>> readPage(Reader reader) {
+        List<SequencedEvent<Object>> page = registry.getBufferedEventsAfter(reader.cursor, PAGE_SIZE);
+        if (!page.isEmpty()) {
+            reader.cursor = page.last().getSequence();
+        }
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(".*" + EventConsumerRegistryBenchmark.class.getSimpleName() + ".*")
+            .build();
+        new Runner(options).run();
+    }
+}
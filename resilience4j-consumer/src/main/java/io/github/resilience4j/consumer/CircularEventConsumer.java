@@ -18,17 +18,34 @@
  */
 package io.github.resilience4j.consumer;
 
-import io.github.resilience4j.circularbuffer.CircularFifoBuffer;
 import io.github.resilience4j.circularbuffer.ConcurrentCircularFifoBuffer;
 import io.github.resilience4j.core.EventConsumer;
 import io.vavr.collection.List;
 
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 /**
  * A RxJava consumer which stores CircuitBreakerEvents in a circular buffer with a fixed capacity.
+ * Every consumed event is assigned a strictly increasing sequence number, which allows to read the buffer page by page
+ * and to forward the events to subscribers as they occur.
  */
 public class CircularEventConsumer<T> implements EventConsumer<T> {
 
-    private CircularFifoBuffer<T> eventCircularFifoBuffer;
+    private static final long NO_WRITE = 0;
+    private static final int WRITE_SLOTS = Math.min(64,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+
+    private final ConcurrentCircularFifoBuffer<SequencedEvent<T>> eventCircularFifoBuffer;
+    private final java.util.List<EventConsumer<SequencedEvent<T>>> subscribers;
+    private final AtomicLong sequence;
+
+    /**
+     * The writes which are in progress. Before a writer takes its sequence number, it announces a lower bound of it
+     * in a free slot and it clears the slot once its event has been inserted into the buffer.
+     */
+    private final AtomicLongArray pendingWrites;
 
     /**
      * Creates an {@code CircuitBreakerEventConsumer} with the given (fixed)
@@ -38,12 +55,72 @@ public class CircularEventConsumer<T> implements EventConsumer<T> {
      * @throws IllegalArgumentException if {@code capacity < 1}
      */
     public CircularEventConsumer(int capacity) {
+        this(capacity, new AtomicLong());
+    }
+
+    /**
+     * Creates an {@code CircuitBreakerEventConsumer} with the given (fixed)
+     * capacity, which takes the sequence numbers of the events from the given sequence.
+     * The consumers of an {@link DefaultEventConsumerRegistry} share their sequence,
+     * so that their buffers can be merged by sequence number.
+     *
+     * @param capacity the capacity of this CircuitBreakerEventConsumer
+     * @param sequence the sequence of the event sequence numbers
+     * @throws IllegalArgumentException if {@code capacity < 1}
+     */
+    CircularEventConsumer(int capacity, AtomicLong sequence) {
         this.eventCircularFifoBuffer = new ConcurrentCircularFifoBuffer<>(capacity);
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.sequence = sequence;
+        this.pendingWrites = new AtomicLongArray(WRITE_SLOTS);
     }
 
     @Override
     public void consumeEvent(T event){
-        eventCircularFifoBuffer.add(event);
+        // the sequence number is taken outside of the lock of the buffer, so concurrent writers may insert their
+        // events slightly out of order. Readers only return the events up to the mark of getWrittenUpTo
+        // and sort them by sequence number.
+        int slot = announceWrite();
+        SequencedEvent<T> sequencedEvent = new SequencedEvent<>(sequence.incrementAndGet(), event);
+        eventCircularFifoBuffer.add(sequencedEvent);
+        pendingWrites.lazySet(slot, NO_WRITE);
+        if (!subscribers.isEmpty()) {
+            subscribers.forEach(subscriber -> subscriber.consumeEvent(sequencedEvent));
+        }
+    }
+
+    private int announceWrite() {
+        int mask = WRITE_SLOTS - 1;
+        int slot = (int) Thread.currentThread().getId() & mask;
+        while (true) {
+            for (int i = 0; i < WRITE_SLOTS; i++, slot = (slot + 1) & mask) {
+                if (pendingWrites.get(slot) == NO_WRITE
+                        && pendingWrites.compareAndSet(slot, NO_WRITE, sequence.get() + 1)) {
+                    return slot;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Returns the highest sequence number up to which all events of this consumer have been written to the buffer,
+     * given that {@code sequence} has been read from the sequence of this consumer before.
+     * Every event with a sequence number not greater than the returned mark is visible to a subsequent read of
+     * the buffer.
+     *
+     * @param sequence the current value of the sequence
+     * @return the written up to mark of the buffer
+     */
+    long getWrittenUpTo(long sequence){
+        long writtenUpTo = sequence;
+        for (int slot = 0; slot < WRITE_SLOTS; slot++) {
+            long pendingSequence = pendingWrites.get(slot);
+            if (pendingSequence != NO_WRITE) {
+                writtenUpTo = Math.min(writtenUpTo, pendingSequence - 1);
+            }
+        }
+        return writtenUpTo;
     }
 
     /**
@@ -52,6 +129,81 @@ public class CircularEventConsumer<T> implements EventConsumer<T> {
      * @return a list containing all of the buffered events.
      */
     public List<T> getBufferedEvents(){
-        return eventCircularFifoBuffer.toList();
+        return eventCircularFifoBuffer.toList().map(SequencedEvent::getEvent);
+    }
+
+    /**
+     * Returns a list containing up to {@code limit} of the buffered events which have a sequence number greater than the
+     * given {@code sequence}, ordered by sequence number. The sequence number of the last returned event can be
+     * used as the cursor for the next page. If events have been evicted from the buffer since the given {@code sequence}
+     * was read, the page starts at the oldest buffered event.
+     *
+     * @param sequence the sequence number of the last event which has already been read, or 0 to read from the start
+     * @param limit the maximum number of events to return
+     * @return a list containing the buffered events after the given sequence number
+     */
+    public List<SequencedEvent<T>> getBufferedEventsAfter(long sequence, int limit){
+        return getBufferedEventsAfter(sequence, getWrittenUpTo(this.sequence.get()), limit);
+    }
+
+    /**
+     * Returns a list containing up to {@code limit} of the buffered events which have a sequence number greater than
+     * {@code sequence} and not greater than {@code committedSequence}, ordered by sequence number.
+     *
+     * @param sequence the sequence number of the last event which has already been read
+     * @param committedSequence the highest sequence number to return
+     * @param limit the maximum number of events to return
+     * @return a list containing the buffered events after the given sequence number
+     */
+    List<SequencedEvent<T>> getBufferedEventsAfter(long sequence, long committedSequence, int limit){
+        return eventCircularFifoBuffer.toList()
+                .filter(sequencedEvent -> sequencedEvent.getSequence() > sequence
+                        && sequencedEvent.getSequence() <= committedSequence)
+                .sortBy(SequencedEvent::getSequence)
+                .take(limit);
+    }
+
+    /**
+     * Returns a list containing the {@code limit} most recent buffered events, ordered by sequence number.
+     *
+     * @param limit the maximum number of events to return
+     * @return a list containing the most recent buffered events
+     */
+    public List<SequencedEvent<T>> getLatestBufferedEvents(int limit){
+        return getLatestBufferedEvents(getWrittenUpTo(sequence.get()), limit);
+    }
+
+    /**
+     * Returns a list containing the {@code limit} most recent buffered events which have a sequence number not greater
+     * than {@code committedSequence}, ordered by sequence number.
+     *
+     * @param committedSequence the highest sequence number to return
+     * @param limit the maximum number of events to return
+     * @return a list containing the most recent buffered events
+     */
+    List<SequencedEvent<T>> getLatestBufferedEvents(long committedSequence, int limit){
+        return eventCircularFifoBuffer.toList()
+                .filter(sequencedEvent -> sequencedEvent.getSequence() <= committedSequence)
+                .sortBy(SequencedEvent::getSequence)
+                .takeRight(limit);
+    }
+
+    /**
+     * Subscribes to the events which are consumed from now on. The subscriber is called on the thread which
+     * publishes the event, so it should not block.
+     *
+     * @param subscriber the subscriber
+     */
+    public void subscribe(EventConsumer<SequencedEvent<T>> subscriber){
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Removes a subscriber which has been added by {@link #subscribe(EventConsumer)}.
+     *
+     * @param subscriber the subscriber
+     */
+    public void unsubscribe(EventConsumer<SequencedEvent<T>> subscriber){
+        subscribers.remove(subscriber);
     }
 }
@@ -16,10 +16,12 @@
 package io.github.resilience4j.consumer;
 
 import io.vavr.collection.Array;
+import io.vavr.collection.List;
 import io.vavr.collection.Seq;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DefaultEventConsumerRegistry<T> implements EventConsumerRegistry<T>{
 
@@ -28,16 +30,22 @@ public class DefaultEventConsumerRegistry<T> implements EventConsumerRegistry<T>
      */
     private final ConcurrentMap<String, CircularEventConsumer<T>> registry;
 
+    /**
+     * The sequence of the event sequence numbers, shared by all CircularEventConsumers.
+     */
+    private final AtomicLong sequence;
+
     /**
      * The constructor with default circuitBreaker properties.
      */
     public DefaultEventConsumerRegistry() {
         this.registry = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
     }
 
     @Override
     public CircularEventConsumer<T> createEventConsumer(String id, int bufferSize) {
-        CircularEventConsumer<T> eventConsumer = new CircularEventConsumer<>(bufferSize);
+        CircularEventConsumer<T> eventConsumer = new CircularEventConsumer<>(bufferSize, sequence);
         registry.put(id, eventConsumer);
         return eventConsumer;
     }
@@ -51,4 +59,30 @@ public class DefaultEventConsumerRegistry<T> implements EventConsumerRegistry<T>
     public Seq<CircularEventConsumer<T>> getAllEventConsumer(){
         return Array.ofAll(registry.values());
     }
+
+    /**
+     * {@inheritDoc}
+     * Only the events up to the lowest written up to mark of the buffers are returned.
+     * An event with a higher sequence number might not be visible in every buffer yet, so a cursor taken from
+     * it could skip events of the other buffers.
+     */
+    @Override
+    public List<SequencedEvent<T>> getBufferedEventsAfter(long sequence, int limit) {
+        Seq<CircularEventConsumer<T>> eventConsumers = getAllEventConsumer();
+        long committedSequence = EventBufferMerger.lowestWrittenUpTo(eventConsumers, this.sequence.get());
+        return EventBufferMerger.mergeFirst(eventConsumers
+                .map(eventConsumer -> eventConsumer.getBufferedEventsAfter(sequence, committedSequence, limit)), limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the events up to the lowest written up to mark of the buffers are returned.
+     */
+    @Override
+    public List<SequencedEvent<T>> getLatestBufferedEvents(int limit) {
+        Seq<CircularEventConsumer<T>> eventConsumers = getAllEventConsumer();
+        long committedSequence = EventBufferMerger.lowestWrittenUpTo(eventConsumers, this.sequence.get());
+        return EventBufferMerger.mergeLast(eventConsumers
+                .map(eventConsumer -> eventConsumer.getLatestBufferedEvents(committedSequence, limit)), limit);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.consumer;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Merges the buffers of the consumers of an {@link EventConsumerRegistry}.
+ * Each buffer is ordered by sequence number already, so the buffers are merged
+ * with a k-way merge instead of sorting all buffered events.
+ */
+final class EventBufferMerger {
+
+    private EventBufferMerger() {
+    }
+
+    /**
+     * Returns the lowest written up to mark of the buffers of the given consumers. The merged pages stop at
+     * this mark, because an event with a higher sequence number might not be visible in every buffer yet.
+     *
+     * @param eventConsumers the consumers, which share their sequence
+     * @param sequence the value of the shared sequence, read before the marks
+     * @param <T> the type of the events
+     * @return the highest sequence number up to which all events have been written to their buffers
+     */
+    static <T> long lowestWrittenUpTo(Seq<CircularEventConsumer<T>> eventConsumers, long sequence) {
+        long writtenUpTo = sequence;
+        for (CircularEventConsumer<T> eventConsumer : eventConsumers) {
+            writtenUpTo = Math.min(writtenUpTo, eventConsumer.getWrittenUpTo(sequence));
+        }
+        return writtenUpTo;
+    }
+
+    /**
+     * Merges the given buffers and returns the first {@code limit} events, ordered by sequence number.
+     *
+     * @param buffers the buffers, each ordered by sequence number
+     * @param limit the maximum number of events to return
+     * @param <T> the type of the events
+     * @return the first {@code limit} events of the merged buffers
+     */
+    static <T> List<SequencedEvent<T>> mergeFirst(Seq<List<SequencedEvent<T>>> buffers, int limit) {
+        Seq<List<SequencedEvent<T>>> nonEmptyBuffers = buffers.filter(buffer -> !buffer.isEmpty());
+        if (nonEmptyBuffers.isEmpty()) {
+            return List.empty();
+        }
+        if (nonEmptyBuffers.size() == 1) {
+            return nonEmptyBuffers.head().take(limit);
+        }
+        PriorityQueue<List<SequencedEvent<T>>> heads = new PriorityQueue<>(nonEmptyBuffers.size(),
+                Comparator.comparingLong(buffer -> buffer.head().getSequence()));
+        nonEmptyBuffers.forEach(heads::add);
+        java.util.List<SequencedEvent<T>> mergedEvents = new ArrayList<>();
+        while (mergedEvents.size() < limit && !heads.isEmpty()) {
+            List<SequencedEvent<T>> buffer = heads.poll();
+            mergedEvents.add(buffer.head());
+            List<SequencedEvent<T>> remainder = buffer.tail();
+            if (!remainder.isEmpty()) {
+                heads.add(remainder);
+            }
+        }
+        return List.ofAll(mergedEvents);
+    }
+
+    /**
+     * Merges the given buffers and returns the last {@code limit} events, ordered by sequence number.
+     *
+     * @param buffers the buffers, each ordered by sequence number and containing at most {@code limit} events
+     * @param limit the maximum number of events to return
+     * @param <T> the type of the events
+     * @return the last {@code limit} events of the merged buffers
+     */
+    static <T> List<SequencedEvent<T>> mergeLast(Seq<List<SequencedEvent<T>>> buffers, int limit) {
+        return mergeFirst(buffers, Integer.MAX_VALUE).takeRight(limit);
+    }
+}
@@ -16,6 +16,7 @@
 package io.github.resilience4j.consumer;
 
 import io.github.resilience4j.core.lang.Nullable;
+import io.vavr.collection.List;
 import io.vavr.collection.Seq;
 
 
@@ -45,4 +46,39 @@ public interface EventConsumerRegistry<T> {
      * @return all EventConsumer instances
      */
     Seq<CircularEventConsumer<T>> getAllEventConsumer();
+
+    /**
+     * Returns the buffered events of all EventConsumer instances which have a sequence number greater than
+     * the given {@code sequence}, merged in the order of their sequence numbers. The sequence numbers are only
+     * comparable across EventConsumer instances which have been created by the same registry.
+     *
+     * @param sequence the sequence number of the last event which has already been read, or 0 to read from the start
+     * @param limit the maximum number of events to return
+     * @return the buffered events after the given sequence number
+     */
+    default List<SequencedEvent<T>> getBufferedEventsAfter(long sequence, int limit) {
+        return EventBufferMerger.mergeFirst(getAllEventConsumer()
+                .map(eventConsumer -> eventConsumer.getBufferedEventsAfter(sequence, limit)), limit);
+    }
+
+    /**
+     * Returns the {@code limit} most recent buffered events of all EventConsumer instances,
+     * merged in the order of their sequence numbers.
+     *
+     * @param limit the maximum number of events to return
+     * @return the most recent buffered events
+     */
+    default List<SequencedEvent<T>> getLatestBufferedEvents(int limit) {
+        return EventBufferMerger.mergeLast(getAllEventConsumer()
+                .map(eventConsumer -> eventConsumer.getLatestBufferedEvents(limit)), limit);
+    }
+
+    /**
+     * Returns the buffered events of all EventConsumer instances, merged in the order of their sequence numbers.
+     *
+     * @return the buffered events of all EventConsumer instances
+     */
+    default List<T> getAllBufferedEvents() {
+        return getBufferedEventsAfter(0L, Integer.MAX_VALUE).map(SequencedEvent::getEvent);
+    }
 }
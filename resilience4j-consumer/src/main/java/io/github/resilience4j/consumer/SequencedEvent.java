@@ -0,0 +1,63 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.consumer;
+
+/**
+ * An event together with the sequence number which a {@link CircularEventConsumer} assigned to it.
+ * The sequence numbers of a consumer are strictly increasing and can be used as a cursor to read
+ * only the events which have been consumed after a given event.
+ *
+ * @param <T> the type of the event
+ */
+public final class SequencedEvent<T> {
+
+    private final long sequence;
+    private final T event;
+
+    SequencedEvent(long sequence, T event) {
+        this.sequence = sequence;
+        this.event = event;
+    }
+
+    /**
+     * Returns the sequence number of the event.
+     *
+     * @return the sequence number of the event
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the event.
+     *
+     * @return the event
+     */
+    public T getEvent() {
+        return event;
+    }
+
+    @Override
+    public String toString() {
+        return "SequencedEvent{" +
+                "sequence=" + sequence +
+                ", event=" + event +
+                '}';
+    }
+}
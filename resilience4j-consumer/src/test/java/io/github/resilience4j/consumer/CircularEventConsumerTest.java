@@ -21,11 +21,14 @@ package io.github.resilience4j.consumer;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
+import io.github.resilience4j.core.EventConsumer;
 import io.vavr.API;
 import org.junit.Test;
 
 import javax.xml.ws.WebServiceException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent.Type;
 import static io.vavr.API.$;
@@ -127,4 +130,47 @@ public class CircularEventConsumerTest {
         //Should store 0 events, because Subscription was too late
         assertThat(ringBuffer.getBufferedEvents()).hasSize(0);
     }
+
+    @Test
+    public void shouldReadBufferedEventsPageByPage() {
+        // Given
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("testName");
+        CircularEventConsumer<CircuitBreakerEvent> ringBuffer = new CircularEventConsumer<>(3);
+        circuitBreaker.getEventPublisher().onEvent(ringBuffer);
+
+        //When
+        circuitBreaker.onSuccess(0);
+        circuitBreaker.onError(0, new RuntimeException("Bla"));
+        circuitBreaker.onSuccess(0);
+        circuitBreaker.onError(0, new RuntimeException("Bla"));
+
+        //Then
+        //The first event has been evicted, so the first page starts at the oldest buffered event
+        assertThat(ringBuffer.getBufferedEventsAfter(0, 2)).extracting("sequence").containsExactly(2L, 3L);
+        assertThat(ringBuffer.getBufferedEventsAfter(3, 2)).extracting("sequence").containsExactly(4L);
+        assertThat(ringBuffer.getBufferedEventsAfter(3, 2)).extracting("event.eventType").containsExactly(Type.ERROR);
+        assertThat(ringBuffer.getBufferedEventsAfter(4, 2)).isEmpty();
+    }
+
+    @Test
+    public void shouldForwardEventsToSubscribers() {
+        // Given
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("testName");
+        CircularEventConsumer<CircuitBreakerEvent> ringBuffer = new CircularEventConsumer<>(2);
+        circuitBreaker.getEventPublisher().onEvent(ringBuffer);
+        circuitBreaker.onSuccess(0);
+        List<SequencedEvent<CircuitBreakerEvent>> receivedEvents = new ArrayList<>();
+        EventConsumer<SequencedEvent<CircuitBreakerEvent>> subscriber = receivedEvents::add;
+
+        //When
+        ringBuffer.subscribe(subscriber);
+        circuitBreaker.onError(0, new RuntimeException("Bla"));
+        ringBuffer.unsubscribe(subscriber);
+        circuitBreaker.onSuccess(0);
+
+        //Then
+        //Should only receive the event which has been consumed while subscribed
+        assertThat(receivedEvents).extracting("sequence").containsExactly(2L);
+        assertThat(ringBuffer.getBufferedEventsAfter(0, 10)).extracting("sequence").containsExactly(2L, 3L);
+    }
 }
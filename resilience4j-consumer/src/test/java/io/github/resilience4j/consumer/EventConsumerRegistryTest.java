@@ -18,6 +18,7 @@
  */
 package io.github.resilience4j.consumer;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
 import io.github.resilience4j.core.EventConsumer;
 import org.junit.Test;
@@ -51,4 +52,82 @@ public class EventConsumerRegistryTest {
 
         assertThat(registry.getAllEventConsumer()).hasSize(2);
     }
+
+    @Test
+    public void shouldMergeTheBufferedEventsInTheOrderOfConsumption() {
+        EventConsumerRegistry<CircuitBreakerEvent> registry = new DefaultEventConsumerRegistry<>();
+        CircuitBreaker circuitBreaker1 = CircuitBreaker.ofDefaults("testName1");
+        CircuitBreaker circuitBreaker2 = CircuitBreaker.ofDefaults("testName2");
+        circuitBreaker1.getEventPublisher().onEvent(registry.createEventConsumer("testName1", 2));
+        circuitBreaker2.getEventPublisher().onEvent(registry.createEventConsumer("testName2", 5));
+
+        circuitBreaker1.onSuccess(0);
+        circuitBreaker2.onSuccess(0);
+        circuitBreaker1.onError(0, new RuntimeException("Bla"));
+        circuitBreaker2.onError(0, new RuntimeException("Bla"));
+        circuitBreaker1.onSuccess(0);
+
+        //The first event of testName1 has been evicted, because the capacity is 2
+        assertThat(registry.getAllBufferedEvents()).extracting("circuitBreakerName")
+                .containsExactly("testName2", "testName1", "testName2", "testName1");
+        assertThat(registry.getBufferedEventsAfter(2, 2)).extracting("sequence").containsExactly(3L, 4L);
+        assertThat(registry.getBufferedEventsAfter(4, 2)).extracting("sequence").containsExactly(5L);
+        assertThat(registry.getLatestBufferedEvents(3)).extracting("sequence").containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    public void shouldNotSkipEventsWhenPagingWhileEventsAreConsumed() throws InterruptedException {
+        EventConsumerRegistry<CircuitBreakerEvent> registry = new DefaultEventConsumerRegistry<>();
+        int eventsPerPublisher = 20000;
+        Thread[] publishers = new Thread[2];
+        for (int i = 0; i < publishers.length; i++) {
+            CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("testName" + i);
+            circuitBreaker.getEventPublisher().onEvent(registry.createEventConsumer("testName" + i, eventsPerPublisher));
+            publishers[i] = publisherOf(circuitBreaker, eventsPerPublisher);
+        }
+
+        assertPagesAreContiguous(registry, publishers, eventsPerPublisher * publishers.length);
+    }
+
+    @Test
+    public void shouldNotSkipEventsWhenPagingWhileEventsAreConsumedConcurrentlyByOneConsumer() throws InterruptedException {
+        EventConsumerRegistry<CircuitBreakerEvent> registry = new DefaultEventConsumerRegistry<>();
+        int eventsPerPublisher = 10000;
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("testName");
+        circuitBreaker.getEventPublisher().onEvent(registry.createEventConsumer("testName", 4 * eventsPerPublisher));
+        registry.createEventConsumer("idle", 10);
+        Thread[] publishers = new Thread[4];
+        for (int i = 0; i < publishers.length; i++) {
+            publishers[i] = publisherOf(circuitBreaker, eventsPerPublisher);
+        }
+
+        assertPagesAreContiguous(registry, publishers, eventsPerPublisher * publishers.length);
+    }
+
+    private static Thread publisherOf(CircuitBreaker circuitBreaker, int events) {
+        return new Thread(() -> {
+            for (int j = 0; j < events; j++) {
+                circuitBreaker.onSuccess(0);
+            }
+        });
+    }
+
+    private static void assertPagesAreContiguous(EventConsumerRegistry<CircuitBreakerEvent> registry,
+                                                 Thread[] publishers, int events) throws InterruptedException {
+        for (Thread publisher : publishers) {
+            publisher.start();
+        }
+
+        long cursor = 0;
+        long expectedSequence = 1;
+        while (cursor < events) {
+            for (SequencedEvent<CircuitBreakerEvent> sequencedEvent : registry.getBufferedEventsAfter(cursor, 100)) {
+                assertThat(sequencedEvent.getSequence()).isEqualTo(expectedSequence++);
+                cursor = sequencedEvent.getSequence();
+            }
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+    }
 }
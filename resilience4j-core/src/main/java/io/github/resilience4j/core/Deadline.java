@@ -0,0 +1,215 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.core;
+
+import io.github.resilience4j.core.lang.Nullable;
+import io.vavr.CheckedFunction0;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * An end-to-end latency budget which is shared by all decorators of a call.
+ * <p>
+ * While a call runs within a {@link Deadline}, the waiting primitives cap their waits to the remaining time:
+ * a RateLimiter waits at most until the deadline for a permission, a Bulkhead waits at most until the deadline
+ * for a free slot and a Retry stops retrying when the next backoff would exceed the deadline.
+ * <p>
+ * For synchronous calls the deadline is bound to the calling thread. For CompletionStage calls the deadline is
+ * bound while the stage supplier is invoked and is carried over to threads which continue the call, e.g. the
+ * scheduler of an asynchronous Retry. Nested deadlines never extend the budget of an enclosing deadline.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a Deadline which expires after the given budget, starting now.
+     *
+     * @param budget the time budget of the call
+     * @return a Deadline
+     */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget, "Budget must not be null");
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Returns the Deadline bound to the current thread, if any.
+     *
+     * @return the current Deadline
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Caps the given wait to the time remaining until the current Deadline.
+     * Returns the given wait unchanged if no Deadline is bound to the current thread.
+     *
+     * @param waitInNanos the wait a primitive intends to do
+     * @return the wait capped to the remaining time, never negative
+     */
+    public static long boundedWaitNanos(long waitInNanos) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return waitInNanos;
+        }
+        return Math.min(waitInNanos, deadline.remainingNanos());
+    }
+
+    /**
+     * Returns a supplier which runs the given supplier within a new Deadline of the given budget.
+     *
+     * @param budget   the time budget of each call
+     * @param supplier the original supplier
+     * @param <T>      the type of results supplied by this supplier
+     * @return a supplier which is bound to a Deadline
+     */
+    public static <T> Supplier<T> decorateSupplier(Duration budget, Supplier<T> supplier) {
+        return () -> after(budget).executeSupplier(supplier);
+    }
+
+    /**
+     * Returns a supplier which runs the given supplier within a new Deadline of the given budget.
+     *
+     * @param budget   the time budget of each call
+     * @param supplier the original supplier
+     * @param <T>      the type of results supplied by this supplier
+     * @return a supplier which is bound to a Deadline
+     */
+    public static <T> CheckedFunction0<T> decorateCheckedSupplier(Duration budget, CheckedFunction0<T> supplier) {
+        return () -> after(budget).executeCheckedSupplier(supplier);
+    }
+
+    /**
+     * Returns a supplier which runs the given stage supplier within a new Deadline of the given budget.
+     *
+     * @param budget   the time budget of each call
+     * @param supplier the original stage supplier
+     * @param <T>      the type of the completion stage result
+     * @return a stage supplier which is bound to a Deadline
+     */
+    public static <T> Supplier<CompletionStage<T>> decorateCompletionStage(Duration budget, Supplier<CompletionStage<T>> supplier) {
+        return decorateSupplier(budget, supplier);
+    }
+
+    /**
+     * Returns the time remaining until this Deadline expires.
+     *
+     * @return the remaining time in nanoseconds, never negative
+     */
+    public long remainingNanos() {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Returns the time remaining until this Deadline expires.
+     *
+     * @return the remaining time, never negative
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    /**
+     * Returns true if this Deadline has expired.
+     *
+     * @return true if this Deadline has expired
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns true if a wait of the given duration ends before this Deadline expires.
+     *
+     * @param waitInNanos the intended wait
+     * @return true if the wait ends before this Deadline expires
+     */
+    public boolean allowsWait(long waitInNanos) {
+        return waitInNanos < deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Executes the given supplier with this Deadline bound to the current thread.
+     * If an enclosing Deadline expires earlier, the enclosing Deadline stays in effect.
+     *
+     * @param supplier the supplier to execute
+     * @param <T>      the type of results supplied by this supplier
+     * @return the result of the supplier
+     */
+    public <T> T executeSupplier(Supplier<T> supplier) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(earliest(previous));
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Executes the given supplier with this Deadline bound to the current thread.
+     * If an enclosing Deadline expires earlier, the enclosing Deadline stays in effect.
+     *
+     * @param supplier the supplier to execute
+     * @param <T>      the type of results supplied by this supplier
+     * @return the result of the supplier
+     * @throws Throwable if the supplier throws
+     */
+    public <T> T executeCheckedSupplier(CheckedFunction0<T> supplier) throws Throwable {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(earliest(previous));
+        try {
+            return supplier.apply();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private Deadline earliest(@Nullable Deadline other) {
+        if (other != null && other.deadlineNanos - deadlineNanos < 0) {
+            return other;
+        }
+        return this;
+    }
+
+    private static void restore(@Nullable Deadline previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Deadline[remaining=%s]", remaining());
+    }
+}
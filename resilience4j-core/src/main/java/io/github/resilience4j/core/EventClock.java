@@ -0,0 +1,127 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.core;
+
+import io.github.resilience4j.core.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The clock which stamps the creation time of the events of all resilience primitives.
+ * <p>
+ * Events store the creation time as milliseconds since the epoch and only create a {@link ZonedDateTime}
+ * when it is read. By default the creation time is read from {@link System#currentTimeMillis()}.
+ * {@link #useCoarseClock(Duration)} switches to a cached timestamp which is refreshed by a daemon thread,
+ * which makes stamping an event a single volatile read at the cost of a coarser creation time.
+ */
+public final class EventClock {
+
+    private static final Object LOCK = new Object();
+
+    private static volatile LongSupplier clock = System::currentTimeMillis;
+
+    @Nullable
+    private static ScheduledExecutorService ticker;
+
+    private EventClock() {
+    }
+
+    /**
+     * Returns the current time in milliseconds since the epoch, as seen by the event clock.
+     *
+     * @return the current time in milliseconds since the epoch
+     */
+    public static long currentTimeMillis() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Switches to a coarse clock, which caches the current time and refreshes it with the given resolution.
+     *
+     * @param resolution the interval in which the cached time is refreshed
+     * @throws IllegalArgumentException if the resolution is shorter than one millisecond
+     */
+    public static void useCoarseClock(Duration resolution) {
+        Objects.requireNonNull(resolution, "Resolution must not be null");
+        long resolutionInMillis = resolution.toMillis();
+        if (resolutionInMillis < 1) {
+            throw new IllegalArgumentException("Resolution must be at least one millisecond");
+        }
+        synchronized (LOCK) {
+            stopTicker();
+            CoarseClock coarseClock = new CoarseClock();
+            ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "resilience4j-event-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleAtFixedRate(coarseClock::tick, resolutionInMillis, resolutionInMillis, TimeUnit.MILLISECONDS);
+            clock = coarseClock;
+        }
+    }
+
+    /**
+     * Switches back to {@link System#currentTimeMillis()}, which is the default.
+     */
+    public static void useSystemClock() {
+        synchronized (LOCK) {
+            stopTicker();
+            clock = System::currentTimeMillis;
+        }
+    }
+
+    /**
+     * Converts a creation time in milliseconds since the epoch to a {@link ZonedDateTime} in the default time-zone.
+     *
+     * @param epochMillis the creation time in milliseconds since the epoch
+     * @return the creation time in the default time-zone
+     */
+    public static ZonedDateTime toZonedDateTime(long epochMillis) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static void stopTicker() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    private static final class CoarseClock implements LongSupplier {
+
+        private volatile long currentTimeMillis = System.currentTimeMillis();
+
+        private void tick() {
+            currentTimeMillis = System.currentTimeMillis();
+        }
+
+        @Override
+        public long getAsLong() {
+            return currentTimeMillis;
+        }
+    }
+}
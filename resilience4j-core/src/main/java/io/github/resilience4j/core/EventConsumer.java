@@ -22,4 +22,15 @@ package io.github.resilience4j.core;
 public interface EventConsumer<T> {
 
     void consumeEvent(T event);
+
+    /**
+     * Returns whether this consumer currently wants to receive events. A producer which asks
+     * {@link EventProcessor#hasConsumers(Class)} skips creating an event, and any work done only
+     * for it, while all consumers of the event are disabled.
+     *
+     * @return true if this consumer currently wants to receive events
+     */
+    default boolean isEnabled() {
+        return true;
+    }
 }
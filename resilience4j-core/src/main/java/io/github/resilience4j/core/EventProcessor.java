@@ -36,6 +36,35 @@ public class EventProcessor<T> implements EventPublisher<T> {
         return consumerRegistered;
     }
 
+    /**
+     * Returns whether an event of the given type would reach at least one enabled consumer, either
+     * a consumer registered for that type or an {@link #onEvent(EventConsumer) onEvent} consumer.
+     * Lets a producer skip creating events nobody listens to even though consumers for other
+     * event types are registered, or while the consumers are {@link EventConsumer#isEnabled() disabled}.
+     *
+     * @param eventType the type of the event
+     * @return true if an event of the given type would be consumed
+     */
+    public boolean hasConsumers(Class<? extends T> eventType){
+        if (!consumerRegistered) {
+            return false;
+        }
+        if (anyEnabled(onEventConsumers)) {
+            return true;
+        }
+        List<EventConsumer<T>> eventConsumers = eventConsumerMap.get(eventType.getSimpleName());
+        return eventConsumers != null && anyEnabled(eventConsumers);
+    }
+
+    private static <T> boolean anyEnabled(List<EventConsumer<T>> eventConsumers) {
+        for (EventConsumer<T> eventConsumer : eventConsumers) {
+            if (eventConsumer.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     public synchronized void registerConsumer(String className, EventConsumer<? extends T> eventConsumer){
         this.consumerRegistered = true;
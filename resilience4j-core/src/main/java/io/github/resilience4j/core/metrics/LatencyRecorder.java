@@ -0,0 +1,186 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.core.metrics;
+
+import io.github.resilience4j.core.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A lock-free latency recorder with a fixed memory footprint, which follows the bucketing scheme of HdrHistogram.
+ * <p>
+ * Durations below 128 nanoseconds are counted exactly. Larger durations are counted in 64 linear sub-buckets per
+ * power of two, which bounds the relative error of a reported percentile to 1/64. Durations above roughly 18 minutes
+ * are counted in the highest bucket. Recording a duration never allocates.
+ * <p>
+ * The recorded durations are moved into the cumulative and the interval histogram whenever a snapshot is taken, so
+ * that every duration is contained in exactly one interval snapshot.
+ */
+public final class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_EXPONENT = 39;
+    private static final long MAX_TRACKABLE_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT + 1 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0L);
+    private final long[] cumulativeCounts = new long[BUCKET_COUNT];
+    private long cumulativeMax;
+    @Nullable
+    private long[] intervalCounts;
+    private long intervalMax;
+
+    /**
+     * Records the duration of a call.
+     *
+     * @param durationInNanos the duration of the call in nanoseconds
+     */
+    public void record(long durationInNanos) {
+        long value = Math.max(durationInNanos, 0L);
+        counts.incrementAndGet(bucketIndex(Math.min(value, MAX_TRACKABLE_VALUE)));
+        maxValue.accumulate(value);
+    }
+
+    /**
+     * Returns a snapshot of the durations recorded since the creation or the last reset of this recorder.
+     *
+     * @return a snapshot of the recorded durations
+     */
+    public synchronized LatencySnapshot getSnapshot() {
+        drain();
+        return snapshotOf(cumulativeCounts, cumulativeMax);
+    }
+
+    /**
+     * Returns a snapshot of the durations recorded since the previous interval snapshot and starts a new interval.
+     * The first interval starts with the creation or the last reset of this recorder. Since every call starts a new
+     * interval, there should be only one reader of interval snapshots, like a metrics exporter.
+     *
+     * @return a snapshot of the durations recorded in the last interval
+     */
+    public synchronized LatencySnapshot getIntervalSnapshot() {
+        drain();
+        long[] counts = intervalCounts != null ? intervalCounts : cumulativeCounts;
+        LatencySnapshot snapshot = snapshotOf(counts, intervalCounts != null ? intervalMax : cumulativeMax);
+        if (intervalCounts == null) {
+            intervalCounts = new long[BUCKET_COUNT];
+        } else {
+            Arrays.fill(intervalCounts, 0L);
+        }
+        intervalMax = 0L;
+        return snapshot;
+    }
+
+    /**
+     * Clears all recorded durations. Durations which are recorded concurrently might survive the reset.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        maxValue.reset();
+        Arrays.fill(cumulativeCounts, 0L);
+        cumulativeMax = 0L;
+        if (intervalCounts != null) {
+            Arrays.fill(intervalCounts, 0L);
+        }
+        intervalMax = 0L;
+    }
+
+    /**
+     * Moves the recorded durations into the cumulative and the interval histogram.
+     */
+    private void drain() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i) != 0L ? counts.getAndSet(i, 0L) : 0L;
+            cumulativeCounts[i] += count;
+            if (intervalCounts != null) {
+                intervalCounts[i] += count;
+            }
+        }
+        long max = maxValue.getThenReset();
+        cumulativeMax = Math.max(cumulativeMax, max);
+        intervalMax = Math.max(intervalMax, max);
+    }
+
+    /**
+     * A duration might be counted before its maximum is accumulated, so the maximum is at least the lowest value of
+     * the highest counted bucket.
+     */
+    private static LatencySnapshot snapshotOf(long[] bucketCounts, long recordedMax) {
+        long totalCount = 0;
+        int highestBucket = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (bucketCounts[i] != 0L) {
+                totalCount += bucketCounts[i];
+                highestBucket = i;
+            }
+        }
+        if (totalCount == 0) {
+            return LatencySnapshot.empty();
+        }
+        long max = Math.max(recordedMax, lowestEquivalentValue(highestBucket));
+        return new LatencySnapshot(totalCount,
+                valueAtPercentile(bucketCounts, totalCount, 50.0, max),
+                valueAtPercentile(bucketCounts, totalCount, 95.0, max),
+                valueAtPercentile(bucketCounts, totalCount, 99.0, max),
+                max);
+    }
+
+    private static long valueAtPercentile(long[] bucketCounts, long totalCount, double percentile, long max) {
+        long countAtPercentile = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS + 1));
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT + subBucket - SUB_BUCKET_HALF_COUNT;
+    }
+
+    static long highestEquivalentValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int offset = bucketIndex - SUB_BUCKET_COUNT;
+        int exponent = offset / SUB_BUCKET_HALF_COUNT + SUB_BUCKET_BITS;
+        long subBucket = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+
+    static long lowestEquivalentValue(int bucketIndex) {
+        return bucketIndex == 0 ? 0L : highestEquivalentValue(bucketIndex - 1) + 1;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.core.metrics;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the durations recorded by a {@link LatencyRecorder}.
+ */
+public final class LatencySnapshot {
+
+    private static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0, 0);
+
+    private final long count;
+    private final long percentile50InNanos;
+    private final long percentile95InNanos;
+    private final long percentile99InNanos;
+    private final long maxInNanos;
+
+    LatencySnapshot(long count, long percentile50InNanos, long percentile95InNanos, long percentile99InNanos, long maxInNanos) {
+        this.count = count;
+        this.percentile50InNanos = percentile50InNanos;
+        this.percentile95InNanos = percentile95InNanos;
+        this.percentile99InNanos = percentile99InNanos;
+        this.maxInNanos = maxInNanos;
+    }
+
+    /**
+     * Returns a snapshot without any recorded durations.
+     *
+     * @return an empty snapshot
+     */
+    public static LatencySnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the median of the recorded durations.
+     *
+     * @return the 50th percentile
+     */
+    public Duration getPercentile50() {
+        return Duration.ofNanos(percentile50InNanos);
+    }
+
+    /**
+     * Returns the 95th percentile of the recorded durations.
+     *
+     * @return the 95th percentile
+     */
+    public Duration getPercentile95() {
+        return Duration.ofNanos(percentile95InNanos);
+    }
+
+    /**
+     * Returns the 99th percentile of the recorded durations.
+     *
+     * @return the 99th percentile
+     */
+    public Duration getPercentile99() {
+        return Duration.ofNanos(percentile99InNanos);
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return the maximum
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxInNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencySnapshot{count=%d, p50=%s, p95=%s, p99=%s, max=%s}",
+                count, getPercentile50(), getPercentile95(), getPercentile99(), getMax());
+    }
+}
@@ -18,19 +18,26 @@
  */
 package io.github.resilience4j.core.registry;
 
+import io.github.resilience4j.core.EventClock;
+
 import java.time.ZonedDateTime;
 
 abstract class AbstractRegistryEvent implements RegistryEvent {
 
-    private final ZonedDateTime creationTime;
+    private final long creationTimeInMillis;
 
 
     AbstractRegistryEvent() {
-        this.creationTime = ZonedDateTime.now();
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
     }
 
     @Override
     public ZonedDateTime getCreationTime() {
-        return creationTime;
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
     }
 }
\ No newline at end of file
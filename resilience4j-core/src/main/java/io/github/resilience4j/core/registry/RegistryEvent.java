@@ -36,6 +36,15 @@ public interface RegistryEvent {
      */
     ZonedDateTime getCreationTime();
 
+    /**
+     * Returns the creation time of Registry event in milliseconds since the epoch.
+     *
+     * @return the creation time of Registry event in milliseconds since the epoch
+     */
+    default long getCreationTimeInMillis() {
+        return getCreationTime().toInstant().toEpochMilli();
+    }
+
     /**
      * Event types which are created by a CircuitBreaker.
      */
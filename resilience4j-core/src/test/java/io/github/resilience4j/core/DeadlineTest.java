@@ -0,0 +1,64 @@
+package io.github.resilience4j.core;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineTest {
+
+    @Test
+    public void shouldNotBoundWaitWithoutDeadline() {
+        assertThat(Deadline.current()).isEmpty();
+        assertThat(Deadline.boundedWaitNanos(1000L)).isEqualTo(1000L);
+    }
+
+    @Test
+    public void shouldBoundWaitToRemainingTime() {
+        long bounded = Deadline.after(Duration.ofMillis(100))
+                .executeSupplier(() -> Deadline.boundedWaitNanos(Duration.ofSeconds(5).toNanos()));
+
+        assertThat(bounded).isBetween(0L, Duration.ofMillis(100).toNanos());
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotExtendEnclosingDeadline() {
+        Deadline outer = Deadline.after(Duration.ofMillis(50));
+
+        Deadline effective = outer.executeSupplier(() ->
+                Deadline.after(Duration.ofSeconds(10)).executeSupplier(() -> Deadline.current().get()));
+
+        assertThat(effective).isSameAs(outer);
+    }
+
+    @Test
+    public void shouldRestoreEnclosingDeadline() {
+        Deadline outer = Deadline.after(Duration.ofSeconds(10));
+
+        Deadline restored = outer.executeSupplier(() -> {
+            Deadline.after(Duration.ofSeconds(1)).executeSupplier(() -> "inner");
+            return Deadline.current().get();
+        });
+
+        assertThat(restored).isSameAs(outer);
+    }
+
+    @Test
+    public void shouldBoundWaitToZeroAfterExpiry() {
+        Supplier<Long> supplier = Deadline.decorateSupplier(Duration.ZERO, () -> Deadline.boundedWaitNanos(1000L));
+
+        assertThat(supplier.get()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldOnlyAllowWaitsEndingBeforeDeadline() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.allowsWait(Duration.ofMillis(10).toNanos())).isTrue();
+        assertThat(deadline.allowsWait(Duration.ofSeconds(2).toNanos())).isFalse();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.core;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventClockTest {
+
+    @After
+    public void tearDown() {
+        EventClock.useSystemClock();
+    }
+
+    @Test
+    public void shouldReadTheSystemClockByDefault() {
+        long before = System.currentTimeMillis();
+        long now = EventClock.currentTimeMillis();
+        long after = System.currentTimeMillis();
+
+        assertThat(now).isBetween(before, after);
+    }
+
+    @Test
+    public void shouldRefreshTheCoarseClock() throws InterruptedException {
+        long before = System.currentTimeMillis();
+        EventClock.useCoarseClock(Duration.ofMillis(1));
+        long first = EventClock.currentTimeMillis();
+        Thread.sleep(50);
+        long second = EventClock.currentTimeMillis();
+
+        assertThat(first).isGreaterThanOrEqualTo(before);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    public void shouldSwitchBackToTheSystemClock() throws InterruptedException {
+        EventClock.useCoarseClock(Duration.ofHours(1));
+        long coarse = EventClock.currentTimeMillis();
+        Thread.sleep(5);
+        assertThat(EventClock.currentTimeMillis()).isEqualTo(coarse);
+
+        EventClock.useSystemClock();
+
+        assertThat(EventClock.currentTimeMillis()).isGreaterThan(coarse);
+    }
+
+    @Test
+    public void shouldNotAcceptAResolutionBelowOneMillisecond() {
+        assertThatThrownBy(() -> EventClock.useCoarseClock(Duration.ofNanos(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldConvertToZonedDateTime() {
+        ZonedDateTime creationTime = EventClock.toZonedDateTime(1546344000123L);
+
+        assertThat(creationTime.toInstant().toEpochMilli()).isEqualTo(1546344000123L);
+        assertThat(creationTime.getZone()).isEqualTo(ZoneId.systemDefault());
+    }
+}
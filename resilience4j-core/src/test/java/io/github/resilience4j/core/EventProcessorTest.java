@@ -22,6 +22,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.Logger;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
@@ -110,6 +112,44 @@ public class EventProcessorTest {
         assertThat(consumed).isEqualTo(false);
     }
 
+    @Test
+    public void testHasConsumersOfEventType() {
+        EventProcessor<Number> eventProcessor = new EventProcessor<>();
+        assertThat(eventProcessor.hasConsumers(Integer.class)).isFalse();
+
+        eventProcessor.registerConsumer(Integer.class.getSimpleName(), event -> logger.info(event.toString()));
+
+        assertThat(eventProcessor.hasConsumers(Integer.class)).isTrue();
+        assertThat(eventProcessor.hasConsumers(Float.class)).isFalse();
+
+        eventProcessor.onEvent(event -> logger.info(event.toString()));
+
+        assertThat(eventProcessor.hasConsumers(Float.class)).isTrue();
+    }
+
+    @Test
+    public void testHasNoConsumersOfEventTypeWhileTheyAreDisabled() {
+        EventProcessor<Number> eventProcessor = new EventProcessor<>();
+        AtomicBoolean enabled = new AtomicBoolean(false);
+        eventProcessor.registerConsumer(Integer.class.getSimpleName(), new EventConsumer<Integer>() {
+            @Override
+            public void consumeEvent(Integer event) {
+                logger.info(event.toString());
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return enabled.get();
+            }
+        });
+
+        assertThat(eventProcessor.hasConsumers(Integer.class)).isFalse();
+
+        enabled.set(true);
+
+        assertThat(eventProcessor.hasConsumers(Integer.class)).isTrue();
+    }
+
 
 
 }
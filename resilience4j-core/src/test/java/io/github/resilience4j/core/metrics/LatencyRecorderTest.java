@@ -0,0 +1,130 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.core.metrics;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void shouldReturnEmptySnapshotWithoutRecordedDurations() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+        LatencySnapshot snapshot = latencyRecorder.getSnapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(0);
+        assertThat(snapshot.getPercentile99()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.getMax()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void shouldReturnPercentilesWithinTheRelativeError() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        for (long millis = 1; millis <= 1000; millis++) {
+            latencyRecorder.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        LatencySnapshot snapshot = latencyRecorder.getSnapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getPercentile50().toNanos()).isBetween(Duration.ofMillis(500).toNanos(), Duration.ofMillis(508).toNanos());
+        assertThat(snapshot.getPercentile95().toNanos()).isBetween(Duration.ofMillis(950).toNanos(), Duration.ofMillis(965).toNanos());
+        assertThat(snapshot.getPercentile99().toNanos()).isBetween(Duration.ofMillis(990).toNanos(), Duration.ofMillis(1000).toNanos());
+        assertThat(snapshot.getMax()).isEqualTo(Duration.ofMillis(1000));
+    }
+
+    @Test
+    public void shouldRecordSmallDurationsExactly() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.record(-1);
+        latencyRecorder.record(42);
+
+        LatencySnapshot snapshot = latencyRecorder.getSnapshot();
+
+        assertThat(snapshot.getPercentile50()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.getPercentile99()).isEqualTo(Duration.ofNanos(42));
+    }
+
+    @Test
+    public void shouldTrackMaxBeyondTheHighestBucket() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.record(Duration.ofHours(1).toNanos());
+
+        LatencySnapshot snapshot = latencyRecorder.getSnapshot();
+
+        assertThat(snapshot.getPercentile99()).isLessThan(Duration.ofHours(1));
+        assertThat(snapshot.getMax()).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    public void shouldMapValuesIntoBucketsWhichContainThem() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 255, 256, 1000, 123456789, (1L << 40) - 1}) {
+            int bucketIndex = LatencyRecorder.bucketIndex(value);
+            assertThat(LatencyRecorder.highestEquivalentValue(bucketIndex)).isGreaterThanOrEqualTo(value);
+            if (bucketIndex > 0) {
+                assertThat(LatencyRecorder.highestEquivalentValue(bucketIndex - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void shouldClearRecordedDurationsOnReset() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.record(1000);
+
+        latencyRecorder.reset();
+
+        assertThat(latencyRecorder.getSnapshot().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldResetIntervalSnapshotOnRead() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.record(Duration.ofMillis(100).toNanos());
+        latencyRecorder.record(Duration.ofMillis(200).toNanos());
+
+        LatencySnapshot firstInterval = latencyRecorder.getIntervalSnapshot();
+        latencyRecorder.record(Duration.ofMillis(10).toNanos());
+        LatencySnapshot secondInterval = latencyRecorder.getIntervalSnapshot();
+        LatencySnapshot thirdInterval = latencyRecorder.getIntervalSnapshot();
+
+        assertThat(firstInterval.getCount()).isEqualTo(2);
+        assertThat(firstInterval.getMax()).isEqualTo(Duration.ofMillis(200));
+        assertThat(secondInterval.getCount()).isEqualTo(1);
+        assertThat(secondInterval.getMax()).isEqualTo(Duration.ofMillis(10));
+        assertThat(thirdInterval.getCount()).isEqualTo(0);
+        assertThat(latencyRecorder.getSnapshot().getCount()).isEqualTo(3);
+        assertThat(latencyRecorder.getSnapshot().getMax()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void shouldNotResetIntervalSnapshotWithCumulativeSnapshot() {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        latencyRecorder.getIntervalSnapshot();
+        latencyRecorder.record(1000);
+
+        latencyRecorder.getSnapshot();
+
+        assertThat(latencyRecorder.getIntervalSnapshot().getCount()).isEqualTo(1);
+    }
+}
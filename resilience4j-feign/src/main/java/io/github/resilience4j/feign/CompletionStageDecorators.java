@@ -0,0 +1,172 @@
+/*
+ *
+ * Copyright 2019
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *
+ */
+package io.github.resilience4j.feign;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.Retry;
+import io.vavr.CheckedFunction1;
+import io.vavr.CheckedFunction2;
+
+/**
+ * Decorates the invocations of feign methods which return a {@link CompletionStage}. The outcome of such an
+ * invocation is only known when the returned stage completes, so the decorators record it on completion instead
+ * of when the method returns. Failures, including rejected calls, are reported through the returned stage.
+ */
+final class CompletionStageDecorators {
+
+    private CompletionStageDecorators() {
+    }
+
+    /**
+     * @param method the method of the feign interface, may be null if it is unknown.
+     * @return true if the method returns a {@link CompletionStage} which a {@link CompletableFuture} can be
+     *         assigned to.
+     */
+    static boolean isCompletionStage(@Nullable Method method) {
+        if (method == null) {
+            return false;
+        }
+        Class<?> returnType = method.getReturnType();
+        return CompletionStage.class.isAssignableFrom(returnType)
+                && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    static CheckedFunction1<Object[], Object> decorateCircuitBreaker(CircuitBreaker circuitBreaker,
+            CheckedFunction1<Object[], Object> invocationCall) {
+        return args -> CircuitBreaker.decorateCompletionStage(circuitBreaker, () -> invoke(invocationCall, args)).get();
+    }
+
+    static CheckedFunction1<Object[], Object> decorateBulkhead(Bulkhead bulkhead,
+            CheckedFunction1<Object[], Object> invocationCall) {
+        return args -> Bulkhead.decorateCompletionStage(bulkhead, () -> invoke(invocationCall, args)).get();
+    }
+
+    static CheckedFunction1<Object[], Object> decorateRetry(Retry retry, ScheduledExecutorService scheduler,
+            CheckedFunction1<Object[], Object> invocationCall) {
+        return args -> Retry.decorateCompletionStage(retry, scheduler, () -> invoke(invocationCall, args)).get();
+    }
+
+    /**
+     * Reserves a permission instead of waiting for it. If the permission is only available after a while, the
+     * invocation is scheduled on the given scheduler. Rate limiters which cannot reserve permissions of a later
+     * refresh period, like the {@link io.github.resilience4j.ratelimiter.internal.SemaphoreBasedRateLimiter}, wait
+     * for the permission on the calling thread in {@link RateLimiter#reservePermission()}.
+     */
+    static CheckedFunction1<Object[], Object> decorateRateLimiter(RateLimiter rateLimiter,
+            ScheduledExecutorService scheduler, CheckedFunction1<Object[], Object> invocationCall) {
+        return args -> {
+            long nanosToWait = rateLimiter.reservePermission();
+            if (nanosToWait < 0) {
+                return failedFuture(new RequestNotPermitted(rateLimiter));
+            }
+            if (nanosToWait == 0) {
+                return invoke(invocationCall, args);
+            }
+            final CompletableFuture<Object> promise = new CompletableFuture<>();
+            try {
+                scheduler.schedule(() -> completeWith(invoke(invocationCall, args), promise),
+                        nanosToWait, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException exception) {
+                promise.completeExceptionally(exception);
+            }
+            return promise;
+        };
+    }
+
+    /**
+     * Calls the fallback if the stage returned by the invocationCall completes with an {@link Exception} which
+     * matches the filter.
+     */
+    static CheckedFunction1<Object[], Object> decorateFallback(CheckedFunction1<Object[], Object> invocationCall,
+            Predicate<Exception> filter, CheckedFunction2<Object[], Exception, Object> fallbackCall) {
+        return args -> {
+            final CompletableFuture<Object> promise = new CompletableFuture<>();
+            invoke(invocationCall, args).whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    promise.complete(result);
+                    return;
+                }
+                Throwable cause = unwrap(throwable);
+                if (!(cause instanceof Exception) || !filter.test((Exception) cause)) {
+                    promise.completeExceptionally(cause);
+                    return;
+                }
+                try {
+                    completeWith(toStage(fallbackCall.apply(args, (Exception) cause)), promise);
+                } catch (Throwable fallbackThrowable) {
+                    promise.completeExceptionally(fallbackThrowable);
+                }
+            });
+            return promise;
+        };
+    }
+
+    /**
+     * Invokes the invocationCall and reports an exception thrown by it through the returned stage.
+     */
+    private static CompletionStage<Object> invoke(CheckedFunction1<Object[], Object> invocationCall, Object[] args) {
+        try {
+            return toStage(invocationCall.apply(args));
+        } catch (Throwable throwable) {
+            return failedFuture(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> toStage(@Nullable Object result) {
+        if (result == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return (CompletionStage<Object>) result;
+    }
+
+    private static void completeWith(CompletionStage<Object> stage, CompletableFuture<Object> promise) {
+        stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                promise.completeExceptionally(throwable);
+            } else {
+                promise.complete(result);
+            }
+        });
+    }
+
+    private static CompletableFuture<Object> failedFuture(Throwable throwable) {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -40,6 +40,10 @@ class DefaultFallbackHandler<T> implements FallbackHandler<T> {
                                                        Predicate<Exception> filter) {
         validateFallback(fallback, method);
         Method fallbackMethod = getFallbackMethod(fallback, method);
+        if (CompletionStageDecorators.isCompletionStage(method)) {
+            return CompletionStageDecorators.decorateFallback(invocationCall, filter,
+                    (args, exception) -> fallbackMethod.invoke(fallback, args));
+        }
         return args -> {
             try {
                 return invocationCall.apply(args);
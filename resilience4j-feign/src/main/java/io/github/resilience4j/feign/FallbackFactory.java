@@ -40,18 +40,26 @@ class FallbackFactory<T> implements FallbackHandler<T> {
     public CheckedFunction1<Object[], Object> decorate(CheckedFunction1<Object[], Object> invocationCall,
                                                        Method method,
                                                        Predicate<Exception> filter) {
+        if (CompletionStageDecorators.isCompletionStage(method)) {
+            return CompletionStageDecorators.decorateFallback(invocationCall, filter,
+                    (args, exception) -> invokeFallback(exception, method, args));
+        }
         return args -> {
             try {
                 return invocationCall.apply(args);
             } catch (Exception exception) {
                 if (filter.test(exception)) {
-                    T fallbackInstance = fallbackSupplier.apply(exception);
-                    validateFallback(fallbackInstance, method);
-                    Method fallbackMethod = getFallbackMethod(fallbackInstance, method);
-                    return fallbackMethod.invoke(fallbackInstance, args);
+                    return invokeFallback(exception, method, args);
                 }
                 throw exception;
             }
         };
     }
+
+    private Object invokeFallback(Exception exception, Method method, Object[] args) throws Exception {
+        T fallbackInstance = fallbackSupplier.apply(exception);
+        validateFallback(fallbackInstance, method);
+        Method fallbackMethod = getFallbackMethod(fallbackInstance, method);
+        return fallbackMethod.invoke(fallbackInstance, args);
+    }
 }
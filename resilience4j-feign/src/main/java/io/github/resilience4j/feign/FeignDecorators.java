@@ -19,13 +19,22 @@ package io.github.resilience4j.feign;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import feign.Feign;
 import feign.InvocationHandlerFactory.MethodHandler;
 import feign.Target;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.lang.Nullable;
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
 import io.vavr.CheckedFunction1;
 
 /**
@@ -51,6 +60,16 @@ import io.vavr.CheckedFunction1;
  * were open. However, reversing the order would mean that the fallback is called both when the HTTP
  * request fails and when the CircuitBreaker is open. <br>
  * So be wary of this when designing your "resilience" strategy.
+ * <p>
+ * The decorators which take a registry create a separate instance for every method of the feign interface. The
+ * instances are looked up once, when the feign interface is built, and are named after the
+ * {@link Feign#configKey(Class, Method) config key} of the method unless a name resolver is specified, e.g.
+ * <code>MyService#greeting()</code>.
+ * <p>
+ * Methods of the feign interface which return a {@link java.util.concurrent.CompletionStage} are decorated
+ * asynchronously: the outcome of a call is recorded when the returned stage completes, rejected calls fail the
+ * returned stage and fallbacks are called when the stage fails. Asynchronous retries, and rate limiter waits which
+ * should not block the calling thread, need a {@link ScheduledExecutorService}.
  */
 public class FeignDecorators implements FeignDecorator {
 
@@ -74,6 +93,53 @@ public class FeignDecorators implements FeignDecorator {
         return new Builder();
     }
 
+    /**
+     * The default name of the per-method instances, the config key of the method, e.g. <code>MyService#greeting()</code>.
+     */
+    static String defaultInstanceName(Target<?> target, Method method) {
+        return Feign.configKey(target.type(), method);
+    }
+
+    private static CheckedFunction1<Object[], Object> decorateCircuitBreaker(CircuitBreaker circuitBreaker,
+            CheckedFunction1<Object[], Object> fn, Method method) {
+        if (CompletionStageDecorators.isCompletionStage(method)) {
+            return CompletionStageDecorators.decorateCircuitBreaker(circuitBreaker, fn);
+        }
+        return CircuitBreaker.decorateCheckedFunction(circuitBreaker, fn);
+    }
+
+    private static CheckedFunction1<Object[], Object> decorateBulkhead(Bulkhead bulkhead,
+            CheckedFunction1<Object[], Object> fn, Method method) {
+        if (CompletionStageDecorators.isCompletionStage(method)) {
+            return CompletionStageDecorators.decorateBulkhead(bulkhead, fn);
+        }
+        return Bulkhead.decorateCheckedFunction(bulkhead, fn);
+    }
+
+    private static CheckedFunction1<Object[], Object> decorateRetry(Retry retry,
+            @Nullable ScheduledExecutorService scheduler, CheckedFunction1<Object[], Object> fn, Method method) {
+        if (CompletionStageDecorators.isCompletionStage(method)) {
+            if (scheduler == null) {
+                throw new IllegalArgumentException("Cannot retry [" + method
+                        + "] without a ScheduledExecutorService, as it returns a CompletionStage!");
+            }
+            return CompletionStageDecorators.decorateRetry(retry, scheduler, fn);
+        }
+        return Retry.decorateCheckedFunction(retry, fn);
+    }
+
+    private static CheckedFunction1<Object[], Object> decorateRateLimiter(RateLimiter rateLimiter,
+            @Nullable ScheduledExecutorService scheduler, CheckedFunction1<Object[], Object> fn, Method method) {
+        if (CompletionStageDecorators.isCompletionStage(method)) {
+            if (scheduler == null) {
+                throw new IllegalArgumentException("Cannot rate limit [" + method
+                        + "] without a ScheduledExecutorService, as it returns a CompletionStage!");
+            }
+            return CompletionStageDecorators.decorateRateLimiter(rateLimiter, scheduler, fn);
+        }
+        return RateLimiter.decorateCheckedFunction(rateLimiter, fn);
+    }
+
     public static final class Builder {
 
         private final List<FeignDecorator> decorators = new ArrayList<>();
@@ -85,18 +151,158 @@ public class FeignDecorators implements FeignDecorator {
          * @return the builder
          */
         public Builder withCircuitBreaker(CircuitBreaker circuitBreaker) {
-            decorators.add((fn, m, mh, t) -> CircuitBreaker.decorateCheckedFunction(circuitBreaker, fn));
+            decorators.add((fn, m, mh, t) -> decorateCircuitBreaker(circuitBreaker, fn, m));
             return this;
         }
 
         /**
-         * Adds a {@link RateLimiter} to the decorator chain.
+         * Adds a {@link CircuitBreaker} per method of the feign interface to the decorator chain. The circuit
+         * breakers are taken from the given registry and named after the config key of the method.
+         *
+         * @param circuitBreakerRegistry the registry of the circuit breakers.
+         * @return the builder
+         */
+        public Builder withCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+            return withCircuitBreaker(circuitBreakerRegistry, FeignDecorators::defaultInstanceName);
+        }
+
+        /**
+         * Adds a {@link CircuitBreaker} per method of the feign interface to the decorator chain. The circuit
+         * breakers are taken from the given registry.
+         *
+         * @param circuitBreakerRegistry the registry of the circuit breakers.
+         * @param nameResolver resolves the name of the circuit breaker of a method.
+         * @return the builder
+         */
+        public Builder withCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry,
+                BiFunction<Target<?>, Method, String> nameResolver) {
+            decorators.add((fn, m, mh, t) -> decorateCircuitBreaker(
+                    circuitBreakerRegistry.circuitBreaker(nameResolver.apply(t, m)), fn, m));
+            return this;
+        }
+
+        /**
+         * Adds a {@link RateLimiter} to the decorator chain. Methods which return a
+         * {@link java.util.concurrent.CompletionStage} require {@link #withRateLimiter(RateLimiter, ScheduledExecutorService)}.
          *
          * @param rateLimiter a fully configured {@link RateLimiter}.
          * @return the builder
          */
         public Builder withRateLimiter(RateLimiter rateLimiter) {
-            decorators.add((fn, m, mh, t) -> RateLimiter.decorateCheckedFunction(rateLimiter, fn));
+            return withRateLimiter(rateLimiter, null);
+        }
+
+        /**
+         * Adds a {@link RateLimiter} to the decorator chain. The calls to methods which return a
+         * {@link java.util.concurrent.CompletionStage} reserve a permission and are scheduled on the given
+         * scheduler if the permission is not available immediately, instead of blocking the calling thread.
+         *
+         * @param rateLimiter a fully configured {@link RateLimiter}.
+         * @param scheduler the scheduler of the calls which wait for a permission.
+         * @return the builder
+         */
+        public Builder withRateLimiter(RateLimiter rateLimiter, @Nullable ScheduledExecutorService scheduler) {
+            decorators.add((fn, m, mh, t) -> decorateRateLimiter(rateLimiter, scheduler, fn, m));
+            return this;
+        }
+
+        /**
+         * Adds a {@link Bulkhead} to the decorator chain.
+         *
+         * @param bulkhead a fully configured {@link Bulkhead}.
+         * @return the builder
+         */
+        public Builder withBulkhead(Bulkhead bulkhead) {
+            decorators.add((fn, m, mh, t) -> decorateBulkhead(bulkhead, fn, m));
+            return this;
+        }
+
+        /**
+         * Adds a {@link Bulkhead} per method of the feign interface to the decorator chain. The bulkheads are
+         * taken from the given registry and named after the config key of the method.
+         *
+         * @param bulkheadRegistry the registry of the bulkheads.
+         * @return the builder
+         */
+        public Builder withBulkhead(BulkheadRegistry bulkheadRegistry) {
+            return withBulkhead(bulkheadRegistry, FeignDecorators::defaultInstanceName);
+        }
+
+        /**
+         * Adds a {@link Bulkhead} per method of the feign interface to the decorator chain. The bulkheads are
+         * taken from the given registry.
+         *
+         * @param bulkheadRegistry the registry of the bulkheads.
+         * @param nameResolver resolves the name of the bulkhead of a method.
+         * @return the builder
+         */
+        public Builder withBulkhead(BulkheadRegistry bulkheadRegistry,
+                BiFunction<Target<?>, Method, String> nameResolver) {
+            decorators.add((fn, m, mh, t) -> decorateBulkhead(bulkheadRegistry.bulkhead(nameResolver.apply(t, m)), fn, m));
+            return this;
+        }
+
+        /**
+         * Adds a {@link Retry} to the decorator chain. Methods which return a
+         * {@link java.util.concurrent.CompletionStage} require {@link #withRetry(Retry, ScheduledExecutorService)}.
+         *
+         * @param retry a fully configured {@link Retry}.
+         * @return the builder
+         */
+        public Builder withRetry(Retry retry) {
+            return withRetry(retry, null);
+        }
+
+        /**
+         * Adds a {@link Retry} to the decorator chain. The retries of methods which return a
+         * {@link java.util.concurrent.CompletionStage} are scheduled on the given scheduler.
+         *
+         * @param retry a fully configured {@link Retry}.
+         * @param scheduler the scheduler of asynchronous retries.
+         * @return the builder
+         */
+        public Builder withRetry(Retry retry, @Nullable ScheduledExecutorService scheduler) {
+            decorators.add((fn, m, mh, t) -> decorateRetry(retry, scheduler, fn, m));
+            return this;
+        }
+
+        /**
+         * Adds a {@link Retry} per method of the feign interface to the decorator chain. The retries are taken
+         * from the given registry and named after the config key of the method.
+         *
+         * @param retryRegistry the registry of the retries.
+         * @return the builder
+         */
+        public Builder withRetry(RetryRegistry retryRegistry) {
+            return withRetry(retryRegistry, FeignDecorators::defaultInstanceName);
+        }
+
+        /**
+         * Adds a {@link Retry} per method of the feign interface to the decorator chain. The retries are taken
+         * from the given registry.
+         *
+         * @param retryRegistry the registry of the retries.
+         * @param nameResolver resolves the name of the retry of a method.
+         * @return the builder
+         */
+        public Builder withRetry(RetryRegistry retryRegistry, BiFunction<Target<?>, Method, String> nameResolver) {
+            return withRetry(retryRegistry, nameResolver, null);
+        }
+
+        /**
+         * Adds a {@link Retry} per method of the feign interface to the decorator chain. The retries are taken
+         * from the given registry. The retries of methods which return a
+         * {@link java.util.concurrent.CompletionStage} are scheduled on the given scheduler.
+         *
+         * @param retryRegistry the registry of the retries.
+         * @param nameResolver resolves the name of the retry of a method.
+         * @param scheduler the scheduler of asynchronous retries.
+         * @return the builder
+         */
+        public Builder withRetry(RetryRegistry retryRegistry, BiFunction<Target<?>, Method, String> nameResolver,
+                @Nullable ScheduledExecutorService scheduler) {
+            decorators.add((fn, m, mh, t) -> decorateRetry(
+                    retryRegistry.retry(nameResolver.apply(t, m)), scheduler, fn, m));
             return this;
         }
 
@@ -0,0 +1,104 @@
+/*
+ *
+ * Copyright 2018
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *
+ */
+package io.github.resilience4j.feign;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.feign.test.TestService;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the integration of the {@link Resilience4jFeign} with {@link Bulkhead}
+ */
+public class Resilience4jFeignBulkheadTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule();
+
+    private static final BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitTime(0)
+            .build();
+
+    @Test
+    public void testSuccessfulCall() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of("test", bulkheadConfig);
+        final TestService testService = target(FeignDecorators.builder().withBulkhead(bulkhead).build());
+        setupStub("/greeting");
+
+        testService.greeting();
+
+        verify(1, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                .describedAs("Available Concurrent Calls")
+                .isEqualTo(1);
+    }
+
+    @Test(expected = BulkheadFullException.class)
+    public void testBulkheadFull() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of("test", bulkheadConfig);
+        final TestService testService = target(FeignDecorators.builder().withBulkhead(bulkhead).build());
+        setupStub("/greeting");
+        bulkhead.acquirePermission();
+
+        testService.greeting();
+    }
+
+    @Test
+    public void testBulkheadPerMethod() throws Exception {
+        final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+        final TestService testService = target(FeignDecorators.builder().withBulkhead(bulkheadRegistry).build());
+        setupStub("/greeting");
+        setupStub("/farewell");
+        bulkheadRegistry.bulkhead("TestService#greeting()").acquirePermission();
+
+        boolean exceptionThrown = false;
+        try {
+            testService.greeting();
+        } catch (final BulkheadFullException ex) {
+            exceptionThrown = true;
+        }
+        testService.farewell();
+
+        assertThat(exceptionThrown)
+                .describedAs("BulkheadFullException thrown")
+                .isTrue();
+        verify(0, getRequestedFor(urlPathEqualTo("/greeting")));
+        verify(1, getRequestedFor(urlPathEqualTo("/farewell")));
+        assertThat(bulkheadRegistry.getAllBulkheads().map(Bulkhead::getName))
+                .containsExactlyInAnyOrder("TestService#greeting()", "TestService#farewell()");
+    }
+
+    private TestService target(FeignDecorators decorators) {
+        return Resilience4jFeign.builder(decorators).target(TestService.class, "http://localhost:8080/");
+    }
+
+    private void setupStub(String path) {
+        stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("hello world")));
+    }
+}
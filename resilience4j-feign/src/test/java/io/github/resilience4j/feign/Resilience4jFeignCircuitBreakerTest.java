@@ -21,6 +21,7 @@ import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerOpenException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.feign.test.TestService;
 import org.junit.Before;
 import org.junit.Rule;
@@ -144,6 +145,38 @@ public class Resilience4jFeignCircuitBreakerTest {
                 .isTrue();
     }
 
+    @Test
+    public void testCircuitBreakerPerMethod() throws Exception {
+        final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        final FeignDecorators decorators = FeignDecorators.builder().withCircuitBreaker(circuitBreakerRegistry).build();
+        final TestService perMethodService = Resilience4jFeign.builder(decorators)
+                .target(TestService.class, "http://localhost:8080/");
+        circuitBreakerRegistry.circuitBreaker("TestService#greeting()").transitionToForcedOpenState();
+        boolean exceptionThrown = false;
+
+        setupStub(200);
+        stubFor(get(urlPathEqualTo("/farewell"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("goodbye world")));
+
+        try {
+            perMethodService.greeting();
+        } catch (final CircuitBreakerOpenException ex) {
+            exceptionThrown = true;
+        }
+        perMethodService.farewell();
+
+        assertThat(exceptionThrown)
+                .describedAs("CircuitBreakerOpenException thrown")
+                .isTrue();
+        verify(0, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(circuitBreakerRegistry.circuitBreaker("TestService#farewell()").getMetrics().getNumberOfSuccessfulCalls())
+                .describedAs("Successful Calls")
+                .isEqualTo(1);
+    }
+
     private void setupStub(int responseCode) {
         stubFor(get(urlPathEqualTo("/greeting"))
                 .willReturn(aResponse()
@@ -0,0 +1,278 @@
+/*
+ *
+ * Copyright 2019
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *
+ */
+package io.github.resilience4j.feign;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import feign.codec.Decoder;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.feign.test.AsyncTestService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.ratelimiter.internal.SemaphoreBasedRateLimiter;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.vavr.CheckedFunction1;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the decoration of feign methods which return a {@link java.util.concurrent.CompletionStage}.
+ */
+public class Resilience4jFeignCompletionStageTest {
+
+    /**
+     * Feign 10.2 decodes responses synchronously, so a {@link CompletableFuture} is decoded as an already
+     * completed future of its value type.
+     */
+    private static final Decoder COMPLETABLE_FUTURE_DECODER = (response, type) -> CompletableFuture.completedFuture(
+            new Decoder.Default().decode(response, ((ParameterizedType) type).getActualTypeArguments()[0]));
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule();
+
+    private Method greetingMethod;
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() throws Exception {
+        greetingMethod = AsyncTestService.class.getDeclaredMethod("greeting");
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testCircuitBreakerRecordsOutcomeOnCompletion() throws Throwable {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+        final FeignDecorators decorators = FeignDecorators.builder().withCircuitBreaker(circuitBreaker).build();
+        final CompletableFuture<String> response = new CompletableFuture<>();
+
+        final Object result = decorate(decorators, args -> response).apply(new Object[0]);
+
+        assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls())
+                .describedAs("Buffered Calls before completion")
+                .isEqualTo(0);
+        response.completeExceptionally(new IOException("BAM!"));
+        assertThat(result).isInstanceOf(CompletableFuture.class);
+        assertThatThrownBy(() -> ((CompletableFuture<?>) result).get())
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls())
+                .describedAs("Failed Calls")
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testFallbackOfOpenCircuitBreaker() throws Throwable {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+        circuitBreaker.transitionToForcedOpenState();
+        final AtomicInteger invocations = new AtomicInteger();
+        final FeignDecorators decorators = FeignDecorators.builder()
+                .withCircuitBreaker(circuitBreaker)
+                .withFallback(new AsyncTestServiceFallback(), CallNotPermittedException.class)
+                .build();
+
+        final CompletableFuture<?> result = (CompletableFuture<?>) decorate(decorators, args -> {
+            invocations.incrementAndGet();
+            return CompletableFuture.completedFuture("Hello");
+        }).apply(new Object[0]);
+
+        assertThat(result.get()).isEqualTo("fallback");
+        assertThat(invocations.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void testFallbackIsNotCalledForFilteredException() throws Throwable {
+        final FeignDecorators decorators = FeignDecorators.builder()
+                .withFallback(new AsyncTestServiceFallback(), CallNotPermittedException.class)
+                .build();
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        response.completeExceptionally(new IOException("BAM!"));
+
+        final CompletableFuture<?> result = (CompletableFuture<?>) decorate(decorators, args -> response)
+                .apply(new Object[0]);
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testBulkheadIsReleasedOnCompletion() throws Throwable {
+        final Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitTime(0)
+                .build());
+        final FeignDecorators decorators = FeignDecorators.builder().withBulkhead(bulkhead).build();
+        final CompletableFuture<String> response = new CompletableFuture<>();
+
+        decorate(decorators, args -> response).apply(new Object[0]);
+
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                .describedAs("Available Concurrent Calls before completion")
+                .isEqualTo(0);
+        response.complete("Hello");
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                .describedAs("Available Concurrent Calls after completion")
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testRateLimiterDoesNotBlockTheCallingThread() throws Throwable {
+        final RateLimiter rateLimiter = RateLimiter.of("test", RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofMillis(500))
+                .timeoutDuration(Duration.ofSeconds(2))
+                .build());
+        final FeignDecorators decorators = FeignDecorators.builder().withRateLimiter(rateLimiter, scheduler).build();
+        final AtomicInteger invocations = new AtomicInteger();
+        final CheckedFunction1<Object[], Object> decorated = decorate(decorators, args ->
+                CompletableFuture.completedFuture("Hello " + invocations.incrementAndGet()));
+
+        final CompletableFuture<?> first = (CompletableFuture<?>) decorated.apply(new Object[0]);
+        final CompletableFuture<?> second = (CompletableFuture<?>) decorated.apply(new Object[0]);
+
+        assertThat(first.get()).isEqualTo("Hello 1");
+        assertThat(second.isDone())
+                .describedAs("Second call waits for a permission")
+                .isFalse();
+        assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo("Hello 2");
+    }
+
+    @Test
+    public void testRateLimiterWithoutReservation() throws Throwable {
+        final RateLimiter rateLimiter = new SemaphoreBasedRateLimiter("test", RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofSeconds(5))
+                .timeoutDuration(Duration.ZERO)
+                .build(), scheduler);
+        final FeignDecorators decorators = FeignDecorators.builder().withRateLimiter(rateLimiter, scheduler).build();
+        final CheckedFunction1<Object[], Object> decorated = decorate(decorators, args ->
+                CompletableFuture.completedFuture("Hello"));
+
+        final CompletableFuture<?> first = (CompletableFuture<?>) decorated.apply(new Object[0]);
+        final CompletableFuture<?> second = (CompletableFuture<?>) decorated.apply(new Object[0]);
+
+        assertThat(first.get()).isEqualTo("Hello");
+        assertThatThrownBy(second::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RequestNotPermitted.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRateLimiterWithoutScheduler() {
+        final FeignDecorators decorators = FeignDecorators.builder()
+                .withRateLimiter(RateLimiter.ofDefaults("test"))
+                .build();
+
+        decorate(decorators, args -> CompletableFuture.completedFuture("Hello"));
+    }
+
+    @Test
+    public void testFeignClientReturningCompletableFuture() throws Exception {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("hello world")));
+        final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+        final FeignDecorators decorators = FeignDecorators.builder()
+                .withCircuitBreaker(circuitBreaker)
+                .withRateLimiter(RateLimiter.ofDefaults("test"), scheduler)
+                .build();
+        final AsyncTestService testService = Resilience4jFeign.builder(decorators)
+                .decoder(COMPLETABLE_FUTURE_DECODER)
+                .target(AsyncTestService.class, "http://localhost:8080/");
+
+        final CompletableFuture<String> result = testService.greeting();
+
+        assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("hello world");
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+        verify(1, getRequestedFor(urlPathEqualTo("/greeting")));
+    }
+
+    @Test
+    public void testRetryOnExceptionalCompletion() throws Throwable {
+        final Retry retry = Retry.of("test", RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+        final FeignDecorators decorators = FeignDecorators.builder().withRetry(retry, scheduler).build();
+        final AtomicInteger invocations = new AtomicInteger();
+
+        final CompletableFuture<?> result = (CompletableFuture<?>) decorate(decorators, args -> {
+            final CompletableFuture<String> response = new CompletableFuture<>();
+            if (invocations.incrementAndGet() < 3) {
+                response.completeExceptionally(new IOException("BAM!"));
+            } else {
+                response.complete("Hello");
+            }
+            return response;
+        }).apply(new Object[0]);
+
+        assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("Hello");
+        assertThat(invocations.get()).isEqualTo(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRetryWithoutScheduler() {
+        final FeignDecorators decorators = FeignDecorators.builder().withRetry(Retry.ofDefaults("test")).build();
+
+        decorate(decorators, args -> CompletableFuture.completedFuture("Hello"));
+    }
+
+    private CheckedFunction1<Object[], Object> decorate(FeignDecorators decorators,
+            CheckedFunction1<Object[], Object> invocationCall) {
+        return decorators.decorate(invocationCall, greetingMethod, null, null);
+    }
+
+    public static class AsyncTestServiceFallback implements AsyncTestService {
+
+        @Override
+        public CompletableFuture<String> greeting() {
+            return CompletableFuture.completedFuture("fallback");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *
+ * Copyright 2018
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *
+ */
+package io.github.resilience4j.feign;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import feign.FeignException;
+import io.github.resilience4j.feign.test.TestService;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the integration of the {@link Resilience4jFeign} with {@link Retry}
+ */
+public class Resilience4jFeignRetryTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule();
+
+    private static final RetryConfig retryConfig = RetryConfig.custom()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(10))
+            .build();
+
+    @Test
+    public void testSuccessfulCall() throws Exception {
+        final Retry retry = Retry.of("test", retryConfig);
+        final TestService testService = target(FeignDecorators.builder().withRetry(retry).build());
+        setupStub("/greeting", 200);
+
+        testService.greeting();
+
+        verify(1, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(retry.getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt())
+                .describedAs("Successful Calls without retry")
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedCallIsRetried() throws Exception {
+        final Retry retry = Retry.of("test", retryConfig);
+        final TestService testService = target(FeignDecorators.builder().withRetry(retry).build());
+        setupStub("/greeting", 400);
+
+        boolean exceptionThrown = false;
+        try {
+            testService.greeting();
+        } catch (final FeignException ex) {
+            exceptionThrown = true;
+        }
+
+        assertThat(exceptionThrown)
+                .describedAs("FeignException thrown")
+                .isTrue();
+        verify(3, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt())
+                .describedAs("Failed Calls with retry")
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testRetryPerMethod() throws Exception {
+        final RetryRegistry retryRegistry = RetryRegistry.of(retryConfig);
+        final TestService testService = target(FeignDecorators.builder()
+                .withRetry(retryRegistry, (target, method) -> "backend-" + method.getName())
+                .build());
+        setupStub("/greeting", 200);
+        setupStub("/farewell", 200);
+
+        testService.greeting();
+        testService.greeting();
+        testService.farewell();
+
+        assertThat(retryRegistry.retry("backend-greeting").getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt())
+                .isEqualTo(2);
+        assertThat(retryRegistry.retry("backend-farewell").getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt())
+                .isEqualTo(1);
+    }
+
+    private TestService target(FeignDecorators decorators) {
+        return Resilience4jFeign.builder(decorators).target(TestService.class, "http://localhost:8080/");
+    }
+
+    private void setupStub(String path, int responseCode) {
+        stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(responseCode)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("hello world")));
+    }
+}
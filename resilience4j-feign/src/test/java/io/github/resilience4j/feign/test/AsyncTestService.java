@@ -0,0 +1,14 @@
+package io.github.resilience4j.feign.test;
+
+import java.util.concurrent.CompletableFuture;
+
+import feign.RequestLine;
+
+
+public interface AsyncTestService {
+
+    @RequestLine("GET /greeting")
+    CompletableFuture<String> greeting();
+
+
+}
@@ -8,5 +8,8 @@ public interface TestService {
     @RequestLine("GET /greeting")
     String greeting();
 
+    @RequestLine("GET /farewell")
+    String farewell();
+
 
 }
@@ -15,4 +15,9 @@ public class TestServiceFallbackWithException implements TestService {
     public String greeting() {
         return "Message from exception: " + cause.getMessage();
     }
+
+    @Override
+    public String farewell() {
+        return "Message from exception: " + cause.getMessage();
+    }
 }
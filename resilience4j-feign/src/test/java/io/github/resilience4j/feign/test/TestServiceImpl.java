@@ -7,4 +7,9 @@ public class TestServiceImpl implements TestService {
         return "testGreeting";
     }
 
+    @Override
+    public String farewell() {
+        return "testFarewell";
+    }
+
 }
@@ -57,6 +57,9 @@ public class BulkheadConfigurationProperties {
 		if (instanceProperties.getMaxWaitDuration() != null) {
 			builder.maxWaitTimeDuration(instanceProperties.getMaxWaitDuration());
 		}
+		if (instanceProperties.getWaitTimeRecordingEnabled() != null) {
+			builder.waitTimeRecordingEnabled(instanceProperties.getWaitTimeRecordingEnabled());
+		}
 		return builder.build();
 	}
 
@@ -95,6 +98,8 @@ public class BulkheadConfigurationProperties {
 		@Min(1)
 		@Nullable
 		private Integer eventConsumerBufferSize;
+		@Nullable
+		private Boolean waitTimeRecordingEnabled;
 
 		public InstanceProperties setMaxConcurrentCalls(Integer maxConcurrentCalls) {
 			this.maxConcurrentCalls = maxConcurrentCalls;
@@ -127,6 +132,21 @@ public class BulkheadConfigurationProperties {
 			return this;
 		}
 
+		/**
+		 * Sets if the time calls wait for a permission should be recorded.
+		 *
+		 * @param waitTimeRecordingEnabled the flag for recording the waiting time of calls
+		 * @return InstanceProperties
+		 */
+		public InstanceProperties setWaitTimeRecordingEnabled(Boolean waitTimeRecordingEnabled) {
+			this.waitTimeRecordingEnabled = waitTimeRecordingEnabled;
+			return this;
+		}
+
+		public Boolean getWaitTimeRecordingEnabled() {
+			return waitTimeRecordingEnabled;
+		}
+
 		public Integer getMaxConcurrentCalls() {
 			return maxConcurrentCalls;
 		}
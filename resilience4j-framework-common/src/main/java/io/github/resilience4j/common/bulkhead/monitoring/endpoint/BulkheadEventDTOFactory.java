@@ -16,6 +16,7 @@
 package io.github.resilience4j.common.bulkhead.monitoring.endpoint;
 
 import io.github.resilience4j.bulkhead.event.BulkheadEvent;
+import io.github.resilience4j.core.EventClock;
 
 public class BulkheadEventDTOFactory {
 
@@ -26,7 +27,7 @@ public class BulkheadEventDTOFactory {
             case CALL_PERMITTED:
             case CALL_REJECTED:
             case CALL_FINISHED:
-                return new BulkheadEventDTO(event.getBulkheadName(), event.getEventType(), event.getCreationTime().toString());
+                return new BulkheadEventDTO(event.getBulkheadName(), event.getEventType(), EventClock.toZonedDateTime(event.getCreationTimeInMillis()).toString());
             default:
                 throw new IllegalArgumentException("Invalid event");
         }
@@ -15,10 +15,14 @@
  */
 package io.github.resilience4j.common.bulkhead.monitoring.endpoint;
 
+import io.github.resilience4j.core.lang.Nullable;
+
 import java.util.List;
 
 public class BulkheadEventsEndpointResponse {
     private List<BulkheadEventDTO> bulkheadEvents;
+    @Nullable
+    private Long nextCursor;
 
     public BulkheadEventsEndpointResponse(){
     }
@@ -27,6 +31,11 @@ public class BulkheadEventsEndpointResponse {
         this.bulkheadEvents = bulkheadEvents;
     }
 
+    public BulkheadEventsEndpointResponse(List<BulkheadEventDTO> bulkheadEvents, @Nullable Long nextCursor) {
+        this.bulkheadEvents = bulkheadEvents;
+        this.nextCursor = nextCursor;
+    }
+
     public List<BulkheadEventDTO> getBulkheadEvents() {
         return bulkheadEvents;
     }
@@ -34,4 +43,18 @@ public class BulkheadEventsEndpointResponse {
     public void setBulkheadEvents(List<BulkheadEventDTO> bulkheadEvents) {
         this.bulkheadEvents = bulkheadEvents;
     }
+
+    /**
+     * Returns the cursor to read the next page of events, if the events have been read page by page.
+     *
+     * @return the sequence number of the last returned event, or null if the events have not been read page by page
+     */
+    @Nullable
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(@Nullable Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
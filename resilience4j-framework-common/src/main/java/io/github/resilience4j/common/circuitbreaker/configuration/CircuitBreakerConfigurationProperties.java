@@ -97,6 +97,10 @@ public class CircuitBreakerConfigurationProperties {
 			builder.automaticTransitionFromOpenToHalfOpenEnabled(properties.automaticTransitionFromOpenToHalfOpenEnabled);
 		}
 
+		if (properties.latencyRecordingEnabled != null) {
+			builder.latencyRecordingEnabled(properties.latencyRecordingEnabled);
+		}
+
 		return builder.build();
 	}
 
@@ -154,6 +158,9 @@ public class CircuitBreakerConfigurationProperties {
 		@Nullable
 		private Boolean automaticTransitionFromOpenToHalfOpenEnabled;
 
+		@Nullable
+		private Boolean latencyRecordingEnabled;
+
 		@Min(1)
 		@Nullable
 		private Integer eventConsumerBufferSize;
@@ -301,6 +308,25 @@ public class CircuitBreakerConfigurationProperties {
 			return this;
 		}
 
+		/**
+		 * Returns if the durations of calls should be recorded.
+		 *
+		 * @return the flag for recording the durations of calls
+		 */
+		public Boolean getLatencyRecordingEnabled() {
+			return this.latencyRecordingEnabled;
+		}
+
+		/**
+		 * Sets if the durations of calls should be recorded.
+		 *
+		 * @param latencyRecordingEnabled the flag for recording the durations of calls
+		 */
+		public InstanceProperties setLatencyRecordingEnabled(Boolean latencyRecordingEnabled) {
+			this.latencyRecordingEnabled = latencyRecordingEnabled;
+			return this;
+		}
+
 		public Integer getEventConsumerBufferSize() {
 			return eventConsumerBufferSize;
 		}
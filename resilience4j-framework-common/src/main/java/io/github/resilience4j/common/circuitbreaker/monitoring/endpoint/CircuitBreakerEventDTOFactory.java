@@ -16,6 +16,7 @@
 package io.github.resilience4j.common.circuitbreaker.monitoring.endpoint;
 
 import io.github.resilience4j.circuitbreaker.event.*;
+import io.github.resilience4j.core.EventClock;
 
 public class CircuitBreakerEventDTOFactory {
 
@@ -54,6 +55,6 @@ public class CircuitBreakerEventDTOFactory {
     }
 
     private static CircuitBreakerEventDTOBuilder newCircuitBreakerEventDTOBuilder(CircuitBreakerEvent event){
-        return new CircuitBreakerEventDTOBuilder(event.getCircuitBreakerName(), event.getEventType(), event.getCreationTime().toString());
+        return new CircuitBreakerEventDTOBuilder(event.getCircuitBreakerName(), event.getEventType(), EventClock.toZonedDateTime(event.getCreationTimeInMillis()).toString());
     }
 }
@@ -7,6 +7,8 @@ import java.util.List;
 public class CircuitBreakerEventsEndpointResponse {
     @Nullable
     private List<CircuitBreakerEventDTO> circuitBreakerEvents;
+    @Nullable
+    private Long nextCursor;
 
     public CircuitBreakerEventsEndpointResponse(){
     }
@@ -15,6 +17,11 @@ public class CircuitBreakerEventsEndpointResponse {
         this.circuitBreakerEvents = circuitBreakerEvents;
     }
 
+    public CircuitBreakerEventsEndpointResponse(@Nullable List<CircuitBreakerEventDTO> circuitBreakerEvents, @Nullable Long nextCursor) {
+        this.circuitBreakerEvents = circuitBreakerEvents;
+        this.nextCursor = nextCursor;
+    }
+
     @Nullable
     public List<CircuitBreakerEventDTO> getCircuitBreakerEvents() {
         return circuitBreakerEvents;
@@ -23,4 +30,18 @@ public class CircuitBreakerEventsEndpointResponse {
     public void setCircuitBreakerEvents(@Nullable List<CircuitBreakerEventDTO> circuitBreakerEvents) {
         this.circuitBreakerEvents = circuitBreakerEvents;
     }
+
+    /**
+     * Returns the cursor to read the next page of events, if the events have been read page by page.
+     *
+     * @return the sequence number of the last returned event, or null if the events have not been read page by page
+     */
+    @Nullable
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(@Nullable Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.github.resilience4j.common.ratelimiter.monitoring.endpoint;
 
+import io.github.resilience4j.core.EventClock;
 import io.github.resilience4j.core.lang.Nullable;
 import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
 
@@ -28,7 +29,7 @@ public class RateLimiterEventDTO {
         RateLimiterEventDTO dto = new RateLimiterEventDTO();
         dto.setRateLimiterName(rateLimiterEvent.getRateLimiterName());
         dto.setType(rateLimiterEvent.getEventType());
-        dto.setCreationTime(rateLimiterEvent.getCreationTime().toString());
+        dto.setCreationTime(EventClock.toZonedDateTime(rateLimiterEvent.getCreationTimeInMillis()).toString());
         return dto;
     }
 
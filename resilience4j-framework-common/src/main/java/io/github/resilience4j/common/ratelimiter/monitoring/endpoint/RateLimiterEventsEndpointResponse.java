@@ -23,6 +23,8 @@ public class RateLimiterEventsEndpointResponse {
 
     @Nullable
     private List<RateLimiterEventDTO> rateLimiterEvents;
+    @Nullable
+    private Long nextCursor;
 
     public RateLimiterEventsEndpointResponse() {
     }
@@ -31,6 +33,11 @@ public class RateLimiterEventsEndpointResponse {
         this.rateLimiterEvents = rateLimiterEvents;
     }
 
+    public RateLimiterEventsEndpointResponse(@Nullable List<RateLimiterEventDTO> rateLimiterEvents, @Nullable Long nextCursor) {
+        this.rateLimiterEvents = rateLimiterEvents;
+        this.nextCursor = nextCursor;
+    }
+
     @Nullable
     public List<RateLimiterEventDTO> getRateLimiterEvents() {
         return rateLimiterEvents;
@@ -39,4 +46,18 @@ public class RateLimiterEventsEndpointResponse {
     public void setRateLimiterEvents(@Nullable List<RateLimiterEventDTO> rateLimiterEvents) {
         this.rateLimiterEvents = rateLimiterEvents;
     }
+
+    /**
+     * Returns the cursor to read the next page of events, if the events have been read page by page.
+     *
+     * @return the sequence number of the last returned event, or null if the events have not been read page by page
+     */
+    @Nullable
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(@Nullable Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
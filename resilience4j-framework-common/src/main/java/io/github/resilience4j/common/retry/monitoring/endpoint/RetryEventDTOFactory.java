@@ -15,6 +15,7 @@
  */
 package io.github.resilience4j.common.retry.monitoring.endpoint;
 
+import io.github.resilience4j.core.EventClock;
 import io.github.resilience4j.retry.event.*;
 
 /**
@@ -50,6 +51,6 @@ public class RetryEventDTOFactory {
 	}
 
 	private static RetryEventDTOBuilder newRetryEventDTOBuilder(RetryEvent event) {
-		return new RetryEventDTOBuilder(event.getName(), event.getEventType(), event.getCreationTime().toString());
+		return new RetryEventDTOBuilder(event.getName(), event.getEventType(), EventClock.toZonedDateTime(event.getCreationTimeInMillis()).toString());
 	}
 }
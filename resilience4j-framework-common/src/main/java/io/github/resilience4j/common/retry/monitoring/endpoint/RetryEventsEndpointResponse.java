@@ -26,6 +26,8 @@ public class RetryEventsEndpointResponse {
 
 	@Nullable
 	private List<RetryEventDTO> retryEvents;
+	@Nullable
+	private Long nextCursor;
 
 	public RetryEventsEndpointResponse() {
 	}
@@ -34,6 +36,11 @@ public class RetryEventsEndpointResponse {
 		this.retryEvents = retryEvents;
 	}
 
+	public RetryEventsEndpointResponse(List<RetryEventDTO> retryEvents, @Nullable Long nextCursor) {
+		this.retryEvents = retryEvents;
+		this.nextCursor = nextCursor;
+	}
+
 	@Nullable
 	public List<RetryEventDTO> getRetryEvents() {
 		return retryEvents;
@@ -42,4 +49,18 @@ public class RetryEventsEndpointResponse {
 	public void setRetryEvents(List<RetryEventDTO> retryEvents) {
 		this.retryEvents = retryEvents;
 	}
+
+	/**
+	 * Returns the cursor to read the next page of events, if the events have been read page by page.
+	 *
+	 * @return the sequence number of the last returned event, or null if the events have not been read page by page
+	 */
+	@Nullable
+	public Long getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(@Nullable Long nextCursor) {
+		this.nextCursor = nextCursor;
+	}
 }
@@ -0,0 +1,71 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+
+/**
+ * Emits Java Flight Recorder events for calls which had to wait for a bulkhead slot and calls which were rejected.
+ * The events are disabled by default. While no recording enables them, the bulkhead neither times the waits
+ * nor creates the events these recorders consume.
+ */
+public final class BulkheadFlightRecorder {
+
+    private BulkheadFlightRecorder() {
+    }
+
+    /**
+     * Records the events of all bulkheads of the given registry, including the ones added later.
+     *
+     * @param bulkheadRegistry the source of bulkheads
+     */
+    public static void bindTo(BulkheadRegistry bulkheadRegistry) {
+        bulkheadRegistry.getAllBulkheads().forEach(BulkheadFlightRecorder::bindTo);
+        bulkheadRegistry.getEventPublisher().onEntryAdded(event -> bindTo(event.getAddedEntry()));
+        bulkheadRegistry.getEventPublisher().onEntryReplaced(event -> bindTo(event.getNewEntry()));
+    }
+
+    /**
+     * Records the events of the given bulkhead.
+     *
+     * @param bulkhead the bulkhead
+     */
+    public static void bindTo(Bulkhead bulkhead) {
+        bulkhead.getEventPublisher()
+                .onCallPermitted(FlightRecorderEventConsumer.of(BulkheadWaitEvent.class, event -> {
+                    long waitDurationInNanos = event.getWaitDuration().toNanos();
+                    if (waitDurationInNanos > 0) {
+                        BulkheadWaitEvent flightRecorderEvent = new BulkheadWaitEvent();
+                        if (flightRecorderEvent.shouldCommit()) {
+                            flightRecorderEvent.bulkheadName = event.getBulkheadName();
+                            flightRecorderEvent.waitDuration = waitDurationInNanos;
+                            flightRecorderEvent.commit();
+                        }
+                    }
+                }))
+                .onCallRejected(FlightRecorderEventConsumer.of(BulkheadCallRejectedEvent.class, event -> {
+                    BulkheadCallRejectedEvent flightRecorderEvent = new BulkheadCallRejectedEvent();
+                    if (flightRecorderEvent.shouldCommit()) {
+                        flightRecorderEvent.bulkheadName = event.getBulkheadName();
+                        flightRecorderEvent.commit();
+                    }
+                }));
+    }
+}
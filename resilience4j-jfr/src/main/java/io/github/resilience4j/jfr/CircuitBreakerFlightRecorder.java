@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Emits Java Flight Recorder events for circuit breaker state transitions and calls which are not permitted.
+ * The events are disabled by default and cost next to nothing until a recording enables them.
+ */
+public final class CircuitBreakerFlightRecorder {
+
+    private CircuitBreakerFlightRecorder() {
+    }
+
+    /**
+     * Records the events of all circuit breakers of the given registry, including the ones added later.
+     *
+     * @param circuitBreakerRegistry the source of circuit breakers
+     */
+    public static void bindTo(CircuitBreakerRegistry circuitBreakerRegistry) {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreakerFlightRecorder::bindTo);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> bindTo(event.getAddedEntry()));
+        circuitBreakerRegistry.getEventPublisher().onEntryReplaced(event -> bindTo(event.getNewEntry()));
+    }
+
+    /**
+     * Records the events of the given circuit breaker.
+     *
+     * @param circuitBreaker the circuit breaker
+     */
+    public static void bindTo(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(FlightRecorderEventConsumer.of(CircuitBreakerStateTransitionEvent.class, event -> {
+                    CircuitBreakerStateTransitionEvent flightRecorderEvent = new CircuitBreakerStateTransitionEvent();
+                    if (flightRecorderEvent.shouldCommit()) {
+                        flightRecorderEvent.circuitBreakerName = event.getCircuitBreakerName();
+                        flightRecorderEvent.fromState = event.getStateTransition().getFromState().name();
+                        flightRecorderEvent.toState = event.getStateTransition().getToState().name();
+                        flightRecorderEvent.commit();
+                    }
+                }))
+                .onCallNotPermitted(FlightRecorderEventConsumer.of(CircuitBreakerCallNotPermittedEvent.class, event -> {
+                    CircuitBreakerCallNotPermittedEvent flightRecorderEvent = new CircuitBreakerCallNotPermittedEvent();
+                    if (flightRecorderEvent.shouldCommit()) {
+                        flightRecorderEvent.circuitBreakerName = event.getCircuitBreakerName();
+                        flightRecorderEvent.state = circuitBreaker.getState().name();
+                        flightRecorderEvent.commit();
+                    }
+                }));
+    }
+}
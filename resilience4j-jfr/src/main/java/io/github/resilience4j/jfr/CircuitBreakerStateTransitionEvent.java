@@ -0,0 +1,48 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A circuit breaker changed its state
+ */
+@Name("io.github.resilience4j.CircuitBreakerStateTransition")
+@Label("Circuit Breaker State Transition")
+@Category({"Resilience4j", "Circuit Breaker"})
+@Description("A circuit breaker changed its state")
+@Enabled(false)
+@StackTrace(false)
+class CircuitBreakerStateTransitionEvent extends Event {
+
+    @Label("Circuit Breaker")
+    String circuitBreakerName;
+
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+}
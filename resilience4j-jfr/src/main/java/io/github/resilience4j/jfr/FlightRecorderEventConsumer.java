@@ -0,0 +1,63 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.core.EventConsumer;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * An {@link EventConsumer} which is only enabled while a recording enables its Java Flight Recorder event.
+ * The primitives ask whether a consumer is enabled before they create an event or time a wait, so an unrecorded
+ * event costs them nothing.
+ *
+ * @param <T> the type of the consumed events
+ */
+final class FlightRecorderEventConsumer<T> implements EventConsumer<T> {
+
+    private final EventType flightRecorderEventType;
+    private final EventConsumer<T> eventConsumer;
+
+    private FlightRecorderEventConsumer(EventType flightRecorderEventType, EventConsumer<T> eventConsumer) {
+        this.flightRecorderEventType = flightRecorderEventType;
+        this.eventConsumer = eventConsumer;
+    }
+
+    /**
+     * Creates an {@link EventConsumer} which is enabled as long as the given flight recorder event is enabled.
+     *
+     * @param flightRecorderEventClass the flight recorder event which is emitted by the consumer
+     * @param eventConsumer the consumer
+     * @param <T> the type of the consumed events
+     * @return the enabled-aware consumer
+     */
+    static <T> EventConsumer<T> of(Class<? extends Event> flightRecorderEventClass, EventConsumer<T> eventConsumer) {
+        return new FlightRecorderEventConsumer<>(EventType.getEventType(flightRecorderEventClass), eventConsumer);
+    }
+
+    @Override
+    public void consumeEvent(T event) {
+        eventConsumer.consumeEvent(event);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return flightRecorderEventType.isEnabled();
+    }
+}
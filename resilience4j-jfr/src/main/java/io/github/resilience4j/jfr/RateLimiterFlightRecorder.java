@@ -0,0 +1,71 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+
+/**
+ * Emits Java Flight Recorder events for permissions which had to be waited for and permissions which could not be acquired.
+ * The events are disabled by default, and the rate limiter only creates its success and failure events
+ * for these recorders while a recording enables the corresponding flight recorder event.
+ */
+public final class RateLimiterFlightRecorder {
+
+    private RateLimiterFlightRecorder() {
+    }
+
+    /**
+     * Records the events of all rate limiters of the given registry, including the ones added later.
+     *
+     * @param rateLimiterRegistry the source of rate limiters
+     */
+    public static void bindTo(RateLimiterRegistry rateLimiterRegistry) {
+        rateLimiterRegistry.getAllRateLimiters().forEach(RateLimiterFlightRecorder::bindTo);
+        rateLimiterRegistry.getEventPublisher().onEntryAdded(event -> bindTo(event.getAddedEntry()));
+        rateLimiterRegistry.getEventPublisher().onEntryReplaced(event -> bindTo(event.getNewEntry()));
+    }
+
+    /**
+     * Records the events of the given rate limiter.
+     *
+     * @param rateLimiter the rate limiter
+     */
+    public static void bindTo(RateLimiter rateLimiter) {
+        rateLimiter.getEventPublisher()
+                .onSuccess(FlightRecorderEventConsumer.of(RateLimiterWaitEvent.class, event -> {
+                    long waitDurationInNanos = event.getWaitDuration().toNanos();
+                    if (waitDurationInNanos > 0) {
+                        RateLimiterWaitEvent flightRecorderEvent = new RateLimiterWaitEvent();
+                        if (flightRecorderEvent.shouldCommit()) {
+                            flightRecorderEvent.rateLimiterName = event.getRateLimiterName();
+                            flightRecorderEvent.waitDuration = waitDurationInNanos;
+                            flightRecorderEvent.commit();
+                        }
+                    }
+                }))
+                .onFailure(FlightRecorderEventConsumer.of(RateLimiterCallRejectedEvent.class, event -> {
+                    RateLimiterCallRejectedEvent flightRecorderEvent = new RateLimiterCallRejectedEvent();
+                    if (flightRecorderEvent.shouldCommit()) {
+                        flightRecorderEvent.rateLimiterName = event.getRateLimiterName();
+                        flightRecorderEvent.commit();
+                    }
+                }));
+    }
+}
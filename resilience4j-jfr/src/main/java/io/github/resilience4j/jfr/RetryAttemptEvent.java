@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.core.lang.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A call failed and is retried after a backoff
+ */
+@Name("io.github.resilience4j.RetryAttempt")
+@Label("Retry Attempt")
+@Category({"Resilience4j", "Retry"})
+@Description("A call failed and is retried after a backoff")
+@Enabled(false)
+@StackTrace(false)
+class RetryAttemptEvent extends Event {
+
+    @Label("Retry")
+    String retryName;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Backoff")
+    @Timespan(Timespan.MILLISECONDS)
+    long backoff;
+
+    @Label("Exception Class")
+    @Nullable
+    String exceptionClass;
+}
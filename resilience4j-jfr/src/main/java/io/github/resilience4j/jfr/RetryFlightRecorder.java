@@ -0,0 +1,63 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Emits Java Flight Recorder events for retry attempts together with the backoff before the attempt.
+ * The events are disabled by default and cost next to nothing until a recording enables them.
+ */
+public final class RetryFlightRecorder {
+
+    private RetryFlightRecorder() {
+    }
+
+    /**
+     * Records the events of all retries of the given registry, including the ones added later.
+     *
+     * @param retryRegistry the source of retries
+     */
+    public static void bindTo(RetryRegistry retryRegistry) {
+        retryRegistry.getAllRetries().forEach(RetryFlightRecorder::bindTo);
+        retryRegistry.getEventPublisher().onEntryAdded(event -> bindTo(event.getAddedEntry()));
+        retryRegistry.getEventPublisher().onEntryReplaced(event -> bindTo(event.getNewEntry()));
+    }
+
+    /**
+     * Records the events of the given retry.
+     *
+     * @param retry the retry
+     */
+    public static void bindTo(Retry retry) {
+        retry.getEventPublisher()
+                .onRetry(FlightRecorderEventConsumer.of(RetryAttemptEvent.class, event -> {
+                    RetryAttemptEvent flightRecorderEvent = new RetryAttemptEvent();
+                    if (flightRecorderEvent.shouldCommit()) {
+                        Throwable lastThrowable = event.getLastThrowable();
+                        flightRecorderEvent.retryName = event.getName();
+                        flightRecorderEvent.attempt = event.getNumberOfRetryAttempts();
+                        flightRecorderEvent.backoff = event.getWaitInterval().toMillis();
+                        flightRecorderEvent.exceptionClass = lastThrowable != null ? lastThrowable.getClass().getName() : null;
+                        flightRecorderEvent.commit();
+                    }
+                }));
+    }
+}
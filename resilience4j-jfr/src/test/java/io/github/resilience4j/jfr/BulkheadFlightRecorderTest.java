@@ -0,0 +1,112 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.github.resilience4j.jfr.FlightRecorderTestHelper.record;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.jayway.awaitility.Awaitility.await;
+
+public class BulkheadFlightRecorderTest {
+
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Before
+    public void setUp() {
+        bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        BulkheadFlightRecorder.bindTo(bulkheadRegistry);
+    }
+
+    @Test
+    public void shouldRecordCallsWhichWaitedForASlot() throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("backendA", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitTime(5000)
+                .build());
+
+        List<RecordedEvent> events = record("io.github.resilience4j.BulkheadWait", () -> {
+            bulkhead.acquirePermission();
+            Thread waitingCall = new Thread(bulkhead::acquirePermission);
+            waitingCall.start();
+            await().atMost(5, SECONDS).until(() -> waitingCall.getState() == Thread.State.TIMED_WAITING);
+            sleep(20);
+            bulkhead.onComplete();
+            join(waitingCall);
+            bulkhead.onComplete();
+        });
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("bulkheadName")).isEqualTo("backendA");
+        assertThat(events.get(0).getDuration("waitDuration")).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    public void shouldRecordRejectedCalls() throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("backendA", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitTime(0)
+                .build());
+
+        List<RecordedEvent> events = record("io.github.resilience4j.BulkheadCallRejected", () -> {
+            bulkhead.tryAcquirePermission();
+            bulkhead.tryAcquirePermission();
+        });
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("bulkheadName")).isEqualTo("backendA");
+    }
+
+    @Test
+    public void shouldNotRecordCallsWhichDidNotWait() throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("backendA");
+
+        List<RecordedEvent> events = record("io.github.resilience4j.BulkheadWait", () -> {
+            bulkhead.acquirePermission();
+            bulkhead.onComplete();
+        });
+
+        assertThat(events).isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
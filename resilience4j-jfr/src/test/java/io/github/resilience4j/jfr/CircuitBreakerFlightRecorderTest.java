@@ -0,0 +1,87 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.github.resilience4j.jfr.FlightRecorderTestHelper.record;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerFlightRecorderTest {
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    @Before
+    public void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("backendA");
+        CircuitBreakerFlightRecorder.bindTo(circuitBreakerRegistry);
+    }
+
+    @Test
+    public void shouldRecordStateTransitions() throws Exception {
+        List<RecordedEvent> events = record("io.github.resilience4j.CircuitBreakerStateTransition",
+                circuitBreaker::transitionToOpenState);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("circuitBreakerName")).isEqualTo("backendA");
+        assertThat(events.get(0).getString("fromState")).isEqualTo("CLOSED");
+        assertThat(events.get(0).getString("toState")).isEqualTo("OPEN");
+    }
+
+    @Test
+    public void shouldRecordCallsWhichAreNotPermitted() throws Exception {
+        circuitBreaker.transitionToOpenState();
+
+        List<RecordedEvent> events = record("io.github.resilience4j.CircuitBreakerCallNotPermitted", () -> {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.tryAcquirePermission();
+        });
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("circuitBreakerName")).isEqualTo("backendA");
+        assertThat(events.get(0).getString("state")).isEqualTo("OPEN");
+    }
+
+    @Test
+    public void shouldRecordCircuitBreakersAddedToTheRegistryLater() throws Exception {
+        CircuitBreaker newCircuitBreaker = circuitBreakerRegistry.circuitBreaker("backendB");
+
+        List<RecordedEvent> events = record("io.github.resilience4j.CircuitBreakerStateTransition",
+                newCircuitBreaker::transitionToOpenState);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("circuitBreakerName")).isEqualTo("backendB");
+    }
+
+    @Test
+    public void shouldNotRecordEventsWhichAreNotEnabled() throws Exception {
+        List<RecordedEvent> events = record("io.github.resilience4j.CircuitBreakerCallNotPermitted",
+                circuitBreaker::transitionToOpenState);
+
+        assertThat(events).isEmpty();
+    }
+}
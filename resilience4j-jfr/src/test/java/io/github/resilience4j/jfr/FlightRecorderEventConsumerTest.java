@@ -0,0 +1,58 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.core.EventConsumer;
+import jdk.jfr.Recording;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderEventConsumerTest {
+
+    @Test
+    public void shouldOnlyBeEnabledWhileARecordingEnablesTheEvent() {
+        EventConsumer<Object> eventConsumer = FlightRecorderEventConsumer.of(BulkheadWaitEvent.class, event -> {
+        });
+
+        assertThat(eventConsumer.isEnabled()).isFalse();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.resilience4j.BulkheadWait");
+            recording.start();
+
+            assertThat(eventConsumer.isEnabled()).isTrue();
+        }
+
+        assertThat(eventConsumer.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void shouldNotBeEnabledByARecordingOfOtherEvents() {
+        EventConsumer<Object> eventConsumer = FlightRecorderEventConsumer.of(BulkheadWaitEvent.class, event -> {
+        });
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.resilience4j.BulkheadCallRejected");
+            recording.start();
+
+            assertThat(eventConsumer.isEnabled()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.github.resilience4j.jfr.FlightRecorderTestHelper.record;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterFlightRecorderTest {
+
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Before
+    public void setUp() {
+        rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
+        RateLimiterFlightRecorder.bindTo(rateLimiterRegistry);
+    }
+
+    @Test
+    public void shouldRecordPermissionsWhichHadToBeWaitedFor() throws Exception {
+        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter("backendA", RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofMillis(200))
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build());
+
+        List<RecordedEvent> events = record("io.github.resilience4j.RateLimiterWait", () -> {
+            rateLimiter.acquirePermission();
+            rateLimiter.acquirePermission();
+        });
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("rateLimiterName")).isEqualTo("backendA");
+        assertThat(events.get(0).getDuration("waitDuration")).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void shouldRecordPermissionsWhichCouldNotBeAcquired() throws Exception {
+        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter("backendA", RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofSeconds(10))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+
+        List<RecordedEvent> events = record("io.github.resilience4j.RateLimiterCallRejected", () -> {
+            rateLimiter.acquirePermission();
+            rateLimiter.acquirePermission();
+        });
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("rateLimiterName")).isEqualTo("backendA");
+    }
+}
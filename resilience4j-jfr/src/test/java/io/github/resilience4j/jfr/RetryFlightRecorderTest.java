@@ -0,0 +1,64 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.jfr;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.vavr.control.Try;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.github.resilience4j.jfr.FlightRecorderTestHelper.record;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryFlightRecorderTest {
+
+    private RetryRegistry retryRegistry;
+
+    @Before
+    public void setUp() {
+        retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+        RetryFlightRecorder.bindTo(retryRegistry);
+    }
+
+    @Test
+    public void shouldRecordRetryAttemptsWithBackoff() throws Exception {
+        Retry retry = retryRegistry.retry("backendA");
+
+        List<RecordedEvent> events = record("io.github.resilience4j.RetryAttempt",
+                () -> Try.runRunnable(Retry.decorateRunnable(retry, () -> {
+                    throw new IllegalStateException("BAM!");
+                })));
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("retryName")).isEqualTo("backendA");
+        assertThat(events.get(0).getInt("attempt")).isEqualTo(1);
+        assertThat(events.get(1).getInt("attempt")).isEqualTo(2);
+        assertThat(events.get(0).getDuration("backoff")).isEqualTo(Duration.ofMillis(10));
+        assertThat(events.get(0).getString("exceptionClass")).isEqualTo(IllegalStateException.class.getName());
+    }
+}
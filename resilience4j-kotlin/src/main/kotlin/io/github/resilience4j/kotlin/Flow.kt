@@ -0,0 +1,51 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.FlowCollector
+import kotlinx.coroutines.flow.collect
+
+/**
+ * Emits all values of the upstream [source] flow and returns the exception the upstream flow failed with, or null if
+ * it completed.
+ *
+ * Exceptions thrown by the downstream collector while a value is emitted, and cancellations, are rethrown, so that
+ * operators only record and retry failures of the upstream flow.
+ */
+internal suspend fun <T> FlowCollector<T>.emitAllCatchingUpstream(source: Flow<T>): Throwable? {
+    var downstreamException: Throwable? = null
+    try {
+        source.collect { value ->
+            try {
+                emit(value)
+            } catch (exception: Throwable) {
+                downstreamException = exception
+                throw exception
+            }
+        }
+    } catch (exception: Throwable) {
+        if (exception === downstreamException || exception is CancellationException) {
+            throw exception
+        }
+        return exception
+    }
+    return null
+}
@@ -20,15 +20,21 @@ package io.github.resilience4j.kotlin.bulkhead
 
 import io.github.resilience4j.bulkhead.Bulkhead
 import io.github.resilience4j.bulkhead.BulkheadConfig
+import io.github.resilience4j.bulkhead.BulkheadFullException
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.withTimeoutOrNull
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.BooleanSupplier
 
 /**
  * Decorates and executes the given suspend function [block].
  *
- * If [BulkheadConfig.maxWaitTime] is non-zero, *blocks* until the max wait time is reached or permission is obtained.
- * For this reason, it is not recommended to use this extension function with Bulkheads with non-zero max wait times.
+ * If [BulkheadConfig.maxWaitTime] is non-zero, *suspends* until the max wait time is reached or permission is obtained.
+ * A released permission is handed over to the longest suspended caller.
  */
 suspend fun <T> Bulkhead.executeSuspendFunction(block: suspend () -> T): T {
-    acquirePermission()
+    awaitPermission()
     return try {
         block()
     } finally {
@@ -39,9 +45,65 @@ suspend fun <T> Bulkhead.executeSuspendFunction(block: suspend () -> T): T {
 /**
  * Decorates the given suspend function [block] and returns it.
  *
- * If [BulkheadConfig.maxWaitTime] is non-zero, *blocks* until the max wait time is reached or permission is obtained.
- * For this reason, it is not recommended to use this extension function with Bulkheads with non-zero max wait times.
+ * If [BulkheadConfig.maxWaitTime] is non-zero, *suspends* until the max wait time is reached or permission is obtained.
+ * A released permission is handed over to the longest suspended caller.
  */
 fun <T> Bulkhead.decorateSuspendFunction(block: suspend () -> T): suspend () -> T = {
     executeSuspendFunction(block)
-}
\ No newline at end of file
+}
+
+/**
+ * Acquires a permission without blocking the calling thread.
+ *
+ * If no permission is available, the caller suspends in the waiter queue of the bulkhead until a released permission
+ * is handed over or [BulkheadConfig.maxWaitTime] is reached.
+ */
+internal suspend fun Bulkhead.awaitPermission() {
+    val maxWaitTime = bulkheadConfig.maxWaitTime
+    if (maxWaitTime == 0L) {
+        acquirePermission()
+        return
+    }
+    val waiter = PermissionWaiter()
+    if (tryAcquirePermissionOrEnqueue(waiter)) {
+        return
+    }
+    val permitted = try {
+        withTimeoutOrNull(maxWaitTime) { waiter.await() }
+    } catch (exception: CancellationException) {
+        if (!waiter.giveUp()) {
+            releasePermission()
+        }
+        throw exception
+    }
+    // the permission may have been handed over while the wait timed out
+    if (permitted == null && waiter.giveUp() && !tryAcquirePermissionOrEnqueue(null)) {
+        throw BulkheadFullException(this)
+    }
+}
+
+/**
+ * A coroutine which waits for a permission of a bulkhead. It takes an offered permission unless it has given up.
+ */
+private class PermissionWaiter : BooleanSupplier {
+    private val state = AtomicInteger(WAITING)
+    private val permitted = CompletableDeferred<Unit>()
+
+    override fun getAsBoolean(): Boolean {
+        if (!state.compareAndSet(WAITING, PERMITTED)) {
+            return false
+        }
+        permitted.complete(Unit)
+        return true
+    }
+
+    suspend fun await() = permitted.await()
+
+    fun giveUp() = state.compareAndSet(WAITING, GAVE_UP)
+
+    private companion object {
+        const val WAITING = 0
+        const val PERMITTED = 1
+        const val GAVE_UP = 2
+    }
+}
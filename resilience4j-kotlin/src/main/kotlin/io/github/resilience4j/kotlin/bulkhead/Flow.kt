@@ -0,0 +1,46 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.bulkhead
+
+import io.github.resilience4j.bulkhead.Bulkhead
+import io.github.resilience4j.bulkhead.BulkheadConfig
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.flow
+
+/**
+ * Decorates the collection of this flow with the given [bulkhead].
+ *
+ * A permission is acquired when the flow is collected and released when the collection is finished. If
+ * [BulkheadConfig.maxWaitTime] is non-zero, the collector *suspends* until the max wait time is reached or permission
+ * is obtained.
+ */
+@FlowPreview
+fun <T> Flow<T>.bulkhead(bulkhead: Bulkhead): Flow<T> {
+    val source = this
+    return flow {
+        bulkhead.awaitPermission()
+        try {
+            source.collect { emit(it) }
+        } finally {
+            bulkhead.onComplete()
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.circuitbreaker
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker
+import io.github.resilience4j.kotlin.emitAllCatchingUpstream
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+
+/**
+ * Decorates the collection of this flow with the given [circuitBreaker].
+ *
+ * A permission is acquired when the flow is collected. The collection is recorded as a success if the flow completes,
+ * and as an error if it fails. A cancelled collection and exceptions thrown by the downstream collector are not recorded.
+ */
+@FlowPreview
+fun <T> Flow<T>.circuitBreaker(circuitBreaker: CircuitBreaker): Flow<T> {
+    val source = this
+    return flow {
+        circuitBreaker.acquirePermission()
+        val start = System.nanoTime()
+        val exception = try {
+            emitAllCatchingUpstream(source)
+        } catch (exception: Throwable) {
+            // cancelled, or failed downstream
+            circuitBreaker.releasePermission()
+            throw exception
+        }
+        if (exception != null) {
+            circuitBreaker.onError(System.nanoTime() - start, exception)
+            throw exception
+        }
+        circuitBreaker.onSuccess(System.nanoTime() - start)
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.ratelimiter
+
+import io.github.resilience4j.ratelimiter.RateLimiter
+import io.github.resilience4j.ratelimiter.RateLimiterConfig
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.flow
+
+/**
+ * Decorates the collection of this flow with the given [rateLimiter].
+ *
+ * A permission is acquired when the flow is collected. If [RateLimiterConfig.timeoutDuration] is non-zero, the
+ * collector suspends until a permission is available.
+ */
+@FlowPreview
+fun <T> Flow<T>.rateLimiter(rateLimiter: RateLimiter): Flow<T> {
+    val source = this
+    return flow {
+        rateLimiter.awaitPermission()
+        source.collect { emit(it) }
+    }
+}
@@ -30,9 +30,7 @@ import java.util.concurrent.TimeUnit
  * If [RateLimiterConfig.timeoutDuration] is non-zero, the returned function suspends until a permission is available.
  */
 suspend fun <T> RateLimiter.executeSuspendFunction(block: suspend () -> T): T {
-    val waitTimeNs = reservePermission()
-    if (waitTimeNs < 0) throw RequestNotPermitted(this)
-    delay(TimeUnit.NANOSECONDS.toMillis(waitTimeNs))
+    awaitPermission()
     return block()
 }
 
@@ -43,4 +41,20 @@ suspend fun <T> RateLimiter.executeSuspendFunction(block: suspend () -> T): T {
  */
 fun <T> RateLimiter.decorateSuspendFunction(block: suspend () -> T): suspend () -> T = {
     executeSuspendFunction(block)
-}
\ No newline at end of file
+}
+
+/**
+ * Reserves a permission and suspends until the cycle of the reserved permission has started.
+ *
+ * The wait time is rounded up to whole milliseconds, the resolution of [delay], so that the permission is never used
+ * before its cycle.
+ */
+internal suspend fun RateLimiter.awaitPermission() {
+    val waitTimeNs = reservePermission()
+    if (waitTimeNs < 0) throw RequestNotPermitted(this)
+    if (waitTimeNs > 0) {
+        delay(TimeUnit.NANOSECONDS.toMillis(waitTimeNs + NANOS_PER_MILLI - 1))
+    }
+}
+
+private val NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1)
@@ -0,0 +1,57 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.retry
+
+import io.github.resilience4j.kotlin.emitAllCatchingUpstream
+import io.github.resilience4j.retry.Retry
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+
+/**
+ * Decorates the collection of this flow with the given [retry].
+ *
+ * If the flow fails, it is collected again after suspending based on the configured interval function. The values
+ * which have been emitted by a failed attempt are not withdrawn. Exceptions thrown by the downstream collector are not
+ * retried.
+ */
+@FlowPreview
+fun <T> Flow<T>.retry(retry: Retry): Flow<T> {
+    val source = this
+    return flow {
+        val retryContext = retry.asyncContext<T>()
+        while (true) {
+            val exception = emitAllCatchingUpstream(source)
+            if (exception == null) {
+                retryContext.onSuccess()
+                return@flow
+            }
+            if (exception !is Exception) {
+                throw exception
+            }
+            val delayMs = retryContext.onError(exception)
+            if (delayMs < 1) {
+                throw exception
+            } else {
+                delay(delayMs)
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package io.github.resilience4j.kotlin.timelimiter
 
 import io.github.resilience4j.timelimiter.TimeLimiter
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.TimeoutCancellationException
 import kotlinx.coroutines.withTimeout
 
@@ -35,11 +36,26 @@ import kotlinx.coroutines.withTimeout
  * 1. After the timeout, the given block can only be stopped at a cancellable suspending function call.
  * 1. The `cancelRunningFuture` configuration setting is ignored - on timeout, the suspend function is always cancelled
  *    even if the `cancelRunningFuture` is set to `false`.
+ *
+ * The call is recorded as a success, an error or a timeout, like a call decorated by
+ * [TimeLimiter.decorateFutureSupplier]. A [CancellationException] of the calling coroutine is recorded as an error.
  */
-suspend fun <T> TimeLimiter.executeSuspendFunction(block: suspend () -> T): T =
-        withTimeout(timeLimiterConfig.timeoutDuration.toMillis()) {
+suspend fun <T> TimeLimiter.executeSuspendFunction(block: suspend () -> T): T {
+    val start = System.nanoTime()
+    try {
+        val result = withTimeout(timeLimiterConfig.timeoutDuration.toMillis()) {
             block()
         }
+        onSuccess(System.nanoTime() - start)
+        return result
+    } catch (exception: TimeoutCancellationException) {
+        onTimeout(System.nanoTime() - start)
+        throw exception
+    } catch (exception: Throwable) {
+        onError(System.nanoTime() - start, exception)
+        throw exception
+    }
+}
 
 /**
  * Decorates the given suspend function [block] and returns it.
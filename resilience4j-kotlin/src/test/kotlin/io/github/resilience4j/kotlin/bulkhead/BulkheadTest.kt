@@ -22,9 +22,11 @@ import io.github.resilience4j.bulkhead.Bulkhead
 import io.github.resilience4j.bulkhead.BulkheadConfig
 import io.github.resilience4j.bulkhead.BulkheadFullException
 import io.github.resilience4j.kotlin.HelloWorldService
+import kotlinx.coroutines.async
 import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.yield
 import org.assertj.core.api.Assertions
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.Test
@@ -120,6 +122,139 @@ class BulkheadTest {
         }
     }
 
+    @Test
+    fun `should suspend until a permission is released`() {
+        runBlocking {
+            val bulkhead = Bulkhead.of("testName") {
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitTime(5000)
+                        .build()
+            }.registerEventListener()
+
+            val sync = Channel<Unit>(Channel.RENDEZVOUS)
+            val firstCall = launch {
+                bulkhead.executeSuspendFunction {
+                    sync.receive()
+                    sync.receive()
+                }
+            }
+
+            // wait until our first coroutine is inside the bulkhead
+            sync.send(Unit)
+
+            val helloWorldService = HelloWorldService()
+
+            //When
+            val secondCall = async {
+                bulkhead.executeSuspendFunction {
+                    helloWorldService.returnHelloWorld()
+                }
+            }
+            // the second coroutine suspends, runBlocking would be blocked otherwise
+            yield()
+            assertThat(helloWorldService.invocationCounter).isEqualTo(0)
+
+            // allow our first call to complete, which resumes the second call
+            sync.send(Unit)
+            firstCall.join()
+
+            //Then
+            assertThat(secondCall.await()).isEqualTo("Hello world")
+            assertThat(permittedEvents).isEqualTo(2)
+            assertThat(rejectedEvents).isEqualTo(0)
+            assertThat(finishedEvents).isEqualTo(2)
+            assertThat(helloWorldService.invocationCounter).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should reject a suspended caller once the max wait time is reached`() {
+        runBlocking {
+            val bulkhead = Bulkhead.of("testName") {
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitTime(50)
+                        .build()
+            }.registerEventListener()
+
+            val sync = Channel<Unit>(Channel.RENDEZVOUS)
+            val firstCall = launch {
+                bulkhead.executeSuspendFunction {
+                    sync.receive()
+                    sync.receive()
+                }
+            }
+
+            // wait until our first coroutine is inside the bulkhead
+            sync.send(Unit)
+
+            val helloWorldService = HelloWorldService()
+
+            //When
+            try {
+                bulkhead.executeSuspendFunction {
+                    helloWorldService.returnHelloWorld()
+                }
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(BulkheadFullException::class.java)
+            } catch (e: BulkheadFullException) {
+                // nothing - proceed
+            }
+
+            sync.send(Unit)
+            firstCall.join()
+
+            //Then
+            assertThat(permittedEvents).isEqualTo(1)
+            assertThat(rejectedEvents).isEqualTo(1)
+            assertThat(finishedEvents).isEqualTo(1)
+            assertThat(bulkhead.metrics.availableConcurrentCalls).isEqualTo(1)
+            assertThat(helloWorldService.invocationCounter).isEqualTo(0)
+        }
+    }
+
+    @Test
+    fun `should release a permission handed over to a cancelled caller`() {
+        runBlocking {
+            val bulkhead = Bulkhead.of("testName") {
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitTime(5000)
+                        .build()
+            }.registerEventListener()
+
+            val sync = Channel<Unit>(Channel.RENDEZVOUS)
+            val firstCall = launch {
+                bulkhead.executeSuspendFunction {
+                    sync.receive()
+                    sync.receive()
+                }
+            }
+
+            // wait until our first coroutine is inside the bulkhead
+            sync.send(Unit)
+
+            val helloWorldService = HelloWorldService()
+            val secondCall = launch {
+                bulkhead.executeSuspendFunction {
+                    helloWorldService.returnHelloWorld()
+                }
+            }
+            yield()
+
+            //When
+            secondCall.cancel()
+            sync.send(Unit)
+            firstCall.join()
+            secondCall.join()
+
+            //Then
+            assertThat(rejectedEvents).isEqualTo(0)
+            assertThat(bulkhead.metrics.availableConcurrentCalls).isEqualTo(1)
+            assertThat(helloWorldService.invocationCounter).isEqualTo(0)
+        }
+    }
+
     @Test
     fun `should execute unsuccessful function`() {
         runBlocking {
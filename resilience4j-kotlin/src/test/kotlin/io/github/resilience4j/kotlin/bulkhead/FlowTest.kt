@@ -0,0 +1,76 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.bulkhead
+
+import io.github.resilience4j.bulkhead.Bulkhead
+import io.github.resilience4j.bulkhead.BulkheadConfig
+import io.github.resilience4j.bulkhead.BulkheadFullException
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+@FlowPreview
+class FlowTest {
+
+    @Test
+    fun `should release permission when flow is collected`() {
+        runBlocking {
+            val bulkhead = Bulkhead.of("testName") {
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .build()
+            }
+
+            //When
+            val result = flowOf("Hello", "world").bulkhead(bulkhead).toList()
+
+            //Then
+            assertThat(result).containsExactly("Hello", "world")
+            assertThat(bulkhead.metrics.availableConcurrentCalls).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should not collect flow when full`() {
+        runBlocking {
+            val bulkhead = Bulkhead.of("testName") {
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitTime(0)
+                        .build()
+            }
+            bulkhead.acquirePermission()
+
+            //When
+            try {
+                flowOf("Hello world").bulkhead(bulkhead).toList()
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(BulkheadFullException::class.java)
+            } catch (e: BulkheadFullException) {
+                // nothing - proceed
+            }
+
+            //Then
+            assertThat(bulkhead.metrics.availableConcurrentCalls).isEqualTo(0)
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.circuitbreaker
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException
+import io.github.resilience4j.circuitbreaker.CircuitBreaker
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+@FlowPreview
+class FlowTest {
+
+    @Test
+    fun `should record a completed flow as success`() {
+        runBlocking {
+            val circuitBreaker = CircuitBreaker.ofDefaults("testName")
+            val metrics = circuitBreaker.metrics
+
+            //When
+            val result = flowOf("Hello", "world").circuitBreaker(circuitBreaker).toList()
+
+            //Then
+            assertThat(result).containsExactly("Hello", "world")
+            assertThat(metrics.numberOfBufferedCalls).isEqualTo(1)
+            assertThat(metrics.numberOfSuccessfulCalls).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should record a failed flow as error`() {
+        runBlocking {
+            val circuitBreaker = CircuitBreaker.ofDefaults("testName")
+            val metrics = circuitBreaker.metrics
+
+            //When
+            try {
+                flow<String> { error("test exception") }.circuitBreaker(circuitBreaker).toList()
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(IllegalStateException::class.java)
+            } catch (e: IllegalStateException) {
+                // nothing - proceed
+            }
+
+            //Then
+            assertThat(metrics.numberOfBufferedCalls).isEqualTo(1)
+            assertThat(metrics.numberOfFailedCalls).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should not collect flow when open`() {
+        runBlocking {
+            val circuitBreaker = CircuitBreaker.ofDefaults("testName")
+            circuitBreaker.transitionToOpenState()
+            var collected = false
+
+            //When
+            try {
+                flow { collected = true; emit("Hello world") }.circuitBreaker(circuitBreaker).toList()
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(CallNotPermittedException::class.java)
+            } catch (e: CallNotPermittedException) {
+                // nothing - proceed
+            }
+
+            //Then
+            assertThat(collected).isFalse()
+            assertThat(circuitBreaker.metrics.numberOfNotPermittedCalls).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should not record an exception of the collector as error`() {
+        runBlocking {
+            val circuitBreaker = CircuitBreaker.ofDefaults("testName")
+            val metrics = circuitBreaker.metrics
+
+            //When
+            try {
+                flowOf("Hello", "world").circuitBreaker(circuitBreaker).collect {
+                    error("collector exception")
+                }
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(IllegalStateException::class.java)
+            } catch (e: IllegalStateException) {
+                // nothing - proceed
+            }
+
+            //Then
+            assertThat(metrics.numberOfBufferedCalls).isEqualTo(0)
+            assertThat(metrics.numberOfFailedCalls).isEqualTo(0)
+        }
+    }
+}
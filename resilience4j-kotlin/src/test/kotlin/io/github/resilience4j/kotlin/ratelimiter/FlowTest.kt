@@ -0,0 +1,72 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.ratelimiter
+
+import io.github.resilience4j.ratelimiter.RateLimiter
+import io.github.resilience4j.ratelimiter.RateLimiterConfig
+import io.github.resilience4j.ratelimiter.RequestNotPermitted
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import java.time.Duration
+
+@FlowPreview
+class FlowTest {
+
+    private fun noWaitConfig() = RateLimiterConfig
+            .custom()
+            .limitRefreshPeriod(Duration.ofSeconds(10))
+            .limitForPeriod(1)
+            .timeoutDuration(Duration.ZERO)
+            .build()
+
+    @Test
+    fun `should acquire one permission per collection`() {
+        runBlocking {
+            val rateLimiter = RateLimiter.of("testName", noWaitConfig())
+
+            //When
+            val result = flowOf("Hello", "world").rateLimiter(rateLimiter).toList()
+
+            //Then
+            assertThat(result).containsExactly("Hello", "world")
+            assertThat(rateLimiter.metrics.availablePermissions).isEqualTo(0)
+        }
+    }
+
+    @Test
+    fun `should not collect flow when no permission is available`() {
+        runBlocking {
+            val rateLimiter = RateLimiter.of("testName", noWaitConfig())
+            rateLimiter.acquirePermission()
+
+            //When
+            try {
+                flowOf("Hello world").rateLimiter(rateLimiter).toList()
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(RequestNotPermitted::class.java)
+            } catch (e: RequestNotPermitted) {
+                // nothing - proceed
+            }
+        }
+    }
+}
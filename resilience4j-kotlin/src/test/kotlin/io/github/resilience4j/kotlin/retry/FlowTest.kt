@@ -0,0 +1,115 @@
+/*
+ *
+ *  Copyright 2019: Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.kotlin.retry
+
+import io.github.resilience4j.retry.Retry
+import io.github.resilience4j.retry.RetryConfig
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import java.time.Duration
+
+@FlowPreview
+class FlowTest {
+
+    private fun retry() = Retry.of("testName") {
+        RetryConfig.custom<Any?>()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .build()
+    }
+
+    @Test
+    fun `should collect flow again after a failure`() {
+        runBlocking {
+            val retry = retry()
+            var attempts = 0
+
+            //When
+            val result = flow {
+                attempts++
+                if (attempts == 1) error("test exception")
+                emit("Hello world")
+            }.retry(retry).toList()
+
+            //Then
+            assertThat(result).containsExactly("Hello world")
+            assertThat(attempts).isEqualTo(2)
+            assertThat(retry.metrics.numberOfSuccessfulCallsWithRetryAttempt).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should fail when all attempts failed`() {
+        runBlocking {
+            val retry = retry()
+            var attempts = 0
+
+            //When
+            try {
+                flow<String> {
+                    attempts++
+                    error("test exception")
+                }.retry(retry).toList()
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(IllegalStateException::class.java)
+            } catch (e: IllegalStateException) {
+                // nothing - proceed
+            }
+
+            //Then
+            assertThat(attempts).isEqualTo(3)
+            assertThat(retry.metrics.numberOfFailedCallsWithRetryAttempt).isEqualTo(1)
+        }
+    }
+
+    @Test
+    fun `should not retry an exception of the collector`() {
+        runBlocking {
+            val retry = retry()
+            var attempts = 0
+            val collected = mutableListOf<String>()
+
+            //When
+            try {
+                flow {
+                    attempts++
+                    emit("Hello")
+                    emit("world")
+                }.retry(retry).collect {
+                    collected.add(it)
+                    error("collector exception")
+                }
+                Assertions.failBecauseExceptionWasNotThrown<Nothing>(IllegalStateException::class.java)
+            } catch (e: IllegalStateException) {
+                // nothing - proceed
+            }
+
+            //Then
+            assertThat(attempts).isEqualTo(1)
+            assertThat(collected).containsExactly("Hello")
+            assertThat(retry.metrics.numberOfFailedCallsWithRetryAttempt).isEqualTo(0)
+            assertThat(retry.metrics.numberOfFailedCallsWithoutRetryAttempt).isEqualTo(0)
+        }
+    }
+}
@@ -21,6 +21,7 @@ package io.github.resilience4j.kotlin.timelimiter
 import io.github.resilience4j.kotlin.HelloWorldService
 import io.github.resilience4j.timelimiter.TimeLimiter
 import io.github.resilience4j.timelimiter.TimeLimiterConfig
+import io.github.resilience4j.timelimiter.event.TimeLimiterEvent
 import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions
@@ -109,4 +110,39 @@ class TimeLimiterTest {
             Assertions.assertThat(helloWorldService.invocationCounter).isEqualTo(1)
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `should publish success, error and timeout events`() {
+        runBlocking {
+            val timelimiter = TimeLimiter.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(10)).build())
+            val events = mutableListOf<TimeLimiterEvent.Type>()
+            timelimiter.eventPublisher.onEvent { events.add(it.eventType) }
+            val helloWorldService = HelloWorldService()
+
+            //When
+            timelimiter.executeSuspendFunction {
+                helloWorldService.returnHelloWorld()
+            }
+            try {
+                timelimiter.executeSuspendFunction {
+                    helloWorldService.throwException()
+                }
+            } catch (e: IllegalStateException) {
+                // nothing - proceed
+            }
+            try {
+                timelimiter.executeSuspendFunction {
+                    helloWorldService.wait()
+                }
+            } catch (e: CancellationException) {
+                // nothing - proceed
+            }
+
+            //Then
+            Assertions.assertThat(events).containsExactly(
+                    TimeLimiterEvent.Type.SUCCESS,
+                    TimeLimiterEvent.Type.ERROR,
+                    TimeLimiterEvent.Type.TIMEOUT)
+        }
+    }
+}
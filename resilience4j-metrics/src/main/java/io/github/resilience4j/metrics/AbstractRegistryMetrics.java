@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.MetricSet;
+import io.github.resilience4j.core.Registry;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class of the Dropwizard MetricSets which keeps the metrics of a {@link Registry} up to date when entries
+ * are added, removed or replaced after the MetricSet has been created.
+ *
+ * @param <E> the type of the registry entries
+ */
+abstract class AbstractRegistryMetrics<E> implements MetricSet {
+
+    protected final MetricRegistry metricRegistry = new MetricRegistry();
+    private final ConcurrentMap<String, Set<String>> metricNamesByEntry = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the metrics of a registry entry.
+     *
+     * @param entry the registry entry
+     */
+    protected abstract void addMetrics(E entry);
+
+    /**
+     * Registers a metric of the registry entry with the given name, so that it can be removed together with the
+     * other metrics of the entry.
+     */
+    protected <T extends Metric> T register(String entryName, String metricName, T metric) {
+        T registeredMetric = metricRegistry.register(metricName, metric);
+        metricNamesByEntry.computeIfAbsent(entryName, name -> ConcurrentHashMap.newKeySet()).add(metricName);
+        return registeredMetric;
+    }
+
+    /**
+     * Removes all metrics of the registry entry with the given name.
+     */
+    protected void removeMetrics(String entryName) {
+        Set<String> metricNames = metricNamesByEntry.remove(entryName);
+        if (metricNames != null) {
+            metricNames.forEach(metricRegistry::remove);
+        }
+    }
+
+    /**
+     * Removes all metrics of the given registry entry. Subclasses which attach to the entry itself, for example with
+     * a metrics recorder, detach from it as well.
+     *
+     * @param entry     the removed or replaced registry entry
+     * @param entryName the name of the entry
+     */
+    protected void removeMetrics(E entry, String entryName) {
+        removeMetrics(entryName);
+    }
+
+    /**
+     * Subscribes to the events of the registry to add and remove the metrics of its entries.
+     *
+     * @param registry  the registry
+     * @param entryName a function returning the name of an entry
+     */
+    protected void subscribe(Registry<E, ?> registry, Function<E, String> entryName) {
+        registry.getEventPublisher().onEntryAdded(event -> addMetrics(event.getAddedEntry()));
+        registry.getEventPublisher().onEntryRemoved(event ->
+            removeMetrics(event.getRemovedEntry(), entryName.apply(event.getRemovedEntry())));
+        registry.getEventPublisher().onEntryReplaced(event -> {
+            removeMetrics(event.getOldEntry(), entryName.apply(event.getOldEntry()));
+            addMetrics(event.getNewEntry());
+        });
+    }
+
+    /**
+     * Registers the metrics into the given {@link MetricRegistry} and keeps them in sync when entries are added to
+     * or removed from the source registry afterwards. {@link MetricRegistry#registerAll(MetricSet)} only registers
+     * the metrics which exist at the time it is called.
+     *
+     * @param registry the registry to bind the metrics to
+     */
+    public void bindTo(MetricRegistry registry) {
+        requireNonNull(registry);
+        metricRegistry.addListener(new MetricRegistryListener.Base() {
+            @Override
+            public void onGaugeAdded(String name, Gauge<?> gauge) {
+                registry.register(name, gauge);
+            }
+
+            @Override
+            public void onGaugeRemoved(String name) {
+                registry.remove(name);
+            }
+
+            @Override
+            public void onTimerAdded(String name, com.codahale.metrics.Timer timer) {
+                registry.register(name, timer);
+            }
+
+            @Override
+            public void onTimerRemoved(String name) {
+                registry.remove(name);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return metricRegistry.getMetrics();
+    }
+}
@@ -16,15 +16,10 @@
 package io.github.resilience4j.metrics;
 
 import com.codahale.metrics.Gauge;
-import com.codahale.metrics.Metric;
-import com.codahale.metrics.MetricRegistry;
-import com.codahale.metrics.MetricSet;
 import io.github.resilience4j.bulkhead.Bulkhead;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.vavr.collection.Array;
 
-import java.util.Map;
-
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.github.resilience4j.bulkhead.utils.MetricNames.AVAILABLE_CONCURRENT_CALLS;
 import static io.github.resilience4j.bulkhead.utils.MetricNames.DEFAULT_PREFIX;
@@ -34,25 +29,33 @@ import static java.util.Objects.requireNonNull;
 /**
  * An adapter which exports {@link Bulkhead.Metrics} as Dropwizard Metrics Gauges.
  */
-public class BulkheadMetrics implements MetricSet {
-    private final MetricRegistry metricRegistry = new MetricRegistry();
+public class BulkheadMetrics extends AbstractRegistryMetrics<Bulkhead> {
+
+    private final String prefix;
 
     private BulkheadMetrics(Iterable<Bulkhead> bulkheads) {
         this(DEFAULT_PREFIX, bulkheads);
     }
 
     private BulkheadMetrics(String prefix, Iterable<Bulkhead> bulkheads) {
-        requireNonNull(prefix);
+        this.prefix = requireNonNull(prefix);
         requireNonNull(bulkheads);
-        bulkheads.forEach(bulkhead -> {
-                    String name = bulkhead.getName();
-            //number of available concurrent calls as an integer
-                    metricRegistry.register(name(prefix, name, AVAILABLE_CONCURRENT_CALLS),
-                            (Gauge<Integer>) () -> bulkhead.getMetrics().getAvailableConcurrentCalls());
-                    metricRegistry.register(name(prefix, name, MAX_ALLOWED_CONCURRENT_CALLS),
-                            (Gauge<Integer>) () -> bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
-                }
-        );
+        bulkheads.forEach(this::addMetrics);
+    }
+
+    private BulkheadMetrics(String prefix, BulkheadRegistry bulkheadRegistry) {
+        this(prefix, bulkheadRegistry.getAllBulkheads());
+        subscribe(bulkheadRegistry, Bulkhead::getName);
+    }
+
+    @Override
+    protected void addMetrics(Bulkhead bulkhead) {
+        String name = bulkhead.getName();
+        //number of available concurrent calls as an integer
+        register(name, name(prefix, name, AVAILABLE_CONCURRENT_CALLS),
+                (Gauge<Integer>) () -> bulkhead.getMetrics().getAvailableConcurrentCalls());
+        register(name, name(prefix, name, MAX_ALLOWED_CONCURRENT_CALLS),
+                (Gauge<Integer>) () -> bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
     }
 
     /**
@@ -63,7 +66,7 @@ public class BulkheadMetrics implements MetricSet {
      * @param bulkheadRegistry the registry of bulkheads
      */
     public static BulkheadMetrics ofBulkheadRegistry(String prefix, BulkheadRegistry bulkheadRegistry) {
-        return new BulkheadMetrics(prefix, bulkheadRegistry.getAllBulkheads());
+        return new BulkheadMetrics(prefix, bulkheadRegistry);
     }
 
     /**
@@ -73,7 +76,7 @@ public class BulkheadMetrics implements MetricSet {
      * @param bulkheadRegistry the registry of bulkheads
      */
     public static BulkheadMetrics ofBulkheadRegistry(BulkheadRegistry bulkheadRegistry) {
-        return new BulkheadMetrics(bulkheadRegistry.getAllBulkheads());
+        return new BulkheadMetrics(DEFAULT_PREFIX, bulkheadRegistry);
     }
 
     /**
@@ -105,9 +108,4 @@ public class BulkheadMetrics implements MetricSet {
     public static BulkheadMetrics ofBulkhead(Bulkhead bulkhead) {
         return new BulkheadMetrics(Array.of(bulkhead));
     }
-
-    @Override
-    public Map<String, Metric> getMetrics() {
-        return metricRegistry.getMetrics();
-    }
 }
@@ -19,52 +19,91 @@
 package io.github.resilience4j.metrics;
 
 import com.codahale.metrics.Gauge;
-import com.codahale.metrics.Metric;
-import com.codahale.metrics.MetricRegistry;
-import com.codahale.metrics.MetricSet;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.vavr.collection.Array;
 
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.github.resilience4j.circuitbreaker.utils.MetricNames.*;
 import static java.util.Objects.requireNonNull;
 
 /**
- * An adapter which exports {@link CircuitBreaker.Metrics} as Dropwizard Metrics Gauges.
+ * An adapter which exports {@link CircuitBreaker.Metrics} as Dropwizard Metrics Gauges and the durations of calls
+ * as Dropwizard Metrics Timers.
  */
-public class CircuitBreakerMetrics implements MetricSet {
+public class CircuitBreakerMetrics extends AbstractRegistryMetrics<CircuitBreaker> {
 
-    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final String prefix;
+    private final ConcurrentMap<String, CircuitBreaker.MetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
 
     private CircuitBreakerMetrics(Iterable<CircuitBreaker> circuitBreakers) {
         this(DEFAULT_PREFIX, circuitBreakers);
     }
 
     private CircuitBreakerMetrics(String prefix, Iterable<CircuitBreaker> circuitBreakers) {
-        requireNonNull(prefix);
+        this.prefix = requireNonNull(prefix);
         requireNonNull(circuitBreakers);
-        circuitBreakers.forEach((CircuitBreaker circuitBreaker) -> {
-                String name = circuitBreaker.getName();
-                //state as an integer
-                metricRegistry.register(name(prefix, name, STATE),
-                      (Gauge<Integer>)()-> circuitBreaker.getState().getOrder());
-                metricRegistry.register(name(prefix, name, SUCCESSFUL),
-                    (Gauge<Integer>) () -> circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
-                metricRegistry.register(name(prefix, name, FAILED),
-                    (Gauge<Integer>) () -> circuitBreaker.getMetrics().getNumberOfFailedCalls());
-                metricRegistry.register(name(prefix, name, NOT_PERMITTED),
-                    (Gauge<Long>) () -> circuitBreaker.getMetrics().getNumberOfNotPermittedCalls());
-                metricRegistry.register(name(prefix, name, BUFFERED),
-                    (Gauge<Integer>) () -> circuitBreaker.getMetrics().getNumberOfBufferedCalls());
-                metricRegistry.register(name(prefix, name, BUFFERED_MAX),
-                    (Gauge<Integer>) () -> circuitBreaker.getMetrics().getMaxNumberOfBufferedCalls());
-                metricRegistry.register(name(prefix, name, FAILURE_RATE),
-                    (Gauge<Float>) () -> circuitBreaker.getMetrics().getFailureRate());
+        circuitBreakers.forEach(this::addMetrics);
+    }
+
+    private CircuitBreakerMetrics(String prefix, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this(prefix, circuitBreakerRegistry.getAllCircuitBreakers());
+        subscribe(circuitBreakerRegistry, CircuitBreaker::getName);
+    }
+
+    @Override
+    protected void addMetrics(CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        //state as an integer
+        register(name, name(prefix, name, STATE),
+            (Gauge<Integer>) () -> circuitBreaker.getState().getOrder());
+        register(name, name(prefix, name, SUCCESSFUL),
+            (Gauge<Integer>) () -> circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
+        register(name, name(prefix, name, FAILED),
+            (Gauge<Integer>) () -> circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        register(name, name(prefix, name, NOT_PERMITTED),
+            (Gauge<Long>) () -> circuitBreaker.getMetrics().getNumberOfNotPermittedCalls());
+        register(name, name(prefix, name, BUFFERED),
+            (Gauge<Integer>) () -> circuitBreaker.getMetrics().getNumberOfBufferedCalls());
+        register(name, name(prefix, name, BUFFERED_MAX),
+            (Gauge<Integer>) () -> circuitBreaker.getMetrics().getMaxNumberOfBufferedCalls());
+        register(name, name(prefix, name, FAILURE_RATE),
+            (Gauge<Float>) () -> circuitBreaker.getMetrics().getFailureRate());
+
+        com.codahale.metrics.Timer successfulCalls = register(name, name(prefix, name, SUCCESSFUL_CALLS), new com.codahale.metrics.Timer());
+        com.codahale.metrics.Timer failedCalls = register(name, name(prefix, name, FAILED_CALLS), new com.codahale.metrics.Timer());
+        com.codahale.metrics.Timer ignoredCalls = register(name, name(prefix, name, IGNORED_CALLS), new com.codahale.metrics.Timer());
+        CircuitBreaker.MetricsRecorder metricsRecorder = new CircuitBreaker.MetricsRecorder() {
+            @Override
+            public void onSuccess(long durationInNanos) {
+                successfulCalls.update(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void onError(long durationInNanos) {
+                failedCalls.update(durationInNanos, TimeUnit.NANOSECONDS);
             }
-        );
+
+            @Override
+            public void onIgnoredError(long durationInNanos) {
+                ignoredCalls.update(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+        };
+        circuitBreaker.addMetricsRecorder(metricsRecorder);
+        metricsRecorders.put(name, metricsRecorder);
+    }
+
+    @Override
+    protected void removeMetrics(CircuitBreaker circuitBreaker, String entryName) {
+        super.removeMetrics(circuitBreaker, entryName);
+        CircuitBreaker.MetricsRecorder metricsRecorder = metricsRecorders.remove(entryName);
+        if (metricsRecorder != null) {
+            circuitBreaker.removeMetricsRecorder(metricsRecorder);
+        }
     }
 
     /**
@@ -75,7 +114,7 @@ public class CircuitBreakerMetrics implements MetricSet {
      * @param circuitBreakerRegistry the registry of circuit breakers
      */
     public static CircuitBreakerMetrics ofCircuitBreakerRegistry(String prefix, CircuitBreakerRegistry circuitBreakerRegistry) {
-        return new CircuitBreakerMetrics(prefix, circuitBreakerRegistry.getAllCircuitBreakers());
+        return new CircuitBreakerMetrics(prefix, circuitBreakerRegistry);
     }
 
     /**
@@ -85,7 +124,7 @@ public class CircuitBreakerMetrics implements MetricSet {
      * @param circuitBreakerRegistry the registry of circuit breakers
      */
     public static CircuitBreakerMetrics ofCircuitBreakerRegistry(CircuitBreakerRegistry circuitBreakerRegistry) {
-        return new CircuitBreakerMetrics(circuitBreakerRegistry.getAllCircuitBreakers());
+        return new CircuitBreakerMetrics(DEFAULT_PREFIX, circuitBreakerRegistry);
     }
 
     /**
@@ -117,9 +156,4 @@ public class CircuitBreakerMetrics implements MetricSet {
     public static CircuitBreakerMetrics ofCircuitBreaker(CircuitBreaker circuitBreaker) {
         return new CircuitBreakerMetrics(Array.of(circuitBreaker));
     }
-
-    @Override
-    public Map<String, Metric> getMetrics() {
-        return metricRegistry.getMetrics();
-    }
 }
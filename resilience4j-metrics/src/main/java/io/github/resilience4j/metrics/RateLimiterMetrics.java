@@ -19,15 +19,10 @@
 package io.github.resilience4j.metrics;
 
 import com.codahale.metrics.Gauge;
-import com.codahale.metrics.Metric;
-import com.codahale.metrics.MetricRegistry;
-import com.codahale.metrics.MetricSet;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.vavr.collection.Array;
 
-import java.util.Map;
-
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.github.resilience4j.ratelimiter.utils.MetricNames.AVAILABLE_PERMISSIONS;
 import static io.github.resilience4j.ratelimiter.utils.MetricNames.DEFAULT_PREFIX;
@@ -37,29 +32,35 @@ import static java.util.Objects.requireNonNull;
 /**
  * An adapter which exports {@link RateLimiter.Metrics} as Dropwizard Metrics Gauges.
  */
-public class RateLimiterMetrics implements MetricSet {
+public class RateLimiterMetrics extends AbstractRegistryMetrics<RateLimiter> {
 
     private static final String PREFIX_NULL = "Prefix must not be null";
     private static final String ITERABLE_NULL = "RateLimiters iterable must not be null";
 
-    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final String prefix;
 
     private RateLimiterMetrics(Iterable<RateLimiter> rateLimiters) {
         this(DEFAULT_PREFIX, rateLimiters);
     }
 
     private RateLimiterMetrics(String prefix, Iterable<RateLimiter> rateLimiters) {
-        requireNonNull(prefix, PREFIX_NULL);
+        this.prefix = requireNonNull(prefix, PREFIX_NULL);
         requireNonNull(rateLimiters, ITERABLE_NULL);
+        rateLimiters.forEach(this::addMetrics);
+    }
+
+    private RateLimiterMetrics(String prefix, RateLimiterRegistry rateLimiterRegistry) {
+        this(prefix, rateLimiterRegistry.getAllRateLimiters());
+        subscribe(rateLimiterRegistry, RateLimiter::getName);
+    }
 
-        rateLimiters.forEach(rateLimiter -> {
-                String name = rateLimiter.getName();
-                metricRegistry.register(name(prefix, name, WAITING_THREADS),
-                    (Gauge<Integer>) rateLimiter.getMetrics()::getNumberOfWaitingThreads);
-                metricRegistry.register(name(prefix, name, AVAILABLE_PERMISSIONS),
-                    (Gauge<Integer>) rateLimiter.getMetrics()::getAvailablePermissions);
-            }
-        );
+    @Override
+    protected void addMetrics(RateLimiter rateLimiter) {
+        String name = rateLimiter.getName();
+        register(name, name(prefix, name, WAITING_THREADS),
+            (Gauge<Integer>) rateLimiter.getMetrics()::getNumberOfWaitingThreads);
+        register(name, name(prefix, name, AVAILABLE_PERMISSIONS),
+            (Gauge<Integer>) rateLimiter.getMetrics()::getAvailablePermissions);
     }
 
     /**
@@ -70,7 +71,7 @@ public class RateLimiterMetrics implements MetricSet {
      * @param rateLimiterRegistry the registry of rate limiters
      */
     public static RateLimiterMetrics ofRateLimiterRegistry(String prefix, RateLimiterRegistry rateLimiterRegistry) {
-        return new RateLimiterMetrics(prefix, rateLimiterRegistry.getAllRateLimiters());
+        return new RateLimiterMetrics(prefix, rateLimiterRegistry);
     }
 
     /**
@@ -80,7 +81,7 @@ public class RateLimiterMetrics implements MetricSet {
      * @param rateLimiterRegistry the registry of rate limiters
      */
     public static RateLimiterMetrics ofRateLimiterRegistry(RateLimiterRegistry rateLimiterRegistry) {
-        return new RateLimiterMetrics(rateLimiterRegistry.getAllRateLimiters());
+        return new RateLimiterMetrics(DEFAULT_PREFIX, rateLimiterRegistry);
     }
 
     /**
@@ -112,9 +113,4 @@ public class RateLimiterMetrics implements MetricSet {
     public static RateLimiterMetrics ofRateLimiter(RateLimiter rateLimiter) {
         return new RateLimiterMetrics(Array.of(rateLimiter));
     }
-
-    @Override
-    public Map<String, Metric> getMetrics() {
-        return metricRegistry.getMetrics();
-    }
 }
@@ -5,8 +5,6 @@ import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.vavr.collection.Array;
 
-import java.util.Map;
-
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.github.resilience4j.retry.utils.MetricNames.*;
 import static java.util.Objects.requireNonNull;
@@ -14,37 +12,45 @@ import static java.util.Objects.requireNonNull;
 /**
  * An adapter which exports {@link Retry.Metrics} as Dropwizard Metrics Gauges.
  */
-public class RetryMetrics implements MetricSet {
+public class RetryMetrics extends AbstractRegistryMetrics<Retry> {
 
-    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final String prefix;
 
     private RetryMetrics(Iterable<Retry> retries){
         this(DEFAULT_PREFIX, retries);
     }
 
     private RetryMetrics(String prefix, Iterable<Retry> retries){
-        requireNonNull(prefix);
+        this.prefix = requireNonNull(prefix);
         requireNonNull(retries);
-        retries.forEach(retry -> {
-            String name = retry.getName();
+        retries.forEach(this::addMetrics);
+    }
 
-            metricRegistry.register(name(prefix, name, SUCCESSFUL_CALLS_WITHOUT_RETRY),
-                    (Gauge<Long>) () -> retry.getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt());
-            metricRegistry.register(name(prefix, name, SUCCESSFUL_CALLS_WITH_RETRY),
-                    (Gauge<Long>) () -> retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt());
-            metricRegistry.register(name(prefix, name, FAILED_CALLS_WITHOUT_RETRY),
-                    (Gauge<Long>) () -> retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt());
-            metricRegistry.register(name(prefix, name, FAILED_CALLS_WITH_RETRY),
-                    (Gauge<Long>) () -> retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt());
-        });
+    private RetryMetrics(String prefix, RetryRegistry retryRegistry){
+        this(prefix, retryRegistry.getAllRetries());
+        subscribe(retryRegistry, Retry::getName);
+    }
+
+    @Override
+    protected void addMetrics(Retry retry) {
+        String name = retry.getName();
+
+        register(name, name(prefix, name, SUCCESSFUL_CALLS_WITHOUT_RETRY),
+                (Gauge<Long>) () -> retry.getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt());
+        register(name, name(prefix, name, SUCCESSFUL_CALLS_WITH_RETRY),
+                (Gauge<Long>) () -> retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt());
+        register(name, name(prefix, name, FAILED_CALLS_WITHOUT_RETRY),
+                (Gauge<Long>) () -> retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt());
+        register(name, name(prefix, name, FAILED_CALLS_WITH_RETRY),
+                (Gauge<Long>) () -> retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt());
     }
 
     public static RetryMetrics ofRetryRegistry(String prefix, RetryRegistry retryRegistry) {
-        return new RetryMetrics(prefix, retryRegistry.getAllRetries());
+        return new RetryMetrics(prefix, retryRegistry);
     }
 
     public static RetryMetrics ofRetryRegistry(RetryRegistry retryRegistry) {
-        return new RetryMetrics(retryRegistry.getAllRetries());
+        return new RetryMetrics(DEFAULT_PREFIX, retryRegistry);
     }
 
     public static RetryMetrics ofIterable(String prefix, Iterable<Retry> retries) {
@@ -58,9 +64,4 @@ public class RetryMetrics implements MetricSet {
     public static RetryMetrics ofRetry(Retry retry) {
         return new RetryMetrics(Array.of(retry));
     }
-
-    @Override
-    public Map<String, Metric> getMetrics() {
-        return metricRegistry.getMetrics();
-    }
 }
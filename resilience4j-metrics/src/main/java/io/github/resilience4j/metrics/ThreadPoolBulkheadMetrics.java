@@ -16,17 +16,12 @@
 package io.github.resilience4j.metrics;
 
 import com.codahale.metrics.Gauge;
-import com.codahale.metrics.Metric;
-import com.codahale.metrics.MetricRegistry;
-import com.codahale.metrics.MetricSet;
 import io.github.resilience4j.bulkhead.Bulkhead;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import io.vavr.collection.Array;
 
-import java.util.Map;
-
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.github.resilience4j.bulkhead.utils.MetricNames.AVAILABLE_QUEUE_CAPACITY;
 import static io.github.resilience4j.bulkhead.utils.MetricNames.CURRENT_THREAD_POOL_SIZE;
@@ -36,25 +31,32 @@ import static java.util.Objects.requireNonNull;
 /**
  * An adapter which exports {@link Bulkhead.Metrics} as Dropwizard Metrics Gauges.
  */
-public class ThreadPoolBulkheadMetrics implements MetricSet {
-    private final MetricRegistry metricRegistry = new MetricRegistry();
+public class ThreadPoolBulkheadMetrics extends AbstractRegistryMetrics<ThreadPoolBulkhead> {
+
+    private final String prefix;
 
     private ThreadPoolBulkheadMetrics(Iterable<ThreadPoolBulkhead> bulkheads) {
         this(DEFAULT_PREFIX_THREAD_POOL, bulkheads);
     }
 
     private ThreadPoolBulkheadMetrics(String prefix, Iterable<ThreadPoolBulkhead> bulkheads) {
-        requireNonNull(prefix);
+        this.prefix = requireNonNull(prefix);
         requireNonNull(bulkheads);
-        bulkheads.forEach(bulkhead -> {
-                    String name = bulkhead.getName();
-            //number of available concurrent calls as an integer
-                    metricRegistry.register(name(prefix, name, CURRENT_THREAD_POOL_SIZE),
-                            (Gauge<Integer>) () -> bulkhead.getMetrics().getThreadPoolSize());
-                    metricRegistry.register(name(prefix, name, AVAILABLE_QUEUE_CAPACITY),
-                            (Gauge<Integer>) () -> bulkhead.getMetrics().getRemainingQueueCapacity());
-                }
-        );
+        bulkheads.forEach(this::addMetrics);
+    }
+
+    private ThreadPoolBulkheadMetrics(String prefix, ThreadPoolBulkheadRegistry bulkheadRegistry) {
+        this(prefix, bulkheadRegistry.getAllBulkheads());
+        subscribe(bulkheadRegistry, ThreadPoolBulkhead::getName);
+    }
+
+    @Override
+    protected void addMetrics(ThreadPoolBulkhead bulkhead) {
+        String name = bulkhead.getName();
+        register(name, name(prefix, name, CURRENT_THREAD_POOL_SIZE),
+                (Gauge<Integer>) () -> bulkhead.getMetrics().getThreadPoolSize());
+        register(name, name(prefix, name, AVAILABLE_QUEUE_CAPACITY),
+                (Gauge<Integer>) () -> bulkhead.getMetrics().getRemainingQueueCapacity());
     }
 
     /**
@@ -65,7 +67,7 @@ public class ThreadPoolBulkheadMetrics implements MetricSet {
      * @param bulkheadRegistry the registry of bulkheads
      */
     public static ThreadPoolBulkheadMetrics ofBulkheadRegistry(String prefix, ThreadPoolBulkheadRegistry bulkheadRegistry) {
-        return new ThreadPoolBulkheadMetrics(prefix, bulkheadRegistry.getAllBulkheads());
+        return new ThreadPoolBulkheadMetrics(prefix, bulkheadRegistry);
     }
 
     /**
@@ -75,7 +77,7 @@ public class ThreadPoolBulkheadMetrics implements MetricSet {
      * @param bulkheadRegistry the registry of bulkheads
      */
     public static ThreadPoolBulkheadMetrics ofBulkheadRegistry(ThreadPoolBulkheadRegistry bulkheadRegistry) {
-        return new ThreadPoolBulkheadMetrics(bulkheadRegistry.getAllBulkheads());
+        return new ThreadPoolBulkheadMetrics(DEFAULT_PREFIX_THREAD_POOL, bulkheadRegistry);
     }
 
     /**
@@ -107,9 +109,4 @@ public class ThreadPoolBulkheadMetrics implements MetricSet {
     public static ThreadPoolBulkheadMetrics ofBulkhead(ThreadPoolBulkhead bulkhead) {
         return new ThreadPoolBulkheadMetrics(Array.of(bulkhead));
     }
-
-    @Override
-    public Map<String, Metric> getMetrics() {
-        return metricRegistry.getMetrics();
-    }
 }
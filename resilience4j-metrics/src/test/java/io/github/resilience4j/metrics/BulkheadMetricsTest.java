@@ -162,4 +162,24 @@ public class BulkheadMetricsTest {
         assertThat(metricRegistry.getGauges().get("testPre.testBulkhead.max_allowed_concurrent_calls").getValue())
                 .isEqualTo(newConfig.getMaxConcurrentCalls());
     }
+
+    @Test
+    public void shouldFollowBulkheadsOfRegistry() {
+        // Given
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        BulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(metricRegistry);
+
+        // When
+        bulkheadRegistry.bulkhead("testBulkhead");
+
+        // Then
+        assertThat(metricRegistry.getGauges().get("resilience4j.bulkhead.testBulkhead.available_concurrent_calls").getValue())
+                .isEqualTo(DEFAULT_MAX_CONCURRENT_CALLS);
+
+        // When
+        bulkheadRegistry.remove("testBulkhead");
+
+        // Then
+        assertThat(metricRegistry.getMetrics()).isEmpty();
+    }
 }
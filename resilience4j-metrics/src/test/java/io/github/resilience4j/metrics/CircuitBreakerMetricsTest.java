@@ -22,6 +22,7 @@ import com.codahale.metrics.MetricRegistry;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
@@ -29,6 +30,8 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.test.HelloWorldService;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
@@ -60,7 +63,7 @@ public class CircuitBreakerMetricsTest {
         assertThat(value).isEqualTo("Hello world");
         // Then the helloWorldService should be invoked 1 time
         BDDMockito.then(helloWorldService).should(times(1)).returnHelloWorld();
-        assertThat(metricRegistry.getMetrics()).hasSize(7);
+        assertThat(metricRegistry.getMetrics()).hasSize(10);
         assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.state").getValue()).isEqualTo(0);
         assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.buffered").getValue()).isEqualTo(1);
         assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.successful").getValue()).isEqualTo(1);
@@ -68,6 +71,9 @@ public class CircuitBreakerMetricsTest {
         assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.not_permitted").getValue()).isEqualTo(0L);
         assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.buffered_max").getValue()).isEqualTo(100);
         assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.failure_rate").getValue()).isEqualTo(-1f);
+        assertThat(metricRegistry.getTimers().get("resilience4j.circuitbreaker.testName.successful_calls").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.getTimers().get("resilience4j.circuitbreaker.testName.failed_calls").getCount()).isEqualTo(0);
+        assertThat(metricRegistry.getTimers().get("resilience4j.circuitbreaker.testName.ignored_calls").getCount()).isEqualTo(0);
     }
 
     @Test
@@ -87,7 +93,7 @@ public class CircuitBreakerMetricsTest {
         assertThat(value).isEqualTo("Hello world");
         // Then the helloWorldService should be invoked 1 time
         BDDMockito.then(helloWorldService).should(times(1)).returnHelloWorld();
-        assertThat(metricRegistry.getMetrics()).hasSize(7);
+        assertThat(metricRegistry.getMetrics()).hasSize(10);
         assertThat(metricRegistry.getGauges().get("testPrefix.testName.state").getValue()).isEqualTo(0);
         assertThat(metricRegistry.getGauges().get("testPrefix.testName.buffered").getValue()).isEqualTo(1);
         assertThat(metricRegistry.getGauges().get("testPrefix.testName.successful").getValue()).isEqualTo(1);
@@ -96,4 +102,75 @@ public class CircuitBreakerMetricsTest {
         assertThat(metricRegistry.getGauges().get("testPrefix.testName.buffered_max").getValue()).isEqualTo(100);
         assertThat(metricRegistry.getGauges().get("testPrefix.testName.failure_rate").getValue()).isEqualTo(-1f);
     }
+
+    @Test
+    public void shouldRegisterMetricsOfAddedCircuitBreaker() {
+        //Given
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        CircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(metricRegistry);
+
+        //When
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("testName");
+        circuitBreaker.onError(0, new RuntimeException());
+
+        //Then
+        assertThat(metricRegistry.getMetrics()).hasSize(10);
+        assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.failed").getValue()).isEqualTo(1);
+        assertThat(metricRegistry.getTimers().get("resilience4j.circuitbreaker.testName.failed_calls").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRemoveMetricsOfRemovedCircuitBreaker() {
+        //Given
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreakerRegistry.circuitBreaker("testName");
+        circuitBreakerRegistry.circuitBreaker("otherName");
+        CircuitBreakerMetrics circuitBreakerMetrics = CircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+        circuitBreakerMetrics.bindTo(metricRegistry);
+
+        //When
+        circuitBreakerRegistry.remove("testName");
+
+        //Then
+        assertThat(circuitBreakerMetrics.getMetrics()).hasSize(10);
+        assertThat(metricRegistry.getMetrics()).hasSize(10);
+        assertThat(metricRegistry.getGauges()).doesNotContainKey("resilience4j.circuitbreaker.testName.state");
+        assertThat(metricRegistry.getGauges()).containsKey("resilience4j.circuitbreaker.otherName.state");
+    }
+
+    @Test
+    public void shouldReplaceMetricsOfReplacedCircuitBreaker() {
+        //Given
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreakerRegistry.circuitBreaker("testName");
+        CircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(metricRegistry);
+
+        //When
+        CircuitBreaker newCircuitBreaker = CircuitBreaker.ofDefaults("testName");
+        circuitBreakerRegistry.replace("testName", newCircuitBreaker);
+        newCircuitBreaker.transitionToOpenState();
+
+        //Then
+        assertThat(metricRegistry.getMetrics()).hasSize(10);
+        assertThat(metricRegistry.getGauges().get("resilience4j.circuitbreaker.testName.state").getValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRemoveMetricsRecorderOfRemovedCircuitBreaker() {
+        //Given
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreakerRegistry.circuitBreaker("testName");
+        CircuitBreaker circuitBreaker = mock(CircuitBreaker.class, delegatesTo(CircuitBreaker.ofDefaults("testName")));
+        circuitBreakerRegistry.replace("testName", circuitBreaker);
+        CircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(metricRegistry);
+        ArgumentCaptor<CircuitBreaker.MetricsRecorder> metricsRecorder =
+            ArgumentCaptor.forClass(CircuitBreaker.MetricsRecorder.class);
+        then(circuitBreaker).should().addMetricsRecorder(metricsRecorder.capture());
+
+        //When
+        circuitBreakerRegistry.remove("testName");
+
+        //Then
+        then(circuitBreaker).should().removeMetricsRecorder(metricsRecorder.getValue());
+    }
 }
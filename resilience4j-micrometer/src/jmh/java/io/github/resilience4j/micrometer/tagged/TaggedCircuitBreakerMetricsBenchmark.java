@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.micrometer.tagged;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the overhead of binding a circuit breaker to a {@link MeterRegistry}, once through the
+ * {@link CircuitBreaker.MetricsRecorder} used by {@link TaggedCircuitBreakerMetrics} and once through
+ * event consumers, which allocate an event per call.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class TaggedCircuitBreakerMetricsBenchmark {
+
+    private static final int ITERATION_COUNT = 10;
+    private static final int WARMUP_COUNT = 10;
+    private static final int THREAD_COUNT = 2;
+    private static final int FORK_COUNT = 2;
+
+    private Supplier<String> unboundSupplier;
+    private Supplier<String> boundSupplier;
+    private Supplier<String> eventConsumerSupplier;
+
+    @Setup
+    public void setUp() {
+        Supplier<String> stringSupplier = () -> {
+            Blackhole.consumeCPU(100);
+            return "Hello Benchmark";
+        };
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        CircuitBreaker unboundCircuitBreaker = CircuitBreaker.ofDefaults("unbound");
+        unboundSupplier = CircuitBreaker.decorateSupplier(unboundCircuitBreaker, stringSupplier);
+
+        CircuitBreaker boundCircuitBreaker = circuitBreakerRegistry.circuitBreaker("bound");
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        boundSupplier = CircuitBreaker.decorateSupplier(boundCircuitBreaker, stringSupplier);
+
+        CircuitBreaker eventConsumerCircuitBreaker = CircuitBreaker.ofDefaults("eventConsumer");
+        Timer successfulCalls = Timer.builder("eventConsumer.calls").register(meterRegistry);
+        eventConsumerCircuitBreaker.getEventPublisher()
+                .onSuccess(event -> successfulCalls.record(event.getElapsedDuration()));
+        eventConsumerSupplier = CircuitBreaker.decorateSupplier(eventConsumerCircuitBreaker, stringSupplier);
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String unboundSupplier() {
+        return unboundSupplier.get();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String boundSupplier() {
+        return boundSupplier.get();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String eventConsumerSupplier() {
+        return eventConsumerSupplier.get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(TaggedCircuitBreakerMetricsBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
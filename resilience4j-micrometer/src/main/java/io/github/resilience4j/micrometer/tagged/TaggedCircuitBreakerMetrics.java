@@ -23,6 +23,9 @@ import io.micrometer.core.instrument.binder.MeterBinder;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -60,6 +63,7 @@ public class TaggedCircuitBreakerMetrics extends AbstractMetrics implements Mete
 
     private final MetricNames names;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ConcurrentMap<String, CircuitBreaker.MetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
 
     private TaggedCircuitBreakerMetrics(MetricNames names, CircuitBreakerRegistry circuitBreakerRegistry) {
         super();
@@ -126,13 +130,39 @@ public class TaggedCircuitBreakerMetrics extends AbstractMetrics implements Mete
         idSet.add(ignoredFailedCalls.getId());
         idSet.add(notPermittedCalls.getId());
 
-        circuitBreaker.getEventPublisher()
-                .onIgnoredError(event -> ignoredFailedCalls.record(event.getElapsedDuration()))
-                .onCallNotPermitted(event -> notPermittedCalls.increment())
-                .onSuccess(event -> successfulCalls.record(event.getElapsedDuration()))
-                .onError(event -> failedCalls.record(event.getElapsedDuration()));
+        CircuitBreaker.MetricsRecorder metricsRecorder = new CircuitBreaker.MetricsRecorder() {
+            @Override
+            public void onSuccess(long durationInNanos) {
+                successfulCalls.record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void onError(long durationInNanos) {
+                failedCalls.record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void onIgnoredError(long durationInNanos) {
+                ignoredFailedCalls.record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void onCallNotPermitted() {
+                notPermittedCalls.increment();
+            }
+        };
+        circuitBreaker.addMetricsRecorder(metricsRecorder);
 
         meterIdMap.put(circuitBreaker.getName(), idSet);
+        metricsRecorders.put(circuitBreaker.getName(), metricsRecorder);
+    }
+
+    private void removeMetrics(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        removeMetrics(registry, circuitBreaker.getName());
+        CircuitBreaker.MetricsRecorder metricsRecorder = metricsRecorders.remove(circuitBreaker.getName());
+        if (metricsRecorder != null) {
+            circuitBreaker.removeMetricsRecorder(metricsRecorder);
+        }
     }
 
     @Override
@@ -141,9 +171,9 @@ public class TaggedCircuitBreakerMetrics extends AbstractMetrics implements Mete
             addMetrics(registry, circuitBreaker);
         }
         circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> addMetrics(registry, event.getAddedEntry()));
-        circuitBreakerRegistry.getEventPublisher().onEntryRemoved(event -> removeMetrics(registry, event.getRemovedEntry().getName()));
+        circuitBreakerRegistry.getEventPublisher().onEntryRemoved(event -> removeMetrics(registry, event.getRemovedEntry()));
         circuitBreakerRegistry.getEventPublisher().onEntryReplaced(event -> {
-            removeMetrics(registry, event.getOldEntry().getName());
+            removeMetrics(registry, event.getOldEntry());
             addMetrics(registry, event.getNewEntry());
         });
     }
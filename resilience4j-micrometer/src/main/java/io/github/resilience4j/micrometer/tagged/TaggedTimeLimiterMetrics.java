@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.micrometer.tagged;
+
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A micrometer binder that is used to register time limiter calls.
+ */
+public class TaggedTimeLimiterMetrics extends AbstractMetrics implements MeterBinder {
+
+    private static final String KIND_SUCCESSFUL = "successful";
+    private static final String KIND_FAILED = "failed";
+    private static final String KIND_TIMEOUT = "timeout";
+
+    /**
+     * Creates a new binder that uses given {@code registry} as source of time limiters.
+     *
+     * @param timeLimiterRegistry the source of time limiters
+     * @return The {@link TaggedTimeLimiterMetrics} instance.
+     */
+    public static TaggedTimeLimiterMetrics ofTimeLimiterRegistry(TimeLimiterRegistry timeLimiterRegistry) {
+        return new TaggedTimeLimiterMetrics(MetricNames.ofDefaults(), timeLimiterRegistry);
+    }
+
+    /**
+     * Creates a new binder that uses given {@code registry} as source of time limiters.
+     *
+     * @param names custom metric names
+     * @param timeLimiterRegistry the source of time limiters
+     * @return The {@link TaggedTimeLimiterMetrics} instance.
+     */
+    public static TaggedTimeLimiterMetrics ofTimeLimiterRegistry(MetricNames names, TimeLimiterRegistry timeLimiterRegistry) {
+        return new TaggedTimeLimiterMetrics(names, timeLimiterRegistry);
+    }
+
+    private final MetricNames names;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final ConcurrentMap<String, TimeLimiter.MetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
+
+    private TaggedTimeLimiterMetrics(MetricNames names, TimeLimiterRegistry timeLimiterRegistry) {
+        super();
+        this.names = requireNonNull(names);
+        this.timeLimiterRegistry = requireNonNull(timeLimiterRegistry);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TimeLimiter timeLimiter : timeLimiterRegistry.getAllTimeLimiters()) {
+            addMetrics(registry, timeLimiter);
+        }
+        timeLimiterRegistry.getEventPublisher().onEntryAdded(event -> addMetrics(registry, event.getAddedEntry()));
+        timeLimiterRegistry.getEventPublisher().onEntryRemoved(event -> removeMetrics(registry, event.getRemovedEntry()));
+        timeLimiterRegistry.getEventPublisher().onEntryReplaced(event -> {
+            removeMetrics(registry, event.getOldEntry());
+            addMetrics(registry, event.getNewEntry());
+        });
+    }
+
+    private void addMetrics(MeterRegistry registry, TimeLimiter timeLimiter) {
+        Set<Meter.Id> idSet = new HashSet<>();
+
+        Timer successfulCalls = Timer.builder(names.getCallsMetricName())
+                .description("Total number of calls which completed in time")
+                .tag(TagNames.NAME, timeLimiter.getName())
+                .tag(TagNames.KIND, KIND_SUCCESSFUL)
+                .register(registry);
+
+        Timer failedCalls = Timer.builder(names.getCallsMetricName())
+                .description("Total number of calls which completed in time with an error")
+                .tag(TagNames.NAME, timeLimiter.getName())
+                .tag(TagNames.KIND, KIND_FAILED)
+                .register(registry);
+
+        Timer timedOutCalls = Timer.builder(names.getCallsMetricName())
+                .description("Total number of calls which did not complete in time")
+                .tag(TagNames.NAME, timeLimiter.getName())
+                .tag(TagNames.KIND, KIND_TIMEOUT)
+                .register(registry);
+
+        idSet.add(successfulCalls.getId());
+        idSet.add(failedCalls.getId());
+        idSet.add(timedOutCalls.getId());
+
+        TimeLimiter.MetricsRecorder metricsRecorder = new TimeLimiter.MetricsRecorder() {
+            @Override
+            public void onSuccess(long durationInNanos) {
+                successfulCalls.record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void onError(long durationInNanos) {
+                failedCalls.record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void onTimeout(long durationInNanos) {
+                timedOutCalls.record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+        };
+        timeLimiter.addMetricsRecorder(metricsRecorder);
+
+        meterIdMap.put(timeLimiter.getName(), idSet);
+        metricsRecorders.put(timeLimiter.getName(), metricsRecorder);
+    }
+
+    private void removeMetrics(MeterRegistry registry, TimeLimiter timeLimiter) {
+        removeMetrics(registry, timeLimiter.getName());
+        TimeLimiter.MetricsRecorder metricsRecorder = metricsRecorders.remove(timeLimiter.getName());
+        if (metricsRecorder != null) {
+            timeLimiter.removeMetricsRecorder(metricsRecorder);
+        }
+    }
+
+    /** Defines possible configuration for metric names. */
+    public static class MetricNames {
+
+        public static final String DEFAULT_TIME_LIMITER_CALLS = "resilience4j.timelimiter.calls";
+
+        /**
+         * Returns a builder for creating custom metric names.
+         * Note that names have default values, so only desired metrics can be renamed.
+         * @return The builder.
+         */
+        public static Builder custom() {
+            return new Builder();
+        }
+
+        /** Returns default metric names.
+         * @return The default {@link MetricNames} instance.
+         */
+        public static MetricNames ofDefaults() {
+            return new MetricNames();
+        }
+
+        private String callsMetricName = DEFAULT_TIME_LIMITER_CALLS;
+
+        private MetricNames() {}
+
+        /** Returns the metric name for time limiter calls, defaults to {@value DEFAULT_TIME_LIMITER_CALLS}.
+         * @return The metric name for time limiter calls.
+         */
+        public String getCallsMetricName() {
+            return callsMetricName;
+        }
+
+        /** Helps building custom instance of {@link MetricNames}. */
+        public static class Builder {
+            private final MetricNames metricNames = new MetricNames();
+
+            /** Overrides the default metric name {@value MetricNames#DEFAULT_TIME_LIMITER_CALLS} with a given one.
+             * @param callsMetricName The metric name for time limiter calls.
+             * @return The builder.
+             */
+            public Builder callsMetricName(String callsMetricName) {
+                metricNames.callsMetricName = requireNonNull(callsMetricName);
+                return this;
+            }
+
+            /** Builds {@link MetricNames} instance.
+             * @return The built {@link MetricNames} instance.
+             */
+            public MetricNames build() {
+                return metricNames;
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -33,6 +34,9 @@ import static io.github.resilience4j.micrometer.tagged.MetricsTestHelper.findCou
 import static io.github.resilience4j.micrometer.tagged.MetricsTestHelper.findGaugeByKindAndNameTags;
 import static io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics.MetricNames.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 
 public class TaggedCircuitBreakerMetricsTest {
 
@@ -195,4 +199,17 @@ public class TaggedCircuitBreakerMetricsTest {
         ));
     }
 
+    @Test
+    public void shouldRemoveMetricsRecorderOfRemovedCircuitBreaker() {
+        CircuitBreaker newCircuitBreaker = mock(CircuitBreaker.class,
+                delegatesTo(CircuitBreaker.ofDefaults(circuitBreaker.getName())));
+        circuitBreakerRegistry.replace(circuitBreaker.getName(), newCircuitBreaker);
+        ArgumentCaptor<CircuitBreaker.MetricsRecorder> metricsRecorder =
+                ArgumentCaptor.forClass(CircuitBreaker.MetricsRecorder.class);
+        then(newCircuitBreaker).should().addMetricsRecorder(metricsRecorder.capture());
+
+        circuitBreakerRegistry.remove(newCircuitBreaker.getName());
+
+        then(newCircuitBreaker).should().removeMetricsRecorder(metricsRecorder.getValue());
+    }
 }
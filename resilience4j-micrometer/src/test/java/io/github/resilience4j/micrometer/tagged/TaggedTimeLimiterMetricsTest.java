@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.micrometer.tagged;
+
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.resilience4j.micrometer.tagged.MetricsTestHelper.findTimerByKindAndNameTags;
+import static io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics.MetricNames.DEFAULT_TIME_LIMITER_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+public class TaggedTimeLimiterMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private TimeLimiter timeLimiter;
+    private TimeLimiterRegistry timeLimiterRegistry;
+    private TaggedTimeLimiterMetrics taggedTimeLimiterMetrics;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+
+        timeLimiter = timeLimiterRegistry.timeLimiter("backendA");
+
+        taggedTimeLimiterMetrics = TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiterRegistry);
+        taggedTimeLimiterMetrics.bindTo(meterRegistry);
+    }
+
+    @Test
+    public void shouldAddMetricsForANewlyCreatedTimeLimiter() {
+        TimeLimiter newTimeLimiter = timeLimiterRegistry.timeLimiter("backendB");
+
+        assertThat(taggedTimeLimiterMetrics.meterIdMap).containsKeys("backendA", "backendB");
+        assertThat(taggedTimeLimiterMetrics.meterIdMap.get("backendA")).hasSize(3);
+        assertThat(taggedTimeLimiterMetrics.meterIdMap.get("backendB")).hasSize(3);
+
+        List<Meter> meters = meterRegistry.getMeters();
+        assertThat(meters).hasSize(6);
+
+        Collection<Timer> timers = meterRegistry.get(DEFAULT_TIME_LIMITER_CALLS).timers();
+        assertThat(findTimerByKindAndNameTags(timers, "successful", newTimeLimiter.getName())).isPresent();
+    }
+
+    @Test
+    public void shouldRemovedMetricsForRemovedTimeLimiter() {
+        assertThat(meterRegistry.getMeters()).hasSize(3);
+
+        assertThat(taggedTimeLimiterMetrics.meterIdMap).containsKeys("backendA");
+        timeLimiterRegistry.remove("backendA");
+
+        assertThat(taggedTimeLimiterMetrics.meterIdMap).isEmpty();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    public void shouldReplaceMetrics() {
+        TimeLimiter newTimeLimiter = TimeLimiter.of(timeLimiter.getName(), TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(10)).build());
+
+        timeLimiterRegistry.replace(timeLimiter.getName(), newTimeLimiter);
+        newTimeLimiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+
+        Collection<Timer> timers = meterRegistry.get(DEFAULT_TIME_LIMITER_CALLS).timers();
+        Optional<Timer> successful = findTimerByKindAndNameTags(timers, "successful", newTimeLimiter.getName());
+        assertThat(successful).isPresent();
+        assertThat(successful.get().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void successfulCallsTimerReportsCorrespondingValue() {
+        timeLimiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+
+        Collection<Timer> timers = meterRegistry.get(DEFAULT_TIME_LIMITER_CALLS).timers();
+
+        Optional<Timer> successful = findTimerByKindAndNameTags(timers, "successful", timeLimiter.getName());
+        assertThat(successful).isPresent();
+        assertThat(successful.get().count()).isEqualTo(1);
+        assertThat(successful.get().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    }
+
+    @Test
+    public void failedCallsTimerReportsCorrespondingValue() {
+        timeLimiter.onError(TimeUnit.MILLISECONDS.toNanos(5), new RuntimeException("oops"));
+
+        Collection<Timer> timers = meterRegistry.get(DEFAULT_TIME_LIMITER_CALLS).timers();
+
+        Optional<Timer> failed = findTimerByKindAndNameTags(timers, "failed", timeLimiter.getName());
+        assertThat(failed).isPresent();
+        assertThat(failed.get().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void timedOutCallsTimerReportsCorrespondingValue() {
+        timeLimiter.onTimeout(TimeUnit.SECONDS.toNanos(1));
+
+        Collection<Timer> timers = meterRegistry.get(DEFAULT_TIME_LIMITER_CALLS).timers();
+
+        Optional<Timer> timeout = findTimerByKindAndNameTags(timers, "timeout", timeLimiter.getName());
+        assertThat(timeout).isPresent();
+        assertThat(timeout.get().count()).isEqualTo(1);
+        assertThat(timeout.get().totalTime(TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    public void metricsAreRegisteredWithCustomName() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+        timeLimiterRegistry.timeLimiter("backendA");
+        TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(
+                TaggedTimeLimiterMetrics.MetricNames.custom()
+                        .callsMetricName("custom_calls")
+                        .build(),
+                timeLimiterRegistry
+        ).bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("custom_calls").timers()).hasSize(3);
+    }
+
+    @Test
+    public void shouldRemoveMetricsRecorderOfRemovedTimeLimiter() {
+        TimeLimiter newTimeLimiter = mock(TimeLimiter.class,
+                delegatesTo(TimeLimiter.of(timeLimiter.getName(), TimeLimiterConfig.ofDefaults())));
+        timeLimiterRegistry.replace(timeLimiter.getName(), newTimeLimiter);
+        ArgumentCaptor<TimeLimiter.MetricsRecorder> metricsRecorder =
+                ArgumentCaptor.forClass(TimeLimiter.MetricsRecorder.class);
+        then(newTimeLimiter).should().addMetricsRecorder(metricsRecorder.capture());
+
+        timeLimiterRegistry.remove(newTimeLimiter.getName());
+
+        then(newTimeLimiter).should().removeMetricsRecorder(metricsRecorder.getValue());
+    }
+}
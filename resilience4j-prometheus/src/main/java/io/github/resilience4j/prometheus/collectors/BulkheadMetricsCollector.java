@@ -74,8 +74,9 @@ public class BulkheadMetricsCollector extends Collector {
 
         for (Bulkhead bulkhead: bulkheadRegistry.getAllBulkheads()) {
             List<String> labelValues = singletonList(bulkhead.getName());
-            availableCallsFamily.addMetric(labelValues, bulkhead.getMetrics().getAvailableConcurrentCalls());
-            maxAllowedCallsFamily.addMetric(labelValues, bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+            Bulkhead.Metrics metrics = bulkhead.getMetrics().snapshot();
+            availableCallsFamily.addMetric(labelValues, metrics.getAvailableConcurrentCalls());
+            maxAllowedCallsFamily.addMetric(labelValues, metrics.getMaxAllowedConcurrentCalls());
         }
 
         return asList(availableCallsFamily, maxAllowedCallsFamily);
@@ -26,6 +26,8 @@ import io.prometheus.client.Histogram;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -64,6 +66,7 @@ public class CircuitBreakerMetricsCollector extends Collector {
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final CollectorRegistry collectorRegistry = new CollectorRegistry(true);
     private final Histogram callsHistogram;
+    private final ConcurrentMap<String, CircuitBreaker.MetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
 
     private CircuitBreakerMetricsCollector(MetricNames names, CircuitBreakerRegistry circuitBreakerRegistry) {
         this.names = requireNonNull(names);
@@ -77,14 +80,57 @@ public class CircuitBreakerMetricsCollector extends Collector {
             addMetrics(circuitBreaker);
         }
         circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> addMetrics(event.getAddedEntry()));
+        circuitBreakerRegistry.getEventPublisher().onEntryRemoved(event -> removeMetrics(event.getRemovedEntry()));
+        circuitBreakerRegistry.getEventPublisher().onEntryReplaced(event -> {
+            removeMetrics(event.getOldEntry());
+            addMetrics(event.getNewEntry());
+        });
     }
 
     private void addMetrics(CircuitBreaker circuitBreaker) {
-        circuitBreaker.getEventPublisher()
-                .onCallNotPermitted(event -> callsHistogram.labels(circuitBreaker.getName(), KIND_NOT_PERMITTED).observe(0))
-                .onIgnoredError(event -> callsHistogram.labels(circuitBreaker.getName(), KIND_IGNORED).observe(event.getElapsedDuration().toNanos() / Collector.NANOSECONDS_PER_SECOND))
-                .onSuccess(event -> callsHistogram.labels(circuitBreaker.getName(), KIND_SUCCESSFUL).observe(event.getElapsedDuration().toNanos() / Collector.NANOSECONDS_PER_SECOND))
-                .onError(event -> callsHistogram.labels(circuitBreaker.getName(), KIND_FAILED).observe(event.getElapsedDuration().toNanos() / Collector.NANOSECONDS_PER_SECOND));
+        // the label children are resolved once, instead of looking them up for every call
+        Histogram.Child notPermittedCalls = callsHistogram.labels(circuitBreaker.getName(), KIND_NOT_PERMITTED);
+        Histogram.Child ignoredCalls = callsHistogram.labels(circuitBreaker.getName(), KIND_IGNORED);
+        Histogram.Child successfulCalls = callsHistogram.labels(circuitBreaker.getName(), KIND_SUCCESSFUL);
+        Histogram.Child failedCalls = callsHistogram.labels(circuitBreaker.getName(), KIND_FAILED);
+        CircuitBreaker.MetricsRecorder metricsRecorder = new CircuitBreaker.MetricsRecorder() {
+            @Override
+            public void onSuccess(long durationInNanos) {
+                successfulCalls.observe(durationInNanos / Collector.NANOSECONDS_PER_SECOND);
+            }
+
+            @Override
+            public void onError(long durationInNanos) {
+                failedCalls.observe(durationInNanos / Collector.NANOSECONDS_PER_SECOND);
+            }
+
+            @Override
+            public void onIgnoredError(long durationInNanos) {
+                ignoredCalls.observe(durationInNanos / Collector.NANOSECONDS_PER_SECOND);
+            }
+
+            @Override
+            public void onCallNotPermitted() {
+                notPermittedCalls.observe(0);
+            }
+        };
+        circuitBreaker.addMetricsRecorder(metricsRecorder);
+        metricsRecorders.put(circuitBreaker.getName(), metricsRecorder);
+    }
+
+    /**
+     * Removes the metrics recorder and the label children of a circuit breaker.
+     */
+    private void removeMetrics(CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        CircuitBreaker.MetricsRecorder metricsRecorder = metricsRecorders.remove(name);
+        if (metricsRecorder != null) {
+            circuitBreaker.removeMetricsRecorder(metricsRecorder);
+        }
+        callsHistogram.remove(name, KIND_NOT_PERMITTED);
+        callsHistogram.remove(name, KIND_IGNORED);
+        callsHistogram.remove(name, KIND_SUCCESSFUL);
+        callsHistogram.remove(name, KIND_FAILED);
     }
 
     @Override
@@ -118,14 +164,15 @@ public class CircuitBreakerMetricsCollector extends Collector {
         );
 
         for (CircuitBreaker circuitBreaker : this.circuitBreakerRegistry.getAllCircuitBreakers()) {
+            final CircuitBreaker.State currentState = circuitBreaker.getState();
             final CircuitBreaker.State[] states = CircuitBreaker.State.values();
             for (CircuitBreaker.State state : states) {
                 stateFamily.addMetric(asList(circuitBreaker.getName(), state.name().toLowerCase()),
-                        circuitBreaker.getState() == state ? 1 : 0);
+                        currentState == state ? 1 : 0);
             }
 
             List<String> nameLabel = Collections.singletonList(circuitBreaker.getName());
-            Metrics metrics = circuitBreaker.getMetrics();
+            Metrics metrics = circuitBreaker.getMetrics().snapshot();
             bufferedCallsFamily.addMetric(asList(circuitBreaker.getName(), KIND_SUCCESSFUL), metrics.getNumberOfSuccessfulCalls());
             bufferedCallsFamily.addMetric(asList(circuitBreaker.getName(), KIND_FAILED), metrics.getNumberOfFailedCalls());
             maxBufferedCallsFamily.addMetric(nameLabel, metrics.getMaxNumberOfBufferedCalls());
@@ -73,8 +73,9 @@ public class RateLimiterMetricsCollector extends Collector  {
 
         for (RateLimiter rateLimiter : rateLimiterRegistry.getAllRateLimiters()) {
             List<String> nameLabel = singletonList(rateLimiter.getName());
-            availablePermissionsFamily.addMetric(nameLabel, rateLimiter.getMetrics().getAvailablePermissions());
-            waitingThreadsFamily.addMetric(nameLabel, rateLimiter.getMetrics().getNumberOfWaitingThreads());
+            RateLimiter.Metrics metrics = rateLimiter.getMetrics().snapshot();
+            availablePermissionsFamily.addMetric(nameLabel, metrics.getAvailablePermissions());
+            waitingThreadsFamily.addMetric(nameLabel, metrics.getNumberOfWaitingThreads());
         }
 
         return asList(availablePermissionsFamily, waitingThreadsFamily);
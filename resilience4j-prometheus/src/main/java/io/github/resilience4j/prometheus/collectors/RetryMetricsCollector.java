@@ -68,10 +68,11 @@ public class RetryMetricsCollector extends Collector {
         );
 
         for (Retry retry: retryRegistry.getAllRetries()) {
-            retryCallsFamily.addMetric(asList(retry.getName(), "successful_without_retry"), retry.getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt());
-            retryCallsFamily.addMetric(asList(retry.getName(), "successful_with_retry"), retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt());
-            retryCallsFamily.addMetric(asList(retry.getName(), "failed_without_retry"), retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt());
-            retryCallsFamily.addMetric(asList(retry.getName(), "failed_with_retry"), retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt());
+            Retry.Metrics metrics = retry.getMetrics().snapshot();
+            retryCallsFamily.addMetric(asList(retry.getName(), "successful_without_retry"), metrics.getNumberOfSuccessfulCallsWithoutRetryAttempt());
+            retryCallsFamily.addMetric(asList(retry.getName(), "successful_with_retry"), metrics.getNumberOfSuccessfulCallsWithRetryAttempt());
+            retryCallsFamily.addMetric(asList(retry.getName(), "failed_without_retry"), metrics.getNumberOfFailedCallsWithoutRetryAttempt());
+            retryCallsFamily.addMetric(asList(retry.getName(), "failed_with_retry"), metrics.getNumberOfFailedCallsWithRetryAttempt());
 
         }
 
@@ -74,8 +74,9 @@ public class ThreadPoolBulkheadMetricsCollector extends Collector {
 
         for (ThreadPoolBulkhead bulkhead: bulkheadRegistry.getAllBulkheads()) {
             List<String> labelValues = singletonList(bulkhead.getName());
-            availableCallsFamily.addMetric(labelValues, bulkhead.getMetrics().getThreadPoolSize());
-            maxAllowedCallsFamily.addMetric(labelValues, bulkhead.getMetrics().getRemainingQueueCapacity());
+            ThreadPoolBulkhead.Metrics metrics = bulkhead.getMetrics().snapshot();
+            availableCallsFamily.addMetric(labelValues, metrics.getThreadPoolSize());
+            maxAllowedCallsFamily.addMetric(labelValues, metrics.getRemainingQueueCapacity());
         }
 
         return asList(availableCallsFamily, maxAllowedCallsFamily);
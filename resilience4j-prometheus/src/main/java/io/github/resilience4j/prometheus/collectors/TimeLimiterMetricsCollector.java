@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.prometheus.collectors;
+
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Histogram;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/** Collects the calls of time limiters as a call duration histogram. */
+public class TimeLimiterMetricsCollector extends Collector {
+
+    private static final String KIND_SUCCESSFUL = "successful";
+    private static final String KIND_FAILED = "failed";
+    private static final String KIND_TIMEOUT = "timeout";
+
+    /**
+     * Creates a new collector with custom metric names and
+     * using given {@code supplier} as source of time limiters.
+     *
+     * @param names    the custom metric names
+     * @param timeLimiterRegistry the source of time limiters
+     */
+    public static TimeLimiterMetricsCollector ofTimeLimiterRegistry(MetricNames names, TimeLimiterRegistry timeLimiterRegistry) {
+        return new TimeLimiterMetricsCollector(names, timeLimiterRegistry);
+    }
+
+    /**
+     * Creates a new collector using given {@code registry} as source of time limiters.
+     *
+     * @param timeLimiterRegistry the source of time limiters
+     */
+    public static TimeLimiterMetricsCollector ofTimeLimiterRegistry(TimeLimiterRegistry timeLimiterRegistry) {
+        return new TimeLimiterMetricsCollector(MetricNames.ofDefaults(), timeLimiterRegistry);
+    }
+
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final CollectorRegistry collectorRegistry = new CollectorRegistry(true);
+    private final Histogram callsHistogram;
+    private final ConcurrentMap<String, TimeLimiter.MetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
+
+    private TimeLimiterMetricsCollector(MetricNames names, TimeLimiterRegistry timeLimiterRegistry) {
+        requireNonNull(names);
+        this.timeLimiterRegistry = requireNonNull(timeLimiterRegistry);
+
+        callsHistogram = Histogram.build(names.getCallsMetricName(), "Total number of calls by kind")
+                .labelNames("name", "kind")
+                .create().register(collectorRegistry);
+
+        for (TimeLimiter timeLimiter : this.timeLimiterRegistry.getAllTimeLimiters()) {
+            addMetrics(timeLimiter);
+        }
+        timeLimiterRegistry.getEventPublisher().onEntryAdded(event -> addMetrics(event.getAddedEntry()));
+        timeLimiterRegistry.getEventPublisher().onEntryRemoved(event -> removeMetrics(event.getRemovedEntry()));
+        timeLimiterRegistry.getEventPublisher().onEntryReplaced(event -> {
+            removeMetrics(event.getOldEntry());
+            addMetrics(event.getNewEntry());
+        });
+    }
+
+    private void addMetrics(TimeLimiter timeLimiter) {
+        // the label children are resolved once, instead of looking them up for every call
+        Histogram.Child successfulCalls = callsHistogram.labels(timeLimiter.getName(), KIND_SUCCESSFUL);
+        Histogram.Child failedCalls = callsHistogram.labels(timeLimiter.getName(), KIND_FAILED);
+        Histogram.Child timedOutCalls = callsHistogram.labels(timeLimiter.getName(), KIND_TIMEOUT);
+        TimeLimiter.MetricsRecorder metricsRecorder = new TimeLimiter.MetricsRecorder() {
+            @Override
+            public void onSuccess(long durationInNanos) {
+                successfulCalls.observe(durationInNanos / Collector.NANOSECONDS_PER_SECOND);
+            }
+
+            @Override
+            public void onError(long durationInNanos) {
+                failedCalls.observe(durationInNanos / Collector.NANOSECONDS_PER_SECOND);
+            }
+
+            @Override
+            public void onTimeout(long durationInNanos) {
+                timedOutCalls.observe(durationInNanos / Collector.NANOSECONDS_PER_SECOND);
+            }
+        };
+        timeLimiter.addMetricsRecorder(metricsRecorder);
+        metricsRecorders.put(timeLimiter.getName(), metricsRecorder);
+    }
+
+    /**
+     * Removes the metrics recorder and the label children of a time limiter.
+     */
+    private void removeMetrics(TimeLimiter timeLimiter) {
+        String name = timeLimiter.getName();
+        TimeLimiter.MetricsRecorder metricsRecorder = metricsRecorders.remove(name);
+        if (metricsRecorder != null) {
+            timeLimiter.removeMetricsRecorder(metricsRecorder);
+        }
+        callsHistogram.remove(name, KIND_SUCCESSFUL);
+        callsHistogram.remove(name, KIND_FAILED);
+        callsHistogram.remove(name, KIND_TIMEOUT);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        return Collections.list(collectorRegistry.metricFamilySamples());
+    }
+
+    /** Defines possible configuration for metric names. */
+    public static class MetricNames {
+
+        public static final String DEFAULT_TIME_LIMITER_CALLS = "resilience4j_timelimiter_calls";
+
+        /**
+         * Returns a builder for creating custom metric names.
+         * Note that names have default values, so only desired metrics can be renamed.
+         */
+        public static Builder custom() {
+            return new Builder();
+        }
+
+        /** Returns default metric names. */
+        public static MetricNames ofDefaults() {
+            return new MetricNames();
+        }
+
+        private String callsMetricName = DEFAULT_TIME_LIMITER_CALLS;
+
+        private MetricNames() {}
+
+        /** Returns the metric name for time limiter calls, defaults to {@value DEFAULT_TIME_LIMITER_CALLS}. */
+        public String getCallsMetricName() {
+            return callsMetricName;
+        }
+
+        /** Helps building custom instance of {@link MetricNames}. */
+        public static class Builder {
+            private final MetricNames metricNames = new MetricNames();
+
+            /** Overrides the default metric name {@value MetricNames#DEFAULT_TIME_LIMITER_CALLS} with a given one. */
+            public Builder callsMetricName(String callsMetricName) {
+                metricNames.callsMetricName = requireNonNull(callsMetricName);
+                return this;
+            }
+
+            /** Builds {@link MetricNames} instance. */
+            public MetricNames build() {
+                return metricNames;
+            }
+        }
+    }
+}
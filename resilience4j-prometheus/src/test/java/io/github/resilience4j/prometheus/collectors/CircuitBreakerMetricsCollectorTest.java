@@ -20,9 +20,13 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.prometheus.client.CollectorRegistry;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import static io.github.resilience4j.prometheus.collectors.CircuitBreakerMetricsCollector.MetricNames.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 
 public class CircuitBreakerMetricsCollectorTest {
 
@@ -74,6 +78,36 @@ public class CircuitBreakerMetricsCollectorTest {
         )).isNull();
     }
 
+    @Test
+    public void shouldRemoveCallsOfRemovedCircuitBreaker() {
+        circuitBreakerRegistry.remove(circuitBreaker.getName());
+        circuitBreaker.onSuccess(0);
+
+        assertThat(registry.getSampleValue(
+                DEFAULT_CIRCUIT_BREAKER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{circuitBreaker.getName(), "successful"}
+        )).isNull();
+    }
+
+    @Test
+    public void shouldReportCallsOfReplacedCircuitBreaker() {
+        CircuitBreaker newCircuitBreaker = CircuitBreaker.ofDefaults(circuitBreaker.getName());
+        circuitBreakerRegistry.replace(circuitBreaker.getName(), newCircuitBreaker);
+
+        circuitBreaker.onSuccess(0);
+        newCircuitBreaker.onSuccess(0);
+        newCircuitBreaker.onSuccess(0);
+
+        double successfulCalls = registry.getSampleValue(
+                DEFAULT_CIRCUIT_BREAKER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{newCircuitBreaker.getName(), "successful"}
+        );
+
+        assertThat(successfulCalls).isEqualTo(2);
+    }
+
     @Test
     public void shouldReportNewlyAddedCircuitBreaker() {
         String name = "newBackend";
@@ -207,4 +241,18 @@ public class CircuitBreakerMetricsCollectorTest {
             new String[]{"backendA"}
         )).isNotNull();
     }
+
+    @Test
+    public void shouldRemoveMetricsRecorderOfRemovedCircuitBreaker() {
+        CircuitBreaker newCircuitBreaker = mock(CircuitBreaker.class,
+                delegatesTo(CircuitBreaker.ofDefaults(circuitBreaker.getName())));
+        circuitBreakerRegistry.replace(circuitBreaker.getName(), newCircuitBreaker);
+        ArgumentCaptor<CircuitBreaker.MetricsRecorder> metricsRecorder =
+                ArgumentCaptor.forClass(CircuitBreaker.MetricsRecorder.class);
+        then(newCircuitBreaker).should().addMetricsRecorder(metricsRecorder.capture());
+
+        circuitBreakerRegistry.remove(newCircuitBreaker.getName());
+
+        then(newCircuitBreaker).should().removeMetricsRecorder(metricsRecorder.getValue());
+    }
 }
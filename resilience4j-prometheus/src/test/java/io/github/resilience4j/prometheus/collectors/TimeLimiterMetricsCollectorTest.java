@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.prometheus.collectors;
+
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.github.resilience4j.prometheus.collectors.TimeLimiterMetricsCollector.MetricNames.DEFAULT_TIME_LIMITER_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+public class TimeLimiterMetricsCollectorTest {
+
+    CollectorRegistry registry;
+    TimeLimiter timeLimiter;
+    TimeLimiterRegistry timeLimiterRegistry;
+
+    @Before
+    public void setup() {
+        registry = new CollectorRegistry();
+        timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+        timeLimiter = timeLimiterRegistry.timeLimiter("backendA");
+
+        TimeLimiterMetricsCollector.ofTimeLimiterRegistry(timeLimiterRegistry).register(registry);
+
+        // record some basic stats
+        timeLimiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(50));
+        timeLimiter.onError(TimeUnit.MILLISECONDS.toNanos(50), new RuntimeException("oops"));
+        timeLimiter.onTimeout(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void successfulCallsBucketReportsCorrespondingValue() {
+        double successfulCalls = registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_bucket",
+                new String[]{"name", "kind", "le"},
+                new String[]{timeLimiter.getName(), "successful", "0.1"}
+        );
+
+        assertThat(successfulCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void failedCallsBucketReportsCorrespondingValue() {
+        double failedCalls = registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_bucket",
+                new String[]{"name", "kind", "le"},
+                new String[]{timeLimiter.getName(), "failed", "0.1"}
+        );
+
+        assertThat(failedCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void timedOutCallsReportCorrespondingValue() {
+        double timedOutCalls = registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{timeLimiter.getName(), "timeout"}
+        );
+        double timedOutCallsUnderOneSecond = registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_bucket",
+                new String[]{"name", "kind", "le"},
+                new String[]{timeLimiter.getName(), "timeout", "0.75"}
+        );
+
+        assertThat(timedOutCalls).isEqualTo(1);
+        assertThat(timedOutCallsUnderOneSecond).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldReportNewlyAddedTimeLimiter() {
+        TimeLimiter newTimeLimiter = timeLimiterRegistry.timeLimiter("newBackend");
+        newTimeLimiter.onSuccess(0);
+
+        double successfulCalls = registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{newTimeLimiter.getName(), "successful"}
+        );
+
+        assertThat(successfulCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRemoveCallsOfRemovedTimeLimiter() {
+        timeLimiterRegistry.remove(timeLimiter.getName());
+
+        assertThat(registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{timeLimiter.getName(), "successful"}
+        )).isNull();
+
+        timeLimiter.onSuccess(0);
+
+        assertThat(registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{timeLimiter.getName(), "successful"}
+        )).isNull();
+    }
+
+    @Test
+    public void shouldReportCallsOfReplacedTimeLimiter() {
+        TimeLimiter newTimeLimiter = TimeLimiter.of(timeLimiter.getName(), TimeLimiterConfig.ofDefaults());
+        timeLimiterRegistry.replace(timeLimiter.getName(), newTimeLimiter);
+
+        timeLimiter.onSuccess(0);
+        newTimeLimiter.onSuccess(0);
+        newTimeLimiter.onSuccess(0);
+
+        double successfulCalls = registry.getSampleValue(
+                DEFAULT_TIME_LIMITER_CALLS + "_count",
+                new String[]{"name", "kind"},
+                new String[]{newTimeLimiter.getName(), "successful"}
+        );
+
+        assertThat(successfulCalls).isEqualTo(2);
+    }
+
+    @Test
+    public void customMetricNamesOverrideDefaultOnes() {
+        CollectorRegistry registry = new CollectorRegistry();
+
+        TimeLimiterMetricsCollector.ofTimeLimiterRegistry(
+                TimeLimiterMetricsCollector.MetricNames.custom()
+                        .callsMetricName("custom_calls")
+                        .build(),
+                timeLimiterRegistry).register(registry);
+        timeLimiter.onSuccess(0);
+
+        assertThat(registry.getSampleValue(
+                "custom_calls_count",
+                new String[]{"name", "kind"},
+                new String[]{"backendA", "successful"}
+        )).isNotNull();
+    }
+
+    @Test
+    public void shouldRemoveMetricsRecorderOfRemovedTimeLimiter() {
+        TimeLimiter newTimeLimiter = mock(TimeLimiter.class,
+                delegatesTo(TimeLimiter.of(timeLimiter.getName(), TimeLimiterConfig.ofDefaults())));
+        timeLimiterRegistry.replace(timeLimiter.getName(), newTimeLimiter);
+        ArgumentCaptor<TimeLimiter.MetricsRecorder> metricsRecorder =
+                ArgumentCaptor.forClass(TimeLimiter.MetricsRecorder.class);
+        then(newTimeLimiter).should().addMetricsRecorder(metricsRecorder.capture());
+
+        timeLimiterRegistry.remove(newTimeLimiter.getName());
+
+        then(newTimeLimiter).should().removeMetricsRecorder(metricsRecorder.getValue());
+    }
+}
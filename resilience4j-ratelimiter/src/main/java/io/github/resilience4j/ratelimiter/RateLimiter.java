@@ -23,6 +23,7 @@ import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
 import io.github.resilience4j.ratelimiter.event.RateLimiterOnFailureEvent;
 import io.github.resilience4j.ratelimiter.event.RateLimiterOnSuccessEvent;
 import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter;
+import io.github.resilience4j.ratelimiter.internal.RateLimiterMetricsSnapshot;
 import io.vavr.CheckedFunction0;
 import io.vavr.CheckedFunction1;
 import io.vavr.CheckedRunnable;
@@ -298,16 +299,23 @@ public interface RateLimiter {
 	 * @since 0.16.0
 	 */
 	@Deprecated
-	long reservePermission(Duration timeoutDuration);
+	default long reservePermission(Duration timeoutDuration) {
+		return acquirePermission(timeoutDuration) ? 0 : -1;
+	}
 
 	/**
 	 * Reserves a permission from this rate limiter and returns nanoseconds you should wait for it.
 	 * If returned long is negative, it means that you failed to reserve permission,
 	 * possibly your  {@link RateLimiterConfig#getTimeoutDuration()} is less then time to wait for permission.
+	 * <p>
+	 * Rate limiters which cannot reserve a permission of a later refresh period, like the default implementation,
+	 * wait for the permission like {@link #acquirePermission()} and return 0 once they acquired it.
 	 *
 	 * @return {@code long} amount of nanoseconds you should wait for reserved permission. if negative, it means you failed to reserve.
 	 */
-	long reservePermission();
+	default long reservePermission() {
+		return reservePermission(getRateLimiterConfig().getTimeoutDuration());
+	}
 
 	/**
 	 * Get the name of this RateLimiter
@@ -400,6 +408,17 @@ public interface RateLimiter {
 		 * @return estimated count of permissions
 		 */
 		int getAvailablePermissions();
+
+		/**
+		 * Returns an immutable snapshot of the metrics, whose values are read at once.
+		 * <p>
+		 * The default implementation copies the values of the getters one after another.
+		 *
+		 * @return an immutable snapshot of the metrics
+		 */
+		default Metrics snapshot() {
+			return RateLimiterMetricsSnapshot.of(this);
+		}
 	}
 
 	/**
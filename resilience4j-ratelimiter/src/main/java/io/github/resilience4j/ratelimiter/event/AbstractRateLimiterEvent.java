@@ -18,16 +18,18 @@
  */
 package io.github.resilience4j.ratelimiter.event;
 
+import io.github.resilience4j.core.EventClock;
+
 import java.time.ZonedDateTime;
 
 public abstract class AbstractRateLimiterEvent implements RateLimiterEvent {
 
     private final String rateLimiterName;
-    private final ZonedDateTime creationTime;
+    private final long creationTimeInMillis;
 
     public AbstractRateLimiterEvent(String rateLimiterName) {
         this.rateLimiterName = rateLimiterName;
-        creationTime = ZonedDateTime.now();
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
     }
 
     @Override
@@ -37,7 +39,12 @@ public abstract class AbstractRateLimiterEvent implements RateLimiterEvent {
 
     @Override
     public ZonedDateTime getCreationTime() {
-        return creationTime;
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
     }
 
     @Override
@@ -30,6 +30,10 @@ public interface RateLimiterEvent {
 
     ZonedDateTime getCreationTime();
 
+    default long getCreationTimeInMillis() {
+        return getCreationTime().toInstant().toEpochMilli();
+    }
+
     enum Type {
         FAILED_ACQUIRE,
         SUCCESSFUL_ACQUIRE
@@ -18,9 +18,28 @@
  */
 package io.github.resilience4j.ratelimiter.event;
 
+import java.time.Duration;
+
 public class RateLimiterOnSuccessEvent extends AbstractRateLimiterEvent {
+
+    private final Duration waitDuration;
+
     public RateLimiterOnSuccessEvent(String rateLimiterName) {
+        this(rateLimiterName, Duration.ZERO);
+    }
+
+    public RateLimiterOnSuccessEvent(String rateLimiterName, Duration waitDuration) {
         super(rateLimiterName);
+        this.waitDuration = waitDuration;
+    }
+
+    /**
+     * Returns how long the caller has to wait, or has waited, for the acquired permission.
+     *
+     * @return the wait duration, zero if the permission was available immediately
+     */
+    public Duration getWaitDuration() {
+        return waitDuration;
     }
 
     @Override
@@ -18,6 +18,8 @@
  */
 package io.github.resilience4j.ratelimiter.internal;
 
+import io.github.resilience4j.core.Deadline;
+import io.github.resilience4j.core.lang.Nullable;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.event.RateLimiterOnFailureEvent;
@@ -50,6 +52,8 @@ public class AtomicRateLimiter implements RateLimiter {
     private final AtomicInteger waitingThreads;
     private final AtomicReference<State> state;
     private final RateLimiterEventProcessor eventProcessor;
+    @Nullable
+    private AtomicRateLimiterMetrics metrics;
 
     public AtomicRateLimiter(String name, RateLimiterConfig rateLimiterConfig) {
         this.name = name;
@@ -104,10 +108,10 @@ public class AtomicRateLimiter implements RateLimiter {
 
     @Override
     public boolean acquirePermission(Duration timeoutDuration) {
-        long timeoutInNanos = timeoutDuration.toNanos();
+        long timeoutInNanos = Deadline.boundedWaitNanos(timeoutDuration.toNanos());
         State modifiedState = updateStateWithBackOff(timeoutInNanos);
         boolean result = waitForPermissionIfNecessary(timeoutInNanos, modifiedState.nanosToWait);
-        publishRateLimiterEvent(result);
+        publishRateLimiterEvent(result, Math.max(modifiedState.nanosToWait, 0));
         return result;
     }
 
@@ -121,22 +125,22 @@ public class AtomicRateLimiter implements RateLimiter {
      */
     @Override
     public long reservePermission(Duration timeoutDuration) {
-        long timeoutInNanos = timeoutDuration.toNanos();
+        long timeoutInNanos = Deadline.boundedWaitNanos(timeoutDuration.toNanos());
         State modifiedState = updateStateWithBackOff(timeoutInNanos);
 
         boolean canAcquireImmediately = modifiedState.nanosToWait <= 0;
         if (canAcquireImmediately) {
-            publishRateLimiterEvent(true);
+            publishRateLimiterEvent(true, 0);
             return 0;
         }
 
         boolean canAcquireInTime = timeoutInNanos >= modifiedState.nanosToWait;
         if (canAcquireInTime) {
-            publishRateLimiterEvent(true);
+            publishRateLimiterEvent(true, modifiedState.nanosToWait);
             return modifiedState.nanosToWait;
         }
 
-        publishRateLimiterEvent(false);
+        publishRateLimiterEvent(false, 0);
         return -1;
     }
 
@@ -207,21 +211,33 @@ public class AtomicRateLimiter implements RateLimiter {
         long currentNanos = currentNanoTime();
         long currentCycle = currentNanos / cyclePeriodInNanos;
 
-        long nextCycle = activeState.activeCycle;
-        int nextPermissions = activeState.activePermissions;
-        if (nextCycle != currentCycle) {
-            long elapsedCycles = currentCycle - nextCycle;
-            long accumulatedPermissions = elapsedCycles * permissionsPerCycle;
-            nextCycle = currentCycle;
-            nextPermissions = (int) min(nextPermissions + accumulatedPermissions, permissionsPerCycle);
-        }
+        int nextPermissions = permissionsInCycle(activeState, currentCycle);
         long nextNanosToWait = nanosToWaitForPermission(
                 cyclePeriodInNanos, permissionsPerCycle, nextPermissions, currentNanos, currentCycle
         );
-        State nextState = reservePermissions(activeState.config, timeoutInNanos, nextCycle, nextPermissions, nextNanosToWait);
+        State nextState = reservePermissions(activeState.config, timeoutInNanos, currentCycle, nextPermissions, nextNanosToWait);
         return nextState;
     }
 
+    /**
+     * Calculates the permissions which are available in the given cycle, adding up the permissions
+     * which have been accumulated since the cycle of the given {@link State}.
+     *
+     * @param activeState  current state of {@link AtomicRateLimiter}
+     * @param currentCycle current {@link AtomicRateLimiter} cycle
+     * @return available permissions, can be negative if some permissions have been reserved
+     */
+    private static int permissionsInCycle(final State activeState, final long currentCycle) {
+        int permissions = activeState.activePermissions;
+        if (activeState.activeCycle != currentCycle) {
+            int permissionsPerCycle = activeState.config.getLimitForPeriod();
+            long elapsedCycles = currentCycle - activeState.activeCycle;
+            long accumulatedPermissions = elapsedCycles * permissionsPerCycle;
+            permissions = (int) min(permissions + accumulatedPermissions, permissionsPerCycle);
+        }
+        return permissions;
+    }
+
     /**
      * Calculates time to wait for next permission as
      * [time to the next cycle] + [duration of full cycles until reserved permissions expire]
@@ -331,7 +347,7 @@ public class AtomicRateLimiter implements RateLimiter {
      */
     @Override
     public Metrics getMetrics() {
-        return new AtomicRateLimiterMetrics();
+        return getDetailedMetrics();
     }
 
     @Override
@@ -353,18 +369,28 @@ public class AtomicRateLimiter implements RateLimiter {
      * @return the detailed metrics
      */
     public AtomicRateLimiterMetrics getDetailedMetrics() {
-        return new AtomicRateLimiterMetrics();
+        // the metrics view is stateless, so a racy lazy initialization at worst creates it more than once
+        AtomicRateLimiterMetrics currentMetrics = metrics;
+        if (currentMetrics == null) {
+            currentMetrics = new AtomicRateLimiterMetrics();
+            metrics = currentMetrics;
+        }
+        return currentMetrics;
     }
 
-    private void publishRateLimiterEvent(boolean permissionAcquired) {
+    private void publishRateLimiterEvent(boolean permissionAcquired, long waitDurationInNanos) {
         if (!eventProcessor.hasConsumers()) {
             return;
         }
         if (permissionAcquired) {
-            eventProcessor.consumeEvent(new RateLimiterOnSuccessEvent(name));
+            if (eventProcessor.hasConsumers(RateLimiterOnSuccessEvent.class)) {
+                eventProcessor.consumeEvent(new RateLimiterOnSuccessEvent(name, Duration.ofNanos(waitDurationInNanos)));
+            }
             return;
         }
-        eventProcessor.consumeEvent(new RateLimiterOnFailureEvent(name));
+        if (eventProcessor.hasConsumers(RateLimiterOnFailureEvent.class)) {
+            eventProcessor.consumeEvent(new RateLimiterOnFailureEvent(name));
+        }
     }
 
     /**
@@ -420,27 +446,101 @@ public class AtomicRateLimiter implements RateLimiter {
         @Override
         public int getAvailablePermissions() {
             State currentState = state.get();
-            State estimatedState = calculateNextState(-1, currentState);
-            return estimatedState.activePermissions;
+            long currentCycle = currentNanoTime() / currentState.config.getLimitRefreshPeriodInNanos();
+            return permissionsInCycle(currentState, currentCycle);
         }
 
         /**
          * @return estimated time duration in nanos to wait for the next permission
          */
         public long getNanosToWait() {
-            State currentState = state.get();
-            State estimatedState = calculateNextState(-1, currentState);
-            return estimatedState.nanosToWait;
+            return snapshot().getNanosToWait();
         }
 
         /**
          * @return estimated current cycle
          */
         public long getCycle() {
+            return currentNanoTime() / state.get().config.getLimitRefreshPeriodInNanos();
+        }
+
+        /**
+         * Returns an immutable snapshot of the metrics. All estimations are calculated from a single
+         * read of the {@link State} of the {@link AtomicRateLimiter} and a single read of the current time.
+         *
+         * @return an immutable snapshot of the metrics
+         */
+        @Override
+        public AtomicRateLimiterMetricsSnapshot snapshot() {
             State currentState = state.get();
-            State estimatedState = calculateNextState(-1, currentState);
-            return estimatedState.activeCycle;
+            long cyclePeriodInNanos = currentState.config.getLimitRefreshPeriodInNanos();
+            int permissionsPerCycle = currentState.config.getLimitForPeriod();
+
+            long currentNanos = currentNanoTime();
+            long currentCycle = currentNanos / cyclePeriodInNanos;
+
+            int availablePermissions = permissionsInCycle(currentState, currentCycle);
+            long nanosToWait = nanosToWaitForPermission(
+                    cyclePeriodInNanos, permissionsPerCycle, availablePermissions, currentNanos, currentCycle
+            );
+            return new AtomicRateLimiterMetricsSnapshot(waitingThreads.get(), availablePermissions, nanosToWait, currentCycle);
+        }
+
+    }
+
+    /**
+     * Immutable snapshot of the {@link AtomicRateLimiterMetrics}
+     */
+    public static class AtomicRateLimiterMetricsSnapshot implements Metrics {
+
+        private final int numberOfWaitingThreads;
+        private final int availablePermissions;
+        private final long nanosToWait;
+        private final long cycle;
+
+        AtomicRateLimiterMetricsSnapshot(int numberOfWaitingThreads, int availablePermissions, long nanosToWait, long cycle) {
+            this.numberOfWaitingThreads = numberOfWaitingThreads;
+            this.availablePermissions = availablePermissions;
+            this.nanosToWait = nanosToWait;
+            this.cycle = cycle;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getNumberOfWaitingThreads() {
+            return numberOfWaitingThreads;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getAvailablePermissions() {
+            return availablePermissions;
+        }
+
+        /**
+         * @return estimated time duration in nanos to wait for the next permission
+         */
+        public long getNanosToWait() {
+            return nanosToWait;
         }
 
+        /**
+         * @return estimated current cycle
+         */
+        public long getCycle() {
+            return cycle;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public AtomicRateLimiterMetricsSnapshot snapshot() {
+            return this;
+        }
     }
 }
@@ -0,0 +1,61 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.ratelimiter.internal;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+
+/**
+ * An immutable snapshot of the {@link RateLimiter.Metrics} of a RateLimiter.
+ */
+public final class RateLimiterMetricsSnapshot implements RateLimiter.Metrics {
+
+    private final int numberOfWaitingThreads;
+    private final int availablePermissions;
+
+    RateLimiterMetricsSnapshot(int numberOfWaitingThreads, int availablePermissions) {
+        this.numberOfWaitingThreads = numberOfWaitingThreads;
+        this.availablePermissions = availablePermissions;
+    }
+
+    /**
+     * Copies the values of the given metrics. They are read one after another, so they are only consistent with
+     * each other if the metrics do not change meanwhile.
+     *
+     * @param metrics the metrics to copy
+     * @return an immutable copy of the metrics
+     */
+    public static RateLimiter.Metrics of(RateLimiter.Metrics metrics) {
+        return new RateLimiterMetricsSnapshot(metrics.getNumberOfWaitingThreads(), metrics.getAvailablePermissions());
+    }
+
+    @Override
+    public int getNumberOfWaitingThreads() {
+        return numberOfWaitingThreads;
+    }
+
+    @Override
+    public int getAvailablePermissions() {
+        return availablePermissions;
+    }
+
+    @Override
+    public RateLimiter.Metrics snapshot() {
+        return this;
+    }
+}
@@ -18,6 +18,7 @@
  */
 package io.github.resilience4j.ratelimiter.internal;
 
+import io.github.resilience4j.core.Deadline;
 import io.github.resilience4j.core.lang.Nullable;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
@@ -137,13 +138,15 @@ public class SemaphoreBasedRateLimiter implements RateLimiter {
 
     @Override
     public boolean acquirePermission(Duration timeoutDuration) {
+        boolean timed = eventProcessor.hasConsumers(RateLimiterOnSuccessEvent.class);
+        long start = timed ? System.nanoTime() : 0;
         try {
-            boolean success = semaphore.tryAcquire(timeoutDuration.toNanos(), TimeUnit.NANOSECONDS);
-            publishRateLimiterEvent(success);
+            boolean success = semaphore.tryAcquire(Deadline.boundedWaitNanos(timeoutDuration.toNanos()), TimeUnit.NANOSECONDS);
+            publishRateLimiterEvent(success, timed ? System.nanoTime() - start : 0);
             return success;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            publishRateLimiterEvent(false);
+            publishRateLimiterEvent(false, 0);
             return false;
         }
     }
@@ -155,22 +158,24 @@ public class SemaphoreBasedRateLimiter implements RateLimiter {
 
     /**
      * {@inheritDoc}
-     * SemaphoreBasedRateLimiter is totally blocking by it's nature. So this non-blocking API isn't supported.
-     * It will return negative numbers all the time.
+     * SemaphoreBasedRateLimiter is totally blocking by it's nature and cannot reserve a permission of a later
+     * refresh period. It returns 0 if a permission is available right away, otherwise it waits for one like
+     * {@link #acquirePermission(Duration)}.
      */
     @Override
     public long reservePermission(Duration timeoutDuration) {
-        return -1;
+        return acquirePermission(timeoutDuration) ? 0 : -1;
     }
 
     /**
      * {@inheritDoc}
-     * SemaphoreBasedRateLimiter is totally blocking by it's nature. So this non-blocking API isn't supported.
-     * It will return negative numbers all the time.
+     * SemaphoreBasedRateLimiter is totally blocking by it's nature and cannot reserve a permission of a later
+     * refresh period. It returns 0 if a permission is available right away, otherwise it waits for one like
+     * {@link #acquirePermission()}.
      */
     @Override
     public long reservePermission() {
-        return -1;
+        return reservePermission(rateLimiterConfig.get().getTimeoutDuration());
     }
 
     /**
@@ -231,16 +236,28 @@ public class SemaphoreBasedRateLimiter implements RateLimiter {
         public int getNumberOfWaitingThreads() {
             return semaphore.getQueueLength();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Metrics snapshot() {
+            return new RateLimiterMetricsSnapshot(getNumberOfWaitingThreads(), getAvailablePermissions());
+        }
     }
 
-    private void publishRateLimiterEvent(boolean permissionAcquired) {
+    private void publishRateLimiterEvent(boolean permissionAcquired, long waitDurationInNanos) {
         if (!eventProcessor.hasConsumers()) {
             return;
         }
         if (permissionAcquired) {
-            eventProcessor.consumeEvent(new RateLimiterOnSuccessEvent(name));
+            if (eventProcessor.hasConsumers(RateLimiterOnSuccessEvent.class)) {
+                eventProcessor.consumeEvent(new RateLimiterOnSuccessEvent(name, Duration.ofNanos(waitDurationInNanos)));
+            }
             return;
         }
-        eventProcessor.consumeEvent(new RateLimiterOnFailureEvent(name));
+        if (eventProcessor.hasConsumers(RateLimiterOnFailureEvent.class)) {
+            eventProcessor.consumeEvent(new RateLimiterOnFailureEvent(name));
+        }
     }
 }
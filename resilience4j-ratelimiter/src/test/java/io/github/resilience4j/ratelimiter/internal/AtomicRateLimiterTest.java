@@ -478,6 +478,34 @@ public class AtomicRateLimiterTest {
         then(detailedMetrics.getCycle()).isGreaterThan(0);
     }
 
+    @Test
+    public void metricsSnapshot() throws Exception {
+        setTimeOnNanos(CYCLE_IN_NANOS);
+        rateLimiter.reservePermission(Duration.ofNanos(CYCLE_IN_NANOS * 2));
+        rateLimiter.reservePermission(Duration.ofNanos(CYCLE_IN_NANOS * 2));
+        setTimeOnNanos(CYCLE_IN_NANOS + 10);
+
+        AtomicRateLimiter.AtomicRateLimiterMetricsSnapshot snapshot = metrics.snapshot();
+
+        then(snapshot.getAvailablePermissions()).isEqualTo(-1);
+        then(snapshot.getNanosToWait()).isEqualTo(CYCLE_IN_NANOS * 2 - 10);
+        then(snapshot.getCycle()).isEqualTo(1);
+        then(snapshot.getNumberOfWaitingThreads()).isEqualTo(0);
+        then(snapshot.snapshot()).isSameAs(snapshot);
+
+        setTimeOnNanos(CYCLE_IN_NANOS * 2 + 10);
+
+        then(snapshot.getAvailablePermissions()).isEqualTo(-1);
+        then(metrics.snapshot().getAvailablePermissions()).isEqualTo(0);
+        then(metrics.snapshot().getNanosToWait()).isEqualTo(CYCLE_IN_NANOS - 10);
+    }
+
+    @Test
+    public void metricsViewIsCached() {
+        then(rateLimiter.getMetrics()).isSameAs(rateLimiter.getMetrics());
+        then(rateLimiter.getDetailedMetrics()).isSameAs(rateLimiter.getMetrics());
+    }
+
     @Test
     public void namePropagation() {
         then(rateLimiter.getName()).isEqualTo(LIMITER_NAME);
@@ -88,16 +88,11 @@ public class SemaphoreBasedRateLimiterImplTest {
         Runnable refreshLimitRunnable = refreshLimitRunnableCaptor.getValue();
 
         then(limit.acquirePermission()).isTrue();
-        then(limit.reservePermission()).isNegative();
-        then(limit.reservePermission()).isNegative();
-
-        then(limit.acquirePermission()).isTrue();
-        then(limit.reservePermission()).isNegative();
-        then(limit.reservePermission()).isNegative();
+        then(limit.reservePermission(Duration.ZERO)).isZero();
+        then(limit.reservePermission(Duration.ZERO)).isNegative();
 
         then(limit.acquirePermission()).isFalse();
-        then(limit.reservePermission()).isNegative();
-        then(limit.reservePermission()).isNegative();
+        then(limit.reservePermission(Duration.ZERO)).isNegative();
 
         Thread.sleep(REFRESH_PERIOD.toMillis() * 2);
         verify(configSpy, times(1)).getLimitForPeriod();
@@ -136,17 +131,13 @@ public class SemaphoreBasedRateLimiterImplTest {
             synchronousQueue.take();
         }
 
-        then(limit.reservePermission()).isNegative();
-        then(limit.reservePermission()).isNegative();
-
         awaitImpatiently()
             .atMost(100, TimeUnit.MILLISECONDS).until(detailedMetrics::getAvailablePermissions, equalTo(0));
         awaitImpatiently()
             .atMost(2, TimeUnit.SECONDS).until(thread::getState, equalTo(TIMED_WAITING));
         then(detailedMetrics.getAvailablePermissions()).isEqualTo(0);
 
-        then(limit.reservePermission()).isNegative();
-        then(limit.reservePermission()).isNegative();
+        then(limit.reservePermission(Duration.ZERO)).isNegative();
 
         limit.refreshLimit();
         awaitImpatiently()
@@ -158,8 +149,8 @@ public class SemaphoreBasedRateLimiterImplTest {
         limit.changeLimitForPeriod(3);
         limit.refreshLimit();
         then(detailedMetrics.getAvailablePermissions()).isEqualTo(3);
-        then(limit.reservePermission()).isNegative();
-        then(limit.reservePermission()).isNegative();
+        then(limit.reservePermission()).isZero();
+        then(detailedMetrics.getAvailablePermissions()).isEqualTo(2);
     }
 
     @Test
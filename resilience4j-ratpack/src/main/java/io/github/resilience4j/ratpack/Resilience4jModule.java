@@ -245,11 +245,11 @@ public class Resilience4jModule extends ConfigurableModule<Resilience4jConfig> {
                 RetryMetrics retryMetrics = RetryMetrics.ofRetryRegistry(retryRegistry);
                 BulkheadMetrics bulkheadMetrics = BulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
                 ThreadPoolBulkheadMetrics threadPoolBulkheadMetrics = ThreadPoolBulkheadMetrics.ofBulkheadRegistry(threadPoolBulkheadRegistry);
-                metricRegistry.registerAll(circuitBreakerMetrics);
-                metricRegistry.registerAll(rateLimiterMetrics);
-                metricRegistry.registerAll(retryMetrics);
-                metricRegistry.registerAll(bulkheadMetrics);
-                metricRegistry.registerAll(threadPoolBulkheadMetrics);
+                circuitBreakerMetrics.bindTo(metricRegistry);
+                rateLimiterMetrics.bindTo(metricRegistry);
+                retryMetrics.bindTo(metricRegistry);
+                bulkheadMetrics.bindTo(metricRegistry);
+                threadPoolBulkheadMetrics.bindTo(metricRegistry);
             }
 
             // prometheus
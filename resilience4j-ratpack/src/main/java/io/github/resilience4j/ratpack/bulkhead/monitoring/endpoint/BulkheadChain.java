@@ -18,7 +18,6 @@ package io.github.resilience4j.ratpack.bulkhead.monitoring.endpoint;
 import io.github.resilience4j.bulkhead.event.BulkheadEvent;
 import io.github.resilience4j.common.bulkhead.monitoring.endpoint.BulkheadEventDTOFactory;
 import io.github.resilience4j.common.bulkhead.monitoring.endpoint.BulkheadEventsEndpointResponse;
-import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.ratpack.Resilience4jConfig;
 import io.vavr.collection.Seq;
@@ -31,7 +30,6 @@ import ratpack.sse.ServerSentEvents;
 import reactor.core.publisher.Flux;
 
 import javax.inject.Inject;
-import java.util.Comparator;
 
 /**
  * Provides event and stream event endpoints for bulkhead events.
@@ -52,17 +50,14 @@ public class BulkheadChain implements Action<Chain> {
             chain1.get("events", ctx ->
                     Promise.<BulkheadEventsEndpointResponse>async(d -> {
                         BulkheadEventsEndpointResponse response = new BulkheadEventsEndpointResponse(eventConsumerRegistry
-                                .getAllEventConsumer()
-                                .flatMap(CircularEventConsumer::getBufferedEvents)
-                                .sorted(Comparator.comparing(BulkheadEvent::getCreationTime))
+                                .getAllBufferedEvents()
                                 .map(BulkheadEventDTOFactory::createBulkheadEventDTO).toJavaList());
                         d.success(response);
                     }).then(r -> ctx.render(Jackson.json(r)))
             );
             chain1.get("stream/events", ctx -> {
                 Seq<Flux<BulkheadEvent>> eventStreams = eventConsumerRegistry
-                        .getAllEventConsumer()
-                        .flatMap(CircularEventConsumer::getBufferedEvents)
+                        .getAllBufferedEvents()
                         .map(Flux::just);
                 ctx.render(serverSentEvents(chain1, eventStreams));
             });
@@ -80,9 +75,8 @@ public class BulkheadChain implements Action<Chain> {
             chain1.get("stream/events/:name", ctx -> {
                 String bulkheadName = ctx.getPathTokens().get("name");
                 Seq<Flux<BulkheadEvent>> eventStreams = eventConsumerRegistry
-                        .getAllEventConsumer()
-                        .flatMap(CircularEventConsumer::getBufferedEvents)
-                        .filter(e -> e.getBulkheadName().equals(bulkheadName))
+                        .getEventConsumer(bulkheadName)
+                        .getBufferedEvents()
                         .map(Flux::just);
                 ctx.render(serverSentEvents(chain1, eventStreams));
             });
@@ -103,9 +97,8 @@ public class BulkheadChain implements Action<Chain> {
                 String bulkheadName = ctx.getPathTokens().get("name");
                 String eventType = ctx.getPathTokens().get("type");
                 Seq<Flux<BulkheadEvent>> eventStreams = eventConsumerRegistry
-                        .getAllEventConsumer()
-                        .flatMap(CircularEventConsumer::getBufferedEvents)
-                        .filter(e -> e.getBulkheadName().equals(bulkheadName))
+                        .getEventConsumer(bulkheadName)
+                        .getBufferedEvents()
                         .filter(e -> e.getEventType().name().equals(eventType))
                         .map(Flux::just);
                 ctx.render(serverSentEvents(chain1, eventStreams));
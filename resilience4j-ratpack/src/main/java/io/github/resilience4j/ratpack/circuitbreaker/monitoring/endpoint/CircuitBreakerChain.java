@@ -21,7 +21,6 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
 import io.github.resilience4j.common.circuitbreaker.monitoring.endpoint.CircuitBreakerEventDTOFactory;
 import io.github.resilience4j.common.circuitbreaker.monitoring.endpoint.CircuitBreakerEventsEndpointResponse;
-import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.ratpack.Resilience4jConfig;
 import io.github.resilience4j.ratpack.circuitbreaker.monitoring.endpoint.metrics.CircuitBreakerMetricsDTO;
@@ -38,7 +37,6 @@ import ratpack.sse.ServerSentEvents;
 import reactor.core.publisher.Flux;
 
 import javax.inject.Inject;
-import java.util.Comparator;
 
 /**
  * Provides event and stream event endpoints for circuitbreaker events.
@@ -83,9 +81,7 @@ public class CircuitBreakerChain implements Action<Chain> {
             chain1.get("events", ctx ->
                     Promise.<CircuitBreakerEventsEndpointResponse>async(d -> {
                         CircuitBreakerEventsEndpointResponse response = new CircuitBreakerEventsEndpointResponse(eventConsumerRegistry
-                                .getAllEventConsumer()
-                                .flatMap(CircularEventConsumer::getBufferedEvents)
-                                .sorted(Comparator.comparing(CircuitBreakerEvent::getCreationTime))
+                                .getAllBufferedEvents()
                                 .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
                         d.success(response);
                     }).then(r -> ctx.render(Jackson.json(r)))
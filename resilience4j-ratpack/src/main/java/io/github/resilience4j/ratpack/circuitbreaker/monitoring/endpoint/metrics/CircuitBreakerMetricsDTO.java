@@ -18,6 +18,8 @@ package io.github.resilience4j.ratpack.circuitbreaker.monitoring.endpoint.metric
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class CircuitBreakerMetricsDTO {
@@ -27,17 +29,33 @@ public class CircuitBreakerMetricsDTO {
     private long numberOfNotPermittedCalls;
     private int maxNumberOfBufferedCalls;
     private int numberOfSuccessfulCalls;
+    @Nullable
+    private Long latencyPercentile50InMillis;
+    @Nullable
+    private Long latencyPercentile95InMillis;
+    @Nullable
+    private Long latencyPercentile99InMillis;
+    @Nullable
+    private Long latencyMaxInMillis;
 
     CircuitBreakerMetricsDTO() {
     }
 
-    public CircuitBreakerMetricsDTO(CircuitBreaker.Metrics metrics) {
+    public CircuitBreakerMetricsDTO(CircuitBreaker.Metrics circuitBreakerMetrics) {
+        CircuitBreaker.Metrics metrics = circuitBreakerMetrics.snapshot();
         this.failureRate = metrics.getFailureRate();
         this.numberOfBufferedCalls = metrics.getNumberOfBufferedCalls();
         this.numberOfFailedCalls = metrics.getNumberOfFailedCalls();
         this.numberOfNotPermittedCalls = metrics.getNumberOfNotPermittedCalls();
         this.maxNumberOfBufferedCalls = metrics.getMaxNumberOfBufferedCalls();
         this.numberOfSuccessfulCalls = metrics.getNumberOfSuccessfulCalls();
+        LatencySnapshot latencySnapshot = metrics.getLatencySnapshot();
+        if (latencySnapshot.getCount() > 0) {
+            this.latencyPercentile50InMillis = latencySnapshot.getPercentile50().toMillis();
+            this.latencyPercentile95InMillis = latencySnapshot.getPercentile95().toMillis();
+            this.latencyPercentile99InMillis = latencySnapshot.getPercentile99().toMillis();
+            this.latencyMaxInMillis = latencySnapshot.getMax().toMillis();
+        }
     }
 
     public float getFailureRate() {
@@ -87,4 +105,40 @@ public class CircuitBreakerMetricsDTO {
     public void setNumberOfSuccessfulCalls(int numberOfSuccessfulCalls) {
         this.numberOfSuccessfulCalls = numberOfSuccessfulCalls;
     }
+
+    @Nullable
+    public Long getLatencyPercentile50InMillis() {
+        return latencyPercentile50InMillis;
+    }
+
+    public void setLatencyPercentile50InMillis(@Nullable Long latencyPercentile50InMillis) {
+        this.latencyPercentile50InMillis = latencyPercentile50InMillis;
+    }
+
+    @Nullable
+    public Long getLatencyPercentile95InMillis() {
+        return latencyPercentile95InMillis;
+    }
+
+    public void setLatencyPercentile95InMillis(@Nullable Long latencyPercentile95InMillis) {
+        this.latencyPercentile95InMillis = latencyPercentile95InMillis;
+    }
+
+    @Nullable
+    public Long getLatencyPercentile99InMillis() {
+        return latencyPercentile99InMillis;
+    }
+
+    public void setLatencyPercentile99InMillis(@Nullable Long latencyPercentile99InMillis) {
+        this.latencyPercentile99InMillis = latencyPercentile99InMillis;
+    }
+
+    @Nullable
+    public Long getLatencyMaxInMillis() {
+        return latencyMaxInMillis;
+    }
+
+    public void setLatencyMaxInMillis(@Nullable Long latencyMaxInMillis) {
+        this.latencyMaxInMillis = latencyMaxInMillis;
+    }
 }
@@ -19,9 +19,12 @@ package io.github.resilience4j.ratpack.ratelimiter;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import ratpack.exec.Execution;
 import ratpack.handling.Context;
 import ratpack.handling.Handler;
 
+import java.time.Duration;
+
 public class RateLimiterHandler implements Handler {
 
     private final RateLimiter rateLimiter;
@@ -36,15 +39,14 @@ public class RateLimiterHandler implements Handler {
 
     @Override
     public void handle(Context ctx) throws Exception {
-        boolean permission = rateLimiter.acquirePermission();
-        if (Thread.interrupted()) {
-            throw new IllegalStateException("Thread was interrupted during permission wait");
-        }
-        if (!permission) {
+        long nanosToWait = rateLimiter.reservePermission();
+        if (nanosToWait < 0) {
             Throwable t = new RequestNotPermitted(rateLimiter);
             ctx.error(t);
-        } else {
+        } else if (nanosToWait == 0) {
             ctx.next();
+        } else {
+            Execution.sleep(Duration.ofNanos(nanosToWait), ctx::next);
         }
     }
 
@@ -19,9 +19,12 @@ import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.ratpack.internal.AbstractTransformer;
 import ratpack.exec.Downstream;
+import ratpack.exec.Execution;
 import ratpack.exec.Upstream;
 import ratpack.func.Function;
 
+import java.time.Duration;
+
 public class RateLimiterTransformer<T> extends AbstractTransformer<T> {
 
     private final RateLimiter rateLimiter;
@@ -56,19 +59,11 @@ public class RateLimiterTransformer<T> extends AbstractTransformer<T> {
     @Override
     public Upstream<T> apply(Upstream<? extends T> upstream) throws Exception {
         return down -> {
-            boolean permission = rateLimiter.acquirePermission();
-            if (Thread.interrupted()) {
-                throw new IllegalStateException("Thread was interrupted during permission wait");
-            }
-            if (!permission) {
-                Throwable t = new RequestNotPermitted(rateLimiter);
-                if (recoverer != null) {
-                    down.success(recoverer.apply(t));
-                } else {
-                    down.error(t);
-                }
+            long nanosToWait = rateLimiter.reservePermission();
+            if (nanosToWait < 0) {
+                handleRecovery(down, new RequestNotPermitted(rateLimiter));
             } else {
-                upstream.connect(new Downstream<T>() {
+                Downstream<T> downstream = new Downstream<T>() {
 
                     @Override
                     public void success(T value) {
@@ -84,7 +79,13 @@ public class RateLimiterTransformer<T> extends AbstractTransformer<T> {
                     public void complete() {
                         down.complete();
                     }
-                });
+                };
+                if (nanosToWait == 0) {
+                    upstream.connect(downstream);
+                } else {
+                    // the reserved permission is awaited without parking the compute thread
+                    Execution.sleep(Duration.ofNanos(nanosToWait), () -> upstream.connect(downstream));
+                }
             }
         };
     }
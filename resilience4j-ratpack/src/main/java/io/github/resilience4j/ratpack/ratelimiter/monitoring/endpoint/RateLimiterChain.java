@@ -16,7 +16,6 @@
 
 package io.github.resilience4j.ratpack.ratelimiter.monitoring.endpoint;
 
-import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
@@ -35,7 +34,6 @@ import ratpack.sse.ServerSentEvents;
 import reactor.core.publisher.Flux;
 
 import javax.inject.Inject;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -58,9 +56,7 @@ public class RateLimiterChain implements Action<Chain> {
         chain.prefix(prefix, chain1 -> {
             chain1.get("events", ctx ->
                     Promise.<RateLimiterEventsEndpointResponse>async(d -> {
-                        List<RateLimiterEventDTO> eventsList = eventConsumerRegistry.getAllEventConsumer()
-                                .flatMap(CircularEventConsumer::getBufferedEvents)
-                                .sorted(Comparator.comparing(RateLimiterEvent::getCreationTime))
+                        List<RateLimiterEventDTO> eventsList = eventConsumerRegistry.getAllBufferedEvents()
                                 .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList();
                         d.success(new RateLimiterEventsEndpointResponse(eventsList));
                     }).then(r -> ctx.render(Jackson.json(r)))
@@ -76,7 +72,6 @@ public class RateLimiterChain implements Action<Chain> {
                         Promise.<RateLimiterEventsEndpointResponse>async(d -> {
                             List<RateLimiterEventDTO> eventsList = eventConsumerRegistry.getEventConsumer(rateLimiterName)
                                     .getBufferedEvents()
-                                    .sorted(Comparator.comparing(RateLimiterEvent::getCreationTime))
                                     .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList();
                             d.success(new RateLimiterEventsEndpointResponse(eventsList));
                         }).then(r -> ctx.render(Jackson.json(r)));
@@ -98,7 +93,6 @@ public class RateLimiterChain implements Action<Chain> {
                         Promise.<RateLimiterEventsEndpointResponse>async(d -> {
                             List<RateLimiterEventDTO> eventsList = eventConsumerRegistry.getEventConsumer(rateLimiterName)
                                     .getBufferedEvents()
-                                    .sorted(Comparator.comparing(RateLimiterEvent::getCreationTime))
                                     .filter(event -> event.getEventType() == RateLimiterEvent.Type.valueOf(eventType.toUpperCase()))
                                     .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList();
                             d.success(new RateLimiterEventsEndpointResponse(eventsList));
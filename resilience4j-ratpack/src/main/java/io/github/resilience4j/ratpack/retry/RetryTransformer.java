@@ -19,9 +19,12 @@ import io.github.resilience4j.core.lang.Nullable;
 import io.github.resilience4j.ratpack.internal.AbstractTransformer;
 import io.github.resilience4j.retry.Retry;
 import ratpack.exec.Downstream;
+import ratpack.exec.Execution;
 import ratpack.exec.Upstream;
 import ratpack.func.Function;
 
+import java.time.Duration;
+
 public class RetryTransformer<T> extends AbstractTransformer<T> {
 
     private final Retry retry;
@@ -56,30 +59,27 @@ public class RetryTransformer<T> extends AbstractTransformer<T> {
     @Override
     public Upstream<T> apply(Upstream<? extends T> upstream) {
         return down -> {
-            Retry.Context context = retry.context();
+            Retry.AsyncContext<T> context = retry.asyncContext();
             Downstream<T> downstream = new Downstream<T>() {
 
                 @Override
                 public void success(T value) {
-                    context.onSuccess();
-                    down.success(value);
+                    long delay = context.onResult(value);
+                    if (delay < 1) {
+                        context.onSuccess();
+                        down.success(value);
+                    } else {
+                        retry(delay);
+                    }
                 }
 
                 @Override
                 public void error(Throwable throwable) {
-                    try {
-                        context.onError((Exception) throwable);
-                        upstream.connect(this);
-                    } catch (Exception ex1) {
-                        if (recoverer != null) {
-                            try {
-                                down.success(recoverer.apply(ex1));
-                            } catch (Exception ex2) {
-                                down.error(ex2);
-                            }
-                        } else {
-                            down.error(ex1);
-                        }
+                    long delay = throwable instanceof Exception ? context.onError(throwable) : -1;
+                    if (delay < 1) {
+                        handleRecovery(down, throwable);
+                    } else {
+                        retry(delay);
                     }
                 }
 
@@ -87,6 +87,11 @@ public class RetryTransformer<T> extends AbstractTransformer<T> {
                 public void complete() {
                     down.complete();
                 }
+
+                // the execution sleeps without parking the compute thread and resubscribes on wake up
+                private void retry(long delayInMillis) {
+                    Execution.sleep(Duration.ofMillis(delayInMillis), () -> upstream.connect(this));
+                }
             };
             upstream.connect(downstream);
         };
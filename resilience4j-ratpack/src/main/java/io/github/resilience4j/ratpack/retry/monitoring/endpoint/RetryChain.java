@@ -16,7 +16,6 @@
 
 package io.github.resilience4j.ratpack.retry.monitoring.endpoint;
 
-import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.ratpack.Resilience4jConfig;
 import io.github.resilience4j.reactor.adapter.ReactorAdapter;
@@ -36,7 +35,6 @@ import ratpack.sse.ServerSentEvents;
 import reactor.core.publisher.Flux;
 
 import javax.inject.Inject;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -59,9 +57,7 @@ public class RetryChain implements Action<Chain> {
         chain.prefix(prefix, chain1 -> {
             chain1.get("events", ctx ->
                     Promise.<RetryEventsEndpointResponse>async(d -> {
-                        List<RetryEventDTO> eventsList = eventConsumerRegistry.getAllEventConsumer()
-                                .flatMap(CircularEventConsumer::getBufferedEvents)
-                                .sorted(Comparator.comparing(RetryEvent::getCreationTime))
+                        List<RetryEventDTO> eventsList = eventConsumerRegistry.getAllBufferedEvents()
                                 .map(RetryEventDTOFactory::createRetryEventDTO).toJavaList();
                         d.success(new RetryEventsEndpointResponse(eventsList));
                     }).then(r -> ctx.render(Jackson.json(r)))
@@ -77,7 +73,6 @@ public class RetryChain implements Action<Chain> {
                         Promise.<RetryEventsEndpointResponse>async(d -> {
                             List<RetryEventDTO> eventsList = eventConsumerRegistry.getEventConsumer(retryName)
                                     .getBufferedEvents()
-                                    .sorted(Comparator.comparing(RetryEvent::getCreationTime))
                                     .map(RetryEventDTOFactory::createRetryEventDTO).toJavaList();
                             d.success(new RetryEventsEndpointResponse(eventsList));
                         }).then(r -> ctx.render(Jackson.json(r)));
@@ -99,7 +94,6 @@ public class RetryChain implements Action<Chain> {
                         Promise.<RetryEventsEndpointResponse>async(d -> {
                             List<RetryEventDTO> eventsList = eventConsumerRegistry.getEventConsumer(retryName)
                                     .getBufferedEvents()
-                                    .sorted(Comparator.comparing(RetryEvent::getCreationTime))
                                     .filter(event -> event.getEventType() == RetryEvent.Type.valueOf(eventType.toUpperCase()))
                                     .map(RetryEventDTOFactory::createRetryEventDTO).toJavaList();
                             d.success(new RetryEventsEndpointResponse(eventsList));
@@ -16,8 +16,10 @@
 
 package io.github.resilience4j.ratpack.ratelimiter
 
+import io.github.resilience4j.ratelimiter.RateLimiter
 import io.github.resilience4j.ratelimiter.RateLimiterConfig
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry
+import io.github.resilience4j.ratelimiter.internal.SemaphoreBasedRateLimiter
 import io.github.resilience4j.ratpack.Resilience4jModule
 import io.github.resilience4j.ratpack.ratelimiter.RateLimiterHandler
 import ratpack.handling.HandlerDecorator
@@ -125,6 +127,36 @@ class RateLimiterHandlerSpec extends Specification {
         actual.statusCode == 200
     }
 
+    def "test rate limit requests with a rate limiter which cannot reserve permissions"() {
+        given:
+        RateLimiter rateLimiter = new SemaphoreBasedRateLimiter('test', buildConfig())
+        app = ratpack {
+            bindings {
+                module(Resilience4jModule)
+            }
+            handlers {
+                all(new RateLimiterHandler(rateLimiter))
+                get {
+                    render 'success'
+                }
+            }
+        }
+        client = testHttpClient(app)
+        def actual = null
+
+        when:
+        (0..10).each {
+            actual = client.get()
+            if (it < 10) {
+                assert actual.statusCode == 200
+            }
+        }
+
+        then:
+        actual.body.text.contains('io.github.resilience4j.ratelimiter.RequestNotPermitted: RateLimiter \'test\' does not permit further calls')
+        actual.statusCode == 500
+    }
+
     // 10 events / 10 s
     def buildConfig() {
         RateLimiterConfig.custom()
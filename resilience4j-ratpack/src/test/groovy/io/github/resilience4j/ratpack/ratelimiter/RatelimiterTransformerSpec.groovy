@@ -17,6 +17,7 @@ package io.github.resilience4j.ratpack.ratelimiter
 
 import io.github.resilience4j.ratelimiter.RateLimiter
 import io.github.resilience4j.ratelimiter.RateLimiterConfig
+import io.github.resilience4j.ratelimiter.internal.SemaphoreBasedRateLimiter
 import io.github.resilience4j.ratpack.ratelimiter.RateLimiterTransformer
 import ratpack.exec.Promise
 import ratpack.test.exec.ExecHarness
@@ -69,13 +70,61 @@ class RatelimiterTransformerSpec extends Specification {
         values == expected << failure
     }
 
+    def "can ratelimit promise with a rate limiter which cannot reserve permissions"() {
+        given:
+        RateLimiter rateLimiter = new SemaphoreBasedRateLimiter("test", buildConfig())
+        RateLimiterTransformer<Integer> transformer = RateLimiterTransformer.of(rateLimiter)
+        Set<Integer> values = [].toSet()
+        Set<Integer> expected = (0..9).toSet()
+
+        when:
+        for (int i = 0; i <= 10; i++) {
+            def r = ExecHarness.yieldSingle {
+                Promise.async {
+                    it.success(i)
+                }.transform(transformer)
+            }
+            if (r.success) values << r.value
+        }
+
+        then:
+        values == expected
+    }
+
+    def "can await a reserved permission without failing"() {
+        given:
+        RateLimiter rateLimiter = RateLimiter.of("test", RateLimiterConfig.custom()
+                .limitRefreshPeriod(Duration.ofMillis(200))
+                .limitForPeriod(1)
+                .timeoutDuration(Duration.ofSeconds(1))
+                .build())
+        RateLimiterTransformer<Integer> transformer = RateLimiterTransformer.of(rateLimiter)
+        Set<Integer> values = [].toSet()
+
+        when:
+        for (int i = 0; i < 3; i++) {
+            def r = ExecHarness.yieldSingle {
+                Promise.async {
+                    it.success(i)
+                }.transform(transformer)
+            }
+            if (r.success) values << r.value
+        }
+
+        then:
+        values == (0..2).toSet()
+    }
+
     // 10 events / 1 minute
     def buildRatelimiter() {
-        RateLimiterConfig config = RateLimiterConfig.custom()
+        RateLimiter.of("test", buildConfig())
+    }
+
+    def buildConfig() {
+        RateLimiterConfig.custom()
                 .limitRefreshPeriod(Duration.ofSeconds(60))
                 .limitForPeriod(10)
                 .timeoutDuration(Duration.ofMillis(100))
                 .build()
-        RateLimiter.of("test", config)
     }
 }
@@ -116,6 +116,28 @@ class RetryTransformerSpec extends Specification {
         times.get() == 3
     }
 
+    def "can retry promise on result"() {
+        given:
+        Retry retry = Retry.of("test", RetryConfig.<String>custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(100))
+                .retryOnResult { it == "retry" }
+                .build())
+        RetryTransformer<String> transformer = RetryTransformer.of(retry)
+        AtomicInteger times = new AtomicInteger(0)
+
+        when:
+        def r = ExecHarness.yieldSingle {
+            Blocking.<String> get { times.getAndIncrement() < 1 ? "retry" : "s" }
+                    .transform(transformer)
+        }
+
+        then:
+        r.value == "s"
+        !r.error
+        times.get() == 2
+    }
+
     def buildRetry() {
         RetryConfig config = RetryConfig.custom()
                 .maxAttempts(3)
@@ -0,0 +1,211 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead which {@link RetrofitCircuitBreaker} adds to a call. The calls are answered by a local
+ * stand-in for the server, which returns a prepared response without any I/O, so that only the decoration is measured.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class RetrofitCircuitBreakerBenchmark {
+
+    private static final int ITERATION_COUNT = 10;
+    private static final int WARMUP_COUNT = 10;
+    private static final int THREAD_COUNT = 2;
+    private static final int FORK_COUNT = 2;
+
+    private static final int RING_BUFFER_SIZE = 1 << 27;
+
+    private CircuitBreaker successfulCircuitBreaker;
+    private CircuitBreaker failedCircuitBreaker;
+    private CircuitBreaker failedWithPredicateCircuitBreaker;
+    private CircuitBreaker ignoredCircuitBreaker;
+    private Call<String> successfulCall;
+    private Call<String> failedCall;
+    private Call<String> failedCallWithPredicate;
+    private Call<String> ignoredCall;
+
+    @Setup
+    public void setUp() {
+        // the failure rate is only calculated once the ring buffer is full, which an iteration does not reach,
+        // so that failed calls keep being permitted
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .ringBufferSizeInClosedState(RING_BUFFER_SIZE)
+            .build();
+        ResponseClassifier classifier = ResponseClassifier.custom()
+            .ignoreOn(400, 499)
+            .build();
+
+        successfulCircuitBreaker = CircuitBreaker.of("successful", config);
+        failedCircuitBreaker = CircuitBreaker.of("failed", config);
+        failedWithPredicateCircuitBreaker = CircuitBreaker.of("failedWithPredicate", config);
+        ignoredCircuitBreaker = CircuitBreaker.of("ignored", config);
+        successfulCall = RetrofitCircuitBreaker.decorateCall(successfulCircuitBreaker,
+            new StubCall(response(200)), classifier);
+        failedCall = RetrofitCircuitBreaker.decorateCall(failedCircuitBreaker,
+            new StubCall(response(503)), classifier);
+        failedCallWithPredicate = RetrofitCircuitBreaker.decorateCall(failedWithPredicateCircuitBreaker,
+            new StubCall(response(503)), Response::isSuccessful);
+        ignoredCall = RetrofitCircuitBreaker.decorateCall(ignoredCircuitBreaker,
+            new StubCall(response(404)), classifier);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCircuitBreakers() {
+        successfulCircuitBreaker.reset();
+        failedCircuitBreaker.reset();
+        failedWithPredicateCircuitBreaker.reset();
+        ignoredCircuitBreaker.reset();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public Response<String> successfulResponse() throws IOException {
+        return successfulCall.execute();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public Response<String> failedResponse() throws IOException {
+        return failedCall.execute();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public Response<String> failedResponseWithPredicate() throws IOException {
+        return failedCallWithPredicate.execute();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public Response<String> ignoredResponse() throws IOException {
+        return ignoredCall.execute();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(RetrofitCircuitBreakerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+    private static Response<String> response(int code) {
+        okhttp3.Response rawResponse = new okhttp3.Response.Builder()
+            .code(code)
+            .message("HTTP " + code)
+            .protocol(Protocol.HTTP_1_1)
+            .request(new Request.Builder().url("http://localhost/").build())
+            .build();
+        if (rawResponse.isSuccessful()) {
+            return Response.success("Hello Benchmark", rawResponse);
+        }
+        return Response.error(ResponseBody.create(MediaType.parse("text/plain"), ""), rawResponse);
+    }
+
+    /**
+     * A call which answers every request with the same response, in place of a server.
+     */
+    private static final class StubCall implements Call<String> {
+
+        private final Response<String> response;
+
+        private StubCall(Response<String> response) {
+            this.response = response;
+        }
+
+        @Override
+        public Response<String> execute() {
+            return response;
+        }
+
+        @Override
+        public void enqueue(Callback<String> callback) {
+            callback.onResponse(this, response);
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return false;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return false;
+        }
+
+        @Override
+        public Call<String> clone() {
+            return new StubCall(response);
+        }
+
+        @Override
+        public Request request() {
+            return response.raw().request();
+        }
+    }
+}
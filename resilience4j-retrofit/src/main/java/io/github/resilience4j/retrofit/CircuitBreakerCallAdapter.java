@@ -35,7 +35,7 @@ import java.util.function.Predicate;
 public final class CircuitBreakerCallAdapter extends CallAdapter.Factory {
 
     private final CircuitBreaker circuitBreaker;
-    private final Predicate<Response> successResponse;
+    private final ResponseClassifier responseClassifier;
 
     /**
      * Create a circuit-breaking call adapter that decorates retrofit calls
@@ -43,7 +43,7 @@ public final class CircuitBreakerCallAdapter extends CallAdapter.Factory {
      * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
      */
     public static CircuitBreakerCallAdapter of(final CircuitBreaker circuitBreaker) {
-        return of(circuitBreaker, Response::isSuccessful);
+        return of(circuitBreaker, ResponseClassifier.ofDefaults());
     }
 
     /**
@@ -53,12 +53,22 @@ public final class CircuitBreakerCallAdapter extends CallAdapter.Factory {
      * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
      */
     public static CircuitBreakerCallAdapter of(final CircuitBreaker circuitBreaker, final Predicate<Response> successResponse) {
-        return new CircuitBreakerCallAdapter(circuitBreaker, successResponse);
+        return of(circuitBreaker, ResponseClassifier.of(successResponse));
     }
 
-    private CircuitBreakerCallAdapter(final CircuitBreaker circuitBreaker, final Predicate<Response> successResponse) {
+    /**
+     * Create a circuit-breaking call adapter that decorates retrofit calls
+     * @param circuitBreaker circuit breaker to use
+     * @param responseClassifier {@link ResponseClassifier} that determines whether the {@link Call} {@link Response} should be recorded as successful, failed or not at all
+     * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
+     */
+    public static CircuitBreakerCallAdapter of(final CircuitBreaker circuitBreaker, final ResponseClassifier responseClassifier) {
+        return new CircuitBreakerCallAdapter(circuitBreaker, responseClassifier);
+    }
+
+    private CircuitBreakerCallAdapter(final CircuitBreaker circuitBreaker, final ResponseClassifier responseClassifier) {
         this.circuitBreaker = circuitBreaker;
-        this.successResponse = successResponse;
+        this.responseClassifier = responseClassifier;
     }
 
     @Override
@@ -74,7 +84,7 @@ public final class CircuitBreakerCallAdapter extends CallAdapter.Factory {
 
             @Override
             public Object adapt(Call<Object> call) {
-                return nextAdapter.adapt(RetrofitCircuitBreaker.decorateCall(circuitBreaker, call, successResponse));
+                return nextAdapter.adapt(RetrofitCircuitBreaker.decorateCall(circuitBreaker, call, responseClassifier));
             }
         };
     }
@@ -19,12 +19,14 @@
 package io.github.resilience4j.retrofit;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.retrofit.internal.RetrofitScheduler;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
 import retrofit2.Retrofit;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Creates a Retrofit {@link CallAdapter.Factory} that decorates a Call to provide integration with a
@@ -33,6 +35,7 @@ import java.lang.reflect.Type;
 public final class RateLimiterCallAdapter extends CallAdapter.Factory {
 
     private final RateLimiter rateLimiter;
+    private final ScheduledExecutorService scheduler;
 
     /**
      * Create a rate-limiting call adapter factory that decorates retrofit calls
@@ -41,11 +44,23 @@ public final class RateLimiterCallAdapter extends CallAdapter.Factory {
      * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
      */
     public static RateLimiterCallAdapter of(final RateLimiter rateLimiter) {
-        return new RateLimiterCallAdapter(rateLimiter);
+        return of(rateLimiter, RetrofitScheduler.getInstance());
     }
 
-    private RateLimiterCallAdapter(final RateLimiter rateLimiter) {
+    /**
+     * Create a rate-limiting call adapter factory that decorates retrofit calls
+     *
+     * @param rateLimiter rate limiter to use
+     * @param scheduler   delays enqueued calls until their permission is available
+     * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
+     */
+    public static RateLimiterCallAdapter of(final RateLimiter rateLimiter, final ScheduledExecutorService scheduler) {
+        return new RateLimiterCallAdapter(rateLimiter, scheduler);
+    }
+
+    private RateLimiterCallAdapter(final RateLimiter rateLimiter, final ScheduledExecutorService scheduler) {
         this.rateLimiter = rateLimiter;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -61,7 +76,7 @@ public final class RateLimiterCallAdapter extends CallAdapter.Factory {
 
             @Override
             public Object adapt(Call<Object> call) {
-                return nextAdapter.adapt(RetrofitRateLimiter.decorateCall(rateLimiter, call));
+                return nextAdapter.adapt(RetrofitRateLimiter.decorateCall(rateLimiter, call, scheduler));
             }
         };
     }
@@ -0,0 +1,186 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import retrofit2.Response;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Classifies the {@link Response}s of decorated calls as successful, failed or ignored, e.g.
+ * <p>
+ * <code>
+ * ResponseClassifier.custom().failureOn(500, 599).ignoreOn(400, 499).build();
+ * </code>
+ * <p>
+ * A classifier built from status code ranges looks the outcome up in a table and allocates nothing.
+ * <p>
+ * This is an abstract class rather than a functional interface, so that the methods which accept either a
+ * {@link Predicate} or a classifier can still be called with a lambda.
+ */
+public abstract class ResponseClassifier {
+
+    /**
+     * @param response the response of a call
+     * @return the outcome which should be recorded for the response
+     */
+    public abstract Outcome classify(Response<?> response);
+
+    /**
+     * Returns a classifier which treats 2xx responses as successful and all other responses as failed, just like
+     * {@link Response#isSuccessful()}.
+     *
+     * @return the default classifier
+     */
+    public static ResponseClassifier ofDefaults() {
+        return custom().build();
+    }
+
+    /**
+     * Returns a classifier which treats the responses matching the given predicate as successful and all other
+     * responses as failed.
+     *
+     * @param successResponse determines whether the response should be considered successful
+     * @return a classifier which delegates to the predicate
+     */
+    public static ResponseClassifier of(Predicate<Response> successResponse) {
+        return new ResponseClassifier() {
+            @Override
+            public Outcome classify(Response<?> response) {
+                return successResponse.test(response) ? Outcome.SUCCESS : Outcome.FAILURE;
+            }
+        };
+    }
+
+    /**
+     * Returns a builder of a classifier which maps status code ranges to outcomes. Unless configured otherwise,
+     * 2xx responses are successful and all other responses are failed.
+     *
+     * @return the builder
+     */
+    public static Builder custom() {
+        return new Builder();
+    }
+
+    /**
+     * The outcome of a response.
+     */
+    public enum Outcome {
+        /**
+         * The response is recorded as a successful call.
+         */
+        SUCCESS,
+        /**
+         * The response is recorded as a failed call.
+         */
+        FAILURE,
+        /**
+         * The response is not recorded at all.
+         */
+        IGNORED
+    }
+
+    public static final class Builder {
+
+        private static final int MAX_STATUS_CODE = 599;
+
+        private final Outcome[] outcomes = new Outcome[MAX_STATUS_CODE + 1];
+        private Outcome defaultOutcome = Outcome.FAILURE;
+
+        private Builder() {
+            Arrays.fill(outcomes, Outcome.FAILURE);
+            Arrays.fill(outcomes, 200, 300, Outcome.SUCCESS);
+        }
+
+        /**
+         * Configures the status codes from {@code fromCode} to {@code toCode}, both inclusive, as successful.
+         *
+         * @param fromCode the first status code
+         * @param toCode   the last status code
+         * @return the builder
+         */
+        public Builder successOn(int fromCode, int toCode) {
+            return outcomeOf(fromCode, toCode, Outcome.SUCCESS);
+        }
+
+        /**
+         * Configures the status codes from {@code fromCode} to {@code toCode}, both inclusive, as failed.
+         *
+         * @param fromCode the first status code
+         * @param toCode   the last status code
+         * @return the builder
+         */
+        public Builder failureOn(int fromCode, int toCode) {
+            return outcomeOf(fromCode, toCode, Outcome.FAILURE);
+        }
+
+        /**
+         * Configures the status codes from {@code fromCode} to {@code toCode}, both inclusive, as ignored.
+         *
+         * @param fromCode the first status code
+         * @param toCode   the last status code
+         * @return the builder
+         */
+        public Builder ignoreOn(int fromCode, int toCode) {
+            return outcomeOf(fromCode, toCode, Outcome.IGNORED);
+        }
+
+        /**
+         * Configures the outcome of status codes above 599.
+         *
+         * @param defaultOutcome the outcome of unknown status codes
+         * @return the builder
+         */
+        public Builder defaultOutcome(Outcome defaultOutcome) {
+            this.defaultOutcome = defaultOutcome;
+            return this;
+        }
+
+        private Builder outcomeOf(int fromCode, int toCode, Outcome outcome) {
+            if (fromCode < 0 || toCode > MAX_STATUS_CODE || fromCode > toCode) {
+                throw new IllegalArgumentException("Status code range must be within 0 and " + MAX_STATUS_CODE
+                        + " and fromCode must not be greater than toCode");
+            }
+            Arrays.fill(outcomes, fromCode, toCode + 1, outcome);
+            return this;
+        }
+
+        public ResponseClassifier build() {
+            return new StatusCodeClassifier(outcomes.clone(), defaultOutcome);
+        }
+    }
+
+    private static final class StatusCodeClassifier extends ResponseClassifier {
+
+        private final Outcome[] outcomes;
+        private final Outcome defaultOutcome;
+
+        private StatusCodeClassifier(Outcome[] outcomes, Outcome defaultOutcome) {
+            this.outcomes = outcomes;
+            this.defaultOutcome = defaultOutcome;
+        }
+
+        @Override
+        public Outcome classify(Response<?> response) {
+            int code = response.code();
+            return code >= 0 && code < outcomes.length ? outcomes[code] : defaultOutcome;
+        }
+    }
+}
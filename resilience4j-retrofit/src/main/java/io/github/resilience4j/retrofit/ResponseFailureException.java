@@ -0,0 +1,65 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import retrofit2.Response;
+
+/**
+ * Is recorded by a {@link io.github.resilience4j.circuitbreaker.CircuitBreaker} for a {@link Response} which is
+ * classified as failed. The exceptions carry no stack trace and are shared per status code, so recording a failed
+ * response does not allocate.
+ * <p>
+ * Failed responses have always been recorded as a plain {@link Throwable}, so this class extends Throwable directly:
+ * record and ignore exception predicates of the CircuitBreaker which match {@link Exception} or
+ * {@link RuntimeException} do not match failed responses.
+ */
+public final class ResponseFailureException extends Throwable {
+
+    private static final int CACHED_CODES = 600;
+    private static final ResponseFailureException[] CACHE = new ResponseFailureException[CACHED_CODES];
+
+    static {
+        for (int code = 0; code < CACHED_CODES; code++) {
+            CACHE[code] = new ResponseFailureException(code);
+        }
+    }
+
+    private final int code;
+
+    private ResponseFailureException(int code) {
+        super("Response error: HTTP " + code, null, false, false);
+        this.code = code;
+    }
+
+    /**
+     * @param response the failed response
+     * @return the exception of the status code of the response
+     */
+    public static ResponseFailureException of(Response<?> response) {
+        int code = response.code();
+        return code >= 0 && code < CACHED_CODES ? CACHE[code] : new ResponseFailureException(code);
+    }
+
+    /**
+     * @return the HTTP status code of the failed response
+     */
+    public int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.retrofit.internal.DecoratedCall;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+
+/**
+ * Decorates a Retrofit {@link Call} to limit the number of concurrent calls with a {@link Bulkhead}. A call which is
+ * not permitted fails with a {@link BulkheadFullException}. Enqueued calls do not wait for a permission and hold it
+ * until their callback is invoked. For example:
+ * <p>
+ * <code>
+ * RetrofitBulkhead.decorateCall(bulkhead, call);
+ * </code>
+ */
+public interface RetrofitBulkhead {
+
+    /**
+     * Decorate {@link Call}s allow {@link Bulkhead} functionality.
+     *
+     * @param bulkhead {@link Bulkhead} to apply
+     * @param call     Call to decorate
+     * @param <T>      Response type of call
+     * @return Original Call decorated with Bulkhead
+     */
+    static <T> Call<T> decorateCall(final Bulkhead bulkhead, final Call<T> call) {
+        return new BulkheadCall<>(call, bulkhead);
+    }
+
+    class BulkheadCall<T> extends DecoratedCall<T> {
+        private final Call<T> call;
+        private final Bulkhead bulkhead;
+
+        public BulkheadCall(Call<T> call, Bulkhead bulkhead) {
+            super(call);
+            this.call = call;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void enqueue(final Callback<T> callback) {
+            if (!bulkhead.tryAcquirePermission()) {
+                callback.onFailure(call, new BulkheadFullException(bulkhead));
+                return;
+            }
+
+            try {
+                call.enqueue(new Callback<T>() {
+                    @Override
+                    public void onResponse(final Call<T> call, final Response<T> response) {
+                        bulkhead.onComplete();
+                        callback.onResponse(call, response);
+                    }
+
+                    @Override
+                    public void onFailure(final Call<T> call, final Throwable t) {
+                        bulkhead.onComplete();
+                        callback.onFailure(call, t);
+                    }
+                });
+            } catch (RuntimeException exception) {
+                bulkhead.onComplete();
+                throw exception;
+            }
+        }
+
+        @Override
+        public Response<T> execute() throws IOException {
+            bulkhead.acquirePermission();
+            try {
+                return call.execute();
+            } finally {
+                bulkhead.onComplete();
+            }
+        }
+
+        @Override
+        public Call<T> clone() {
+            return new BulkheadCall<>(call.clone(), bulkhead);
+        }
+    }
+}
@@ -20,7 +20,6 @@ package io.github.resilience4j.retrofit;
 
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.core.StopWatch;
 import io.github.resilience4j.retrofit.internal.DecoratedCall;
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -36,6 +35,9 @@ import java.util.function.Predicate;
  * <code>
  * RetrofitCircuitBreaker.decorateCall(circuitBreaker, call, Response::isSuccessful);
  * </code>
+ * <p>
+ * Responses can also be classified with a {@link ResponseClassifier}, which can ignore responses as well. Failed
+ * responses are recorded as a {@link ResponseFailureException}.
  */
 public interface RetrofitCircuitBreaker {
 
@@ -52,16 +54,33 @@ public interface RetrofitCircuitBreaker {
         return new CircuitBreakingCall<>(call, circuitBreaker, responseSuccess);
     }
 
+    /**
+     * Decorate {@link Call}s allow {@link CircuitBreaker} functionality.
+     *
+     * @param circuitBreaker     {@link CircuitBreaker} to apply
+     * @param call               Call to decorate
+     * @param responseClassifier determines whether the response should be recorded as successful, failed or not at all
+     * @param <T> Response type of call
+     * @return Original Call decorated with CircuitBreaker
+     */
+    static <T> Call<T> decorateCall(final CircuitBreaker circuitBreaker, final Call<T> call, final ResponseClassifier responseClassifier) {
+        return new CircuitBreakingCall<>(call, circuitBreaker, responseClassifier);
+    }
+
     class CircuitBreakingCall<T> extends DecoratedCall<T> {
         private final Call<T> call;
         private final CircuitBreaker circuitBreaker;
-        private final Predicate<Response> responseSuccess;
+        private final ResponseClassifier responseClassifier;
 
         public CircuitBreakingCall(Call<T> call, CircuitBreaker circuitBreaker, Predicate<Response> responseSuccess) {
+            this(call, circuitBreaker, ResponseClassifier.of(responseSuccess));
+        }
+
+        public CircuitBreakingCall(Call<T> call, CircuitBreaker circuitBreaker, ResponseClassifier responseClassifier) {
             super(call);
             this.call = call;
             this.circuitBreaker = circuitBreaker;
-            this.responseSuccess = responseSuccess;
+            this.responseClassifier = responseClassifier;
         }
 
         @Override
@@ -73,22 +92,17 @@ public interface RetrofitCircuitBreaker {
                 return;
             }
 
-            final StopWatch stopWatch = StopWatch.start();
+            final long start = System.nanoTime();
             call.enqueue(new Callback<T>() {
                 @Override
                 public void onResponse(final Call<T> call, final Response<T> response) {
-                    if (responseSuccess.test(response)) {
-                        circuitBreaker.onSuccess(stopWatch.stop().toNanos());
-                    } else {
-                        final Throwable throwable = new Throwable("Response error: HTTP " + response.code() + " - " + response.message());
-                        circuitBreaker.onError(stopWatch.stop().toNanos(), throwable);
-                    }
+                    onResult(response, System.nanoTime() - start);
                     callback.onResponse(call, response);
                 }
 
                 @Override
                 public void onFailure(final Call<T> call, final Throwable t) {
-                    circuitBreaker.onError(stopWatch.stop().toNanos(), t);
+                    circuitBreaker.onError(System.nanoTime() - start, t);
                     callback.onFailure(call, t);
                 }
             });
@@ -97,27 +111,34 @@ public interface RetrofitCircuitBreaker {
         @Override
         public Response<T> execute() throws IOException {
             circuitBreaker.acquirePermission();
-            final StopWatch stopWatch = StopWatch.start();
+            final long start = System.nanoTime();
             try {
                 final Response<T> response = call.execute();
-
-                if (responseSuccess.test(response)) {
-                    circuitBreaker.onSuccess(stopWatch.stop().toNanos());
-                } else {
-                    final Throwable throwable = new Throwable("Response error: HTTP " + response.code() + " - " + response.message());
-                    circuitBreaker.onError(stopWatch.stop().toNanos(), throwable);
-                }
-
+                onResult(response, System.nanoTime() - start);
                 return response;
             } catch (Exception exception) {
-                circuitBreaker.onError(stopWatch.stop().toNanos(), exception);
+                circuitBreaker.onError(System.nanoTime() - start, exception);
                 throw exception;
             }
         }
 
+        private void onResult(Response<T> response, long durationInNanos) {
+            switch (responseClassifier.classify(response)) {
+                case SUCCESS:
+                    circuitBreaker.onSuccess(durationInNanos);
+                    break;
+                case FAILURE:
+                    circuitBreaker.onError(durationInNanos, ResponseFailureException.of(response));
+                    break;
+                default:
+                    circuitBreaker.releasePermission();
+                    break;
+            }
+        }
+
         @Override
         public Call<T> clone() {
-            return new CircuitBreakingCall<>(call.clone(), circuitBreaker, responseSuccess);
+            return new CircuitBreakingCall<>(call.clone(), circuitBreaker, responseClassifier);
         }
     }
 }
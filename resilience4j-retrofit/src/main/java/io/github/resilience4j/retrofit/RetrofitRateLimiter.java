@@ -22,6 +22,7 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.retrofit.internal.DecoratedCall;
+import io.github.resilience4j.retrofit.internal.RetrofitScheduler;
 import io.vavr.CheckedFunction0;
 import io.vavr.control.Try;
 import okhttp3.MediaType;
@@ -31,11 +32,20 @@ import retrofit2.Callback;
 import retrofit2.Response;
 
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Decorates a Retrofit {@link Call} to check with a {@link RateLimiter} if a call can be made.
  * Returns an error response with a HTTP 429 (too many requests) code and a message which indicates that the client
  * prevented the request.
+ * <p>
+ * Enqueued calls do not wait for a permission. They reserve one and are handed over to the client by a
+ * {@link ScheduledExecutorService} once the permission is available, so that {@link Call#enqueue(Callback)} returns
+ * immediately. Rate limiters which cannot reserve permissions of a later refresh period, like the
+ * {@link io.github.resilience4j.ratelimiter.internal.SemaphoreBasedRateLimiter}, still wait for the permission in
+ * {@link Call#enqueue(Callback)}.
  *
  * <p>
  * <code>
@@ -56,26 +66,58 @@ public interface RetrofitRateLimiter {
         return new RateLimitingCall<>(call, rateLimiter);
     }
 
+    /**
+     * Decorate {@link Call}s allow {@link RateLimiter} functionality.
+     *
+     * @param rateLimiter {@link RateLimiter} to apply
+     * @param call        Call to decorate
+     * @param scheduler   delays enqueued calls until their permission is available
+     * @param <T>         Response type of call
+     * @return Original Call decorated with RateLimiter
+     */
+    static <T> Call<T> decorateCall(final RateLimiter rateLimiter, final Call<T> call, final ScheduledExecutorService scheduler) {
+        return new RateLimitingCall<>(call, rateLimiter, scheduler);
+    }
+
     class RateLimitingCall<T> extends DecoratedCall<T> {
         private final Call<T> call;
         private final RateLimiter rateLimiter;
+        private final ScheduledExecutorService scheduler;
 
         public RateLimitingCall(Call<T> call, RateLimiter rateLimiter) {
+            this(call, rateLimiter, RetrofitScheduler.getInstance());
+        }
+
+        public RateLimitingCall(Call<T> call, RateLimiter rateLimiter, ScheduledExecutorService scheduler) {
             super(call);
             this.call = call;
             this.rateLimiter = rateLimiter;
+            this.scheduler = scheduler;
         }
 
         @Override
         public void enqueue(final Callback<T> callback) {
-            try {
-                RateLimiter.waitForPermission(rateLimiter);
-            } catch (RequestNotPermitted | IllegalStateException e) {
+            final long nanosToWait = rateLimiter.reservePermission();
+            if (nanosToWait < 0) {
                 callback.onResponse(call, tooManyRequestsError());
                 return;
             }
+            if (nanosToWait == 0) {
+                call.enqueue(callback);
+                return;
+            }
 
-            call.enqueue(callback);
+            try {
+                scheduler.schedule(() -> {
+                    try {
+                        call.enqueue(callback);
+                    } catch (Throwable throwable) {
+                        callback.onFailure(call, throwable);
+                    }
+                }, nanosToWait, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                callback.onFailure(call, e);
+            }
         }
 
         @Override
@@ -103,7 +145,7 @@ public interface RetrofitRateLimiter {
 
         @Override
         public Call<T> clone() {
-            return new RateLimitingCall<>(call.clone(), rateLimiter);
+            return new RateLimitingCall<>(call.clone(), rateLimiter, scheduler);
         }
     }
 }
@@ -0,0 +1,191 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import io.github.resilience4j.retrofit.internal.DecoratedCall;
+import io.github.resilience4j.retrofit.internal.RetrofitScheduler;
+import io.github.resilience4j.retry.Retry;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorates a Retrofit {@link Call} to retry it with a {@link Retry} when an exception is thrown or when the
+ * {@link Response} matches the result predicate of the retry, e.g.
+ * <code>RetryConfig.&lt;Response&lt;?&gt;&gt;custom().retryOnResult(response -&gt; response.code() == 503)</code>.
+ * Every attempt after the first one is made with a clone of the call.
+ * <p>
+ * Enqueued calls do not block while they wait for the next attempt, the attempt is enqueued by a
+ * {@link ScheduledExecutorService}. For example:
+ * <p>
+ * <code>
+ * RetrofitRetry.decorateCall(retry, call);
+ * </code>
+ */
+public interface RetrofitRetry {
+
+    /**
+     * Decorate {@link Call}s allow {@link Retry} functionality.
+     *
+     * @param retry {@link Retry} to apply
+     * @param call  Call to decorate
+     * @param <T>   Response type of call
+     * @return Original Call decorated with Retry
+     */
+    static <T> Call<T> decorateCall(final Retry retry, final Call<T> call) {
+        return decorateCall(retry, call, RetrofitScheduler.getInstance());
+    }
+
+    /**
+     * Decorate {@link Call}s allow {@link Retry} functionality.
+     *
+     * @param retry     {@link Retry} to apply
+     * @param call      Call to decorate
+     * @param scheduler enqueues the attempts of enqueued calls after their wait interval
+     * @param <T>       Response type of call
+     * @return Original Call decorated with Retry
+     */
+    static <T> Call<T> decorateCall(final Retry retry, final Call<T> call, final ScheduledExecutorService scheduler) {
+        return new RetryingCall<>(call, retry, scheduler);
+    }
+
+    class RetryingCall<T> extends DecoratedCall<T> {
+        private final Call<T> call;
+        private final Retry retry;
+        private final ScheduledExecutorService scheduler;
+        private volatile Call<T> currentCall;
+        private volatile boolean canceled;
+
+        public RetryingCall(Call<T> call, Retry retry, ScheduledExecutorService scheduler) {
+            super(call);
+            this.call = call;
+            this.retry = retry;
+            this.scheduler = scheduler;
+            this.currentCall = call;
+        }
+
+        @Override
+        public void enqueue(final Callback<T> callback) {
+            call.enqueue(new RetryingCallback(retry.asyncContext(), callback));
+        }
+
+        @Override
+        public Response<T> execute() throws IOException {
+            final Retry.Context<Response<T>> context = retry.context();
+            Call<T> attempt = call;
+            while (true) {
+                try {
+                    final Response<T> response = attempt.execute();
+                    if (!context.onResult(response)) {
+                        context.onSuccess();
+                        return response;
+                    }
+                } catch (IOException | RuntimeException exception) {
+                    onError(context, exception);
+                }
+                attempt = nextAttempt();
+            }
+        }
+
+        private void onError(Retry.Context<Response<T>> context, Exception exception) throws IOException {
+            try {
+                context.onError(exception);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+
+        private Call<T> nextAttempt() throws IOException {
+            if (canceled) {
+                throw new IOException("Canceled");
+            }
+            final Call<T> attempt = call.clone();
+            currentCall = attempt;
+            return attempt;
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            currentCall.cancel();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled || call.isCanceled();
+        }
+
+        @Override
+        public Call<T> clone() {
+            return new RetryingCall<>(call.clone(), retry, scheduler);
+        }
+
+        private final class RetryingCallback implements Callback<T> {
+            private final Retry.AsyncContext<Response<T>> context;
+            private final Callback<T> callback;
+
+            private RetryingCallback(Retry.AsyncContext<Response<T>> context, Callback<T> callback) {
+                this.context = context;
+                this.callback = callback;
+            }
+
+            @Override
+            public void onResponse(final Call<T> call, final Response<T> response) {
+                final long delay = context.onResult(response);
+                if (delay < 1) {
+                    context.onSuccess();
+                    callback.onResponse(call, response);
+                } else {
+                    scheduleNextAttempt(call, delay);
+                }
+            }
+
+            @Override
+            public void onFailure(final Call<T> call, final Throwable t) {
+                final long delay = t instanceof Exception ? context.onError(t) : -1;
+                if (delay < 1) {
+                    callback.onFailure(call, t);
+                } else {
+                    scheduleNextAttempt(call, delay);
+                }
+            }
+
+            private void scheduleNextAttempt(final Call<T> call, final long delay) {
+                try {
+                    scheduler.schedule(() -> {
+                        try {
+                            nextAttempt().enqueue(this);
+                        } catch (Throwable throwable) {
+                            callback.onFailure(call, throwable);
+                        }
+                    }, delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    callback.onFailure(call, e);
+                }
+            }
+        }
+    }
+}
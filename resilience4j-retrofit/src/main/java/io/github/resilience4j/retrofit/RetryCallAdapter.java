@@ -0,0 +1,83 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import io.github.resilience4j.retrofit.internal.RetrofitScheduler;
+import io.github.resilience4j.retry.Retry;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Creates a Retrofit {@link CallAdapter.Factory} that decorates a Call to provide integration with a
+ * supplied {@link Retry}
+ */
+public final class RetryCallAdapter extends CallAdapter.Factory {
+
+    private final Retry retry;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Create a retrying call adapter factory that decorates retrofit calls
+     *
+     * @param retry retry to use
+     * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
+     */
+    public static RetryCallAdapter of(final Retry retry) {
+        return of(retry, RetrofitScheduler.getInstance());
+    }
+
+    /**
+     * Create a retrying call adapter factory that decorates retrofit calls
+     *
+     * @param retry     retry to use
+     * @param scheduler enqueues the attempts of enqueued calls after their wait interval
+     * @return a {@link CallAdapter.Factory} that can be passed into the {@link Retrofit.Builder}
+     */
+    public static RetryCallAdapter of(final Retry retry, final ScheduledExecutorService scheduler) {
+        return new RetryCallAdapter(retry, scheduler);
+    }
+
+    private RetryCallAdapter(final Retry retry, final ScheduledExecutorService scheduler) {
+        this.retry = retry;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        @SuppressWarnings("unchecked")
+        CallAdapter<Object, Object> nextAdapter = (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+
+        return new CallAdapter<Object, Object>() {
+            @Override
+            public Type responseType() {
+                return nextAdapter.responseType();
+            }
+
+            @Override
+            public Object adapt(Call<Object> call) {
+                return nextAdapter.adapt(RetrofitRetry.decorateCall(retry, call, scheduler));
+            }
+        };
+    }
+}
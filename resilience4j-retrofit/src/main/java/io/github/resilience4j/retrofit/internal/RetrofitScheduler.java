@@ -0,0 +1,48 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit.internal;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Holds the timer which delays enqueued calls, e.g. until a rate limiter grants a permission or until the next
+ * retry attempt, unless another {@link ScheduledExecutorService} is supplied. The timer only hands calls over to the
+ * client, so a single daemon thread is shared by all decorated calls.
+ */
+public final class RetrofitScheduler {
+
+    private RetrofitScheduler() {
+    }
+
+    /**
+     * @return the shared timer, which is created on first use
+     */
+    public static ScheduledExecutorService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resilience4j-retrofit-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
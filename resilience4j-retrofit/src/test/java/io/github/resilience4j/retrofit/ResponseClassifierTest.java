@@ -0,0 +1,100 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import io.github.resilience4j.retrofit.ResponseClassifier.Outcome;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+import retrofit2.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseClassifierTest {
+
+    @Test
+    public void defaultClassifierShouldTreatOnly2xxAsSuccess() {
+        final ResponseClassifier classifier = ResponseClassifier.ofDefaults();
+
+        assertThat(classifier.classify(response(200))).isEqualTo(Outcome.SUCCESS);
+        assertThat(classifier.classify(response(204))).isEqualTo(Outcome.SUCCESS);
+        assertThat(classifier.classify(response(304))).isEqualTo(Outcome.FAILURE);
+        assertThat(classifier.classify(response(404))).isEqualTo(Outcome.FAILURE);
+        assertThat(classifier.classify(response(500))).isEqualTo(Outcome.FAILURE);
+    }
+
+    @Test
+    public void shouldClassifyConfiguredRanges() {
+        final ResponseClassifier classifier = ResponseClassifier.custom()
+                .successOn(300, 399)
+                .ignoreOn(400, 499)
+                .failureOn(429, 429)
+                .defaultOutcome(Outcome.IGNORED)
+                .build();
+
+        assertThat(classifier.classify(response(200))).isEqualTo(Outcome.SUCCESS);
+        assertThat(classifier.classify(response(302))).isEqualTo(Outcome.SUCCESS);
+        assertThat(classifier.classify(response(404))).isEqualTo(Outcome.IGNORED);
+        assertThat(classifier.classify(response(429))).isEqualTo(Outcome.FAILURE);
+        assertThat(classifier.classify(response(503))).isEqualTo(Outcome.FAILURE);
+        assertThat(classifier.classify(response(799))).isEqualTo(Outcome.IGNORED);
+    }
+
+    @Test
+    public void shouldClassifyWithPredicate() {
+        final ResponseClassifier classifier = ResponseClassifier.of(response -> response.code() < 500);
+
+        assertThat(classifier.classify(response(404))).isEqualTo(Outcome.SUCCESS);
+        assertThat(classifier.classify(response(500))).isEqualTo(Outcome.FAILURE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidRange() {
+        ResponseClassifier.custom().failureOn(500, 400);
+    }
+
+    @Test
+    public void shouldShareFailuresPerStatusCode() {
+        final ResponseFailureException failure = ResponseFailureException.of(response(503));
+
+        assertThat(ResponseFailureException.of(response(503))).isSameAs(failure);
+        assertThat(failure.getCode()).isEqualTo(503);
+        assertThat(failure.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotRecordFailuresAsExceptions() {
+        assertThat(ResponseFailureException.of(response(503))).isNotInstanceOf(Exception.class);
+    }
+
+    private static Response<String> response(int code) {
+        final okhttp3.Response rawResponse = new okhttp3.Response.Builder()
+                .code(code)
+                .message("HTTP " + code)
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url("http://localhost/").build())
+                .build();
+        if (rawResponse.isSuccessful()) {
+            return Response.success("", rawResponse);
+        }
+        return Response.error(ResponseBody.create(MediaType.parse("text/plain"), ""), rawResponse);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import okhttp3.OkHttpClient;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.scalars.ScalarsConverterFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the integration of the Retrofit HTTP client and {@link Bulkhead}
+ */
+public class RetrofitBulkheadTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule();
+
+    private static final BulkheadConfig config = BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitTime(0)
+            .build();
+
+    private RetrofitService service;
+    private Bulkhead bulkhead;
+
+    @Before
+    public void setUp() {
+        final long TIMEOUT = 300; // ms
+        final OkHttpClient client = new OkHttpClient.Builder()
+                .connectTimeout(TIMEOUT, TimeUnit.MILLISECONDS)
+                .readTimeout(TIMEOUT, TimeUnit.MILLISECONDS)
+                .writeTimeout(TIMEOUT, TimeUnit.MILLISECONDS)
+                .build();
+
+        this.bulkhead = Bulkhead.of("backendName", config);
+        this.service = new Retrofit.Builder()
+                .addCallAdapterFactory(BulkheadCallAdapter.of(bulkhead))
+                .addConverterFactory(ScalarsConverterFactory.create())
+                .client(client)
+                .baseUrl(wireMockRule.baseUrl())
+                .build()
+                .create(RetrofitService.class);
+    }
+
+    @Test
+    public void decorateSuccessfulCall() throws Exception {
+        stubGreeting();
+
+        service.greeting().execute();
+
+        verify(1, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void decorateSuccessfulEnqueuedCall() throws Throwable {
+        stubGreeting();
+
+        final Response<String> response = EnqueueDecorator.enqueue(service.greeting());
+
+        assertThat(response.isSuccessful())
+                .describedAs("Response successful")
+                .isTrue();
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test(expected = BulkheadFullException.class)
+    public void shouldRejectCallWhenBulkheadIsFull() throws Exception {
+        stubGreeting();
+        bulkhead.acquirePermission();
+
+        service.greeting().execute();
+    }
+
+    @Test(expected = BulkheadFullException.class)
+    public void shouldFailEnqueuedCallWhenBulkheadIsFull() throws Throwable {
+        stubGreeting();
+        bulkhead.acquirePermission();
+
+        EnqueueDecorator.enqueue(service.greeting());
+    }
+
+    @Test
+    public void shouldReleasePermissionOfFailedEnqueuedCall() throws Throwable {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(400)));
+
+        try {
+            EnqueueDecorator.enqueue(service.greeting());
+        } catch (IOException ignored) {
+            // expected read timeout
+        }
+
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    private void stubGreeting() {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("hello world")));
+    }
+}
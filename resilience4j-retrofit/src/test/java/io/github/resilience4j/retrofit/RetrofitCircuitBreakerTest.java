@@ -34,6 +34,7 @@ import retrofit2.converter.scalars.ScalarsConverterFactory;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -222,6 +223,43 @@ public class RetrofitCircuitBreakerTest {
         assertThat(metrics.getNumberOfFailedCalls()).isEqualTo(1);
     }
 
+    @Test
+    public void decorateCallWithResponseClassifier() throws Throwable {
+        final AtomicReference<Throwable> recordedError = new AtomicReference<>();
+        circuitBreaker.getEventPublisher().onError(event -> recordedError.set(event.getThrowable()));
+        final RetrofitService classifyingService = new Retrofit.Builder()
+                .addCallAdapterFactory(CircuitBreakerCallAdapter.of(circuitBreaker, ResponseClassifier.custom()
+                        .ignoreOn(400, 499)
+                        .build()))
+                .addConverterFactory(ScalarsConverterFactory.create())
+                .client(client)
+                .baseUrl(wireMockRule.baseUrl())
+                .build()
+                .create(RetrofitService.class);
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "text/plain")));
+
+        classifyingService.greeting().execute();
+        EnqueueDecorator.enqueue(classifyingService.greeting());
+
+        final CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        assertThat(metrics.getNumberOfBufferedCalls()).isEqualTo(0);
+
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader("Content-Type", "text/plain")));
+
+        classifyingService.greeting().execute();
+
+        assertThat(metrics.getNumberOfFailedCalls()).isEqualTo(1);
+        assertThat(recordedError.get())
+                .isInstanceOf(ResponseFailureException.class)
+                .hasMessage("Response error: HTTP 503");
+    }
+
     @Test
     public void shouldNotCallServiceOnEnqueueWhenOpen() throws Throwable {
         stubFor(get(urlPathEqualTo("/greeting"))
@@ -21,11 +21,14 @@ package io.github.resilience4j.retrofit;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.internal.SemaphoreBasedRateLimiter;
 import io.reactivex.Single;
 import okhttp3.OkHttpClient;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
 import retrofit2.HttpException;
 import retrofit2.Response;
 import retrofit2.Retrofit;
@@ -34,7 +37,11 @@ import retrofit2.converter.scalars.ScalarsConverterFactory;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -172,6 +179,88 @@ public class RetrofitRateLimiterTest {
                 .isEqualTo(429);
     }
 
+    @Test
+    public void decorateEnqueuedCallOfRateLimiterWithoutReservation() throws Throwable {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                        .willReturn(aResponse()
+                                            .withStatus(200)
+                                            .withHeader("Content-Type", "text/plain")
+                                            .withBody("hello world")));
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final RetrofitService semaphoreService = new Retrofit.Builder()
+                    .addCallAdapterFactory(RateLimiterCallAdapter.of(
+                            new SemaphoreBasedRateLimiter("backendName", config, scheduler)))
+                    .addConverterFactory(ScalarsConverterFactory.create())
+                    .client(client)
+                    .baseUrl(wireMockRule.baseUrl())
+                    .build()
+                    .create(RetrofitService.class);
+
+            final Response<String> execute = EnqueueDecorator.enqueue(semaphoreService.greeting());
+            assertThat(execute.isSuccessful())
+                    .describedAs("Response successful")
+                    .isTrue();
+
+            final Response<String> rateLimitedResponse = EnqueueDecorator.enqueue(semaphoreService.greeting());
+            assertThat(rateLimitedResponse.code())
+                    .describedAs("HTTP Error Code")
+                    .isEqualTo(429);
+            verify(1, getRequestedFor(urlPathEqualTo("/greeting")));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotBlockWhileEnqueuedCallWaitsForPermission() throws Throwable {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                        .willReturn(aResponse()
+                                            .withStatus(200)
+                                            .withHeader("Content-Type", "text/plain")
+                                            .withBody("hello world")));
+        final RetrofitService waitingService = new Retrofit.Builder()
+                .addCallAdapterFactory(RateLimiterCallAdapter.of(RateLimiter.of("backendName", RateLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofSeconds(2))
+                        .limitRefreshPeriod(Duration.ofMillis(500))
+                        .limitForPeriod(1)
+                        .build())))
+                .addConverterFactory(ScalarsConverterFactory.create())
+                .client(client)
+                .baseUrl(wireMockRule.baseUrl())
+                .build()
+                .create(RetrofitService.class);
+        EnqueueDecorator.enqueue(waitingService.greeting());
+        final CountDownLatch responseLatch = new CountDownLatch(1);
+        final AtomicReference<Response<String>> responseReference = new AtomicReference<>();
+
+        final long start = System.nanoTime();
+        waitingService.greeting().enqueue(new Callback<String>() {
+            @Override
+            public void onResponse(final Call<String> call, final Response<String> response) {
+                responseReference.set(response);
+                responseLatch.countDown();
+            }
+
+            @Override
+            public void onFailure(final Call<String> call, final Throwable t) {
+                responseLatch.countDown();
+            }
+        });
+        final long enqueueDurationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(enqueueDurationInMillis)
+                .describedAs("Duration of enqueue")
+                .isLessThan(250);
+        assertThat(responseLatch.await(2, TimeUnit.SECONDS))
+                .describedAs("Delayed call completed")
+                .isTrue();
+        assertThat(responseReference.get().isSuccessful())
+                .describedAs("Response successful")
+                .isTrue();
+        verify(2, getRequestedFor(urlPathEqualTo("/greeting")));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldThrowOnBadService() {
         BadRetrofitService badService = new Retrofit.Builder()
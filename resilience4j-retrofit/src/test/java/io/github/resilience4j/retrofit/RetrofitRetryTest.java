@@ -0,0 +1,160 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retrofit;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import okhttp3.OkHttpClient;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.scalars.ScalarsConverterFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the integration of the Retrofit HTTP client and {@link Retry}
+ */
+public class RetrofitRetryTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule();
+
+    private static final RetryConfig config = RetryConfig.<Response<?>>custom()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(50))
+            .retryOnResult(response -> response.code() == 503)
+            .build();
+
+    private RetrofitService service;
+    private Retry retry;
+
+    @Before
+    public void setUp() {
+        final long TIMEOUT = 300; // ms
+        final OkHttpClient client = new OkHttpClient.Builder()
+                .connectTimeout(TIMEOUT, TimeUnit.MILLISECONDS)
+                .readTimeout(TIMEOUT, TimeUnit.MILLISECONDS)
+                .writeTimeout(TIMEOUT, TimeUnit.MILLISECONDS)
+                .build();
+
+        this.retry = Retry.of("backendName", config);
+        this.service = new Retrofit.Builder()
+                .addCallAdapterFactory(RetryCallAdapter.of(retry))
+                .addConverterFactory(ScalarsConverterFactory.create())
+                .client(client)
+                .baseUrl(wireMockRule.baseUrl())
+                .build()
+                .create(RetrofitService.class);
+    }
+
+    @Test
+    public void decorateSuccessfulCall() throws Exception {
+        stubGreeting(200);
+
+        service.greeting().execute();
+
+        verify(1, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(retry.getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryUnavailableResponse() throws Exception {
+        stubUnavailableOnce();
+
+        final Response<String> response = service.greeting().execute();
+
+        assertThat(response.body()).isEqualTo("hello world");
+        verify(2, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryUnavailableResponseOfEnqueuedCall() throws Throwable {
+        stubUnavailableOnce();
+
+        final Response<String> response = EnqueueDecorator.enqueue(service.greeting());
+
+        assertThat(response.body()).isEqualTo("hello world");
+        verify(2, getRequestedFor(urlPathEqualTo("/greeting")));
+        assertThat(retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReturnLastResponseWhenAttemptsAreExhausted() throws Throwable {
+        stubGreeting(503);
+
+        final Response<String> response = EnqueueDecorator.enqueue(service.greeting());
+
+        assertThat(response.code()).isEqualTo(503);
+        verify(3, getRequestedFor(urlPathEqualTo("/greeting")));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRetryAndRethrowCallExceptions() throws Exception {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(400)));
+
+        try {
+            service.greeting().execute();
+        } finally {
+            verify(3, getRequestedFor(urlPathEqualTo("/greeting")));
+            assertThat(retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(1);
+        }
+    }
+
+    private void stubUnavailableOnce() {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .inScenario("unavailable")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("available"));
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .inScenario("unavailable")
+                .whenScenarioStateIs("available")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("hello world")));
+    }
+
+    private void stubGreeting(int responseCode) {
+        stubFor(get(urlPathEqualTo("/greeting"))
+                .willReturn(aResponse()
+                        .withStatus(responseCode)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("hello world")));
+    }
+}
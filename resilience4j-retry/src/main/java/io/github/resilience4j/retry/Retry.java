@@ -18,9 +18,12 @@
  */
 package io.github.resilience4j.retry;
 
+import io.github.resilience4j.core.Deadline;
 import io.github.resilience4j.core.EventConsumer;
+import io.github.resilience4j.core.lang.Nullable;
 import io.github.resilience4j.retry.event.*;
 import io.github.resilience4j.retry.internal.RetryImpl;
+import io.github.resilience4j.retry.internal.RetryMetricsSnapshot;
 import io.vavr.CheckedFunction0;
 import io.vavr.CheckedFunction1;
 import io.vavr.CheckedRunnable;
@@ -380,6 +383,17 @@ public interface Retry {
 		 * @return the number of failed calls after all retry attempts
 		 */
 		long getNumberOfFailedCallsWithRetryAttempt();
+
+		/**
+		 * Returns an immutable snapshot of the metrics, whose values are read at once.
+		 * <p>
+		 * The default implementation copies the values of the getters one after another.
+		 *
+		 * @return an immutable snapshot of the metrics
+		 */
+		default Metrics snapshot() {
+			return RetryMetricsSnapshot.of(this);
+		}
 	}
 
 	interface AsyncContext<T> {
@@ -462,6 +476,8 @@ public interface Retry {
 		private final Retry.AsyncContext<T> retryContext;
 		private final Supplier<CompletionStage<T>> supplier;
 		private final CompletableFuture<T> promise;
+		@Nullable
+		private final Deadline deadline;
 
 		AsyncRetryBlock(
 				ScheduledExecutorService scheduler,
@@ -473,11 +489,13 @@ public interface Retry {
 			this.retryContext = retryContext;
 			this.supplier = supplier;
 			this.promise = promise;
+			this.deadline = Deadline.current().orElse(null);
 		}
 
 		@Override
 		public void run() {
-			final CompletionStage<T> stage = supplier.get();
+			// retries run on the scheduler, so the deadline of the caller is carried over explicitly
+			final CompletionStage<T> stage = deadline != null ? deadline.executeSupplier(supplier) : supplier.get();
 
 			stage.whenComplete((result, throwable) -> {
 				if(throwable != null){
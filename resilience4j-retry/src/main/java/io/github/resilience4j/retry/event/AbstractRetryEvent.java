@@ -18,6 +18,7 @@
  */
 package io.github.resilience4j.retry.event;
 
+import io.github.resilience4j.core.EventClock;
 import io.github.resilience4j.core.lang.Nullable;
 
 import java.time.ZonedDateTime;
@@ -25,7 +26,7 @@ import java.time.ZonedDateTime;
 abstract class AbstractRetryEvent implements RetryEvent {
 
     private final String name;
-    private final ZonedDateTime creationTime;
+    private final long creationTimeInMillis;
     private final int numberOfAttempts;
     @Nullable
     private final Throwable lastThrowable;
@@ -33,7 +34,7 @@ abstract class AbstractRetryEvent implements RetryEvent {
     AbstractRetryEvent(String name, int numberOfAttempts, @Nullable Throwable lastThrowable) {
         this.name = name;
         this.numberOfAttempts = numberOfAttempts;
-        this.creationTime = ZonedDateTime.now();
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
         this.lastThrowable = lastThrowable;
     }
 
@@ -44,7 +45,12 @@ abstract class AbstractRetryEvent implements RetryEvent {
 
     @Override
     public ZonedDateTime getCreationTime() {
-        return creationTime;
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
     }
 
     @Override
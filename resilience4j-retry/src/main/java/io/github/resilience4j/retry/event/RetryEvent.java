@@ -53,6 +53,15 @@ public interface RetryEvent {
      */
     ZonedDateTime getCreationTime();
 
+    /**
+     * Returns the creation time of Retry event in milliseconds since the epoch.
+     *
+     * @return the creation time of Retry event in milliseconds since the epoch
+     */
+    default long getCreationTimeInMillis() {
+        return getCreationTime().toInstant().toEpochMilli();
+    }
+
     /**
      * Returns the last captured Throwable.
      *
@@ -15,6 +15,16 @@ public class RetryOnRetryEvent extends AbstractRetryEvent {
         super(name, numberOfAttempts, lastThrowable);
         this.waitInterval = Duration.ofMillis(waitInterval);
     }
+
+    /**
+     * Returns the backoff before the next attempt.
+     *
+     * @return the wait interval
+     */
+    public Duration getWaitInterval() {
+        return waitInterval;
+    }
+
     @Override
     public Type getEventType() {
         return Type.RETRY;
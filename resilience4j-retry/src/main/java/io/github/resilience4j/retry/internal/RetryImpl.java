@@ -18,6 +18,7 @@
  */
 package io.github.resilience4j.retry.internal;
 
+import io.github.resilience4j.core.Deadline;
 import io.github.resilience4j.core.EventConsumer;
 import io.github.resilience4j.core.EventProcessor;
 import io.github.resilience4j.core.lang.Nullable;
@@ -29,6 +30,7 @@ import io.vavr.control.Option;
 import io.vavr.control.Try;
 
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
@@ -114,11 +116,25 @@ public class RetryImpl<T> implements Retry {
 		return this.metrics;
 	}
 
+	/**
+	 * Returns the interval to wait before the given attempt or -1 if the attempt would not start
+	 * before the given deadline.
+	 */
+	private long nextInterval(int attempt, @Nullable Deadline deadline) {
+		long interval = intervalFunction.apply(attempt);
+		if (deadline != null && !deadline.allowsWait(TimeUnit.MILLISECONDS.toNanos(interval))) {
+			return -1;
+		}
+		return interval;
+	}
+
 	public final class ContextImpl implements Retry.Context<T> {
 
 		private final AtomicInteger numOfAttempts = new AtomicInteger(0);
 		private final AtomicReference<Exception> lastException = new AtomicReference<>();
 		private final AtomicReference<RuntimeException> lastRuntimeException = new AtomicReference<>();
+		@Nullable
+		private final Deadline deadline = Deadline.current().orElse(null);
 
 		private ContextImpl() {
 		}
@@ -137,10 +153,11 @@ public class RetryImpl<T> implements Retry {
 		public boolean onResult(T result) {
 			if (null != resultPredicate && resultPredicate.test(result)) {
 				int currentNumOfAttempts = numOfAttempts.incrementAndGet();
-				if (currentNumOfAttempts >= maxAttempts) {
+				long interval = currentNumOfAttempts >= maxAttempts ? -1 : nextInterval(currentNumOfAttempts, deadline);
+				if (interval < 0) {
 					return false;
 				} else {
-					waitIntervalAfterFailure(currentNumOfAttempts, null);
+					waitIntervalAfterFailure(currentNumOfAttempts, interval, null);
 					return true;
 				}
 			}
@@ -172,30 +189,31 @@ public class RetryImpl<T> implements Retry {
 		private void throwOrSleepAfterException() throws Exception {
 			int currentNumOfAttempts = numOfAttempts.incrementAndGet();
 			Exception throwable = lastException.get();
-			if (currentNumOfAttempts >= maxAttempts) {
+			long interval = currentNumOfAttempts >= maxAttempts ? -1 : nextInterval(currentNumOfAttempts, deadline);
+			if (interval < 0) {
 				failedAfterRetryCounter.increment();
 				publishRetryEvent(() -> new RetryOnErrorEvent(getName(), currentNumOfAttempts, throwable));
 				throw throwable;
 			} else {
-				waitIntervalAfterFailure(currentNumOfAttempts, throwable);
+				waitIntervalAfterFailure(currentNumOfAttempts, interval, throwable);
 			}
 		}
 
 		private void throwOrSleepAfterRuntimeException() {
 			int currentNumOfAttempts = numOfAttempts.incrementAndGet();
 			RuntimeException throwable = lastRuntimeException.get();
-			if (currentNumOfAttempts >= maxAttempts) {
+			long interval = currentNumOfAttempts >= maxAttempts ? -1 : nextInterval(currentNumOfAttempts, deadline);
+			if (interval < 0) {
 				failedAfterRetryCounter.increment();
 				publishRetryEvent(() -> new RetryOnErrorEvent(getName(), currentNumOfAttempts, throwable));
 				throw throwable;
 			} else {
-				waitIntervalAfterFailure(currentNumOfAttempts, throwable);
+				waitIntervalAfterFailure(currentNumOfAttempts, interval, throwable);
 			}
 		}
 
-        private void waitIntervalAfterFailure(int currentNumOfAttempts,@Nullable Throwable throwable) {
+        private void waitIntervalAfterFailure(int currentNumOfAttempts, long interval, @Nullable Throwable throwable) {
 			// wait interval until the next attempt should start
-			long interval = intervalFunction.apply(numOfAttempts.get());
 			publishRetryEvent(() -> new RetryOnRetryEvent(getName(), currentNumOfAttempts, throwable, interval));
 			Try.run(() -> sleepFunction.accept(interval))
 					.getOrElseThrow(ex -> lastRuntimeException.get());
@@ -207,6 +225,8 @@ public class RetryImpl<T> implements Retry {
 
 		private final AtomicInteger numOfAttempts = new AtomicInteger(0);
 		private final AtomicReference<Throwable> lastException = new AtomicReference<>();
+		@Nullable
+		private final Deadline deadline = Deadline.current().orElse(null);
 
 		@Override
 		public void onSuccess() {
@@ -245,13 +265,13 @@ public class RetryImpl<T> implements Retry {
 		private long handleOnError(Throwable throwable) {
 			lastException.set(throwable);
 			int attempt = numOfAttempts.incrementAndGet();
-			if (attempt >= maxAttempts) {
+			long interval = attempt >= maxAttempts ? -1 : nextInterval(attempt, deadline);
+			if (interval < 0) {
 				failedAfterRetryCounter.increment();
 				publishRetryEvent(() -> new RetryOnErrorEvent(name, attempt, throwable));
 				return -1;
 			}
 
-			long interval = intervalFunction.apply(attempt);
 			publishRetryEvent(() -> new RetryOnRetryEvent(getName(), attempt, throwable, interval));
 			return interval;
 		}
@@ -263,7 +283,7 @@ public class RetryImpl<T> implements Retry {
 				if (attempt >= maxAttempts) {
 					return -1;
 				}
-				return intervalFunction.apply(attempt);
+				return nextInterval(attempt, deadline);
 			} else {
 				return -1;
 			}
@@ -293,6 +313,12 @@ public class RetryImpl<T> implements Retry {
 		public long getNumberOfFailedCallsWithRetryAttempt() {
 			return failedAfterRetryCounter.longValue();
 		}
+
+		@Override
+		public Metrics snapshot() {
+			return new RetryMetricsSnapshot(getNumberOfSuccessfulCallsWithoutRetryAttempt(), getNumberOfFailedCallsWithoutRetryAttempt(),
+					getNumberOfSuccessfulCallsWithRetryAttempt(), getNumberOfFailedCallsWithRetryAttempt());
+		}
 	}
 
 	private class RetryEventProcessor extends EventProcessor<RetryEvent> implements EventConsumer<RetryEvent>, EventPublisher {
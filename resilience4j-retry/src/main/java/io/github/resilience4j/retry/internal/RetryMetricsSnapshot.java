@@ -0,0 +1,78 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retry.internal;
+
+import io.github.resilience4j.retry.Retry;
+
+/**
+ * An immutable snapshot of the {@link Retry.Metrics} of a Retry.
+ */
+public final class RetryMetricsSnapshot implements Retry.Metrics {
+
+	private final long numberOfSuccessfulCallsWithoutRetryAttempt;
+	private final long numberOfFailedCallsWithoutRetryAttempt;
+	private final long numberOfSuccessfulCallsWithRetryAttempt;
+	private final long numberOfFailedCallsWithRetryAttempt;
+
+	RetryMetricsSnapshot(long numberOfSuccessfulCallsWithoutRetryAttempt, long numberOfFailedCallsWithoutRetryAttempt,
+						 long numberOfSuccessfulCallsWithRetryAttempt, long numberOfFailedCallsWithRetryAttempt) {
+		this.numberOfSuccessfulCallsWithoutRetryAttempt = numberOfSuccessfulCallsWithoutRetryAttempt;
+		this.numberOfFailedCallsWithoutRetryAttempt = numberOfFailedCallsWithoutRetryAttempt;
+		this.numberOfSuccessfulCallsWithRetryAttempt = numberOfSuccessfulCallsWithRetryAttempt;
+		this.numberOfFailedCallsWithRetryAttempt = numberOfFailedCallsWithRetryAttempt;
+	}
+
+	/**
+	 * Copies the values of the given metrics. They are read one after another, so they are only consistent with
+	 * each other if the metrics do not change meanwhile.
+	 *
+	 * @param metrics the metrics to copy
+	 * @return an immutable copy of the metrics
+	 */
+	public static Retry.Metrics of(Retry.Metrics metrics) {
+		return new RetryMetricsSnapshot(metrics.getNumberOfSuccessfulCallsWithoutRetryAttempt(),
+				metrics.getNumberOfFailedCallsWithoutRetryAttempt(), metrics.getNumberOfSuccessfulCallsWithRetryAttempt(),
+				metrics.getNumberOfFailedCallsWithRetryAttempt());
+	}
+
+	@Override
+	public long getNumberOfSuccessfulCallsWithoutRetryAttempt() {
+		return numberOfSuccessfulCallsWithoutRetryAttempt;
+	}
+
+	@Override
+	public long getNumberOfFailedCallsWithoutRetryAttempt() {
+		return numberOfFailedCallsWithoutRetryAttempt;
+	}
+
+	@Override
+	public long getNumberOfSuccessfulCallsWithRetryAttempt() {
+		return numberOfSuccessfulCallsWithRetryAttempt;
+	}
+
+	@Override
+	public long getNumberOfFailedCallsWithRetryAttempt() {
+		return numberOfFailedCallsWithRetryAttempt;
+	}
+
+	@Override
+	public Retry.Metrics snapshot() {
+		return this;
+	}
+}
@@ -25,6 +25,7 @@ import io.github.resilience4j.bulkhead.configure.ReactorBulkheadAspectExt;
 import io.github.resilience4j.bulkhead.configure.RxJava2BulkheadAspectExt;
 import io.github.resilience4j.bulkhead.configure.threadpool.ThreadPoolBulkheadConfiguration;
 import io.github.resilience4j.bulkhead.event.BulkheadEvent;
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 import io.github.resilience4j.common.bulkhead.configuration.ThreadPoolBulkheadConfigurationProperties;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.FallbackDecorators;
@@ -45,7 +46,7 @@ import java.util.List;
  * Configuration} for resilience4j-bulkhead.
  */
 @Configuration
-@Import(FallbackConfigurationOnMissingBean.class)
+@Import({FallbackConfigurationOnMissingBean.class, CombinedAspectConfiguration.class})
 public abstract class AbstractBulkheadConfigurationOnMissingBean {
 
 	protected final BulkheadConfiguration bulkheadConfiguration;
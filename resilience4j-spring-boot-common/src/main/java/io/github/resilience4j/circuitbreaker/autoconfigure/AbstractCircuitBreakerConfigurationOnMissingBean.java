@@ -19,6 +19,7 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.configure.*;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.autoconfigure.FallbackConfigurationOnMissingBean;
@@ -34,7 +35,7 @@ import org.springframework.context.annotation.Import;
 import java.util.List;
 
 @Configuration
-@Import(FallbackConfigurationOnMissingBean.class)
+@Import({FallbackConfigurationOnMissingBean.class, CombinedAspectConfiguration.class})
 public abstract class AbstractCircuitBreakerConfigurationOnMissingBean {
 
 	protected final CircuitBreakerConfiguration circuitBreakerConfiguration;
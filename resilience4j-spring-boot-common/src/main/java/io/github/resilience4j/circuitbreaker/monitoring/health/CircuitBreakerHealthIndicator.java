@@ -18,9 +18,12 @@ package io.github.resilience4j.circuitbreaker.monitoring.health;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.metrics.LatencySnapshot;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,6 +38,7 @@ public class CircuitBreakerHealthIndicator implements HealthIndicator {
     private static final String NOT_PERMITTED = "notPermittedCalls";
     private static final String MAX_BUFFERED_CALLS = "maxBufferedCalls";
     private static final String STATE = "state";
+    private static final String LATENCY = "latency";
     private final CircuitBreaker circuitBreaker;
 
     public CircuitBreakerHealthIndicator(CircuitBreaker circuitBreaker) {
@@ -49,20 +53,21 @@ public class CircuitBreakerHealthIndicator implements HealthIndicator {
     }
 
     private Health mapBackendMonitorState(CircuitBreaker circuitBreaker) {
-        switch (circuitBreaker.getState()) {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        switch (state) {
             case CLOSED:
-                return addDetails(Health.up(), circuitBreaker).build();
+                return addDetails(Health.up(), circuitBreaker, state).build();
             case OPEN:
-                return addDetails(Health.down(), circuitBreaker).build();
+                return addDetails(Health.down(), circuitBreaker, state).build();
             case HALF_OPEN:
-                return addDetails(Health.unknown(),circuitBreaker).build();
+                return addDetails(Health.unknown(), circuitBreaker, state).build();
             default:
-                return addDetails(Health.unknown(), circuitBreaker).build();
+                return addDetails(Health.unknown(), circuitBreaker, state).build();
         }
     }
 
-    private Health.Builder addDetails(Health.Builder builder, CircuitBreaker circuitBreaker) {
-        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+    private Health.Builder addDetails(Health.Builder builder, CircuitBreaker circuitBreaker, CircuitBreaker.State state) {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics().snapshot();
         CircuitBreakerConfig config = circuitBreaker.getCircuitBreakerConfig();
         builder.withDetail(FAILURE_RATE, metrics.getFailureRate() + "%")
             .withDetail(FAILURE_RATE_THRESHOLD, config.getFailureRateThreshold() + "%")
@@ -70,7 +75,20 @@ public class CircuitBreakerHealthIndicator implements HealthIndicator {
             .withDetail(BUFFERED_CALLS, metrics.getNumberOfBufferedCalls())
             .withDetail(FAILED_CALLS, metrics.getNumberOfFailedCalls())
             .withDetail(NOT_PERMITTED, metrics.getNumberOfNotPermittedCalls())
-            .withDetail(STATE, circuitBreaker.getState());
+            .withDetail(STATE, state);
+        if (config.isLatencyRecordingEnabled()) {
+            builder.withDetail(LATENCY, latencyDetails(metrics.getLatencySnapshot()));
+        }
         return builder;
     }
+
+    private static Map<String, Object> latencyDetails(LatencySnapshot latencySnapshot) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("count", latencySnapshot.getCount());
+        details.put("p50", latencySnapshot.getPercentile50().toMillis() + "ms");
+        details.put("p95", latencySnapshot.getPercentile95().toMillis() + "ms");
+        details.put("p99", latencySnapshot.getPercentile99().toMillis() + "ms");
+        details.put("max", latencySnapshot.getMax().toMillis() + "ms");
+        return details;
+    }
 }
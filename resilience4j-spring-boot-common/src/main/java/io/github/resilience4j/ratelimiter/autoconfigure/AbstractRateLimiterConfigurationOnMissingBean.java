@@ -37,9 +37,10 @@ import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.autoconfigure.FallbackConfigurationOnMissingBean;
 import io.github.resilience4j.utils.ReactorOnClasspathCondition;
 import io.github.resilience4j.utils.RxJava2OnClasspathCondition;
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 
 @Configuration
-@Import(FallbackConfigurationOnMissingBean.class)
+@Import({FallbackConfigurationOnMissingBean.class, CombinedAspectConfiguration.class})
 public abstract class AbstractRateLimiterConfigurationOnMissingBean {
 	protected final RateLimiterConfiguration rateLimiterConfiguration;
 
@@ -33,15 +33,14 @@ public class RateLimiterHealthIndicator implements HealthIndicator {
 
     @Override
     public Health health() {
-        RateLimiter.Metrics metrics = rateLimiter.getMetrics();
+        RateLimiter.Metrics metrics = rateLimiter.getMetrics().snapshot();
         int availablePermissions = metrics.getAvailablePermissions();
         int numberOfWaitingThreads = metrics.getNumberOfWaitingThreads();
         if (availablePermissions > 0 || numberOfWaitingThreads == 0) {
             return rateLimiterHealth(Status.UP, availablePermissions, numberOfWaitingThreads);
         }
-        if (rateLimiter instanceof AtomicRateLimiter) {
-            AtomicRateLimiter atomicRateLimiter = (AtomicRateLimiter) this.rateLimiter;
-            AtomicRateLimiter.AtomicRateLimiterMetrics detailedMetrics = atomicRateLimiter.getDetailedMetrics();
+        if (metrics instanceof AtomicRateLimiter.AtomicRateLimiterMetricsSnapshot) {
+            AtomicRateLimiter.AtomicRateLimiterMetricsSnapshot detailedMetrics = (AtomicRateLimiter.AtomicRateLimiterMetricsSnapshot) metrics;
             if (detailedMetrics.getNanosToWait() > timeoutInNanos) {
                 return rateLimiterHealth(Status.DOWN, availablePermissions, numberOfWaitingThreads);
             }
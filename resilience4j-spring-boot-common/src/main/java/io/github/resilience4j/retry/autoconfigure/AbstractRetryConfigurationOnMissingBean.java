@@ -24,6 +24,7 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.autoconfigure.FallbackConfigurationOnMissingBean;
@@ -43,7 +44,7 @@ import io.github.resilience4j.utils.RxJava2OnClasspathCondition;
  * Configuration} for resilience4j-retry.
  */
 @Configuration
-@Import(FallbackConfigurationOnMissingBean.class)
+@Import({FallbackConfigurationOnMissingBean.class, CombinedAspectConfiguration.class})
 public abstract class AbstractRetryConfigurationOnMissingBean {
 
 	protected final RetryConfiguration retryConfiguration;
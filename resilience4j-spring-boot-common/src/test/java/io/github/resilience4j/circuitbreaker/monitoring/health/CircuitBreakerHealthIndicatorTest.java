@@ -6,6 +6,7 @@ import org.junit.Test;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +37,7 @@ public class CircuitBreakerHealthIndicatorTest {
         when(metrics.getNumberOfBufferedCalls()).thenReturn(100);
         when(metrics.getNumberOfFailedCalls()).thenReturn(20);
         when(metrics.getNumberOfNotPermittedCalls()).thenReturn(0L);
+        when(metrics.snapshot()).thenReturn(metrics);
 
         when(circuitBreaker.getCircuitBreakerConfig()).thenReturn(config);
         when(circuitBreaker.getMetrics()).thenReturn(metrics);
@@ -51,10 +53,31 @@ public class CircuitBreakerHealthIndicatorTest {
                         entry("bufferedCalls", 100),
                         entry("failedCalls", 20),
                         entry("notPermittedCalls", 0L),
-                        entry("maxBufferedCalls", 100)
+                        entry("maxBufferedCalls", 100),
+                        entry("state", CLOSED)
                 );
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void healthLatencyDetails() {
+        // given
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .latencyRecordingEnabled(true)
+                .build());
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+        CircuitBreakerHealthIndicator healthIndicator = new CircuitBreakerHealthIndicator(circuitBreaker);
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        then(health.getDetails()).containsKey("latency");
+        then((Map<String, Object>) health.getDetails().get("latency"))
+                .containsEntry("count", 1L)
+                .containsEntry("max", "10ms");
+    }
+
     @Test
     public void testHealthStatus() {
         Map<CircuitBreaker.State, Status> expectedStateToStatusMap = new HashMap<>();
@@ -69,6 +92,7 @@ public class CircuitBreakerHealthIndicatorTest {
 
         when(circuitBreaker.getCircuitBreakerConfig()).thenReturn(config);
         when(circuitBreaker.getMetrics()).thenReturn(metrics);
+        when(metrics.snapshot()).thenReturn(metrics);
 
         expectedStateToStatusMap.forEach((state, status) -> assertStatusForGivenState(circuitBreaker, state, status));
     }
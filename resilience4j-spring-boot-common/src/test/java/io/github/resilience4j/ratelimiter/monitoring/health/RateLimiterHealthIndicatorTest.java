@@ -22,21 +22,22 @@ public class RateLimiterHealthIndicatorTest {
         // given
         RateLimiterConfig config = mock(RateLimiterConfig.class);
         AtomicRateLimiter.AtomicRateLimiterMetrics metrics = mock(AtomicRateLimiter.AtomicRateLimiterMetrics.class);
+        AtomicRateLimiter.AtomicRateLimiterMetricsSnapshot snapshot = mock(AtomicRateLimiter.AtomicRateLimiterMetricsSnapshot.class);
         AtomicRateLimiter rateLimiter = mock(AtomicRateLimiter.class);
 
         //when
 
         when(rateLimiter.getRateLimiterConfig()).thenReturn(config);
         when(rateLimiter.getMetrics()).thenReturn(metrics);
-        when(rateLimiter.getDetailedMetrics()).thenReturn(metrics);
+        when(metrics.snapshot()).thenReturn(snapshot);
 
         when(config.getTimeoutDuration()).thenReturn(Duration.ofNanos(30L));
 
-        when(metrics.getAvailablePermissions())
+        when(snapshot.getAvailablePermissions())
             .thenReturn(5, -1, -2);
-        when(metrics.getNumberOfWaitingThreads())
+        when(snapshot.getNumberOfWaitingThreads())
             .thenReturn(0, 1, 2);
-        when(metrics.getNanosToWait())
+        when(snapshot.getNanosToWait())
             .thenReturn(20L, 40L);
 
         // then
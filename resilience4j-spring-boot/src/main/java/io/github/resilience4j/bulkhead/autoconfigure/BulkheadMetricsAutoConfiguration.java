@@ -42,7 +42,7 @@ public class BulkheadMetricsAutoConfiguration {
 	@ConditionalOnMissingBean
 	public BulkheadMetrics registerBulkheadMetrics(BulkheadRegistry bulkheadRegistry, MetricRegistry metricRegistry) {
 		BulkheadMetrics bulkheadMetrics = BulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
-		metricRegistry.registerAll(bulkheadMetrics);
+		bulkheadMetrics.bindTo(metricRegistry);
 		return bulkheadMetrics;
 	}
 }
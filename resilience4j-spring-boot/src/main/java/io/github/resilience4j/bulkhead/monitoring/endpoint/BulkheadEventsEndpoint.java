@@ -29,8 +29,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.util.Comparator;
-
 @Controller
 @RequestMapping(value = "bulkhead/")
 public class BulkheadEventsEndpoint {
@@ -44,9 +42,7 @@ public class BulkheadEventsEndpoint {
     @GetMapping(value = "events", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
     public BulkheadEventsEndpointResponse getAllBulkheadEvents() {
-        java.util.List<BulkheadEventDTO> response = eventConsumerRegistry.getAllEventConsumer()
-                .flatMap(CircularEventConsumer::getBufferedEvents)
-                .sorted(Comparator.comparing(BulkheadEvent::getCreationTime))
+        java.util.List<BulkheadEventDTO> response = eventConsumerRegistry.getAllBufferedEvents()
                 .map(BulkheadEventDTOFactory::createBulkheadEventDTO)
                 .toJavaList();
 
@@ -78,8 +74,7 @@ public class BulkheadEventsEndpoint {
     private List<BulkheadEvent> getBulkheadEvent(String bulkheadName) {
         CircularEventConsumer<BulkheadEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(bulkheadName);
         if(eventConsumer != null){
-            return eventConsumer.getBufferedEvents()
-                    .filter(event -> event.getBulkheadName().equals(bulkheadName));
+            return eventConsumer.getBufferedEvents();
         }else{
             return List.empty();
         }
@@ -42,7 +42,7 @@ public class CircuitBreakerMetricsAutoConfiguration {
     @ConditionalOnMissingBean
 	public CircuitBreakerMetrics registerCircuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry, MetricRegistry metricRegistry) {
 		CircuitBreakerMetrics circuitBreakerMetrics = CircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
-		metricRegistry.registerAll(circuitBreakerMetrics);
+		circuitBreakerMetrics.bindTo(metricRegistry);
 		return circuitBreakerMetrics;
 	}
 }
@@ -29,8 +29,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.util.Comparator;
-
 
 @Controller
 @RequestMapping(value = "circuitbreaker/")
@@ -45,9 +43,7 @@ public class CircuitBreakerEventsEndpoint {
     @GetMapping(value = "events", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
     public CircuitBreakerEventsEndpointResponse getAllCircuitBreakerEvents() {
-        return new CircuitBreakerEventsEndpointResponse(eventConsumerRegistry.getAllEventConsumer()
-                .flatMap(CircularEventConsumer::getBufferedEvents)
-                .sorted(Comparator.comparing(CircuitBreakerEvent::getCreationTime))
+        return new CircuitBreakerEventsEndpointResponse(eventConsumerRegistry.getAllBufferedEvents()
                 .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
     }
 
@@ -55,7 +51,6 @@ public class CircuitBreakerEventsEndpoint {
     @ResponseBody
     public CircuitBreakerEventsEndpointResponse getEventsFilteredByCircuitBreakerName(@PathVariable("circuitBreakerName") String circuitBreakerName) {
         return new CircuitBreakerEventsEndpointResponse(getCircuitBreakerEvents(circuitBreakerName)
-                .filter(event -> event.getCircuitBreakerName().equals(circuitBreakerName))
                 .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
     }
 
@@ -71,8 +66,7 @@ public class CircuitBreakerEventsEndpoint {
     private List<CircuitBreakerEvent> getCircuitBreakerEvents(String circuitBreakerName) {
         CircularEventConsumer<CircuitBreakerEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(circuitBreakerName);
         if(eventConsumer != null){
-            return eventConsumer.getBufferedEvents()
-                    .filter(event -> event.getCircuitBreakerName().equals(circuitBreakerName));
+            return eventConsumer.getBufferedEvents();
         }else{
             return List.empty();
         }
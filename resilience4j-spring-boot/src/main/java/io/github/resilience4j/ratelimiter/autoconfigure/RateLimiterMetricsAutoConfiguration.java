@@ -43,7 +43,7 @@ public class RateLimiterMetricsAutoConfiguration {
 	@ConditionalOnMissingBean
 	public RateLimiterMetrics registerRateLimiterMetrics(RateLimiterRegistry rateLimiterRegistry, MetricRegistry metricRegistry) {
 		RateLimiterMetrics rateLimiterMetrics = RateLimiterMetrics.ofRateLimiterRegistry(rateLimiterRegistry);
-		metricRegistry.registerAll(rateLimiterMetrics);
+		rateLimiterMetrics.bindTo(metricRegistry);
 		return rateLimiterMetrics;
 	}
 }
@@ -17,7 +17,6 @@ package io.github.resilience4j.ratelimiter.monitoring.endpoint;
 
 import io.github.resilience4j.common.ratelimiter.monitoring.endpoint.RateLimiterEventDTO;
 import io.github.resilience4j.common.ratelimiter.monitoring.endpoint.RateLimiterEventsEndpointResponse;
-import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
 import org.springframework.http.MediaType;
@@ -27,7 +26,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.util.Comparator;
 import java.util.List;
 
 @Controller
@@ -43,9 +41,7 @@ public class RateLimiterEventsEndpoint {
     @GetMapping(value = "events", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
     public RateLimiterEventsEndpointResponse getAllRateLimiterEvents() {
-        List<RateLimiterEventDTO> eventsList = eventsConsumerRegistry.getAllEventConsumer()
-            .flatMap(CircularEventConsumer::getBufferedEvents)
-            .sorted(Comparator.comparing(RateLimiterEvent::getCreationTime))
+        List<RateLimiterEventDTO> eventsList = eventsConsumerRegistry.getAllBufferedEvents()
             .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList();
         return new RateLimiterEventsEndpointResponse(eventsList);
     }
@@ -54,7 +50,6 @@ public class RateLimiterEventsEndpoint {
     @ResponseBody
     public RateLimiterEventsEndpointResponse getEventsFilteredByRateLimiterName(@PathVariable("rateLimiterName") String rateLimiterName) {
         List<RateLimiterEventDTO> eventsList = eventsConsumerRegistry.getEventConsumer(rateLimiterName).getBufferedEvents()
-            .filter(event -> event.getRateLimiterName().equals(rateLimiterName))
             .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList();
         return new RateLimiterEventsEndpointResponse(eventsList);
     }
@@ -65,7 +60,6 @@ public class RateLimiterEventsEndpoint {
                                                                                             @PathVariable("eventType") String eventType) {
         RateLimiterEvent.Type targetType = RateLimiterEvent.Type.valueOf(eventType.toUpperCase());
         List<RateLimiterEventDTO> eventsList = eventsConsumerRegistry.getEventConsumer(rateLimiterName).getBufferedEvents()
-            .filter(event -> event.getRateLimiterName().equals(rateLimiterName))
             .filter(event -> event.getEventType() == targetType)
             .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList();
         return new RateLimiterEventsEndpointResponse(eventsList);
@@ -44,7 +44,7 @@ public class RetryMetricsAutoConfiguration {
 	@ConditionalOnMissingBean
 	public RetryMetrics registerRetryMetrics(RetryRegistry retryRegistry, MetricRegistry metricRegistry) {
 		RetryMetrics retryMetrics = RetryMetrics.ofRetryRegistry(retryRegistry);
-		metricRegistry.registerAll(retryMetrics);
+		retryMetrics.bindTo(metricRegistry);
 		return retryMetrics;
 	}
 
@@ -26,8 +26,6 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Comparator;
-
 
 /**
  * rest api endpoint to retrieve retry events
@@ -45,9 +43,7 @@ public class RetryEventsEndpoint {
 	@GetMapping(value = "events", produces = MediaType.APPLICATION_JSON_VALUE)
 	@ResponseBody
 	public RetryEventsEndpointResponse getAllRetryEvenets() {
-		return new RetryEventsEndpointResponse(eventConsumerRegistry.getAllEventConsumer()
-				.flatMap(CircularEventConsumer::getBufferedEvents)
-				.sorted(Comparator.comparing(RetryEvent::getCreationTime))
+		return new RetryEventsEndpointResponse(eventConsumerRegistry.getAllBufferedEvents()
 				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
 	}
 
@@ -71,8 +67,7 @@ public class RetryEventsEndpoint {
 	private List<RetryEvent> getRetryEvents(String name) {
 		final CircularEventConsumer<RetryEvent> syncEvents = eventConsumerRegistry.getEventConsumer(name);
 		if (syncEvents != null) {
-			return syncEvents.getBufferedEvents()
-					.filter(event -> event.getName().equals(name));
+			return syncEvents.getBufferedEvents();
 		} else {
 			return List.empty();
 		}
@@ -19,6 +19,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfi
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +31,7 @@ import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import io.github.resilience4j.bulkhead.event.BulkheadEvent;
 import io.github.resilience4j.bulkhead.monitoring.endpoint.BulkheadEndpoint;
 import io.github.resilience4j.bulkhead.monitoring.endpoint.BulkheadEventsEndpoint;
+import io.github.resilience4j.bulkhead.monitoring.endpoint.BulkheadStreamEventsEndpoint;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.autoconfigure.FallbackConfigurationOnMissingBean;
 
@@ -54,4 +56,19 @@ public class BulkheadAutoConfiguration {
 	public BulkheadEventsEndpoint bulkheadEventsEndpoint(EventConsumerRegistry<BulkheadEvent> eventConsumerRegistry) {
 		return new BulkheadEventsEndpoint(eventConsumerRegistry);
 	}
+
+	/**
+	 * Registers the BulkheadStreamEventsEndpoint if the application can stream server-sent events with Project Reactor.
+	 */
+	@Configuration
+	@ConditionalOnWebApplication
+	@ConditionalOnClass(name = "reactor.core.publisher.Flux")
+	static class BulkheadStreamEventsEndpointConfiguration {
+
+		@Bean
+		@ConditionalOnEnabledEndpoint
+		public BulkheadStreamEventsEndpoint bulkheadStreamEventsEndpoint(EventConsumerRegistry<BulkheadEvent> eventConsumerRegistry) {
+			return new BulkheadStreamEventsEndpoint(eventConsumerRegistry);
+		}
+	}
 }
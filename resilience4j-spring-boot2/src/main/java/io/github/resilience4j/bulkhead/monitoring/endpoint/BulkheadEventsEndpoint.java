@@ -22,12 +22,12 @@ import io.github.resilience4j.common.bulkhead.monitoring.endpoint.BulkheadEventD
 import io.github.resilience4j.common.bulkhead.monitoring.endpoint.BulkheadEventsEndpointResponse;
 import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
 import io.vavr.collection.List;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
-
-import java.util.Comparator;
+import org.springframework.lang.Nullable;
 
 @Endpoint(id = "bulkheadevents")
 public class BulkheadEventsEndpoint {
@@ -37,34 +37,93 @@ public class BulkheadEventsEndpoint {
 		this.eventConsumerRegistry = eventConsumerRegistry;
 	}
 
+	/**
+	 * Returns the buffered events of all bulkheads in the order in which they have been consumed.
+	 * If {@code after} or {@code limit} is given, the events are returned page by page and the response
+	 * contains the cursor of the next page.
+	 *
+	 * @param after the cursor of the page, or {@code null} to read the most recent events
+	 * @param limit the maximum number of events of the page
+	 * @return the buffered events of all bulkheads
+	 */
 	@ReadOperation
-	public BulkheadEventsEndpointResponse getAllBulkheadEvents() {
-		java.util.List<BulkheadEventDTO> response = eventConsumerRegistry.getAllEventConsumer()
-				.flatMap(CircularEventConsumer::getBufferedEvents)
-				.sorted(Comparator.comparing(BulkheadEvent::getCreationTime))
+	public BulkheadEventsEndpointResponse getAllBulkheadEvents(@Nullable Long after, @Nullable Integer limit) {
+		if (after == null && limit == null) {
+			java.util.List<BulkheadEventDTO> response = eventConsumerRegistry.getAllBufferedEvents()
+					.map(BulkheadEventDTOFactory::createBulkheadEventDTO)
+					.toJavaList();
+
+			return new BulkheadEventsEndpointResponse(response);
+		}
+		List<SequencedEvent<BulkheadEvent>> page = after != null
+				? eventConsumerRegistry.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+				: eventConsumerRegistry.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+		java.util.List<BulkheadEventDTO> response = page
+				.map(SequencedEvent::getEvent)
 				.map(BulkheadEventDTOFactory::createBulkheadEventDTO)
 				.toJavaList();
 
-		return new BulkheadEventsEndpointResponse(response);
+		return new BulkheadEventsEndpointResponse(response, nextCursor(page, after));
 	}
 
+	/**
+	 * Returns the buffered events of a bulkhead. If {@code after} or {@code limit} is given, the events are
+	 * returned page by page and the response contains the cursor of the next page.
+	 *
+	 * @param bulkheadName the name of the bulkhead
+	 * @param after the cursor of the page, or {@code null} to read the most recent events
+	 * @param limit the maximum number of events of the page
+	 * @return the buffered events of the bulkhead
+	 */
 	@ReadOperation
-	public BulkheadEventsEndpointResponse getEventsFilteredByBulkheadName(@Selector String bulkheadName) {
-		java.util.List<BulkheadEventDTO> response = getBulkheadEvent(bulkheadName)
+	public BulkheadEventsEndpointResponse getEventsFilteredByBulkheadName(@Selector String bulkheadName,
+	                                                                      @Nullable Long after, @Nullable Integer limit) {
+		if (after == null && limit == null) {
+			java.util.List<BulkheadEventDTO> response = getBulkheadEvent(bulkheadName)
+					.map(BulkheadEventDTOFactory::createBulkheadEventDTO)
+					.toJavaList();
+
+			return new BulkheadEventsEndpointResponse(response);
+		}
+		List<SequencedEvent<BulkheadEvent>> page = getBulkheadEventsPage(bulkheadName, after, limit);
+		java.util.List<BulkheadEventDTO> response = page
+				.map(SequencedEvent::getEvent)
 				.map(BulkheadEventDTOFactory::createBulkheadEventDTO)
 				.toJavaList();
 
-		return new BulkheadEventsEndpointResponse(response);
+		return new BulkheadEventsEndpointResponse(response, nextCursor(page, after));
 	}
 
+	/**
+	 * Returns the buffered events of a bulkhead with the given type. If {@code after} or {@code limit} is
+	 * given, the buffered events are read page by page, so a page may contain fewer events than {@code limit}.
+	 *
+	 * @param bulkheadName the name of the bulkhead
+	 * @param eventType the type of the events
+	 * @param after the cursor of the page, or {@code null} to read the most recent events
+	 * @param limit the maximum number of buffered events to read
+	 * @return the buffered events of the bulkhead with the given type
+	 */
 	@ReadOperation
-	public BulkheadEventsEndpointResponse getEventsFilteredByBulkheadNameAndEventType(@Selector String bulkheadName, @Selector String eventType) {
-		java.util.List<BulkheadEventDTO> response = getBulkheadEvent(bulkheadName)
-				.filter(event -> event.getEventType() == BulkheadEvent.Type.valueOf(eventType.toUpperCase()))
+	public BulkheadEventsEndpointResponse getEventsFilteredByBulkheadNameAndEventType(@Selector String bulkheadName, @Selector String eventType,
+	                                                                                  @Nullable Long after, @Nullable Integer limit) {
+		BulkheadEvent.Type targetType = BulkheadEvent.Type.valueOf(eventType.toUpperCase());
+		if (after == null && limit == null) {
+			java.util.List<BulkheadEventDTO> response = getBulkheadEvent(bulkheadName)
+					.filter(event -> event.getEventType() == targetType)
+					.map(BulkheadEventDTOFactory::createBulkheadEventDTO)
+					.toJavaList();
+
+			return new BulkheadEventsEndpointResponse(response);
+		}
+		List<SequencedEvent<BulkheadEvent>> page = getBulkheadEventsPage(bulkheadName, after, limit);
+		java.util.List<BulkheadEventDTO> response = page
+				.map(SequencedEvent::getEvent)
+				.filter(event -> event.getEventType() == targetType)
 				.map(BulkheadEventDTOFactory::createBulkheadEventDTO)
 				.toJavaList();
 
-		return new BulkheadEventsEndpointResponse(response);
+		return new BulkheadEventsEndpointResponse(response, nextCursor(page, after));
 	}
 
 	private List<BulkheadEvent> getBulkheadEvent(String bulkheadName) {
@@ -72,14 +131,30 @@ public class BulkheadEventsEndpoint {
 		if (eventConsumer == null) {
 			CircularEventConsumer<BulkheadEvent> threadPoolEventConsumer = eventConsumerRegistry.getEventConsumer(String.join("-", ThreadPoolBulkhead.class.getSimpleName(), bulkheadName));
 			if (threadPoolEventConsumer != null) {
-				return threadPoolEventConsumer.getBufferedEvents()
-						.filter(event -> event.getBulkheadName().equals(bulkheadName));
+				return threadPoolEventConsumer.getBufferedEvents();
 			} else {
 				return List.empty();
 			}
 		} else {
-			return eventConsumer.getBufferedEvents()
-					.filter(event -> event.getBulkheadName().equals(bulkheadName));
+			return eventConsumer.getBufferedEvents();
+		}
+	}
+
+	private List<SequencedEvent<BulkheadEvent>> getBulkheadEventsPage(String bulkheadName, @Nullable Long after, @Nullable Integer limit) {
+		CircularEventConsumer<BulkheadEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(bulkheadName);
+		if (eventConsumer == null) {
+			eventConsumer = eventConsumerRegistry.getEventConsumer(String.join("-", ThreadPoolBulkhead.class.getSimpleName(), bulkheadName));
+		}
+		if (eventConsumer != null) {
+			return after != null
+					? eventConsumer.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+					: eventConsumer.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+		} else {
+			return List.empty();
 		}
 	}
+
+	private static long nextCursor(List<SequencedEvent<BulkheadEvent>> page, @Nullable Long after) {
+		return page.lastOption().map(SequencedEvent::getSequence).getOrElse(after != null ? after : 0L);
+	}
 }
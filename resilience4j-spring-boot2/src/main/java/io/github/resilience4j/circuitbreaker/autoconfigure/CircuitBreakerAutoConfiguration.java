@@ -19,6 +19,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfi
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +30,7 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
 import io.github.resilience4j.circuitbreaker.monitoring.endpoint.CircuitBreakerEndpoint;
 import io.github.resilience4j.circuitbreaker.monitoring.endpoint.CircuitBreakerEventsEndpoint;
+import io.github.resilience4j.circuitbreaker.monitoring.endpoint.CircuitBreakerStreamEventsEndpoint;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.autoconfigure.FallbackConfigurationOnMissingBean;
 
@@ -56,4 +58,19 @@ public class CircuitBreakerAutoConfiguration {
         return new CircuitBreakerEventsEndpoint(eventConsumerRegistry);
     }
 
+    /**
+     * Registers the CircuitBreakerStreamEventsEndpoint if the application can stream server-sent events with Project Reactor.
+     */
+    @Configuration
+    @ConditionalOnWebApplication
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    static class CircuitBreakerStreamEventsEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnEnabledEndpoint
+        public CircuitBreakerStreamEventsEndpoint circuitBreakerStreamEventsEndpoint(EventConsumerRegistry<CircuitBreakerEvent> eventConsumerRegistry) {
+            return new CircuitBreakerStreamEventsEndpoint(eventConsumerRegistry);
+        }
+    }
+
 }
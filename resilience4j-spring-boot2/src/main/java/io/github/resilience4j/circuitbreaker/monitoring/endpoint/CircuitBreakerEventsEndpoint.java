@@ -21,12 +21,12 @@ import io.github.resilience4j.common.circuitbreaker.monitoring.endpoint.CircuitB
 import io.github.resilience4j.common.circuitbreaker.monitoring.endpoint.CircuitBreakerEventsEndpointResponse;
 import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
 import io.vavr.collection.List;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
-
-import java.util.Comparator;
+import org.springframework.lang.Nullable;
 
 
 @Endpoint(id = "circuitbreakerevents")
@@ -38,34 +38,102 @@ public class CircuitBreakerEventsEndpoint {
         this.eventConsumerRegistry = eventConsumerRegistry;
     }
 
+    /**
+     * Returns the buffered events of all CircuitBreakers in the order in which they have been consumed.
+     * If {@code after} or {@code limit} is given, the events are returned page by page and the response
+     * contains the cursor of the next page.
+     *
+     * @param after the cursor of the page, or {@code null} to read the most recent events
+     * @param limit the maximum number of events of the page
+     * @return the buffered events of all CircuitBreakers
+     */
     @ReadOperation
-    public CircuitBreakerEventsEndpointResponse getAllCircuitBreakerEvents() {
-        return new CircuitBreakerEventsEndpointResponse(eventConsumerRegistry.getAllEventConsumer()
-                .flatMap(CircularEventConsumer::getBufferedEvents)
-                .sorted(Comparator.comparing(CircuitBreakerEvent::getCreationTime))
-                .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
+    public CircuitBreakerEventsEndpointResponse getAllCircuitBreakerEvents(@Nullable Long after, @Nullable Integer limit) {
+        if (after == null && limit == null) {
+            return new CircuitBreakerEventsEndpointResponse(eventConsumerRegistry.getAllBufferedEvents()
+                    .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
+        }
+        List<SequencedEvent<CircuitBreakerEvent>> page = after != null
+                ? eventConsumerRegistry.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+                : eventConsumerRegistry.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+        return new CircuitBreakerEventsEndpointResponse(page
+                .map(SequencedEvent::getEvent)
+                .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList(),
+                nextCursor(page, after));
     }
 
+    /**
+     * Returns the buffered events of a CircuitBreaker. If {@code after} or {@code limit} is given, the events are
+     * returned page by page and the response contains the cursor of the next page.
+     *
+     * @param name the name of the CircuitBreaker
+     * @param after the cursor of the page, or {@code null} to read the most recent events
+     * @param limit the maximum number of events of the page
+     * @return the buffered events of the CircuitBreaker
+     */
     @ReadOperation
-    public CircuitBreakerEventsEndpointResponse getEventsFilteredByCircuitBreakerName(@Selector String name) {
-        return new CircuitBreakerEventsEndpointResponse(getCircuitBreakerEvents(name)
-                .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
+    public CircuitBreakerEventsEndpointResponse getEventsFilteredByCircuitBreakerName(@Selector String name,
+                                                                                      @Nullable Long after, @Nullable Integer limit) {
+        if (after == null && limit == null) {
+            return new CircuitBreakerEventsEndpointResponse(getCircuitBreakerEvents(name)
+                    .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
+        }
+        List<SequencedEvent<CircuitBreakerEvent>> page = getCircuitBreakerEventsPage(name, after, limit);
+        return new CircuitBreakerEventsEndpointResponse(page
+                .map(SequencedEvent::getEvent)
+                .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList(),
+                nextCursor(page, after));
     }
 
+    /**
+     * Returns the buffered events of a CircuitBreaker with the given type. If {@code after} or {@code limit} is
+     * given, the buffered events are read page by page, so a page may contain fewer events than {@code limit}.
+     *
+     * @param name the name of the CircuitBreaker
+     * @param eventType the type of the events
+     * @param after the cursor of the page, or {@code null} to read the most recent events
+     * @param limit the maximum number of buffered events to read
+     * @return the buffered events of the CircuitBreaker with the given type
+     */
     @ReadOperation
-    public CircuitBreakerEventsEndpointResponse getEventsFilteredByCircuitBreakerNameAndEventType(@Selector String name, @Selector String eventType) {
-        return new CircuitBreakerEventsEndpointResponse(getCircuitBreakerEvents(name)
-                .filter(event -> event.getEventType() == CircuitBreakerEvent.Type.valueOf(eventType.toUpperCase()))
-                .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
+    public CircuitBreakerEventsEndpointResponse getEventsFilteredByCircuitBreakerNameAndEventType(@Selector String name, @Selector String eventType,
+                                                                                                  @Nullable Long after, @Nullable Integer limit) {
+        CircuitBreakerEvent.Type targetType = CircuitBreakerEvent.Type.valueOf(eventType.toUpperCase());
+        if (after == null && limit == null) {
+            return new CircuitBreakerEventsEndpointResponse(getCircuitBreakerEvents(name)
+                    .filter(event -> event.getEventType() == targetType)
+                    .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList());
+        }
+        List<SequencedEvent<CircuitBreakerEvent>> page = getCircuitBreakerEventsPage(name, after, limit);
+        return new CircuitBreakerEventsEndpointResponse(page
+                .map(SequencedEvent::getEvent)
+                .filter(event -> event.getEventType() == targetType)
+                .map(CircuitBreakerEventDTOFactory::createCircuitBreakerEventDTO).toJavaList(),
+                nextCursor(page, after));
     }
 
     private List<CircuitBreakerEvent> getCircuitBreakerEvents(String circuitBreakerName) {
         CircularEventConsumer<CircuitBreakerEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(circuitBreakerName);
         if(eventConsumer != null){
-            return eventConsumer.getBufferedEvents()
-                    .filter(event -> event.getCircuitBreakerName().equals(circuitBreakerName));
+            return eventConsumer.getBufferedEvents();
         }else{
             return List.empty();
         }
     }
+
+    private List<SequencedEvent<CircuitBreakerEvent>> getCircuitBreakerEventsPage(String circuitBreakerName,
+                                                                                @Nullable Long after, @Nullable Integer limit) {
+        CircularEventConsumer<CircuitBreakerEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(circuitBreakerName);
+        if(eventConsumer != null){
+            return after != null
+                    ? eventConsumer.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+                    : eventConsumer.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+        }else{
+            return List.empty();
+        }
+    }
+
+    private static long nextCursor(List<SequencedEvent<CircuitBreakerEvent>> page, @Nullable Long after) {
+        return page.lastOption().map(SequencedEvent::getSequence).getOrElse(after != null ? after : 0L);
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.circuitbreaker.monitoring.endpoint;
+
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
+import io.github.resilience4j.common.circuitbreaker.monitoring.endpoint.CircuitBreakerEventDTO;
+import io.github.resilience4j.common.circuitbreaker.monitoring.endpoint.CircuitBreakerEventDTOFactory;
+import io.github.resilience4j.consumer.CircularEventConsumer;
+import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
+import io.github.resilience4j.core.EventConsumer;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+import java.util.function.Predicate;
+
+/**
+ * Streams the events of the CircuitBreakers as server-sent events while they occur. The events which are consumed
+ * before a client subscribes can be read page by page with the {@link CircuitBreakerEventsEndpoint}.
+ */
+@RestControllerEndpoint(id = "streamcircuitbreakerevents")
+public class CircuitBreakerStreamEventsEndpoint {
+
+    private static final int MAX_BUFFERED_EVENTS = 256;
+
+    private final EventConsumerRegistry<CircuitBreakerEvent> eventConsumerRegistry;
+
+    public CircuitBreakerStreamEventsEndpoint(EventConsumerRegistry<CircuitBreakerEvent> eventConsumerRegistry) {
+        this.eventConsumerRegistry = eventConsumerRegistry;
+    }
+
+    /**
+     * Streams the events of all CircuitBreakers which exist when the client subscribes.
+     *
+     * @return the stream of events
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CircuitBreakerEventDTO>> getAllCircuitBreakerEventsStream() {
+        return streamEvents(eventConsumerRegistry.getAllEventConsumer(), event -> true);
+    }
+
+    /**
+     * Streams the events of a CircuitBreaker.
+     *
+     * @param name the name of the CircuitBreaker
+     * @return the stream of events
+     */
+    @GetMapping(value = "/{name}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CircuitBreakerEventDTO>> getEventsStreamFilteredByCircuitBreakerName(@PathVariable("name") String name) {
+        return streamEvents(getEventConsumers(name), event -> true);
+    }
+
+    /**
+     * Streams the events of a CircuitBreaker with the given type.
+     *
+     * @param name the name of the CircuitBreaker
+     * @param eventType the type of the events
+     * @return the stream of events
+     */
+    @GetMapping(value = "/{name}/{eventType}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CircuitBreakerEventDTO>> getEventsStreamFilteredByCircuitBreakerNameAndEventType(@PathVariable("name") String name,
+            @PathVariable("eventType") String eventType) {
+        CircuitBreakerEvent.Type targetType = CircuitBreakerEvent.Type.valueOf(eventType.toUpperCase());
+        return streamEvents(getEventConsumers(name), event -> event.getEventType() == targetType);
+    }
+
+    private Seq<CircularEventConsumer<CircuitBreakerEvent>> getEventConsumers(String name) {
+        CircularEventConsumer<CircuitBreakerEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(name);
+        return eventConsumer != null ? List.of(eventConsumer) : List.empty();
+    }
+
+    /**
+     * Subscribes to the event consumers for as long as the client is connected. A slow client gets the newest
+     * events, the oldest events are dropped if more than {@link #MAX_BUFFERED_EVENTS} events are waiting to be sent.
+     */
+    private static Flux<ServerSentEvent<CircuitBreakerEventDTO>> streamEvents(Seq<CircularEventConsumer<CircuitBreakerEvent>> eventConsumers,
+            Predicate<CircuitBreakerEvent> filter) {
+        return Flux.<SequencedEvent<CircuitBreakerEvent>>create(sink -> {
+            EventConsumer<SequencedEvent<CircuitBreakerEvent>> subscriber = sequencedEvent -> {
+                if (filter.test(sequencedEvent.getEvent())) {
+                    sink.next(sequencedEvent);
+                }
+            };
+            eventConsumers.forEach(eventConsumer -> eventConsumer.subscribe(subscriber));
+            sink.onDispose(() -> eventConsumers.forEach(eventConsumer -> eventConsumer.unsubscribe(subscriber)));
+        })
+                .onBackpressureBuffer(MAX_BUFFERED_EVENTS, droppedEvent -> {}, BufferOverflowStrategy.DROP_OLDEST)
+                .map(sequencedEvent -> ServerSentEvent.builder(CircuitBreakerEventDTOFactory.createCircuitBreakerEventDTO(sequencedEvent.getEvent()))
+                        .id(String.valueOf(sequencedEvent.getSequence()))
+                        .event(sequencedEvent.getEvent().getEventType().name())
+                        .build());
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfi
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +35,7 @@ import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
 import io.github.resilience4j.ratelimiter.monitoring.endpoint.RateLimiterEndpoint;
 import io.github.resilience4j.ratelimiter.monitoring.endpoint.RateLimiterEventsEndpoint;
+import io.github.resilience4j.ratelimiter.monitoring.endpoint.RateLimiterStreamEventsEndpoint;
 import io.github.resilience4j.ratelimiter.monitoring.health.RateLimiterHealthIndicator;
 
 /**
@@ -68,6 +70,21 @@ public class RateLimiterAutoConfiguration {
         return new RateLimiterEventsEndpoint(eventConsumerRegistry);
     }
 
+    /**
+     * Registers the RateLimiterStreamEventsEndpoint if the application can stream server-sent events with Project Reactor.
+     */
+    @Configuration
+    @ConditionalOnWebApplication
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    static class RateLimiterStreamEventsEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnEnabledEndpoint
+        public RateLimiterStreamEventsEndpoint rateLimiterStreamEventsEndpoint(EventConsumerRegistry<RateLimiterEvent> eventConsumerRegistry) {
+            return new RateLimiterStreamEventsEndpoint(eventConsumerRegistry);
+        }
+    }
+
     @PostConstruct
     public void configureHealthIndicators() {
         rateLimiterProperties.getInstances().forEach(
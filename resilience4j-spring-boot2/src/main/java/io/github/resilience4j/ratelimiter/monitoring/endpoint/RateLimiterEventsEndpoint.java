@@ -19,13 +19,13 @@ import io.github.resilience4j.common.ratelimiter.monitoring.endpoint.RateLimiter
 import io.github.resilience4j.common.ratelimiter.monitoring.endpoint.RateLimiterEventsEndpointResponse;
 import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
 import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
 import io.vavr.collection.List;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
-
-import java.util.Comparator;
+import org.springframework.lang.Nullable;
 
 @Endpoint(id = "ratelimiterevents")
 public class RateLimiterEventsEndpoint {
@@ -35,36 +35,103 @@ public class RateLimiterEventsEndpoint {
         this.eventsConsumerRegistry = eventsConsumerRegistry;
     }
 
+    /**
+     * Returns the buffered events of all RateLimiters in the order in which they have been consumed.
+     * If {@code after} or {@code limit} is given, the events are returned page by page and the response
+     * contains the cursor of the next page.
+     *
+     * @param after the cursor of the page, or {@code null} to read the most recent events
+     * @param limit the maximum number of events of the page
+     * @return the buffered events of all RateLimiters
+     */
     @ReadOperation
-    public RateLimiterEventsEndpointResponse getAllRateLimiterEvents() {
-        return new RateLimiterEventsEndpointResponse(eventsConsumerRegistry.getAllEventConsumer()
-            .flatMap(CircularEventConsumer::getBufferedEvents)
-            .sorted(Comparator.comparing(RateLimiterEvent::getCreationTime))
-            .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList());
+    public RateLimiterEventsEndpointResponse getAllRateLimiterEvents(@Nullable Long after, @Nullable Integer limit) {
+        if (after == null && limit == null) {
+            return new RateLimiterEventsEndpointResponse(eventsConsumerRegistry.getAllBufferedEvents()
+                .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList());
+        }
+        List<SequencedEvent<RateLimiterEvent>> page = after != null
+                ? eventsConsumerRegistry.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+                : eventsConsumerRegistry.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+        return new RateLimiterEventsEndpointResponse(page
+                .map(SequencedEvent::getEvent)
+                .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList(),
+                nextCursor(page, after));
     }
 
+    /**
+     * Returns the buffered events of a RateLimiter. If {@code after} or {@code limit} is given, the events are
+     * returned page by page and the response contains the cursor of the next page.
+     *
+     * @param name the name of the RateLimiter
+     * @param after the cursor of the page, or {@code null} to read the most recent events
+     * @param limit the maximum number of events of the page
+     * @return the buffered events of the RateLimiter
+     */
     @ReadOperation
-    public RateLimiterEventsEndpointResponse getEventsFilteredByRateLimiterName(@Selector String name) {
-        return new RateLimiterEventsEndpointResponse(getRateLimiterEvents(name)
-            .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList());
+    public RateLimiterEventsEndpointResponse getEventsFilteredByRateLimiterName(@Selector String name,
+                                                                                @Nullable Long after, @Nullable Integer limit) {
+        if (after == null && limit == null) {
+            return new RateLimiterEventsEndpointResponse(getRateLimiterEvents(name)
+                .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList());
+        }
+        List<SequencedEvent<RateLimiterEvent>> page = getRateLimiterEventsPage(name, after, limit);
+        return new RateLimiterEventsEndpointResponse(page
+                .map(SequencedEvent::getEvent)
+                .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList(),
+                nextCursor(page, after));
     }
 
+    /**
+     * Returns the buffered events of a RateLimiter with the given type. If {@code after} or {@code limit} is
+     * given, the buffered events are read page by page, so a page may contain fewer events than {@code limit}.
+     *
+     * @param name the name of the RateLimiter
+     * @param eventType the type of the events
+     * @param after the cursor of the page, or {@code null} to read the most recent events
+     * @param limit the maximum number of buffered events to read
+     * @return the buffered events of the RateLimiter with the given type
+     */
     @ReadOperation
     public RateLimiterEventsEndpointResponse getEventsFilteredByRateLimiterNameAndEventType(@Selector String name,
-                                                                                            @Selector String eventType) {
+                                                                                            @Selector String eventType,
+                                                                                            @Nullable Long after, @Nullable Integer limit) {
         RateLimiterEvent.Type targetType = RateLimiterEvent.Type.valueOf(eventType.toUpperCase());
-        return new RateLimiterEventsEndpointResponse(getRateLimiterEvents(name)
+        if (after == null && limit == null) {
+            return new RateLimiterEventsEndpointResponse(getRateLimiterEvents(name)
+                    .filter(event -> event.getEventType() == targetType)
+                    .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList());
+        }
+        List<SequencedEvent<RateLimiterEvent>> page = getRateLimiterEventsPage(name, after, limit);
+        return new RateLimiterEventsEndpointResponse(page
+                .map(SequencedEvent::getEvent)
                 .filter(event -> event.getEventType() == targetType)
-                .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList());
+                .map(RateLimiterEventDTO::createRateLimiterEventDTO).toJavaList(),
+                nextCursor(page, after));
     }
 
     private List<RateLimiterEvent> getRateLimiterEvents(String name) {
         CircularEventConsumer<RateLimiterEvent> eventConsumer = eventsConsumerRegistry.getEventConsumer(name);
         if(eventConsumer != null){
-            return eventConsumer.getBufferedEvents()
-                    .filter(event -> event.getRateLimiterName().equals(name));
+            return eventConsumer.getBufferedEvents();
+        }else{
+            return List.empty();
+        }
+    }
+
+    private List<SequencedEvent<RateLimiterEvent>> getRateLimiterEventsPage(String name,
+                                                                          @Nullable Long after, @Nullable Integer limit) {
+        CircularEventConsumer<RateLimiterEvent> eventConsumer = eventsConsumerRegistry.getEventConsumer(name);
+        if(eventConsumer != null){
+            return after != null
+                    ? eventConsumer.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+                    : eventConsumer.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
         }else{
             return List.empty();
         }
     }
+
+    private static long nextCursor(List<SequencedEvent<RateLimiterEvent>> page, @Nullable Long after) {
+        return page.lastOption().map(SequencedEvent::getSequence).getOrElse(after != null ? after : 0L);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.ratelimiter.monitoring.endpoint;
+
+import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
+import io.github.resilience4j.common.ratelimiter.monitoring.endpoint.RateLimiterEventDTO;
+import io.github.resilience4j.consumer.CircularEventConsumer;
+import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
+import io.github.resilience4j.core.EventConsumer;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+import java.util.function.Predicate;
+
+/**
+ * Streams the events of the RateLimiters as server-sent events while they occur. The events which are consumed
+ * before a client subscribes can be read page by page with the {@link RateLimiterEventsEndpoint}.
+ */
+@RestControllerEndpoint(id = "streamratelimiterevents")
+public class RateLimiterStreamEventsEndpoint {
+
+    private static final int MAX_BUFFERED_EVENTS = 256;
+
+    private final EventConsumerRegistry<RateLimiterEvent> eventConsumerRegistry;
+
+    public RateLimiterStreamEventsEndpoint(EventConsumerRegistry<RateLimiterEvent> eventConsumerRegistry) {
+        this.eventConsumerRegistry = eventConsumerRegistry;
+    }
+
+    /**
+     * Streams the events of all RateLimiters which exist when the client subscribes.
+     *
+     * @return the stream of events
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<RateLimiterEventDTO>> getAllRateLimiterEventsStream() {
+        return streamEvents(eventConsumerRegistry.getAllEventConsumer(), event -> true);
+    }
+
+    /**
+     * Streams the events of a RateLimiter.
+     *
+     * @param name the name of the RateLimiter
+     * @return the stream of events
+     */
+    @GetMapping(value = "/{name}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<RateLimiterEventDTO>> getEventsStreamFilteredByRateLimiterName(@PathVariable("name") String name) {
+        return streamEvents(getEventConsumers(name), event -> true);
+    }
+
+    /**
+     * Streams the events of a RateLimiter with the given type.
+     *
+     * @param name the name of the RateLimiter
+     * @param eventType the type of the events
+     * @return the stream of events
+     */
+    @GetMapping(value = "/{name}/{eventType}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<RateLimiterEventDTO>> getEventsStreamFilteredByRateLimiterNameAndEventType(@PathVariable("name") String name,
+            @PathVariable("eventType") String eventType) {
+        RateLimiterEvent.Type targetType = RateLimiterEvent.Type.valueOf(eventType.toUpperCase());
+        return streamEvents(getEventConsumers(name), event -> event.getEventType() == targetType);
+    }
+
+    private Seq<CircularEventConsumer<RateLimiterEvent>> getEventConsumers(String name) {
+        CircularEventConsumer<RateLimiterEvent> eventConsumer = eventConsumerRegistry.getEventConsumer(name);
+        return eventConsumer != null ? List.of(eventConsumer) : List.empty();
+    }
+
+    /**
+     * Subscribes to the event consumers for as long as the client is connected. A slow client gets the newest
+     * events, the oldest events are dropped if more than {@link #MAX_BUFFERED_EVENTS} events are waiting to be sent.
+     */
+    private static Flux<ServerSentEvent<RateLimiterEventDTO>> streamEvents(Seq<CircularEventConsumer<RateLimiterEvent>> eventConsumers,
+            Predicate<RateLimiterEvent> filter) {
+        return Flux.<SequencedEvent<RateLimiterEvent>>create(sink -> {
+            EventConsumer<SequencedEvent<RateLimiterEvent>> subscriber = sequencedEvent -> {
+                if (filter.test(sequencedEvent.getEvent())) {
+                    sink.next(sequencedEvent);
+                }
+            };
+            eventConsumers.forEach(eventConsumer -> eventConsumer.subscribe(subscriber));
+            sink.onDispose(() -> eventConsumers.forEach(eventConsumer -> eventConsumer.unsubscribe(subscriber)));
+        })
+                .onBackpressureBuffer(MAX_BUFFERED_EVENTS, droppedEvent -> {}, BufferOverflowStrategy.DROP_OLDEST)
+                .map(sequencedEvent -> ServerSentEvent.builder(RateLimiterEventDTO.createRateLimiterEventDTO(sequencedEvent.getEvent()))
+                        .id(String.valueOf(sequencedEvent.getSequence()))
+                        .event(sequencedEvent.getEvent().getEventType().name())
+                        .build());
+    }
+}
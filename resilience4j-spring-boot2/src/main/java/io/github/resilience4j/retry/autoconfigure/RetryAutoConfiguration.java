@@ -17,6 +17,7 @@ package io.github.resilience4j.retry.autoconfigure;
 
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +30,7 @@ import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.event.RetryEvent;
 import io.github.resilience4j.retry.monitoring.endpoint.RetryEndpoint;
 import io.github.resilience4j.retry.monitoring.endpoint.RetryEventsEndpoint;
+import io.github.resilience4j.retry.monitoring.endpoint.RetryStreamEventsEndpoint;
 
 
 /**
@@ -51,4 +53,19 @@ public class RetryAutoConfiguration {
 	public RetryEventsEndpoint retryEventsEndpoint(EventConsumerRegistry<RetryEvent> eventConsumerRegistry) {
 		return new RetryEventsEndpoint(eventConsumerRegistry);
 	}
+
+	/**
+	 * Registers the RetryStreamEventsEndpoint if the application can stream server-sent events with Project Reactor.
+	 */
+	@Configuration
+	@ConditionalOnWebApplication
+	@ConditionalOnClass(name = "reactor.core.publisher.Flux")
+	static class RetryStreamEventsEndpointConfiguration {
+
+		@Bean
+		@ConditionalOnEnabledEndpoint
+		public RetryStreamEventsEndpoint retryStreamEventsEndpoint(EventConsumerRegistry<RetryEvent> eventConsumerRegistry) {
+			return new RetryStreamEventsEndpoint(eventConsumerRegistry);
+		}
+	}
 }
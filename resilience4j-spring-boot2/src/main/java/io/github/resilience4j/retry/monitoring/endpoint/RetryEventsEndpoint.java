@@ -20,13 +20,13 @@ import io.github.resilience4j.common.retry.monitoring.endpoint.RetryEventDTOFact
 import io.github.resilience4j.common.retry.monitoring.endpoint.RetryEventsEndpointResponse;
 import io.github.resilience4j.consumer.CircularEventConsumer;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
 import io.github.resilience4j.retry.event.RetryEvent;
 import io.vavr.collection.List;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
-
-import java.util.Comparator;
+import org.springframework.lang.Nullable;
 
 
 /**
@@ -42,45 +42,90 @@ public class RetryEventsEndpoint {
 	}
 
 	/**
-	 * @return all retry generated events
+	 * @param after optional cursor of the page, the most recent events are returned if only limit is given
+	 * @param limit optional maximum number of events of the page
+	 * @return all retry generated events, in the order in which they have been consumed
 	 */
 	@ReadOperation
-	public RetryEventsEndpointResponse getAllRetryEvenets() {
-		return new RetryEventsEndpointResponse(eventConsumerRegistry.getAllEventConsumer()
-				.flatMap(CircularEventConsumer::getBufferedEvents)
-				.sorted(Comparator.comparing(RetryEvent::getCreationTime))
-				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
+	public RetryEventsEndpointResponse getAllRetryEvenets(@Nullable Long after, @Nullable Integer limit) {
+		if (after == null && limit == null) {
+			return new RetryEventsEndpointResponse(eventConsumerRegistry.getAllBufferedEvents()
+					.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
+		}
+		List<SequencedEvent<RetryEvent>> page = after != null
+				? eventConsumerRegistry.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+				: eventConsumerRegistry.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+		return new RetryEventsEndpointResponse(page
+				.map(SequencedEvent::getEvent)
+				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList(),
+				nextCursor(page, after));
 	}
 
 	/**
-	 * @param name backend name
+	 * @param name  backend name
+	 * @param after optional cursor of the page, the most recent events are returned if only limit is given
+	 * @param limit optional maximum number of events of the page
 	 * @return the retry events generated for this backend
 	 */
 	@ReadOperation
-	public RetryEventsEndpointResponse getEventsFilteredByRetryrName(@Selector String name) {
-		return new RetryEventsEndpointResponse(getRetryEvents(name)
-				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
+	public RetryEventsEndpointResponse getEventsFilteredByRetryrName(@Selector String name,
+	                                                                 @Nullable Long after, @Nullable Integer limit) {
+		if (after == null && limit == null) {
+			return new RetryEventsEndpointResponse(getRetryEvents(name)
+					.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
+		}
+		List<SequencedEvent<RetryEvent>> page = getRetryEventsPage(name, after, limit);
+		return new RetryEventsEndpointResponse(page
+				.map(SequencedEvent::getEvent)
+				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList(),
+				nextCursor(page, after));
 	}
 
 	/**
 	 * @param name      backend name
 	 * @param eventType retry event type
+	 * @param after     optional cursor of the page, the most recent buffered events are read if only limit is given
+	 * @param limit     optional maximum number of buffered events to read
 	 * @return the matching generated retry events
 	 */
 	@ReadOperation
-	public RetryEventsEndpointResponse getEventsFilteredByRetryNameAndEventType(@Selector String name, @Selector String eventType) {
-		return new RetryEventsEndpointResponse(getRetryEvents(name)
-				.filter(event -> event.getEventType() == RetryEvent.Type.valueOf(eventType.toUpperCase()))
-				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
+	public RetryEventsEndpointResponse getEventsFilteredByRetryNameAndEventType(@Selector String name, @Selector String eventType,
+	                                                                            @Nullable Long after, @Nullable Integer limit) {
+		RetryEvent.Type targetType = RetryEvent.Type.valueOf(eventType.toUpperCase());
+		if (after == null && limit == null) {
+			return new RetryEventsEndpointResponse(getRetryEvents(name)
+					.filter(event -> event.getEventType() == targetType)
+					.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList());
+		}
+		List<SequencedEvent<RetryEvent>> page = getRetryEventsPage(name, after, limit);
+		return new RetryEventsEndpointResponse(page
+				.map(SequencedEvent::getEvent)
+				.filter(event -> event.getEventType() == targetType)
+				.map(RetryEventDTOFactory::createRetryEventDTO).toJavaList(),
+				nextCursor(page, after));
 	}
 
 	private List<RetryEvent> getRetryEvents(String name) {
 		final CircularEventConsumer<RetryEvent> syncEvents = eventConsumerRegistry.getEventConsumer(name);
 		if (syncEvents != null) {
-			return syncEvents.getBufferedEvents()
-					.filter(event -> event.getName().equals(name));
+			return syncEvents.getBufferedEvents();
 		} else {
 			return List.empty();
 		}
 	}
+
+	private List<SequencedEvent<RetryEvent>> getRetryEventsPage(String name, @Nullable Long after, @Nullable Integer limit) {
+		final CircularEventConsumer<RetryEvent> syncEvents = eventConsumerRegistry.getEventConsumer(name);
+		if (syncEvents != null) {
+			return after != null
+					? syncEvents.getBufferedEventsAfter(after, limit != null ? limit : Integer.MAX_VALUE)
+					: syncEvents.getLatestBufferedEvents(limit != null ? limit : Integer.MAX_VALUE);
+		} else {
+			return List.empty();
+		}
+	}
+
+	private static long nextCursor(List<SequencedEvent<RetryEvent>> page, @Nullable Long after) {
+		return page.lastOption().map(SequencedEvent::getSequence).getOrElse(after != null ? after : 0L);
+	}
 }
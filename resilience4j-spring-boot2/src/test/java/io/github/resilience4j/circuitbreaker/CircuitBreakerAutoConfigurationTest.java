@@ -109,6 +109,15 @@ public class CircuitBreakerAutoConfigurationTest {
 		circuitBreakerEventList = restTemplate.getForEntity("/actuator/circuitbreakerevents/backendA", CircuitBreakerEventsEndpointResponse.class);
 		assertThat(circuitBreakerEventList.getBody().getCircuitBreakerEvents()).hasSize(2);
 
+		// expect circuitbreaker-event actuator endpoint returns the events page by page
+		circuitBreakerEventList = restTemplate.getForEntity("/actuator/circuitbreakerevents/backendA?after=0&limit=1", CircuitBreakerEventsEndpointResponse.class);
+		assertThat(circuitBreakerEventList.getBody().getCircuitBreakerEvents()).hasSize(1);
+		Long nextCursor = circuitBreakerEventList.getBody().getNextCursor();
+		assertThat(nextCursor).isNotNull();
+		circuitBreakerEventList = restTemplate.getForEntity("/actuator/circuitbreakerevents/backendA?after=" + nextCursor, CircuitBreakerEventsEndpointResponse.class);
+		assertThat(circuitBreakerEventList.getBody().getCircuitBreakerEvents()).hasSize(1);
+		assertThat(circuitBreakerEventList.getBody().getNextCursor()).isGreaterThan(nextCursor);
+
 		// expect no health indicator for backendB, as it is disabled via properties
 		ResponseEntity<HealthResponse> healthResponse = restTemplate.getForEntity("/actuator/health", HealthResponse.class);
 		assertThat(healthResponse.getBody().getDetails()).isNotNull();
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.circuitbreaker.monitoring.endpoint;
+
+import static com.jayway.awaitility.Awaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnErrorEvent;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnSuccessEvent;
+import io.github.resilience4j.consumer.CircularEventConsumer;
+import io.github.resilience4j.consumer.DefaultEventConsumerRegistry;
+import io.github.resilience4j.consumer.EventConsumerRegistry;
+import io.github.resilience4j.consumer.SequencedEvent;
+import io.github.resilience4j.core.EventConsumer;
+
+public class CircuitBreakerStreamEventsEndpointTest {
+
+	private SubscriptionCountingEventConsumer backendA;
+	private SubscriptionCountingEventConsumer backendB;
+	private MockMvc mockMvc;
+
+	@Before
+	public void setUp() {
+		backendA = new SubscriptionCountingEventConsumer();
+		backendB = new SubscriptionCountingEventConsumer();
+		DefaultEventConsumerRegistry<CircuitBreakerEvent> eventConsumerRegistry = new DefaultEventConsumerRegistry<CircuitBreakerEvent>() {
+			@Override
+			public CircularEventConsumer<CircuitBreakerEvent> getEventConsumer(String id) {
+				return "backendA".equals(id) ? backendA : "backendB".equals(id) ? backendB : null;
+			}
+		};
+		mockMvc = MockMvcBuilders.standaloneSetup(new StreamEventsController(eventConsumerRegistry)).build();
+	}
+
+	@Test
+	public void shouldStreamEventsOfCircuitBreakerAsServerSentEvents() throws Exception {
+		MvcResult result = mockMvc.perform(get("/backendA").accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> backendA.subscriptions.get() == 1);
+
+		backendA.consumeEvent(new CircuitBreakerOnSuccessEvent("backendA", Duration.ZERO));
+		backendB.consumeEvent(new CircuitBreakerOnSuccessEvent("backendB", Duration.ZERO));
+		backendA.consumeEvent(new CircuitBreakerOnErrorEvent("backendA", Duration.ZERO, new IOException("BAM!")));
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> contentOf(result).contains("event:ERROR"));
+		String content = contentOf(result);
+		assertThat(content).contains("id:1\nevent:SUCCESS\ndata:", "id:2\nevent:ERROR\ndata:", "\"circuitBreakerName\":\"backendA\"");
+		assertThat(content).doesNotContain("backendB");
+		assertThat(backendB.subscriptions.get()).isZero();
+	}
+
+	@Test
+	public void shouldStreamEventsOfCircuitBreakerFilteredByEventType() throws Exception {
+		MvcResult result = mockMvc.perform(get("/backendA/error").accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> backendA.subscriptions.get() == 1);
+
+		backendA.consumeEvent(new CircuitBreakerOnSuccessEvent("backendA", Duration.ZERO));
+		backendA.consumeEvent(new CircuitBreakerOnErrorEvent("backendA", Duration.ZERO, new IOException("BAM!")));
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> contentOf(result).contains("event:ERROR"));
+		assertThat(contentOf(result)).doesNotContain("event:SUCCESS");
+	}
+
+	@Test
+	public void shouldUnsubscribeWhenClientDisconnects() throws Exception {
+		MvcResult result = mockMvc.perform(get("/backendA").accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> backendA.subscriptions.get() == 1);
+
+		// the servlet container reports a broken connection to the async listeners,
+		// the subscription is cancelled when the next event cannot be sent
+		MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+		}
+		backendA.consumeEvent(new CircuitBreakerOnSuccessEvent("backendA", Duration.ZERO));
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> backendA.subscriptions.get() == 0);
+	}
+
+	private static String contentOf(MvcResult result) throws Exception {
+		return result.getResponse().getContentAsString();
+	}
+
+	/**
+	 * Maps the operations of the endpoint like the actuator does, without starting an application context.
+	 */
+	@RestController
+	private static class StreamEventsController extends CircuitBreakerStreamEventsEndpoint {
+
+		StreamEventsController(EventConsumerRegistry<CircuitBreakerEvent> eventConsumerRegistry) {
+			super(eventConsumerRegistry);
+		}
+	}
+
+	private static class SubscriptionCountingEventConsumer extends CircularEventConsumer<CircuitBreakerEvent> {
+
+		private final AtomicInteger subscriptions = new AtomicInteger();
+
+		SubscriptionCountingEventConsumer() {
+			super(10);
+		}
+
+		@Override
+		public void subscribe(EventConsumer<SequencedEvent<CircuitBreakerEvent>> subscriber) {
+			super.subscribe(subscriber);
+			subscriptions.incrementAndGet();
+		}
+
+		@Override
+		public void unsubscribe(EventConsumer<SequencedEvent<CircuitBreakerEvent>> subscriber) {
+			super.unsubscribe(subscriber);
+			subscriptions.decrementAndGet();
+		}
+	}
+}
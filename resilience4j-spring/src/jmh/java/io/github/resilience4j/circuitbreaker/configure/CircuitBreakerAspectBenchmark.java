@@ -0,0 +1,151 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.circuitbreaker.configure;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.fallback.CompletionStageFallbackDecorator;
+import io.github.resilience4j.fallback.FallbackDecorators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead which the {@link CircuitBreakerAspect} adds to an annotated method.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class CircuitBreakerAspectBenchmark {
+
+    private static final int ITERATION_COUNT = 10;
+    private static final int WARMUP_COUNT = 10;
+    private static final int THREAD_COUNT = 2;
+    private static final int FORK_COUNT = 2;
+
+    private AnnotatedService directService;
+    private AnnotatedService proxiedService;
+
+    @Setup
+    public void setUp() {
+        directService = new AnnotatedService();
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreakerRegistry.circuitBreaker("openBackend").transitionToForcedOpenState();
+        CircuitBreakerAspect circuitBreakerAspect = new CircuitBreakerAspect(
+            new CircuitBreakerConfigurationProperties(), circuitBreakerRegistry, Collections.emptyList(),
+            new FallbackDecorators(Collections.singletonList(new CompletionStageFallbackDecorator())));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new AnnotatedService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(circuitBreakerAspect);
+        proxiedService = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String directCall() {
+        return directService.annotatedMethod();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String annotatedMethod() {
+        return proxiedService.annotatedMethod();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String annotatedMethodWithFallback() {
+        return proxiedService.annotatedMethodWithFallback();
+    }
+
+    @Benchmark
+    @Fork(value = FORK_COUNT)
+    @Threads(value = THREAD_COUNT)
+    @Warmup(iterations = WARMUP_COUNT)
+    @Measurement(iterations = ITERATION_COUNT)
+    public String fallbackOfOpenCircuitBreaker() {
+        return proxiedService.annotatedMethodWithOpenCircuitBreaker("Benchmark");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(CircuitBreakerAspectBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+    public static class AnnotatedService {
+
+        @CircuitBreaker(name = "backend")
+        public String annotatedMethod() {
+            Blackhole.consumeCPU(100);
+            return "Hello Benchmark";
+        }
+
+        @CircuitBreaker(name = "backend", fallbackMethod = "fallback")
+        public String annotatedMethodWithFallback() {
+            Blackhole.consumeCPU(100);
+            return "Hello Benchmark";
+        }
+
+        @CircuitBreaker(name = "openBackend", fallbackMethod = "fallback")
+        public String annotatedMethodWithOpenCircuitBreaker(String name) {
+            Blackhole.consumeCPU(100);
+            return "Hello " + name;
+        }
+
+        public String fallback(Throwable throwable) {
+            return "Hello Fallback";
+        }
+
+        public String fallback(String name, CallNotPermittedException exception) {
+            return "Hello Fallback " + name;
+        }
+    }
+}
@@ -36,9 +36,11 @@ import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.fallback.FallbackDecorator;
 import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.FallbackMethod;
 import io.github.resilience4j.utils.AnnotationExtractor;
+import io.github.resilience4j.utils.InvocationPlanCache;
 import io.vavr.CheckedFunction0;
 
 /**
@@ -73,6 +75,7 @@ public class BulkheadAspect implements Ordered {
 	private final @Nullable
 	List<BulkheadAspectExt> bulkheadAspectExts;
 	private final FallbackDecorators fallbackDecorators;
+	private final InvocationPlanCache<InvocationPlan> invocationPlans;
 
 	public BulkheadAspect(BulkheadConfigurationProperties backendMonitorPropertiesRegistry, ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry, BulkheadRegistry bulkheadRegistry, @Autowired(required = false) List<BulkheadAspectExt> bulkheadAspectExts, FallbackDecorators fallbackDecorators) {
 		this.bulkheadConfigurationProperties = backendMonitorPropertiesRegistry;
@@ -80,6 +83,9 @@ public class BulkheadAspect implements Ordered {
 		this.bulkheadAspectExts = bulkheadAspectExts;
 		this.fallbackDecorators = fallbackDecorators;
 		this.threadPoolBulkheadRegistry = threadPoolBulkheadRegistry;
+		this.invocationPlans = new InvocationPlanCache<InvocationPlan>()
+				.clearOnChangesOf(bulkheadRegistry)
+				.clearOnChangesOf(threadPoolBulkheadRegistry);
 	}
 
 	@Pointcut(value = "@within(Bulkhead) || @annotation(Bulkhead)", argNames = "Bulkhead")
@@ -89,54 +95,91 @@ public class BulkheadAspect implements Ordered {
 	@Around(value = "matchAnnotatedClassOrMethod(bulkheadAnnotation)", argNames = "proceedingJoinPoint, bulkheadAnnotation")
 	public Object bulkheadAroundAdvice(ProceedingJoinPoint proceedingJoinPoint, @Nullable Bulkhead bulkheadAnnotation) throws Throwable {
 		Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+		Class<?> targetClass = proceedingJoinPoint.getTarget().getClass();
+		InvocationPlan cachedPlan = invocationPlans.get(targetClass, method);
+		if (cachedPlan == null) {
+			cachedPlan = invocationPlans.putIfAbsent(targetClass, method, createInvocationPlan(method, targetClass, bulkheadAnnotation));
+		}
+		InvocationPlan invocationPlan = cachedPlan;
+		ThreadPoolBulkhead threadPoolBulkhead = invocationPlan.threadPoolBulkhead;
+		io.github.resilience4j.bulkhead.Bulkhead bulkhead = invocationPlan.bulkhead;
+		if (threadPoolBulkhead != null) {
+			if (invocationPlan.fallbackMethod == null || invocationPlan.fallbackDecorator == null) {
+				return proceedInThreadPoolBulkhead(proceedingJoinPoint, invocationPlan, threadPoolBulkhead);
+			}
+			return executeFallBack(proceedingJoinPoint, invocationPlan.fallbackMethod, invocationPlan.fallbackDecorator, () -> proceedInThreadPoolBulkhead(proceedingJoinPoint, invocationPlan, threadPoolBulkhead));
+		} else if (bulkhead != null) {
+			if (invocationPlan.fallbackMethod == null || invocationPlan.fallbackDecorator == null) {
+				return proceed(proceedingJoinPoint, invocationPlan, bulkhead);
+			}
+			return executeFallBack(proceedingJoinPoint, invocationPlan.fallbackMethod, invocationPlan.fallbackDecorator, () -> proceed(proceedingJoinPoint, invocationPlan, bulkhead));
+		}
+		//because annotations wasn't found
+		return proceedingJoinPoint.proceed();
+	}
+
+	private Object executeFallBack(ProceedingJoinPoint proceedingJoinPoint, FallbackMethod fallbackMethod, FallbackDecorator fallbackDecorator, CheckedFunction0<Object> bulkhead) throws Throwable {
+		return fallbackDecorator.decorate(fallbackMethod.bind(proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget()), bulkhead).apply();
+	}
+
+	/**
+	 * resolves the bulkhead, return type handling and fallback once per intercepted method
+	 *
+	 * @param method             the intercepted method
+	 * @param targetClass        the class of the target object
+	 * @param bulkheadAnnotation the bulkhead annotation of the method, if bound by the pointcut
+	 * @return the invocation plan of the method
+	 * @throws NoSuchMethodException if the configured fallback method does not exist
+	 */
+	private InvocationPlan createInvocationPlan(Method method, Class<?> targetClass, @Nullable Bulkhead bulkheadAnnotation) throws NoSuchMethodException {
 		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
 		if (bulkheadAnnotation == null) {
-			bulkheadAnnotation = geBulkheadAnnotation(proceedingJoinPoint);
+			bulkheadAnnotation = geBulkheadAnnotation(targetClass);
 		}
-		if (bulkheadAnnotation == null) { //because annotations wasn't found
-			return proceedingJoinPoint.proceed();
+		if (bulkheadAnnotation == null) {
+			return new InvocationPlan(methodName, null, null, null, false, null, null);
 		}
 		Class<?> returnType = method.getReturnType();
+		boolean completionStage = CompletionStage.class.isAssignableFrom(returnType);
 		String backend = bulkheadAnnotation.name();
+		io.github.resilience4j.bulkhead.Bulkhead bulkhead = null;
+		ThreadPoolBulkhead threadPoolBulkhead = null;
+		BulkheadAspectExt bulkheadAspectExt = null;
 		if (bulkheadAnnotation.type() == Bulkhead.Type.THREADPOOL) {
-			if (StringUtils.isEmpty(bulkheadAnnotation.fallbackMethod())) {
-				return proceedInThreadPoolBulkhead(proceedingJoinPoint, methodName, returnType, backend);
-			}
-			return executeFallBack(proceedingJoinPoint, bulkheadAnnotation.fallbackMethod(), method, () -> proceedInThreadPoolBulkhead(proceedingJoinPoint, methodName, returnType, backend));
+			threadPoolBulkhead = threadPoolBulkheadRegistry.bulkhead(backend);
 		} else {
-			io.github.resilience4j.bulkhead.Bulkhead bulkhead = getOrCreateBulkhead(methodName, backend);
-			if (StringUtils.isEmpty(bulkheadAnnotation.fallbackMethod())) {
-				return proceed(proceedingJoinPoint, methodName, bulkhead, returnType);
+			bulkhead = getOrCreateBulkhead(methodName, backend);
+			if (bulkheadAspectExts != null && !bulkheadAspectExts.isEmpty()) {
+				for (BulkheadAspectExt aspectExt : bulkheadAspectExts) {
+					if (aspectExt.canHandleReturnType(returnType)) {
+						bulkheadAspectExt = aspectExt;
+						break;
+					}
+				}
 			}
-			return executeFallBack(proceedingJoinPoint, bulkheadAnnotation.fallbackMethod(), method, () -> proceed(proceedingJoinPoint, methodName, bulkhead, returnType));
 		}
-
-	}
-
-	private Object executeFallBack(ProceedingJoinPoint proceedingJoinPoint, String fallBackMethod, Method method, CheckedFunction0<Object> bulkhead) throws Throwable {
-		FallbackMethod fallbackMethod = FallbackMethod.create(fallBackMethod, method, proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
-		return fallbackDecorators.decorate(fallbackMethod, bulkhead).apply();
+		if (StringUtils.isEmpty(bulkheadAnnotation.fallbackMethod())) {
+			return new InvocationPlan(methodName, bulkhead, threadPoolBulkhead, bulkheadAspectExt, completionStage, null, null);
+		}
+		FallbackMethod fallbackMethod = FallbackMethod.resolve(bulkheadAnnotation.fallbackMethod(), method, targetClass);
+		return new InvocationPlan(methodName, bulkhead, threadPoolBulkhead, bulkheadAspectExt, completionStage,
+				fallbackMethod, fallbackDecorators.get(fallbackMethod.getReturnType()));
 	}
 
 	/**
 	 * entry logic for semaphore bulkhead execution
 	 *
 	 * @param proceedingJoinPoint AOP proceedingJoinPoint
-	 * @param methodName          AOP method name
+	 * @param invocationPlan      the invocation plan of the AOP method
 	 * @param bulkhead            the configured bulkhead
-	 * @param returnType          the AOP method return type
 	 * @return the result Object of the method call
 	 * @throws Throwable
 	 */
-	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, String methodName, io.github.resilience4j.bulkhead.Bulkhead bulkhead, Class<?> returnType) throws Throwable {
-		if (bulkheadAspectExts != null && !bulkheadAspectExts.isEmpty()) {
-			for (BulkheadAspectExt bulkHeadAspectExt : bulkheadAspectExts) {
-				if (bulkHeadAspectExt.canHandleReturnType(returnType)) {
-					return bulkHeadAspectExt.handle(proceedingJoinPoint, bulkhead, methodName);
-				}
-			}
+	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, InvocationPlan invocationPlan, io.github.resilience4j.bulkhead.Bulkhead bulkhead) throws Throwable {
+		if (invocationPlan.bulkheadAspectExt != null) {
+			return invocationPlan.bulkheadAspectExt.handle(proceedingJoinPoint, bulkhead, invocationPlan.methodName);
 		}
-		if (CompletionStage.class.isAssignableFrom(returnType)) {
+		if (invocationPlan.completionStage) {
 			return handleJoinPointCompletableFuture(proceedingJoinPoint, bulkhead);
 		}
 		return handleJoinPoint(proceedingJoinPoint, bulkhead);
@@ -155,16 +198,16 @@ public class BulkheadAspect implements Ordered {
 	}
 
 	/**
-	 * @param proceedingJoinPoint AOP proceedingJoinPoint
+	 * @param targetClass the class of the target object
 	 * @return Bulkhead annotation
 	 */
 	@Nullable
-	private Bulkhead geBulkheadAnnotation(ProceedingJoinPoint proceedingJoinPoint) {
+	private Bulkhead geBulkheadAnnotation(Class<?> targetClass) {
 		if (logger.isDebugEnabled()) {
 			logger.debug("bulkhead parameter is null");
 		}
 
-		return AnnotationExtractor.extract(proceedingJoinPoint.getTarget().getClass(), Bulkhead.class);
+		return AnnotationExtractor.extract(targetClass, Bulkhead.class);
 	}
 
 	/**
@@ -200,18 +243,16 @@ public class BulkheadAspect implements Ordered {
 	 * execute the logic wrapped by ThreadPool bulkhead , please check {@link io.github.resilience4j.bulkhead.ThreadPoolBulkhead} for more information
 	 *
 	 * @param proceedingJoinPoint AOP proceedingJoinPoint
-	 * @param methodName          AOP method name
-	 * @param returnType          AOP method return type
-	 * @param backend             backend name
+	 * @param invocationPlan      the invocation plan of the AOP method
+	 * @param threadPoolBulkhead  the configured thread pool bulkhead
 	 * @return result Object which will be CompletableFuture instance
 	 * @throws Throwable
 	 */
-	private Object proceedInThreadPoolBulkhead(ProceedingJoinPoint proceedingJoinPoint, String methodName, Class<?> returnType, String backend) throws Throwable {
+	private Object proceedInThreadPoolBulkhead(ProceedingJoinPoint proceedingJoinPoint, InvocationPlan invocationPlan, ThreadPoolBulkhead threadPoolBulkhead) throws Throwable {
 		if (logger.isDebugEnabled()) {
-			logger.debug("ThreadPool bulkhead invocation for method {} in backend {}", methodName, backend);
+			logger.debug("ThreadPool bulkhead invocation for method {} in backend {}", invocationPlan.methodName, threadPoolBulkhead.getName());
 		}
-		ThreadPoolBulkhead threadPoolBulkhead = threadPoolBulkheadRegistry.bulkhead(backend);
-		if (CompletionStage.class.isAssignableFrom(returnType)) {
+		if (invocationPlan.completionStage) {
 			return threadPoolBulkhead.executeSupplier(() -> {
 				try {
 					return ((CompletionStage<?>) proceedingJoinPoint.proceed()).toCompletableFuture().get();
@@ -229,4 +270,35 @@ public class BulkheadAspect implements Ordered {
 	public int getOrder() {
 		return bulkheadConfigurationProperties.getBulkheadAspectOrder();
 	}
+
+	/**
+	 * the resolved bulkhead, return type handling and fallback of an intercepted method
+	 */
+	private static final class InvocationPlan {
+		private final String methodName;
+		@Nullable
+		private final io.github.resilience4j.bulkhead.Bulkhead bulkhead;
+		@Nullable
+		private final ThreadPoolBulkhead threadPoolBulkhead;
+		@Nullable
+		private final BulkheadAspectExt bulkheadAspectExt;
+		private final boolean completionStage;
+		@Nullable
+		private final FallbackMethod fallbackMethod;
+		@Nullable
+		private final FallbackDecorator fallbackDecorator;
+
+		private InvocationPlan(String methodName, @Nullable io.github.resilience4j.bulkhead.Bulkhead bulkhead,
+							   @Nullable ThreadPoolBulkhead threadPoolBulkhead, @Nullable BulkheadAspectExt bulkheadAspectExt,
+							   boolean completionStage, @Nullable FallbackMethod fallbackMethod,
+							   @Nullable FallbackDecorator fallbackDecorator) {
+			this.methodName = methodName;
+			this.bulkhead = bulkhead;
+			this.threadPoolBulkhead = threadPoolBulkhead;
+			this.bulkheadAspectExt = bulkheadAspectExt;
+			this.completionStage = completionStage;
+			this.fallbackMethod = fallbackMethod;
+			this.fallbackDecorator = fallbackDecorator;
+		}
+	}
 }
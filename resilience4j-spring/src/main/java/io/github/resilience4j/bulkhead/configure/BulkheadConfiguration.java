@@ -32,6 +32,7 @@ import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import io.github.resilience4j.bulkhead.configure.threadpool.ThreadPoolBulkheadConfiguration;
 import io.github.resilience4j.bulkhead.event.BulkheadEvent;
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 import io.github.resilience4j.consumer.DefaultEventConsumerRegistry;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.FallbackDecorators;
@@ -44,7 +45,7 @@ import io.github.resilience4j.utils.RxJava2OnClasspathCondition;
  * Configuration} for resilience4j-bulkhead.
  */
 @Configuration
-@Import({ThreadPoolBulkheadConfiguration.class, FallbackConfiguration.class})
+@Import({ThreadPoolBulkheadConfiguration.class, FallbackConfiguration.class, CombinedAspectConfiguration.class})
 public class BulkheadConfiguration {
 
 	/**
@@ -34,9 +34,11 @@ import org.springframework.util.StringUtils;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.fallback.FallbackDecorator;
 import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.FallbackMethod;
 import io.github.resilience4j.utils.AnnotationExtractor;
+import io.github.resilience4j.utils.InvocationPlanCache;
 
 /**
  * This Spring AOP aspect intercepts all methods which are annotated with a {@link CircuitBreaker} annotation.
@@ -68,12 +70,14 @@ public class CircuitBreakerAspect implements Ordered {
 	private final CircuitBreakerRegistry circuitBreakerRegistry;
 	private final @Nullable List<CircuitBreakerAspectExt> circuitBreakerAspectExtList;
 	private final FallbackDecorators fallbackDecorators;
+	private final InvocationPlanCache<InvocationPlan> invocationPlans;
 
 	public CircuitBreakerAspect(CircuitBreakerConfigurationProperties circuitBreakerProperties, CircuitBreakerRegistry circuitBreakerRegistry, @Autowired(required = false) List<CircuitBreakerAspectExt> circuitBreakerAspectExtList, FallbackDecorators fallbackDecorators) {
 		this.circuitBreakerProperties = circuitBreakerProperties;
 		this.circuitBreakerRegistry = circuitBreakerRegistry;
 		this.circuitBreakerAspectExtList = circuitBreakerAspectExtList;
 		this.fallbackDecorators = fallbackDecorators;
+		this.invocationPlans = new InvocationPlanCache<InvocationPlan>().clearOnChangesOf(circuitBreakerRegistry);
 	}
 
 	@Pointcut(value = "@within(circuitBreaker) || @annotation(circuitBreaker)", argNames = "circuitBreaker")
@@ -83,36 +87,62 @@ public class CircuitBreakerAspect implements Ordered {
 	@Around(value = "matchAnnotatedClassOrMethod(circuitBreakerAnnotation)", argNames = "proceedingJoinPoint, circuitBreakerAnnotation")
     public Object circuitBreakerAroundAdvice(ProceedingJoinPoint proceedingJoinPoint, @Nullable CircuitBreaker circuitBreakerAnnotation) throws Throwable {
 		Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
-		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
-		if (circuitBreakerAnnotation == null) {
-			circuitBreakerAnnotation = getCircuitBreakerAnnotation(proceedingJoinPoint);
+		Class<?> targetClass = proceedingJoinPoint.getTarget().getClass();
+		InvocationPlan cachedPlan = invocationPlans.get(targetClass, method);
+		if (cachedPlan == null) {
+			cachedPlan = invocationPlans.putIfAbsent(targetClass, method, createInvocationPlan(method, targetClass, circuitBreakerAnnotation));
 		}
-        if(circuitBreakerAnnotation == null) { //because annotations wasn't found
+		InvocationPlan invocationPlan = cachedPlan;
+		io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker = invocationPlan.circuitBreaker;
+        if(circuitBreaker == null) { //because annotations wasn't found
             return proceedingJoinPoint.proceed();
         }
-        String backend = circuitBreakerAnnotation.name();
-		io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker = getOrCreateCircuitBreaker(methodName, backend);
-		Class<?> returnType = method.getReturnType();
+		if (invocationPlan.fallbackMethod == null || invocationPlan.fallbackDecorator == null) {
+			return proceed(proceedingJoinPoint, invocationPlan, circuitBreaker);
+		}
+		FallbackMethod fallbackMethod = invocationPlan.fallbackMethod.bind(proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
+        return invocationPlan.fallbackDecorator.decorate(fallbackMethod, () -> proceed(proceedingJoinPoint, invocationPlan, circuitBreaker)).apply();
+	}
 
-		if (StringUtils.isEmpty(circuitBreakerAnnotation.fallbackMethod())) {
-			return proceed(proceedingJoinPoint, methodName, circuitBreaker, returnType);
+	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, InvocationPlan invocationPlan, io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker) throws Throwable {
+		if (invocationPlan.circuitBreakerAspectExt != null) {
+			return invocationPlan.circuitBreakerAspectExt.handle(proceedingJoinPoint, circuitBreaker, invocationPlan.methodName);
 		}
-		FallbackMethod fallbackMethod = FallbackMethod.create(circuitBreakerAnnotation.fallbackMethod(), method, proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
-        return fallbackDecorators.decorate(fallbackMethod, () -> proceed(proceedingJoinPoint, methodName, circuitBreaker, returnType)).apply();
+		if (invocationPlan.completionStage) {
+			return handleJoinPointCompletableFuture(proceedingJoinPoint, circuitBreaker);
+		}
+		return defaultHandling(proceedingJoinPoint, circuitBreaker);
 	}
 
-	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, String methodName, io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker, Class<?> returnType) throws Throwable {
+	/**
+	 * resolves everything which the advice needs to intercept the given method, so that it is only done once per method
+	 */
+	private InvocationPlan createInvocationPlan(Method method, Class<?> targetClass, @Nullable CircuitBreaker circuitBreakerAnnotation) throws NoSuchMethodException {
+		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
+		if (circuitBreakerAnnotation == null) {
+			circuitBreakerAnnotation = getCircuitBreakerAnnotation(targetClass);
+		}
+		if (circuitBreakerAnnotation == null) {
+			return new InvocationPlan(methodName, null, null, false, null, null);
+		}
+		io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker = getOrCreateCircuitBreaker(methodName, circuitBreakerAnnotation.name());
+		Class<?> returnType = method.getReturnType();
+		CircuitBreakerAspectExt circuitBreakerAspectExt = null;
 		if (circuitBreakerAspectExtList != null && !circuitBreakerAspectExtList.isEmpty()) {
-			for (CircuitBreakerAspectExt circuitBreakerAspectExt : circuitBreakerAspectExtList) {
-				if (circuitBreakerAspectExt.canHandleReturnType(returnType)) {
-					return circuitBreakerAspectExt.handle(proceedingJoinPoint, circuitBreaker, methodName);
+			for (CircuitBreakerAspectExt aspectExt : circuitBreakerAspectExtList) {
+				if (aspectExt.canHandleReturnType(returnType)) {
+					circuitBreakerAspectExt = aspectExt;
+					break;
 				}
 			}
 		}
-		if (CompletionStage.class.isAssignableFrom(returnType)) {
-			return handleJoinPointCompletableFuture(proceedingJoinPoint, circuitBreaker);
+		boolean completionStage = CompletionStage.class.isAssignableFrom(returnType);
+		if (StringUtils.isEmpty(circuitBreakerAnnotation.fallbackMethod())) {
+			return new InvocationPlan(methodName, circuitBreaker, circuitBreakerAspectExt, completionStage, null, null);
 		}
-		return defaultHandling(proceedingJoinPoint, circuitBreaker);
+		FallbackMethod fallbackMethod = FallbackMethod.resolve(circuitBreakerAnnotation.fallbackMethod(), method, targetClass);
+		return new InvocationPlan(methodName, circuitBreaker, circuitBreakerAspectExt, completionStage,
+				fallbackMethod, fallbackDecorators.get(fallbackMethod.getReturnType()));
 	}
 
 	private io.github.resilience4j.circuitbreaker.CircuitBreaker getOrCreateCircuitBreaker(String methodName, String backend) {
@@ -128,11 +158,11 @@ public class CircuitBreakerAspect implements Ordered {
 	}
 
     @Nullable
-	private CircuitBreaker getCircuitBreakerAnnotation(ProceedingJoinPoint proceedingJoinPoint) {
+	private CircuitBreaker getCircuitBreakerAnnotation(Class<?> targetClass) {
 		if (logger.isDebugEnabled()) {
 			logger.debug("circuitBreaker parameter is null");
 		}
-		return AnnotationExtractor.extract(proceedingJoinPoint.getTarget().getClass(), CircuitBreaker.class);
+		return AnnotationExtractor.extract(targetClass, CircuitBreaker.class);
 	}
 
 	/**
@@ -159,4 +189,31 @@ public class CircuitBreakerAspect implements Ordered {
 	public int getOrder() {
 		return circuitBreakerProperties.getCircuitBreakerAspectOrder();
 	}
+
+	/**
+	 * the resolved circuit breaker, return type handling and fallback of an intercepted method
+	 */
+	private static final class InvocationPlan {
+		private final String methodName;
+		@Nullable
+		private final io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker;
+		@Nullable
+		private final CircuitBreakerAspectExt circuitBreakerAspectExt;
+		private final boolean completionStage;
+		@Nullable
+		private final FallbackMethod fallbackMethod;
+		@Nullable
+		private final FallbackDecorator fallbackDecorator;
+
+		private InvocationPlan(String methodName, @Nullable io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker,
+							   @Nullable CircuitBreakerAspectExt circuitBreakerAspectExt, boolean completionStage,
+							   @Nullable FallbackMethod fallbackMethod, @Nullable FallbackDecorator fallbackDecorator) {
+			this.methodName = methodName;
+			this.circuitBreaker = circuitBreaker;
+			this.circuitBreakerAspectExt = circuitBreakerAspectExt;
+			this.completionStage = completionStage;
+			this.fallbackMethod = fallbackMethod;
+			this.fallbackDecorator = fallbackDecorator;
+		}
+	}
 }
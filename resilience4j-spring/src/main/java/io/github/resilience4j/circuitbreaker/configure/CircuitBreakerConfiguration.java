@@ -23,11 +23,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 import io.github.resilience4j.consumer.DefaultEventConsumerRegistry;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.FallbackDecorators;
@@ -39,6 +41,7 @@ import io.github.resilience4j.utils.RxJava2OnClasspathCondition;
  * Configuration} for resilience4j-circuitbreaker.
  */
 @Configuration
+@Import(CombinedAspectConfiguration.class)
 public class CircuitBreakerConfiguration {
 
 	private final CircuitBreakerConfigurationProperties circuitBreakerProperties;
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.combined.configure;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.aspectj.lang.reflect.SourceLocation;
+import org.aspectj.runtime.internal.AroundClosure;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.bulkhead.configure.BulkheadAspect;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.configure.CircuitBreakerAspect;
+import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.ratelimiter.configure.RateLimiterAspect;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.retry.configure.RetryAspect;
+import io.github.resilience4j.utils.AnnotationExtractor;
+import io.github.resilience4j.utils.InvocationPlanCache;
+
+/**
+ * This Spring AOP aspect intercepts all methods which are annotated with any of the {@link Retry},
+ * {@link CircuitBreaker}, {@link RateLimiter} and {@link Bulkhead} annotations, in place of the separate aspects.
+ * <p>
+ * The annotations of a method are detected once. Every invocation passes through a single advice, which applies the
+ * separate aspects in the order of their configured aspect order properties, without going through the proxy's
+ * advice chain for each of them.
+ * <p>
+ * The combined aspect is a single advice with the order of its outermost layer. Another aspect or advisor which is
+ * ordered between the outermost and the innermost layer could not run between them, so the application context
+ * fails to start in that case.
+ * <p>
+ * The combined aspect is activated by setting {@code resilience4j.combined-aspect.enabled} to true, see
+ * {@link io.github.resilience4j.utils.CombinedAspectEnabledCondition}.
+ */
+@Aspect
+public class CombinedAspect implements Ordered, BeanFactoryAware, SmartInitializingSingleton {
+
+	private final List<AspectLayer<?>> aspectLayers;
+	private final InvocationPlanCache<Layer[]> invocationPlans;
+	@Nullable
+	private ListableBeanFactory beanFactory;
+
+	/**
+	 * @param retryAspect          the retry aspect, or null if retries are not configured
+	 * @param circuitBreakerAspect the circuit breaker aspect, or null if circuit breakers are not configured
+	 * @param rateLimiterAspect    the rate limiter aspect, or null if rate limiters are not configured
+	 * @param bulkheadAspect       the bulkhead aspect, or null if bulkheads are not configured
+	 */
+	public CombinedAspect(@Nullable RetryAspect retryAspect, @Nullable CircuitBreakerAspect circuitBreakerAspect,
+						  @Nullable RateLimiterAspect rateLimiterAspect, @Nullable BulkheadAspect bulkheadAspect) {
+		List<AspectLayer<?>> layers = new ArrayList<>();
+		if (retryAspect != null) {
+			layers.add(new AspectLayer<>(Retry.class, retryAspect.getOrder(),
+					annotation -> joinPoint -> retryAspect.retryAroundAdvice(joinPoint, annotation)));
+		}
+		if (circuitBreakerAspect != null) {
+			layers.add(new AspectLayer<>(CircuitBreaker.class, circuitBreakerAspect.getOrder(),
+					annotation -> joinPoint -> circuitBreakerAspect.circuitBreakerAroundAdvice(joinPoint, annotation)));
+		}
+		if (rateLimiterAspect != null) {
+			layers.add(new AspectLayer<>(RateLimiter.class, rateLimiterAspect.getOrder(),
+					annotation -> joinPoint -> rateLimiterAspect.rateLimiterAroundAdvice(joinPoint, annotation)));
+		}
+		if (bulkheadAspect != null) {
+			layers.add(new AspectLayer<>(Bulkhead.class, bulkheadAspect.getOrder(),
+					annotation -> joinPoint -> bulkheadAspect.bulkheadAroundAdvice(joinPoint, annotation)));
+		}
+		layers.sort(Comparator.comparingInt(AspectLayer::getOrder));
+		this.aspectLayers = layers;
+		this.invocationPlans = new InvocationPlanCache<>();
+	}
+
+	@Pointcut(value = "@within(io.github.resilience4j.retry.annotation.Retry) || @annotation(io.github.resilience4j.retry.annotation.Retry)" +
+			" || @within(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker) || @annotation(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker)" +
+			" || @within(io.github.resilience4j.ratelimiter.annotation.RateLimiter) || @annotation(io.github.resilience4j.ratelimiter.annotation.RateLimiter)" +
+			" || @within(io.github.resilience4j.bulkhead.annotation.Bulkhead) || @annotation(io.github.resilience4j.bulkhead.annotation.Bulkhead)")
+	public void matchAnnotatedClassOrMethod() {
+		// Method used as pointcut
+	}
+
+	@Around(value = "matchAnnotatedClassOrMethod()", argNames = "proceedingJoinPoint")
+	public Object combinedAroundAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+		Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+		Class<?> targetClass = proceedingJoinPoint.getTarget().getClass();
+		Layer[] layers = invocationPlans.get(targetClass, method);
+		if (layers == null) {
+			layers = invocationPlans.putIfAbsent(targetClass, method, createLayers(method, targetClass));
+		}
+		if (layers.length == 0) { //because annotations wasn't found
+			return proceedingJoinPoint.proceed();
+		}
+		return layers[0].proceed(new ChainedJoinPoint(proceedingJoinPoint, layers, 1, null));
+	}
+
+	/**
+	 * @param method      the intercepted method
+	 * @param targetClass the class of the target object
+	 * @return the layers of the method, outermost first
+	 */
+	private Layer[] createLayers(Method method, Class<?> targetClass) {
+		Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+		List<Layer> layers = new ArrayList<>(aspectLayers.size());
+		for (AspectLayer<?> aspectLayer : aspectLayers) {
+			Layer layer = aspectLayer.createLayer(specificMethod, targetClass);
+			if (layer != null) {
+				layers.add(layer);
+			}
+		}
+		return layers.toArray(new Layer[0]);
+	}
+
+	/**
+	 * @return the order of the outermost layer
+	 */
+	@Override
+	public int getOrder() {
+		return aspectLayers.isEmpty() ? Ordered.LOWEST_PRECEDENCE : aspectLayers.get(0).getOrder();
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		if (beanFactory instanceof ListableBeanFactory) {
+			this.beanFactory = (ListableBeanFactory) beanFactory;
+		}
+	}
+
+	/**
+	 * Verifies that no other aspect or advisor is ordered between the outermost and the innermost layer.
+	 *
+	 * @throws IllegalStateException if another aspect or advisor would have to run between two layers
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (beanFactory == null || aspectLayers.size() < 2) {
+			return;
+		}
+		int outermostOrder = aspectLayers.get(0).getOrder();
+		int innermostOrder = aspectLayers.get(aspectLayers.size() - 1).getOrder();
+		Map<String, Object> otherAspects = new LinkedHashMap<>(beanFactory.getBeansWithAnnotation(Aspect.class));
+		otherAspects.putAll(beanFactory.getBeansOfType(Advisor.class, false, false));
+		for (Map.Entry<String, Object> otherAspect : otherAspects.entrySet()) {
+			Object bean = otherAspect.getValue();
+			if (bean == this || isSeparateAspect(bean)) {
+				continue;
+			}
+			int order = bean instanceof Ordered ? ((Ordered) bean).getOrder()
+					: OrderUtils.getOrder(AopUtils.getTargetClass(bean), Ordered.LOWEST_PRECEDENCE);
+			if (order > outermostOrder && order < innermostOrder) {
+				throw new IllegalStateException("The combined aspect cannot be enabled, because '" + otherAspect.getKey()
+						+ "' with order " + order + " would have to run between the resilience aspects with orders "
+						+ outermostOrder + " and " + innermostOrder);
+			}
+		}
+	}
+
+	private static boolean isSeparateAspect(Object bean) {
+		return bean instanceof RetryAspect || bean instanceof CircuitBreakerAspect
+				|| bean instanceof RateLimiterAspect || bean instanceof BulkheadAspect;
+	}
+
+	/**
+	 * a single aspect applied to an invocation
+	 */
+	@FunctionalInterface
+	private interface Layer {
+		Object proceed(ProceedingJoinPoint proceedingJoinPoint) throws Throwable;
+	}
+
+	/**
+	 * creates the layer of a separate aspect for the methods which carry its annotation
+	 */
+	private static final class AspectLayer<A extends Annotation> {
+		private final Class<A> annotationType;
+		private final int order;
+		private final LayerFactory<A> layerFactory;
+
+		private AspectLayer(Class<A> annotationType, int order, LayerFactory<A> layerFactory) {
+			this.annotationType = annotationType;
+			this.order = order;
+			this.layerFactory = layerFactory;
+		}
+
+		private int getOrder() {
+			return order;
+		}
+
+		@Nullable
+		private Layer createLayer(Method method, Class<?> targetClass) {
+			A annotation = method.getAnnotation(annotationType);
+			if (annotation == null) {
+				annotation = AnnotationExtractor.extract(targetClass, annotationType);
+			}
+			return annotation != null ? layerFactory.createLayer(annotation) : null;
+		}
+	}
+
+	@FunctionalInterface
+	private interface LayerFactory<A extends Annotation> {
+		Layer createLayer(A annotation);
+	}
+
+	/**
+	 * a join point which proceeds with the next layer of the invocation instead of the next advice of the proxy
+	 */
+	private static final class ChainedJoinPoint implements ProceedingJoinPoint {
+		private final ProceedingJoinPoint joinPoint;
+		private final Layer[] layers;
+		private final int index;
+		@Nullable
+		private final Object[] args;
+
+		private ChainedJoinPoint(ProceedingJoinPoint joinPoint, Layer[] layers, int index, @Nullable Object[] args) {
+			this.joinPoint = joinPoint;
+			this.layers = layers;
+			this.index = index;
+			this.args = args;
+		}
+
+		@Override
+		public Object proceed() throws Throwable {
+			if (index == layers.length) {
+				return args != null ? joinPoint.proceed(args) : joinPoint.proceed();
+			}
+			return layers[index].proceed(new ChainedJoinPoint(joinPoint, layers, index + 1, args));
+		}
+
+		@Override
+		public Object proceed(Object[] args) throws Throwable {
+			if (index == layers.length) {
+				return joinPoint.proceed(args);
+			}
+			return layers[index].proceed(new ChainedJoinPoint(joinPoint, layers, index + 1, args));
+		}
+
+		@Override
+		public Object[] getArgs() {
+			return args != null ? args.clone() : joinPoint.getArgs();
+		}
+
+		@Override
+		public void set$AroundClosure(AroundClosure arc) {
+			joinPoint.set$AroundClosure(arc);
+		}
+
+		@Override
+		public String toShortString() {
+			return joinPoint.toShortString();
+		}
+
+		@Override
+		public String toLongString() {
+			return joinPoint.toLongString();
+		}
+
+		@Override
+		public Object getThis() {
+			return joinPoint.getThis();
+		}
+
+		@Override
+		public Object getTarget() {
+			return joinPoint.getTarget();
+		}
+
+		@Override
+		public Signature getSignature() {
+			return joinPoint.getSignature();
+		}
+
+		@Override
+		public SourceLocation getSourceLocation() {
+			return joinPoint.getSourceLocation();
+		}
+
+		@Override
+		public String getKind() {
+			return joinPoint.getKind();
+		}
+
+		@Override
+		public StaticPart getStaticPart() {
+			return joinPoint.getStaticPart();
+		}
+
+		@Override
+		public String toString() {
+			return joinPoint.toString();
+		}
+	}
+}
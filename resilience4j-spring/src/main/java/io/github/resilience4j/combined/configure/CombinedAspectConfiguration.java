@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.combined.configure;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.bulkhead.configure.BulkheadAspect;
+import io.github.resilience4j.circuitbreaker.configure.CircuitBreakerAspect;
+import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.ratelimiter.configure.RateLimiterAspect;
+import io.github.resilience4j.retry.configure.RetryAspect;
+import io.github.resilience4j.utils.CombinedAspectEnabledCondition;
+
+/**
+ * {@link org.springframework.context.annotation.Configuration
+ * Configuration} for the {@link CombinedAspect}, which is only created if {@code resilience4j.combined-aspect.enabled}
+ * is true. The combined aspect delegates to the separate aspect beans, which are excluded from auto-proxying by the
+ * {@link SeparateAspectExclusionPostProcessor} in that case.
+ */
+@Configuration
+public class CombinedAspectConfiguration {
+
+	@Bean
+	@Conditional(value = {CombinedAspectEnabledCondition.class})
+	public CombinedAspect combinedAspect(@Autowired(required = false) @Nullable RetryAspect retryAspect,
+										 @Autowired(required = false) @Nullable CircuitBreakerAspect circuitBreakerAspect,
+										 @Autowired(required = false) @Nullable RateLimiterAspect rateLimiterAspect,
+										 @Autowired(required = false) @Nullable BulkheadAspect bulkheadAspect) {
+		return new CombinedAspect(retryAspect, circuitBreakerAspect, rateLimiterAspect, bulkheadAspect);
+	}
+
+	@Bean
+	@Conditional(value = {CombinedAspectEnabledCondition.class})
+	public static SeparateAspectExclusionPostProcessor separateAspectExclusionPostProcessor() {
+		return new SeparateAspectExclusionPostProcessor();
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.combined.configure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.aop.aspectj.annotation.AnnotationAwareAspectJAutoProxyCreator;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.TypedStringValue;
+
+import io.github.resilience4j.bulkhead.configure.BulkheadAspect;
+import io.github.resilience4j.circuitbreaker.configure.CircuitBreakerAspect;
+import io.github.resilience4j.ratelimiter.configure.RateLimiterAspect;
+import io.github.resilience4j.retry.configure.RetryAspect;
+
+/**
+ * Excludes the separate Retry, CircuitBreaker, RateLimiter and Bulkhead aspect beans from the aspects which the
+ * AspectJ auto-proxy creator applies, so that they are only applied through the {@link CombinedAspect}.
+ * <p>
+ * The exclusion is expressed as an include pattern of the auto-proxy creator which matches every other bean name.
+ * Include patterns which are already configured are kept and only narrowed down.
+ */
+public class SeparateAspectExclusionPostProcessor implements BeanFactoryPostProcessor {
+
+	private static final String INCLUDE_PATTERNS = "includePatterns";
+	private static final List<Class<?>> SEPARATE_ASPECT_TYPES = Arrays.asList(
+			RetryAspect.class, CircuitBreakerAspect.class, RateLimiterAspect.class, BulkheadAspect.class);
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+		if (!beanFactory.containsBeanDefinition(AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME)) {
+			return;
+		}
+		BeanDefinition autoProxyCreator = beanFactory.getBeanDefinition(AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME);
+		if (!AnnotationAwareAspectJAutoProxyCreator.class.getName().equals(autoProxyCreator.getBeanClassName())) {
+			return;
+		}
+		Set<String> separateAspectNames = new LinkedHashSet<>();
+		for (Class<?> separateAspectType : SEPARATE_ASPECT_TYPES) {
+			for (String beanName : beanFactory.getBeanNamesForType(separateAspectType, true, false)) {
+				separateAspectNames.add(beanName);
+			}
+		}
+		if (separateAspectNames.isEmpty()) {
+			return;
+		}
+		String exclusion = separateAspectNames.stream()
+				.map(Pattern::quote)
+				.collect(Collectors.joining("|", "(?!(?:", ")$)"));
+		MutablePropertyValues propertyValues = autoProxyCreator.getPropertyValues();
+		List<String> includePatterns = new ArrayList<>();
+		PropertyValue configuredIncludePatterns = propertyValues.getPropertyValue(INCLUDE_PATTERNS);
+		if (configuredIncludePatterns != null && configuredIncludePatterns.getValue() instanceof Collection) {
+			for (Object includePattern : (Collection<?>) configuredIncludePatterns.getValue()) {
+				Object pattern = includePattern instanceof TypedStringValue
+						? ((TypedStringValue) includePattern).getValue() : includePattern;
+				includePatterns.add(exclusion + "(?:" + pattern + ")");
+			}
+		} else {
+			includePatterns.add(exclusion + ".*");
+		}
+		propertyValues.add(INCLUDE_PATTERNS, includePatterns);
+	}
+}
@@ -42,7 +42,13 @@ public class FallbackDecorators {
                 .decorate(recoveryMethod, supplier);
     }
 
-    private FallbackDecorator get(Class<?> returnType) {
+    /**
+     * find a {@link FallbackDecorator} which supports the return type of a {@link FallbackMethod}
+     *
+     * @param returnType return type of the fallbackMethod method
+     * @return the first supporting {@link FallbackDecorator} or the default one
+     */
+    public FallbackDecorator get(Class<?> returnType) {
         return recoveryDecorator.stream().filter(it -> it.supports(returnType))
                 .findFirst()
                 .orElse(defaultRecoveryDecorator);
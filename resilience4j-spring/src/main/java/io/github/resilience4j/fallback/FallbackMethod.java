@@ -15,11 +15,16 @@
  */
 package io.github.resilience4j.fallback;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
@@ -39,11 +44,15 @@ import io.github.resilience4j.core.lang.Nullable;
  * }
  * and if try to fallback from {@link NumberFormatException}, {@code String fallbackMethod(String parameter, IllegalArgumentException exception)} will be invoked.
  * </pre>
+ * The recovery methods are compiled into {@link MethodHandle}s when they are resolved, and the recovery method of
+ * each thrown exception type is only looked up once.
  */
 public class FallbackMethod {
-    private static final Map<MethodMeta, Map<Class<?>, Method>> RECOVERY_METHODS_CACHE = new ConcurrentReferenceHashMap<>();
-    private final Map<Class<?>, Method> recoveryMethods;
+    private static final Map<MethodMeta, RecoveryMethods> RECOVERY_METHODS_CACHE = new ConcurrentReferenceHashMap<>();
+    private static final Object[] NO_ARGS = new Object[0];
+    private final RecoveryMethods recoveryMethods;
     private final Object[] args;
+    @Nullable
     private final Object target;
     private final Class<?> returnType;
 
@@ -53,9 +62,9 @@ public class FallbackMethod {
      * @param recoveryMethods          configured and found recovery methods for this invocation
      * @param originalMethodReturnType the return type of the original source method
      * @param args                     arguments those were passed to the original method. They will be passed to the fallbackMethod method.
-     * @param target                   target object the fallbackMethod method will be invoked
+     * @param target                   target object the fallbackMethod method will be invoked, null if not bound yet
      */
-    private FallbackMethod(Map<Class<?>, Method> recoveryMethods, Class<?> originalMethodReturnType, Object[] args, Object target) {
+    private FallbackMethod(RecoveryMethods recoveryMethods, Class<?> originalMethodReturnType, Object[] args, @Nullable Object target) {
 
         this.recoveryMethods = recoveryMethods;
         this.args = args;
@@ -71,17 +80,40 @@ public class FallbackMethod {
      * @return FallbackMethod instance
      */
     public static FallbackMethod create(String fallbackMethodName, Method originalMethod, Object[] args, Object target) throws NoSuchMethodException {
+        return resolve(fallbackMethodName, originalMethod, target.getClass()).bind(args, target);
+    }
+
+    /**
+     * resolve the recovery methods of an original method once, the returned FallbackMethod has to be bound to the
+     * arguments and the target of each invocation by {@link FallbackMethod#bind(Object[], Object)}
+     *
+     * @param fallbackMethodName the configured recovery method name
+     * @param originalMethod the original method which has fallback method configured
+     * @param targetClass the class that own the original method and recovery method
+     * @return FallbackMethod instance which is not bound to an invocation
+     */
+    public static FallbackMethod resolve(String fallbackMethodName, Method originalMethod, Class<?> targetClass) throws NoSuchMethodException {
 
         Class<?>[] params = originalMethod.getParameterTypes();
         Class<?> originalReturnType = originalMethod.getReturnType();
 
-        Map<Class<?>, Method> methods = extractMethods(fallbackMethodName, params, originalReturnType, target.getClass());
+        RecoveryMethods methods = extractMethods(fallbackMethodName, params, originalReturnType, targetClass);
 
         if (methods.isEmpty()) {
-            throw new NoSuchMethodException(String.format("%s %s.%s(%s,%s)", originalReturnType, target.getClass(), fallbackMethodName, StringUtils.arrayToDelimitedString(params, ","), Throwable.class));
+            throw new NoSuchMethodException(String.format("%s %s.%s(%s,%s)", originalReturnType, targetClass, fallbackMethodName, StringUtils.arrayToDelimitedString(params, ","), Throwable.class));
         }
-        return new FallbackMethod(methods, originalReturnType, args, target);
+        return new FallbackMethod(methods, originalReturnType, NO_ARGS, null);
+    }
 
+    /**
+     * bind the resolved recovery methods to an invocation of the original method
+     *
+     * @param args the original method arguments
+     * @param target the target object that own the original method and recovery method
+     * @return FallbackMethod instance which is bound to the invocation
+     */
+    public FallbackMethod bind(Object[] args, Object target) {
+        return new FallbackMethod(recoveryMethods, returnType, args, target);
     }
 
     /**
@@ -93,26 +125,11 @@ public class FallbackMethod {
      */
     @Nullable
     public Object fallback(Throwable thrown) throws Throwable {
-        if (recoveryMethods.size() == 1) {
-            Map.Entry<Class<?>, Method> entry = recoveryMethods.entrySet().iterator().next();
-            if (entry.getKey().isAssignableFrom(thrown.getClass())) {
-                return invoke(entry.getValue(), thrown);
-            } else {
-                throw thrown;
-            }
-        }
-
-        Method recovery = null;
-
-        for (Class<?> thrownClass = thrown.getClass(); recovery == null && thrownClass != Object.class; thrownClass = thrownClass.getSuperclass()) {
-            recovery = recoveryMethods.get(thrownClass);
-        }
-
-        if (recovery == null) {
+        Optional<MethodHandle> recovery = recoveryMethods.get(thrown.getClass());
+        if (!recovery.isPresent()) {
             throw thrown;
         }
-
-        return invoke(recovery, thrown);
+        return invoke(recovery.get(), thrown);
     }
 
     /**
@@ -127,46 +144,64 @@ public class FallbackMethod {
     /**
      * invoke the fallback method logic
      *
-     * @param fallback  fallback method
+     * @param fallback  fallback method handle of type (Object target, Throwable throwable, Object[] args)Object
      * @param throwable the thrown exception
      * @return the result object if any
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
+     * @throws Throwable the exception thrown by the fallback method
      */
-    private Object invoke(Method fallback, Throwable throwable) throws IllegalAccessException, InvocationTargetException {
-        boolean accessible = fallback.isAccessible();
-        try {
-            if (!accessible) {
-                ReflectionUtils.makeAccessible(fallback);
-            }
-            if (args.length != 0) {
-                if (args.length == 1 && Throwable.class.isAssignableFrom(fallback.getParameterTypes()[0])) {
-                    return fallback.invoke(target, throwable);
-                }
-                Object[] newArgs = Arrays.copyOf(args, args.length + 1);
-                newArgs[args.length] = throwable;
-
-                return fallback.invoke(target, newArgs);
+    @Nullable
+    private Object invoke(MethodHandle fallback, Throwable throwable) throws Throwable {
+        if (target == null) {
+            throw new IllegalStateException("FallbackMethod is not bound to an invocation");
+        }
+        return (Object) fallback.invokeExact(target, throwable, args);
+    }
 
-            } else {
-                return fallback.invoke(target, throwable);
-            }
-        } finally {
-            if (!accessible) {
-                fallback.setAccessible(false);
-            }
+    /**
+     * compile a recovery method into a method handle which takes the target, the thrown exception and the arguments
+     * of the original method, so that all recovery methods can be invoked the same way
+     *
+     * @param method the recovery method
+     * @return method handle of type (Object target, Throwable throwable, Object[] args)Object
+     */
+    private static MethodHandle toMethodHandle(Method method) {
+        ReflectionUtils.makeAccessible(method);
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Fallback method " + method + " is not accessible", e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+        int argumentCount = method.getParameterCount() - 1;
+        if (argumentCount == 0) {
+            methodHandle = methodHandle.asType(MethodType.methodType(Object.class, Object.class, Throwable.class));
+            return MethodHandles.dropArguments(methodHandle, 2, Object[].class);
         }
+        methodHandle = methodHandle.asType(MethodType.genericMethodType(argumentCount + 1).appendParameterTypes(Throwable.class));
+        int[] reorder = new int[argumentCount + 2];
+        for (int i = 1; i <= argumentCount; i++) {
+            reorder[i] = i + 1;
+        }
+        reorder[argumentCount + 1] = 1;
+        MethodType reorderedType = MethodType.methodType(Object.class, Object.class, Throwable.class)
+                .appendParameterTypes(Collections.nCopies(argumentCount, Object.class));
+        return MethodHandles.permuteArguments(methodHandle, reorderedType, reorder)
+                .asSpreader(Object[].class, argumentCount);
     }
+
     /**
      * @param fallbackMethodName fallback method name
      * @param params             original method parameters
      * @param originalReturnType original method return type
      * @param targetClass        the owner class
-     * @return Map<Class < ?>, Method>  map of all configure fallback methods for the original method that match the fallback method name
+     * @return RecoveryMethods  all configure fallback methods for the original method that match the fallback method name
      */
-    private static Map<Class<?>, Method> extractMethods(String fallbackMethodName, Class<?>[] params, Class<?> originalReturnType, Class<?> targetClass) {
+    private static RecoveryMethods extractMethods(String fallbackMethodName, Class<?>[] params, Class<?> originalReturnType, Class<?> targetClass) {
         MethodMeta methodMeta = new MethodMeta(fallbackMethodName, params, originalReturnType, targetClass);
-        Map<Class<?>, Method> cachedMethods = RECOVERY_METHODS_CACHE.get(methodMeta);
+        RecoveryMethods cachedMethods = RECOVERY_METHODS_CACHE.get(methodMeta);
 
         if (cachedMethods != null) {
             return cachedMethods;
@@ -205,8 +240,45 @@ public class FallbackMethod {
 
         });
 
-        RECOVERY_METHODS_CACHE.putIfAbsent(methodMeta, methods);
-        return methods;
+        Map<Class<?>, MethodHandle> methodHandles = new HashMap<>();
+        methods.forEach((exceptionType, method) -> methodHandles.put(exceptionType, toMethodHandle(method)));
+        RecoveryMethods recoveryMethods = new RecoveryMethods(methodHandles);
+        RecoveryMethods previousMethods = RECOVERY_METHODS_CACHE.putIfAbsent(methodMeta, recoveryMethods);
+        return previousMethods != null ? previousMethods : recoveryMethods;
+    }
+
+    /**
+     * compiled recovery methods by handled exception type, which resolves the recovery method of a thrown exception type once
+     */
+    private static class RecoveryMethods extends ClassValue<Optional<MethodHandle>> {
+        private final Map<Class<?>, MethodHandle> methodHandles;
+
+        RecoveryMethods(Map<Class<?>, MethodHandle> methodHandles) {
+            this.methodHandles = methodHandles;
+        }
+
+        boolean isEmpty() {
+            return methodHandles.isEmpty();
+        }
+
+        /**
+         * @param thrownClass the type of the thrown exception
+         * @return the recovery method which handles the closest superclass of the thrown exception type
+         */
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> thrownClass) {
+            if (methodHandles.size() == 1) {
+                Map.Entry<Class<?>, MethodHandle> entry = methodHandles.entrySet().iterator().next();
+                return entry.getKey().isAssignableFrom(thrownClass) ? Optional.of(entry.getValue()) : Optional.empty();
+            }
+            for (Class<?> superclass = thrownClass; superclass != null && superclass != Object.class; superclass = superclass.getSuperclass()) {
+                MethodHandle methodHandle = methodHandles.get(superclass);
+                if (methodHandle != null) {
+                    return Optional.of(methodHandle);
+                }
+            }
+            return Optional.empty();
+        }
     }
 
     /**
@@ -32,12 +32,14 @@ import org.springframework.core.Ordered;
 import org.springframework.util.StringUtils;
 
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.fallback.FallbackDecorator;
 import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.FallbackMethod;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.utils.AnnotationExtractor;
+import io.github.resilience4j.utils.InvocationPlanCache;
 
 /**
  * This Spring AOP aspect intercepts all methods which are annotated with a {@link RateLimiter} annotation.
@@ -69,12 +71,14 @@ public class RateLimiterAspect implements Ordered {
 	private final RateLimiterConfigurationProperties properties;
 	private final @Nullable List<RateLimiterAspectExt> rateLimiterAspectExtList;
 	private final FallbackDecorators fallbackDecorators;
+	private final InvocationPlanCache<InvocationPlan> invocationPlans;
 
 	public RateLimiterAspect(RateLimiterRegistry rateLimiterRegistry, RateLimiterConfigurationProperties properties, @Autowired(required = false) List<RateLimiterAspectExt> rateLimiterAspectExtList, FallbackDecorators fallbackDecorators) {
 		this.rateLimiterRegistry = rateLimiterRegistry;
 		this.properties = properties;
 		this.rateLimiterAspectExtList = rateLimiterAspectExtList;
 		this.fallbackDecorators = fallbackDecorators;
+		this.invocationPlans = new InvocationPlanCache<InvocationPlan>().clearOnChangesOf(rateLimiterRegistry);
 	}
 
 	/**
@@ -90,36 +94,62 @@ public class RateLimiterAspect implements Ordered {
 	@Around(value = "matchAnnotatedClassOrMethod(rateLimiterAnnotation)", argNames = "proceedingJoinPoint, rateLimiterAnnotation")
 	public Object rateLimiterAroundAdvice(ProceedingJoinPoint proceedingJoinPoint, @Nullable RateLimiter rateLimiterAnnotation) throws Throwable {
 		Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
-		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
-		if (rateLimiterAnnotation == null) {
-			rateLimiterAnnotation = getRateLimiterAnnotation(proceedingJoinPoint);
+		Class<?> targetClass = proceedingJoinPoint.getTarget().getClass();
+		InvocationPlan cachedPlan = invocationPlans.get(targetClass, method);
+		if (cachedPlan == null) {
+			cachedPlan = invocationPlans.putIfAbsent(targetClass, method, createInvocationPlan(method, targetClass, rateLimiterAnnotation));
 		}
-		if(rateLimiterAnnotation == null) { //because annotations wasn't found
+		InvocationPlan invocationPlan = cachedPlan;
+		io.github.resilience4j.ratelimiter.RateLimiter rateLimiter = invocationPlan.rateLimiter;
+		if(rateLimiter == null) { //because annotations wasn't found
 			return proceedingJoinPoint.proceed();
 		}
-		String name = rateLimiterAnnotation.name();
-		io.github.resilience4j.ratelimiter.RateLimiter rateLimiter = getOrCreateRateLimiter(methodName, name);
-		Class<?> returnType = method.getReturnType();
+		if (invocationPlan.fallbackMethod == null || invocationPlan.fallbackDecorator == null) {
+			return proceed(proceedingJoinPoint, invocationPlan, rateLimiter);
+		}
+		FallbackMethod fallbackMethod = invocationPlan.fallbackMethod.bind(proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
+        return invocationPlan.fallbackDecorator.decorate(fallbackMethod, () -> proceed(proceedingJoinPoint, invocationPlan, rateLimiter)).apply();
+	}
 
-		if (StringUtils.isEmpty(rateLimiterAnnotation.fallbackMethod())) {
-			return proceed(proceedingJoinPoint, methodName, returnType, rateLimiter);
+	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, InvocationPlan invocationPlan, io.github.resilience4j.ratelimiter.RateLimiter rateLimiter) throws Throwable {
+		if (invocationPlan.rateLimiterAspectExt != null) {
+			return invocationPlan.rateLimiterAspectExt.handle(proceedingJoinPoint, rateLimiter, invocationPlan.methodName);
 		}
-		FallbackMethod fallbackMethod = FallbackMethod.create(rateLimiterAnnotation.fallbackMethod(), method, proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
-        return fallbackDecorators.decorate(fallbackMethod, () -> proceed(proceedingJoinPoint, methodName, returnType, rateLimiter)).apply();
+		if (invocationPlan.completionStage) {
+			return handleJoinPointCompletableFuture(proceedingJoinPoint, rateLimiter);
+		}
+		return handleJoinPoint(proceedingJoinPoint, rateLimiter);
 	}
 
-	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, String methodName, Class<?> returnType, io.github.resilience4j.ratelimiter.RateLimiter rateLimiter) throws Throwable {
+	/**
+	 * resolves the rate limiter, return type handling and fallback once per intercepted method
+	 */
+	private InvocationPlan createInvocationPlan(Method method, Class<?> targetClass, @Nullable RateLimiter rateLimiterAnnotation) throws NoSuchMethodException {
+		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
+		if (rateLimiterAnnotation == null) {
+			rateLimiterAnnotation = getRateLimiterAnnotation(targetClass);
+		}
+		if (rateLimiterAnnotation == null) {
+			return new InvocationPlan(methodName, null, null, false, null, null);
+		}
+		io.github.resilience4j.ratelimiter.RateLimiter rateLimiter = getOrCreateRateLimiter(methodName, rateLimiterAnnotation.name());
+		Class<?> returnType = method.getReturnType();
+		RateLimiterAspectExt rateLimiterAspectExt = null;
 		if (rateLimiterAspectExtList != null && !rateLimiterAspectExtList.isEmpty()) {
-			for (RateLimiterAspectExt rateLimiterAspectExt : rateLimiterAspectExtList) {
-				if (rateLimiterAspectExt.canHandleReturnType(returnType)) {
-					return rateLimiterAspectExt.handle(proceedingJoinPoint, rateLimiter, methodName);
+			for (RateLimiterAspectExt aspectExt : rateLimiterAspectExtList) {
+				if (aspectExt.canHandleReturnType(returnType)) {
+					rateLimiterAspectExt = aspectExt;
+					break;
 				}
 			}
 		}
-		if (CompletionStage.class.isAssignableFrom(returnType)) {
-			return handleJoinPointCompletableFuture(proceedingJoinPoint, rateLimiter);
+		boolean completionStage = CompletionStage.class.isAssignableFrom(returnType);
+		if (StringUtils.isEmpty(rateLimiterAnnotation.fallbackMethod())) {
+			return new InvocationPlan(methodName, rateLimiter, rateLimiterAspectExt, completionStage, null, null);
 		}
-		return handleJoinPoint(proceedingJoinPoint, rateLimiter);
+		FallbackMethod fallbackMethod = FallbackMethod.resolve(rateLimiterAnnotation.fallbackMethod(), method, targetClass);
+		return new InvocationPlan(methodName, rateLimiter, rateLimiterAspectExt, completionStage,
+				fallbackMethod, fallbackDecorators.get(fallbackMethod.getReturnType()));
 	}
 
 	private io.github.resilience4j.ratelimiter.RateLimiter getOrCreateRateLimiter(String methodName, String name) {
@@ -138,8 +168,8 @@ public class RateLimiterAspect implements Ordered {
 	}
 
 	@Nullable
-	private RateLimiter getRateLimiterAnnotation(ProceedingJoinPoint proceedingJoinPoint) {
-		return AnnotationExtractor.extract(proceedingJoinPoint.getTarget().getClass(), RateLimiter.class);
+	private RateLimiter getRateLimiterAnnotation(Class<?> targetClass) {
+		return AnnotationExtractor.extract(targetClass, RateLimiter.class);
 	}
 
 	private Object handleJoinPoint(ProceedingJoinPoint proceedingJoinPoint,
@@ -170,4 +200,31 @@ public class RateLimiterAspect implements Ordered {
 	public int getOrder() {
 		return properties.getRateLimiterAspectOrder();
 	}
+
+	/**
+	 * the resolved rate limiter, return type handling and fallback of an intercepted method
+	 */
+	private static final class InvocationPlan {
+		private final String methodName;
+		@Nullable
+		private final io.github.resilience4j.ratelimiter.RateLimiter rateLimiter;
+		@Nullable
+		private final RateLimiterAspectExt rateLimiterAspectExt;
+		private final boolean completionStage;
+		@Nullable
+		private final FallbackMethod fallbackMethod;
+		@Nullable
+		private final FallbackDecorator fallbackDecorator;
+
+		private InvocationPlan(String methodName, @Nullable io.github.resilience4j.ratelimiter.RateLimiter rateLimiter,
+							   @Nullable RateLimiterAspectExt rateLimiterAspectExt, boolean completionStage,
+							   @Nullable FallbackMethod fallbackMethod, @Nullable FallbackDecorator fallbackDecorator) {
+			this.methodName = methodName;
+			this.rateLimiter = rateLimiter;
+			this.rateLimiterAspectExt = rateLimiterAspectExt;
+			this.completionStage = completionStage;
+			this.fallbackMethod = fallbackMethod;
+			this.fallbackDecorator = fallbackDecorator;
+		}
+	}
 }
@@ -24,7 +24,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
+import io.github.resilience4j.combined.configure.CombinedAspectConfiguration;
 import io.github.resilience4j.consumer.DefaultEventConsumerRegistry;
 import io.github.resilience4j.consumer.EventConsumerRegistry;
 import io.github.resilience4j.fallback.FallbackDecorators;
@@ -40,6 +42,7 @@ import io.github.resilience4j.utils.RxJava2OnClasspathCondition;
  * Configuration} for resilience4j ratelimiter.
  */
 @Configuration
+@Import(CombinedAspectConfiguration.class)
 public class RateLimiterConfiguration {
 
 	@Bean
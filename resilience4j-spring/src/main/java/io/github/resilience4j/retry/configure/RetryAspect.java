@@ -35,11 +35,13 @@ import org.springframework.core.Ordered;
 import org.springframework.util.StringUtils;
 
 import io.github.resilience4j.core.lang.Nullable;
+import io.github.resilience4j.fallback.FallbackDecorator;
 import io.github.resilience4j.fallback.FallbackDecorators;
 import io.github.resilience4j.fallback.FallbackMethod;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.utils.AnnotationExtractor;
+import io.github.resilience4j.utils.InvocationPlanCache;
 
 /**
  * This Spring AOP aspect intercepts all methods which are annotated with a {@link Retry} annotation.
@@ -71,6 +73,7 @@ public class RetryAspect implements Ordered {
 	private final RetryRegistry retryRegistry;
 	private final @Nullable List<RetryAspectExt> retryAspectExtList;
 	private final FallbackDecorators fallbackDecorators;
+	private final InvocationPlanCache<InvocationPlan> invocationPlans;
 
 	/**
 	 * @param retryConfigurationProperties spring retry config properties
@@ -83,6 +86,7 @@ public class RetryAspect implements Ordered {
 		this.retryRegistry = retryRegistry;
 		this.retryAspectExtList = retryAspectExtList;
 		this.fallbackDecorators = fallbackDecorators;
+		this.invocationPlans = new InvocationPlanCache<InvocationPlan>().clearOnChangesOf(retryRegistry);
 		cleanup();
 
 	}
@@ -94,36 +98,66 @@ public class RetryAspect implements Ordered {
 	@Around(value = "matchAnnotatedClassOrMethod(retryAnnotation)", argNames = "proceedingJoinPoint, retryAnnotation")
 	public Object retryAroundAdvice(ProceedingJoinPoint proceedingJoinPoint, @Nullable Retry retryAnnotation) throws Throwable {
 		Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
-		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
-		if (retryAnnotation == null) {
-			retryAnnotation = getRetryAnnotation(proceedingJoinPoint);
+		Class<?> targetClass = proceedingJoinPoint.getTarget().getClass();
+		InvocationPlan cachedPlan = invocationPlans.get(targetClass, method);
+		if (cachedPlan == null) {
+			cachedPlan = invocationPlans.putIfAbsent(targetClass, method, createInvocationPlan(method, targetClass, retryAnnotation));
 		}
-		if(retryAnnotation == null) { //because annotations wasn't found
+		InvocationPlan invocationPlan = cachedPlan;
+		io.github.resilience4j.retry.Retry retry = invocationPlan.retry;
+		if(retry == null) { //because annotations wasn't found
 			return proceedingJoinPoint.proceed();
 		}
-		String backend = retryAnnotation.name();
-		io.github.resilience4j.retry.Retry retry = getOrCreateRetry(methodName, backend);
-		Class<?> returnType = method.getReturnType();
-
-		if (StringUtils.isEmpty(retryAnnotation.fallbackMethod())) {
-			return proceed(proceedingJoinPoint, methodName, retry, returnType);
+		if (invocationPlan.fallbackMethod == null || invocationPlan.fallbackDecorator == null) {
+			return proceed(proceedingJoinPoint, invocationPlan, retry);
 		}
-		FallbackMethod fallbackMethod = FallbackMethod.create(retryAnnotation.fallbackMethod(), method, proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
-		return fallbackDecorators.decorate(fallbackMethod, () -> proceed(proceedingJoinPoint, methodName, retry, returnType)).apply();
+		FallbackMethod fallbackMethod = invocationPlan.fallbackMethod.bind(proceedingJoinPoint.getArgs(), proceedingJoinPoint.getTarget());
+		return invocationPlan.fallbackDecorator.decorate(fallbackMethod, () -> proceed(proceedingJoinPoint, invocationPlan, retry)).apply();
 	}
 
-	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, String methodName, io.github.resilience4j.retry.Retry retry, Class<?> returnType) throws Throwable {
-		if (CompletionStage.class.isAssignableFrom(returnType)) {
+	private Object proceed(ProceedingJoinPoint proceedingJoinPoint, InvocationPlan invocationPlan, io.github.resilience4j.retry.Retry retry) throws Throwable {
+		if (invocationPlan.completionStage) {
 			return handleJoinPointCompletableFuture(proceedingJoinPoint, retry);
 		}
-		if (retryAspectExtList != null && !retryAspectExtList.isEmpty()) {
-			for (RetryAspectExt retryAspectExt : retryAspectExtList) {
-				if (retryAspectExt.canHandleReturnType(returnType)) {
-					return retryAspectExt.handle(proceedingJoinPoint, retry, methodName);
+		if (invocationPlan.retryAspectExt != null) {
+			return invocationPlan.retryAspectExt.handle(proceedingJoinPoint, retry, invocationPlan.methodName);
+		}
+		return handleDefaultJoinPoint(proceedingJoinPoint, retry);
+	}
+
+	/**
+	 * @param method          the intercepted method
+	 * @param targetClass     the class of the target object
+	 * @param retryAnnotation the retry annotation of the method, if bound by the pointcut
+	 * @return the retry, return type handling and fallback which are used for every invocation of the method
+	 * @throws NoSuchMethodException if the configured fallback method does not exist
+	 */
+	private InvocationPlan createInvocationPlan(Method method, Class<?> targetClass, @Nullable Retry retryAnnotation) throws NoSuchMethodException {
+		String methodName = method.getDeclaringClass().getName() + "#" + method.getName();
+		if (retryAnnotation == null) {
+			retryAnnotation = getRetryAnnotation(targetClass);
+		}
+		if (retryAnnotation == null) {
+			return new InvocationPlan(methodName, null, false, null, null, null);
+		}
+		io.github.resilience4j.retry.Retry retry = getOrCreateRetry(methodName, retryAnnotation.name());
+		Class<?> returnType = method.getReturnType();
+		boolean completionStage = CompletionStage.class.isAssignableFrom(returnType);
+		RetryAspectExt retryAspectExt = null;
+		if (!completionStage && retryAspectExtList != null && !retryAspectExtList.isEmpty()) {
+			for (RetryAspectExt aspectExt : retryAspectExtList) {
+				if (aspectExt.canHandleReturnType(returnType)) {
+					retryAspectExt = aspectExt;
+					break;
 				}
 			}
 		}
-		return handleDefaultJoinPoint(proceedingJoinPoint, retry);
+		if (StringUtils.isEmpty(retryAnnotation.fallbackMethod())) {
+			return new InvocationPlan(methodName, retry, completionStage, retryAspectExt, null, null);
+		}
+		FallbackMethod fallbackMethod = FallbackMethod.resolve(retryAnnotation.fallbackMethod(), method, targetClass);
+		return new InvocationPlan(methodName, retry, completionStage, retryAspectExt,
+				fallbackMethod, fallbackDecorators.get(fallbackMethod.getReturnType()));
 	}
 
 	/**
@@ -142,12 +176,12 @@ public class RetryAspect implements Ordered {
 	}
 
 	/**
-	 * @param proceedingJoinPoint the aspect joint point
+	 * @param targetClass the class of the target object
 	 * @return the retry annotation
 	 */
 	@Nullable
-	private Retry getRetryAnnotation(ProceedingJoinPoint proceedingJoinPoint) {
-		return AnnotationExtractor.extract(proceedingJoinPoint.getTarget().getClass(), Retry.class);
+	private Retry getRetryAnnotation(Class<?> targetClass) {
+		return AnnotationExtractor.extract(targetClass, Retry.class);
 	}
 
 	/**
@@ -198,4 +232,31 @@ public class RetryAspect implements Ordered {
 		}));
 	}
 
+	/**
+	 * the resolved retry, return type handling and fallback of an intercepted method
+	 */
+	private static final class InvocationPlan {
+		private final String methodName;
+		@Nullable
+		private final io.github.resilience4j.retry.Retry retry;
+		private final boolean completionStage;
+		@Nullable
+		private final RetryAspectExt retryAspectExt;
+		@Nullable
+		private final FallbackMethod fallbackMethod;
+		@Nullable
+		private final FallbackDecorator fallbackDecorator;
+
+		private InvocationPlan(String methodName, @Nullable io.github.resilience4j.retry.Retry retry, boolean completionStage,
+							   @Nullable RetryAspectExt retryAspectExt, @Nullable FallbackMethod fallbackMethod,
+							   @Nullable FallbackDecorator fallbackDecorator) {
+			this.methodName = methodName;
+			this.retry = retry;
+			this.completionStage = completionStage;
+			this.retryAspectExt = retryAspectExt;
+			this.fallbackMethod = fallbackMethod;
+			this.fallbackDecorator = fallbackDecorator;
+		}
+	}
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.utils;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * the spring condition check which activates the combined aspect in place of the separate resilience aspects,
+ * if the property {@value #COMBINED_ASPECT_ENABLED} is true
+ */
+public class CombinedAspectEnabledCondition implements Condition {
+
+	public static final String COMBINED_ASPECT_ENABLED = "resilience4j.combined-aspect.enabled";
+
+	@Override
+	public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+		return context.getEnvironment().getProperty(COMBINED_ASPECT_ENABLED, Boolean.class, false);
+	}
+}
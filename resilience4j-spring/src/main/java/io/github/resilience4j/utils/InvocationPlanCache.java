@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.utils;
+
+import io.github.resilience4j.core.Registry;
+import io.github.resilience4j.core.lang.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the invocation plans which the aspects resolve for an intercepted method, so that the annotation, the
+ * registry instance, the return type handler and the fallback method are only resolved on the first invocation.
+ * <p>
+ * Plans are keyed by the class of the target object and the intercepted method. A plan refers to the instances of
+ * a registry, therefore all plans are dropped when an instance is removed from or replaced in that registry.
+ *
+ * @param <P> the type of the invocation plan
+ */
+public class InvocationPlanCache<P> {
+
+	private volatile ClassValue<ConcurrentMap<Method, P>> plans = newPlans();
+
+	/**
+	 * @param targetClass the class of the target object
+	 * @param method      the intercepted method
+	 * @return the cached plan or null if the method has not been invoked yet
+	 */
+	@Nullable
+	public P get(Class<?> targetClass, Method method) {
+		return plans.get(targetClass).get(method);
+	}
+
+	/**
+	 * @param targetClass the class of the target object
+	 * @param method      the intercepted method
+	 * @param plan        the plan which has been resolved for the method
+	 * @return the plan which is cached for the method, which is the given plan unless another thread was faster
+	 */
+	public P putIfAbsent(Class<?> targetClass, Method method, P plan) {
+		P cachedPlan = plans.get(targetClass).putIfAbsent(method, plan);
+		return cachedPlan != null ? cachedPlan : plan;
+	}
+
+	/**
+	 * Drops all cached plans.
+	 */
+	public void clear() {
+		plans = newPlans();
+	}
+
+	/**
+	 * Drops all cached plans whenever an instance is removed from or replaced in the given registry.
+	 *
+	 * @param registry the registry of the instances which are referred by the plans
+	 * @return this cache
+	 */
+	public InvocationPlanCache<P> clearOnChangesOf(Registry<?, ?> registry) {
+		registry.getEventPublisher()
+			.onEntryRemoved(event -> clear())
+			.onEntryReplaced(event -> clear());
+		return this;
+	}
+
+	private static <P> ClassValue<ConcurrentMap<Method, P>> newPlans() {
+		return new ClassValue<ConcurrentMap<Method, P>>() {
+			@Override
+			protected ConcurrentMap<Method, P> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.resilience4j.combined.configure;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.configure.CircuitBreakerAspect;
+import io.github.resilience4j.circuitbreaker.configure.CircuitBreakerConfiguration;
+import io.github.resilience4j.circuitbreaker.configure.CircuitBreakerConfigurationProperties;
+import io.github.resilience4j.fallback.CompletionStageFallbackDecorator;
+import io.github.resilience4j.fallback.FallbackDecorators;
+import io.github.resilience4j.fallback.configure.FallbackConfiguration;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.retry.configure.RetryAspect;
+import io.github.resilience4j.retry.configure.RetryConfigurationProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CombinedAspectTest {
+
+	private RetryRegistry retryRegistry;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private FallbackDecorators fallbackDecorators;
+
+	@Before
+	public void setUp() {
+		retryRegistry = RetryRegistry.of(RetryConfig.custom().waitDuration(Duration.ofMillis(10)).build());
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		fallbackDecorators = new FallbackDecorators(Collections.singletonList(new CompletionStageFallbackDecorator()));
+	}
+
+	@Test
+	public void shouldApplyRetryAroundCircuitBreakerByDefault() {
+		DummyService dummyService = proxy(new CircuitBreakerConfigurationProperties());
+
+		assertThatThrownBy(dummyService::failingCall).isInstanceOf(IOException.class);
+
+		assertThat(dummyService.getCalls()).isEqualTo(3);
+		assertThat(circuitBreakerRegistry.circuitBreaker("backend").getMetrics().getNumberOfFailedCalls()).isEqualTo(3);
+		assertThat(retryRegistry.retry("backend").getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldHonorConfiguredAspectOrder() {
+		CircuitBreakerConfigurationProperties circuitBreakerProperties = new CircuitBreakerConfigurationProperties() {
+			@Override
+			public int getCircuitBreakerAspectOrder() {
+				return Ordered.HIGHEST_PRECEDENCE;
+			}
+		};
+		DummyService dummyService = proxy(circuitBreakerProperties);
+
+		assertThatThrownBy(dummyService::failingCall).isInstanceOf(IOException.class);
+
+		assertThat(dummyService.getCalls()).isEqualTo(3);
+		assertThat(circuitBreakerRegistry.circuitBreaker("backend").getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldApplyFallbackOfAnnotation() {
+		DummyService dummyService = proxy(new CircuitBreakerConfigurationProperties());
+
+		assertThat(dummyService.callWithFallback()).isEqualTo("recovered");
+		assertThat(dummyService.getCalls()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldApplySeparateAspectsOnlyThroughCombinedAspect() {
+		AnnotationConfigApplicationContext context = createContext(TestConfiguration.class);
+
+		assertThat(context.getBeansOfType(CombinedAspect.class)).hasSize(1);
+		assertThat(context.getBeansOfType(CircuitBreakerAspect.class)).hasSize(1);
+		DummyService dummyService = context.getBean(DummyService.class);
+		assertThatThrownBy(dummyService::failingCall).isInstanceOf(IOException.class);
+		assertThat(dummyService.getCalls()).isEqualTo(1);
+		assertThat(context.getBean(CircuitBreakerRegistry.class).circuitBreaker("backend").getMetrics()
+				.getNumberOfFailedCalls()).isEqualTo(1);
+		context.close();
+	}
+
+	@Test
+	public void shouldFailWhenAnotherAspectIsOrderedBetweenLayers() {
+		assertThatThrownBy(() -> createContext(InterleavedAspectConfiguration.class))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("interleavedAspect");
+	}
+
+	private AnnotationConfigApplicationContext createContext(Class<?> configuration) {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test",
+				Collections.singletonMap("resilience4j.combined-aspect.enabled", "true")));
+		context.register(configuration);
+		context.refresh();
+		return context;
+	}
+
+	private DummyService proxy(CircuitBreakerConfigurationProperties circuitBreakerProperties) {
+		CombinedAspect combinedAspect = new CombinedAspect(
+				new RetryAspect(new RetryConfigurationProperties(), retryRegistry, null, fallbackDecorators),
+				new CircuitBreakerAspect(circuitBreakerProperties, circuitBreakerRegistry, null, fallbackDecorators),
+				null, null);
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new DummyService());
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(combinedAspect);
+		return proxyFactory.getProxy();
+	}
+
+	public static class DummyService {
+		private int calls;
+
+		@Retry(name = "backend")
+		@CircuitBreaker(name = "backend")
+		public String failingCall() throws IOException {
+			calls++;
+			throw new IOException("BAM!");
+		}
+
+		@Retry(name = "backend")
+		@CircuitBreaker(name = "backend", fallbackMethod = "fallback")
+		public String callWithFallback() {
+			calls++;
+			throw new IllegalArgumentException("BAM!");
+		}
+
+		public String fallback(IllegalArgumentException exception) {
+			return "recovered";
+		}
+
+		public int getCalls() {
+			return calls;
+		}
+	}
+
+	@Configuration
+	@EnableAspectJAutoProxy(proxyTargetClass = true)
+	@Import({CircuitBreakerConfiguration.class, FallbackConfiguration.class})
+	public static class TestConfiguration {
+
+		@Bean
+		public CircuitBreakerConfigurationProperties circuitBreakerConfigurationProperties() {
+			return new CircuitBreakerConfigurationProperties();
+		}
+
+		@Bean
+		public DummyService dummyService() {
+			return new DummyService();
+		}
+	}
+
+	@Configuration
+	@EnableAspectJAutoProxy(proxyTargetClass = true)
+	@Import({CombinedAspectConfiguration.class, FallbackConfiguration.class})
+	public static class InterleavedAspectConfiguration {
+
+		@Bean
+		public RetryAspect retryAspect(FallbackDecorators fallbackDecorators) {
+			return new RetryAspect(new RetryConfigurationProperties(), RetryRegistry.ofDefaults(), null,
+					fallbackDecorators);
+		}
+
+		@Bean
+		public CircuitBreakerAspect circuitBreakerAspect(FallbackDecorators fallbackDecorators) {
+			CircuitBreakerConfigurationProperties circuitBreakerProperties = new CircuitBreakerConfigurationProperties() {
+				@Override
+				public int getCircuitBreakerAspectOrder() {
+					return Ordered.HIGHEST_PRECEDENCE;
+				}
+			};
+			return new CircuitBreakerAspect(circuitBreakerProperties, CircuitBreakerRegistry.ofDefaults(), null,
+					fallbackDecorators);
+		}
+
+		@Bean
+		public InterleavedAspect interleavedAspect() {
+			return new InterleavedAspect();
+		}
+	}
+
+	@Aspect
+	@Order(0)
+	public static class InterleavedAspect {
+
+		@Around("execution(* io.github.resilience4j.combined.configure.CombinedAspectTest.DummyService.*(..))")
+		public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+			return joinPoint.proceed();
+		}
+	}
+}
@@ -93,6 +93,37 @@ public class FallbackMethodTest {
                 .hasMessage("class java.lang.String class io.github.resilience4j.fallback.FallbackMethodTest.noMethod(class java.lang.String,class java.lang.Throwable)");
     }
 
+    @Test
+    public void resolvedFallbackMethodShouldBeBoundToEachInvocation() throws Throwable {
+        Method testMethod = FallbackMethodTest.class.getMethod("testMethod", String.class);
+        FallbackMethod resolvedMethod = FallbackMethod.resolve("fallbackMethod", testMethod, FallbackMethodTest.class);
+
+        FallbackMethod recoveryMethod = resolvedMethod.bind(new Object[]{"test"}, new FallbackMethodTest());
+
+        assertThat(recoveryMethod.fallback(new NumberFormatException("err"))).isEqualTo("recovered-IllegalArgumentException");
+        assertThat(recoveryMethod.getReturnType()).isEqualTo(String.class);
+        assertThatThrownBy(() -> resolvedMethod.fallback(new RuntimeException("err")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldThrowExceptionOfRecoveryMethodUnwrapped() throws Throwable {
+        FallbackMethodTest target = new FallbackMethodTest();
+        Method testMethod = target.getClass().getMethod("testMethod", String.class);
+        FallbackMethod recoveryMethod = FallbackMethod.create("failingRecovery", testMethod, new Object[]{"test"}, target);
+        assertThatThrownBy(() -> recoveryMethod.fallback(new RuntimeException("err")))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("test");
+    }
+
+    @Test
+    public void shouldCallStaticRecoveryMethod() throws Throwable {
+        FallbackMethodTest target = new FallbackMethodTest();
+        Method testMethod = target.getClass().getMethod("testMethod", String.class);
+        FallbackMethod recoveryMethod = FallbackMethod.create("staticRecovery", testMethod, new Object[]{"test"}, target);
+        assertThat(recoveryMethod.fallback(new RuntimeException("err"))).isEqualTo("recovered-staticMethod-test");
+    }
+
     public String testMethod(String parameter) {
         return null;
     }
@@ -124,4 +155,12 @@ public class FallbackMethodTest {
     public String duplicateException(IllegalArgumentException exception) {
         return "recovered-IllegalArgumentException";
     }
+
+    public String failingRecovery(String parameter, RuntimeException exception) {
+        throw new UnsupportedOperationException(parameter);
+    }
+
+    public static String staticRecovery(String parameter, RuntimeException exception) {
+        return "recovered-staticMethod-" + parameter;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package io.github.resilience4j.utils;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvocationPlanCacheTest {
+
+    @Test
+    public void shouldCacheFirstPlanOfMethod() throws NoSuchMethodException {
+        InvocationPlanCache<String> invocationPlans = new InvocationPlanCache<>();
+        Method method = Object.class.getMethod("toString");
+
+        assertThat(invocationPlans.get(String.class, method)).isNull();
+        assertThat(invocationPlans.putIfAbsent(String.class, method, "first")).isEqualTo("first");
+        assertThat(invocationPlans.putIfAbsent(String.class, method, "second")).isEqualTo("first");
+        assertThat(invocationPlans.get(String.class, method)).isEqualTo("first");
+        assertThat(invocationPlans.get(Integer.class, method)).isNull();
+    }
+
+    @Test
+    public void shouldDropPlansWhenRegistryEntryIsReplacedOrRemoved() throws NoSuchMethodException {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreakerRegistry.circuitBreaker("backend");
+        InvocationPlanCache<String> invocationPlans = new InvocationPlanCache<String>().clearOnChangesOf(circuitBreakerRegistry);
+        Method method = Object.class.getMethod("toString");
+
+        invocationPlans.putIfAbsent(String.class, method, "plan");
+        circuitBreakerRegistry.replace("backend", CircuitBreaker.ofDefaults("backend"));
+        assertThat(invocationPlans.get(String.class, method)).isNull();
+
+        invocationPlans.putIfAbsent(String.class, method, "plan");
+        circuitBreakerRegistry.remove("backend");
+        assertThat(invocationPlans.get(String.class, method)).isNull();
+    }
+}
@@ -1,9 +1,17 @@
 package io.github.resilience4j.timelimiter;
 
+import io.github.resilience4j.core.EventConsumer;
+import io.github.resilience4j.timelimiter.event.TimeLimiterEvent;
+import io.github.resilience4j.timelimiter.event.TimeLimiterOnErrorEvent;
+import io.github.resilience4j.timelimiter.event.TimeLimiterOnSuccessEvent;
+import io.github.resilience4j.timelimiter.event.TimeLimiterOnTimeoutEvent;
 import io.github.resilience4j.timelimiter.internal.TimeLimiterImpl;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -14,13 +22,25 @@ import java.util.function.Supplier;
  */
 public interface TimeLimiter {
 
+    String DEFAULT_NAME = "UNDEFINED";
+
     /**
      * Creates a TimeLimiter decorator with a default TimeLimiterConfig configuration.
      *
      * @return The {@link TimeLimiter}
      */
     static TimeLimiter ofDefaults() {
-        return new TimeLimiterImpl(TimeLimiterConfig.ofDefaults());
+        return new TimeLimiterImpl(DEFAULT_NAME, TimeLimiterConfig.ofDefaults());
+    }
+
+    /**
+     * Creates a TimeLimiter decorator with a default TimeLimiterConfig configuration.
+     *
+     * @param name the name of the TimeLimiter
+     * @return The {@link TimeLimiter}
+     */
+    static TimeLimiter ofDefaults(String name) {
+        return new TimeLimiterImpl(name, TimeLimiterConfig.ofDefaults());
     }
 
     /**
@@ -30,7 +50,18 @@ public interface TimeLimiter {
      * @return The {@link TimeLimiter}
      */
     static TimeLimiter of(TimeLimiterConfig timeLimiterConfig) {
-        return new TimeLimiterImpl(timeLimiterConfig);
+        return new TimeLimiterImpl(DEFAULT_NAME, timeLimiterConfig);
+    }
+
+    /**
+     * Creates a TimeLimiter decorator with a TimeLimiterConfig configuration.
+     *
+     * @param name              the name of the TimeLimiter
+     * @param timeLimiterConfig the TimeLimiterConfig
+     * @return The {@link TimeLimiter}
+     */
+    static TimeLimiter of(String name, TimeLimiterConfig timeLimiterConfig) {
+        return new TimeLimiterImpl(name, timeLimiterConfig);
     }
 
     /**
@@ -44,7 +75,7 @@ public interface TimeLimiter {
                 .timeoutDuration(timeoutDuration)
                 .build();
 
-        return new TimeLimiterImpl(timeLimiterConfig);
+        return new TimeLimiterImpl(DEFAULT_NAME, timeLimiterConfig);
     }
 
     /**
@@ -58,18 +89,36 @@ public interface TimeLimiter {
      */
     static <T, F extends Future<T>> Callable<T> decorateFutureSupplier(TimeLimiter timeLimiter, Supplier<F> futureSupplier) {
         return () -> {
+            long start = System.nanoTime();
             Future<T> future = futureSupplier.get();
             try {
-                return future.get(timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis(), TimeUnit.MILLISECONDS);
+                T result = future.get(timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis(), TimeUnit.MILLISECONDS);
+                timeLimiter.onSuccess(System.nanoTime() - start);
+                return result;
             } catch (TimeoutException e) {
+                timeLimiter.onTimeout(System.nanoTime() - start);
                 if(timeLimiter.getTimeLimiterConfig().shouldCancelRunningFuture()){
                     future.cancel(true);
                 }
                 throw e;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                timeLimiter.onError(System.nanoTime() - start, cause != null ? cause : e);
+                throw e;
+            } catch (InterruptedException | CancellationException e) {
+                timeLimiter.onError(System.nanoTime() - start, e);
+                throw e;
             }
         };
     }
 
+    /**
+     * Get the name of this TimeLimiter
+     *
+     * @return the name of this TimeLimiter
+     */
+    String getName();
+
     /**
      * Get the TimeLimiterConfig of this TimeLimiter decorator.
      *
@@ -77,6 +126,65 @@ public interface TimeLimiter {
      */
     TimeLimiterConfig getTimeLimiterConfig();
 
+    /**
+     * Returns an EventPublisher which can be used to register event consumers.
+     *
+     * @return an EventPublisher
+     */
+    EventPublisher getEventPublisher();
+
+    /**
+     * Adds a MetricsRecorder which is invoked directly for every recorded call, without creating and dispatching
+     * events.
+     * <p>
+     * The default implementation registers event consumers which forward the events to the MetricsRecorder, so that
+     * it cannot be removed again.
+     *
+     * @param metricsRecorder the MetricsRecorder
+     */
+    default void addMetricsRecorder(MetricsRecorder metricsRecorder) {
+        Objects.requireNonNull(metricsRecorder, "MetricsRecorder must not be null");
+        getEventPublisher()
+                .onSuccess(event -> metricsRecorder.onSuccess(event.getElapsedDuration().toNanos()))
+                .onError(event -> metricsRecorder.onError(event.getElapsedDuration().toNanos()))
+                .onTimeout(event -> metricsRecorder.onTimeout(event.getElapsedDuration().toNanos()));
+    }
+
+    /**
+     * Removes a MetricsRecorder which was added by {@link #addMetricsRecorder(MetricsRecorder)}.
+     *
+     * @param metricsRecorder the MetricsRecorder
+     * @return true if the MetricsRecorder was removed, false if it was not added or cannot be removed
+     */
+    default boolean removeMetricsRecorder(MetricsRecorder metricsRecorder) {
+        return false;
+    }
+
+    /**
+     * Records a call which completed in time.
+     * This method must be invoked when a call was successful.
+     *
+     * @param durationInNanos The elapsed time duration of the call
+     */
+    void onSuccess(long durationInNanos);
+
+    /**
+     * Records a call which completed in time but failed.
+     * This method must be invoked when a call failed.
+     *
+     * @param durationInNanos The elapsed time duration of the call
+     * @param throwable The throwable which must be recorded
+     */
+    void onError(long durationInNanos, Throwable throwable);
+
+    /**
+     * Records a call which did not complete in time.
+     * This method must be invoked when a call timed out.
+     *
+     * @param durationInNanos The elapsed time duration of the call
+     */
+    void onTimeout(long durationInNanos);
+
     /**
      * Decorates and executes the Future Supplier.
      *
@@ -89,4 +197,47 @@ public interface TimeLimiter {
     default <T, F extends Future<T>> T executeFutureSupplier(Supplier<F> futureSupplier) throws Exception {
         return decorateFutureSupplier(this, futureSupplier).call();
     }
+
+    /**
+     * An EventPublisher which can be used to register event consumers.
+     */
+    interface EventPublisher extends io.github.resilience4j.core.EventPublisher<TimeLimiterEvent> {
+
+        EventPublisher onSuccess(EventConsumer<TimeLimiterOnSuccessEvent> eventConsumer);
+
+        EventPublisher onError(EventConsumer<TimeLimiterOnErrorEvent> eventConsumer);
+
+        EventPublisher onTimeout(EventConsumer<TimeLimiterOnTimeoutEvent> eventConsumer);
+    }
+
+    /**
+     * A MetricsRecorder records the calls of a TimeLimiter, for example in a metrics library.
+     * It is invoked on the calling thread and must neither block nor throw.
+     */
+    interface MetricsRecorder {
+
+        /**
+         * Records a call which completed in time.
+         *
+         * @param durationInNanos The elapsed time duration of the call
+         */
+        default void onSuccess(long durationInNanos) {
+        }
+
+        /**
+         * Records a call which completed in time but failed.
+         *
+         * @param durationInNanos The elapsed time duration of the call
+         */
+        default void onError(long durationInNanos) {
+        }
+
+        /**
+         * Records a call which did not complete in time.
+         *
+         * @param durationInNanos The elapsed time duration of the call
+         */
+        default void onTimeout(long durationInNanos) {
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package io.github.resilience4j.timelimiter;
+
+import io.github.resilience4j.core.Registry;
+import io.github.resilience4j.timelimiter.internal.InMemoryTimeLimiterRegistry;
+import io.vavr.collection.Seq;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Manages all TimeLimiter instances.
+ */
+public interface TimeLimiterRegistry extends Registry<TimeLimiter, TimeLimiterConfig> {
+
+    /**
+     * Returns all managed {@link TimeLimiter} instances.
+     *
+     * @return all managed {@link TimeLimiter} instances.
+     */
+    Seq<TimeLimiter> getAllTimeLimiters();
+
+    /**
+     * Returns a managed {@link TimeLimiter} or creates a new one with the default TimeLimiter configuration.
+     *
+     * @param name the name of the TimeLimiter
+     * @return The {@link TimeLimiter}
+     */
+    TimeLimiter timeLimiter(String name);
+
+    /**
+     * Returns a managed {@link TimeLimiter} or creates a new one with a custom TimeLimiter configuration.
+     *
+     * @param name              the name of the TimeLimiter
+     * @param timeLimiterConfig a custom TimeLimiter configuration
+     * @return The {@link TimeLimiter}
+     */
+    TimeLimiter timeLimiter(String name, TimeLimiterConfig timeLimiterConfig);
+
+    /**
+     * Returns a managed {@link TimeLimiter} or creates a new one with a custom TimeLimiter configuration.
+     *
+     * @param name                      the name of the TimeLimiter
+     * @param timeLimiterConfigSupplier a supplier of a custom TimeLimiter configuration
+     * @return The {@link TimeLimiter}
+     */
+    TimeLimiter timeLimiter(String name, Supplier<TimeLimiterConfig> timeLimiterConfigSupplier);
+
+    /**
+     * Returns a managed {@link TimeLimiter} or creates a new one with a custom TimeLimiter configuration.
+     *
+     * @param name       the name of the TimeLimiter
+     * @param configName a custom TimeLimiter configuration name
+     * @return The {@link TimeLimiter}
+     */
+    TimeLimiter timeLimiter(String name, String configName);
+
+    /**
+     * Creates a TimeLimiterRegistry with a custom TimeLimiter configuration.
+     *
+     * @param defaultTimeLimiterConfig a custom TimeLimiter configuration
+     * @return a TimeLimiterRegistry instance backed by a custom TimeLimiter configuration
+     */
+    static TimeLimiterRegistry of(TimeLimiterConfig defaultTimeLimiterConfig) {
+        return new InMemoryTimeLimiterRegistry(defaultTimeLimiterConfig);
+    }
+
+    /**
+     * Creates a TimeLimiterRegistry with a default TimeLimiter configuration.
+     *
+     * @return a TimeLimiterRegistry instance backed by a default TimeLimiter configuration
+     */
+    static TimeLimiterRegistry ofDefaults() {
+        return new InMemoryTimeLimiterRegistry(TimeLimiterConfig.ofDefaults());
+    }
+
+    /**
+     * Creates a TimeLimiterRegistry with a Map of shared TimeLimiter configurations.
+     *
+     * @param configs a Map of shared TimeLimiter configurations
+     * @return a TimeLimiterRegistry with a Map of shared TimeLimiter configurations.
+     */
+    static TimeLimiterRegistry of(Map<String, TimeLimiterConfig> configs) {
+        return new InMemoryTimeLimiterRegistry(configs);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.resilience4j.timelimiter.event;
+
+import io.github.resilience4j.core.EventClock;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+abstract class AbstractTimeLimiterEvent implements TimeLimiterEvent {
+
+    private final String timeLimiterName;
+    private final Duration elapsedDuration;
+    private final long creationTimeInMillis;
+
+    AbstractTimeLimiterEvent(String timeLimiterName, Duration elapsedDuration) {
+        this.timeLimiterName = timeLimiterName;
+        this.elapsedDuration = elapsedDuration;
+        this.creationTimeInMillis = EventClock.currentTimeMillis();
+    }
+
+    @Override
+    public String getTimeLimiterName() {
+        return timeLimiterName;
+    }
+
+    @Override
+    public ZonedDateTime getCreationTime() {
+        return EventClock.toZonedDateTime(creationTimeInMillis);
+    }
+
+    @Override
+    public long getCreationTimeInMillis() {
+        return creationTimeInMillis;
+    }
+
+    public Duration getElapsedDuration() {
+        return elapsedDuration;
+    }
+}
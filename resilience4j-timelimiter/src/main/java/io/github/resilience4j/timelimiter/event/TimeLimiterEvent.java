@@ -0,0 +1,51 @@
+package io.github.resilience4j.timelimiter.event;
+
+import java.time.ZonedDateTime;
+
+/**
+ * An event which is created by a {@link io.github.resilience4j.timelimiter.TimeLimiter}.
+ */
+public interface TimeLimiterEvent {
+
+    /**
+     * Returns the name of the TimeLimiter which has created the event.
+     *
+     * @return the name of the TimeLimiter which has created the event
+     */
+    String getTimeLimiterName();
+
+    /**
+     * Returns the type of the TimeLimiter event.
+     *
+     * @return the type of the TimeLimiter event
+     */
+    Type getEventType();
+
+    /**
+     * Returns the creation time of TimeLimiter event.
+     *
+     * @return the creation time of TimeLimiter event
+     */
+    ZonedDateTime getCreationTime();
+
+    /**
+     * Returns the creation time of TimeLimiter event in milliseconds since the epoch.
+     *
+     * @return the creation time of TimeLimiter event in milliseconds since the epoch
+     */
+    default long getCreationTimeInMillis() {
+        return getCreationTime().toInstant().toEpochMilli();
+    }
+
+    /**
+     * Event types which are created by a TimeLimiter.
+     */
+    enum Type {
+        /** A TimeLimiterEvent which informs that a call completed in time */
+        SUCCESS,
+        /** A TimeLimiterEvent which informs that a call completed in time with an error */
+        ERROR,
+        /** A TimeLimiterEvent which informs that a call did not complete in time */
+        TIMEOUT
+    }
+}
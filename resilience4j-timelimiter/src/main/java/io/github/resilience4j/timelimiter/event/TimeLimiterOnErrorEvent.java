@@ -0,0 +1,34 @@
+package io.github.resilience4j.timelimiter.event;
+
+import java.time.Duration;
+
+/**
+ * A TimeLimiterEvent which informs that a call completed in time with an error
+ */
+public class TimeLimiterOnErrorEvent extends AbstractTimeLimiterEvent {
+
+    private final Throwable throwable;
+
+    public TimeLimiterOnErrorEvent(String timeLimiterName, Duration elapsedDuration, Throwable throwable) {
+        super(timeLimiterName, elapsedDuration);
+        this.throwable = throwable;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    @Override
+    public Type getEventType() {
+        return Type.ERROR;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: TimeLimiter '%s' recorded an error: '%s'. Elapsed time: %s ms",
+            getCreationTime(),
+            getTimeLimiterName(),
+            getThrowable().toString(),
+            getElapsedDuration().toMillis());
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.resilience4j.timelimiter.event;
+
+import java.time.Duration;
+
+/**
+ * A TimeLimiterEvent which informs that a call completed in time
+ */
+public class TimeLimiterOnSuccessEvent extends AbstractTimeLimiterEvent {
+
+    public TimeLimiterOnSuccessEvent(String timeLimiterName, Duration elapsedDuration) {
+        super(timeLimiterName, elapsedDuration);
+    }
+
+    @Override
+    public Type getEventType() {
+        return Type.SUCCESS;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: TimeLimiter '%s' recorded a successful call. Elapsed time: %s ms",
+            getCreationTime(),
+            getTimeLimiterName(),
+            getElapsedDuration().toMillis());
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.resilience4j.timelimiter.event;
+
+import java.time.Duration;
+
+/**
+ * A TimeLimiterEvent which informs that a call did not complete in time
+ */
+public class TimeLimiterOnTimeoutEvent extends AbstractTimeLimiterEvent {
+
+    public TimeLimiterOnTimeoutEvent(String timeLimiterName, Duration elapsedDuration) {
+        super(timeLimiterName, elapsedDuration);
+    }
+
+    @Override
+    public Type getEventType() {
+        return Type.TIMEOUT;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: TimeLimiter '%s' recorded a timeout. Elapsed time: %s ms",
+            getCreationTime(),
+            getTimeLimiterName(),
+            getElapsedDuration().toMillis());
+    }
+}
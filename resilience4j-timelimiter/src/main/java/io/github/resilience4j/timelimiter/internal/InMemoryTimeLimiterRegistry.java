@@ -0,0 +1,82 @@
+package io.github.resilience4j.timelimiter.internal;
+
+import io.github.resilience4j.core.ConfigurationNotFoundException;
+import io.github.resilience4j.core.registry.AbstractRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.vavr.collection.Array;
+import io.vavr.collection.Seq;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Backend TimeLimiter manager.
+ * Constructs backend TimeLimiters according to configuration values.
+ */
+public class InMemoryTimeLimiterRegistry extends AbstractRegistry<TimeLimiter, TimeLimiterConfig> implements TimeLimiterRegistry {
+
+    /**
+     * The constructor with default default.
+     */
+    public InMemoryTimeLimiterRegistry() {
+        this(TimeLimiterConfig.ofDefaults());
+    }
+
+    public InMemoryTimeLimiterRegistry(Map<String, TimeLimiterConfig> configs) {
+        this(configs.getOrDefault(DEFAULT_CONFIG, TimeLimiterConfig.ofDefaults()));
+        this.configurations.putAll(configs);
+    }
+
+    /**
+     * The constructor with custom default config.
+     *
+     * @param defaultConfig The default config.
+     */
+    public InMemoryTimeLimiterRegistry(TimeLimiterConfig defaultConfig) {
+        super(defaultConfig);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Seq<TimeLimiter> getAllTimeLimiters() {
+        return Array.ofAll(entryMap.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TimeLimiter timeLimiter(final String name) {
+        return timeLimiter(name, getDefaultConfig());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TimeLimiter timeLimiter(final String name, final TimeLimiterConfig config) {
+        return computeIfAbsent(name, () -> TimeLimiter.of(name, Objects.requireNonNull(config, CONFIG_MUST_NOT_BE_NULL)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TimeLimiter timeLimiter(final String name, final Supplier<TimeLimiterConfig> timeLimiterConfigSupplier) {
+        return computeIfAbsent(name, () -> TimeLimiter.of(name, Objects.requireNonNull(Objects.requireNonNull(timeLimiterConfigSupplier, SUPPLIER_MUST_NOT_BE_NULL).get(), CONFIG_MUST_NOT_BE_NULL)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TimeLimiter timeLimiter(String name, String configName) {
+        return computeIfAbsent(name, () -> TimeLimiter.of(name, getConfiguration(configName)
+                .orElseThrow(() -> new ConfigurationNotFoundException(configName))));
+    }
+}
@@ -1,17 +1,142 @@
 package io.github.resilience4j.timelimiter.internal;
 
+import io.github.resilience4j.core.EventConsumer;
+import io.github.resilience4j.core.EventProcessor;
 import io.github.resilience4j.timelimiter.TimeLimiter;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.event.TimeLimiterEvent;
+import io.github.resilience4j.timelimiter.event.TimeLimiterOnErrorEvent;
+import io.github.resilience4j.timelimiter.event.TimeLimiterOnSuccessEvent;
+import io.github.resilience4j.timelimiter.event.TimeLimiterOnTimeoutEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
 
 public class TimeLimiterImpl implements TimeLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeLimiterImpl.class);
+
+    private final String name;
     private final TimeLimiterConfig timeLimiterConfig;
+    private final TimeLimiterEventProcessor eventProcessor;
+    private volatile MetricsRecorder[] metricsRecorders = new MetricsRecorder[0];
 
-    public TimeLimiterImpl(TimeLimiterConfig timeLimiterConfig) {
+    public TimeLimiterImpl(String name, TimeLimiterConfig timeLimiterConfig) {
+        this.name = name;
         this.timeLimiterConfig = timeLimiterConfig;
+        this.eventProcessor = new TimeLimiterEventProcessor();
+    }
+
+    @Override
+    public String getName() {
+        return name;
     }
 
     @Override
     public TimeLimiterConfig getTimeLimiterConfig() {
         return timeLimiterConfig;
     }
+
+    @Override
+    public EventPublisher getEventPublisher() {
+        return eventProcessor;
+    }
+
+    @Override
+    public synchronized void addMetricsRecorder(MetricsRecorder metricsRecorder) {
+        MetricsRecorder[] recorders = Arrays.copyOf(metricsRecorders, metricsRecorders.length + 1);
+        recorders[recorders.length - 1] = Objects.requireNonNull(metricsRecorder, "MetricsRecorder must not be null");
+        metricsRecorders = recorders;
+    }
+
+    @Override
+    public synchronized boolean removeMetricsRecorder(MetricsRecorder metricsRecorder) {
+        MetricsRecorder[] recorders = metricsRecorders;
+        for (int i = 0; i < recorders.length; i++) {
+            if (recorders[i] == metricsRecorder) {
+                MetricsRecorder[] remainingRecorders = new MetricsRecorder[recorders.length - 1];
+                System.arraycopy(recorders, 0, remainingRecorders, 0, i);
+                System.arraycopy(recorders, i + 1, remainingRecorders, i, remainingRecorders.length - i);
+                metricsRecorders = remainingRecorders;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onSuccess(long durationInNanos) {
+        for (MetricsRecorder metricsRecorder : metricsRecorders) {
+            metricsRecorder.onSuccess(durationInNanos);
+        }
+        if (eventProcessor.hasConsumers()) {
+            publishEvent(new TimeLimiterOnSuccessEvent(name, Duration.ofNanos(durationInNanos)));
+        }
+    }
+
+    @Override
+    public void onError(long durationInNanos, Throwable throwable) {
+        for (MetricsRecorder metricsRecorder : metricsRecorders) {
+            metricsRecorder.onError(durationInNanos);
+        }
+        if (eventProcessor.hasConsumers()) {
+            publishEvent(new TimeLimiterOnErrorEvent(name, Duration.ofNanos(durationInNanos), throwable));
+        }
+    }
+
+    @Override
+    public void onTimeout(long durationInNanos) {
+        for (MetricsRecorder metricsRecorder : metricsRecorders) {
+            metricsRecorder.onTimeout(durationInNanos);
+        }
+        if (eventProcessor.hasConsumers()) {
+            publishEvent(new TimeLimiterOnTimeoutEvent(name, Duration.ofNanos(durationInNanos)));
+        }
+    }
+
+    private void publishEvent(TimeLimiterEvent event) {
+        LOG.debug("Event {} published: {}", event.getEventType(), event);
+        try {
+            eventProcessor.consumeEvent(event);
+        } catch (Throwable t) {
+            LOG.warn("Failed to handle event {}", event.getEventType(), t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimeLimiterImpl{" +
+                "name='" + name + '\'' +
+                ", timeLimiterConfig=" + timeLimiterConfig +
+                '}';
+    }
+
+    private class TimeLimiterEventProcessor extends EventProcessor<TimeLimiterEvent> implements EventConsumer<TimeLimiterEvent>, EventPublisher {
+
+        @Override
+        public EventPublisher onSuccess(EventConsumer<TimeLimiterOnSuccessEvent> onSuccessEventConsumer) {
+            registerConsumer(TimeLimiterOnSuccessEvent.class.getSimpleName(), onSuccessEventConsumer);
+            return this;
+        }
+
+        @Override
+        public EventPublisher onError(EventConsumer<TimeLimiterOnErrorEvent> onErrorEventConsumer) {
+            registerConsumer(TimeLimiterOnErrorEvent.class.getSimpleName(), onErrorEventConsumer);
+            return this;
+        }
+
+        @Override
+        public EventPublisher onTimeout(EventConsumer<TimeLimiterOnTimeoutEvent> onTimeoutEventConsumer) {
+            registerConsumer(TimeLimiterOnTimeoutEvent.class.getSimpleName(), onTimeoutEventConsumer);
+            return this;
+        }
+
+        @Override
+        public void consumeEvent(TimeLimiterEvent event) {
+            super.processEvent(event);
+        }
+    }
 }
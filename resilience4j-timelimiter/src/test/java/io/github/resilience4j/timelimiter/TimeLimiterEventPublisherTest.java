@@ -0,0 +1,71 @@
+package io.github.resilience4j.timelimiter;
+
+import io.vavr.control.Try;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+public class TimeLimiterEventPublisherTest {
+
+    private TimeLimiter timeLimiter;
+    private Logger logger;
+
+    @Before
+    public void setUp() {
+        timeLimiter = TimeLimiter.of("test", TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(50))
+                .build());
+        logger = mock(Logger.class);
+    }
+
+    @Test
+    public void shouldReturnTheSameConsumer() {
+        TimeLimiter.EventPublisher eventPublisher = timeLimiter.getEventPublisher();
+        TimeLimiter.EventPublisher eventPublisher2 = timeLimiter.getEventPublisher();
+
+        assertThat(eventPublisher).isEqualTo(eventPublisher2);
+    }
+
+    @Test
+    public void shouldConsumeOnSuccessEvent() throws Exception {
+        timeLimiter.getEventPublisher()
+                .onSuccess(event -> logger.info(event.getEventType().toString()));
+
+        String result = timeLimiter.executeFutureSupplier(() -> CompletableFuture.completedFuture("Hello world"));
+
+        assertThat(result).isEqualTo("Hello world");
+        then(logger).should(times(1)).info("SUCCESS");
+    }
+
+    @Test
+    public void shouldConsumeOnErrorEvent() {
+        timeLimiter.getEventPublisher()
+                .onError(event -> logger.info(event.getThrowable().getMessage()));
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException("BAM!"));
+
+        Try.ofCallable(TimeLimiter.decorateFutureSupplier(timeLimiter, () -> future));
+
+        then(logger).should(times(1)).info("BAM!");
+    }
+
+    @Test
+    public void shouldConsumeOnTimeoutEvent() {
+        timeLimiter.getEventPublisher()
+                .onTimeout(event -> logger.info(event.getEventType().toString()));
+
+        Try<String> result = Try.ofCallable(TimeLimiter.decorateFutureSupplier(timeLimiter, () -> new CompletableFuture<String>()));
+
+        assertThat(result.getCause()).isInstanceOf(TimeoutException.class);
+        then(logger).should(times(1)).info("TIMEOUT");
+    }
+}
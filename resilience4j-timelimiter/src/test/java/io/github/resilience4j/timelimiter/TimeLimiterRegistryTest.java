@@ -0,0 +1,75 @@
+package io.github.resilience4j.timelimiter;
+
+import io.github.resilience4j.core.ConfigurationNotFoundException;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TimeLimiterRegistryTest {
+
+    @Test
+    public void shouldReturnTheSameInstance() {
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+
+        TimeLimiter timeLimiter1 = timeLimiterRegistry.timeLimiter("testName");
+        TimeLimiter timeLimiter2 = timeLimiterRegistry.timeLimiter("testName");
+
+        assertThat(timeLimiter1).isSameAs(timeLimiter2);
+        assertThat(timeLimiterRegistry.getAllTimeLimiters()).hasSize(1);
+    }
+
+    @Test
+    public void shouldReturnTheCorrectName() {
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter("testName");
+
+        assertThat(timeLimiter.getName()).isEqualTo("testName");
+    }
+
+    @Test
+    public void shouldCreateTimeLimiterWithCustomConfig() {
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+        TimeLimiterConfig config = TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(50)).build();
+
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter("testName", () -> config);
+
+        assertThat(timeLimiter.getTimeLimiterConfig()).isSameAs(config);
+    }
+
+    @Test
+    public void shouldCreateTimeLimiterWithSharedConfig() {
+        Map<String, TimeLimiterConfig> configs = new HashMap<>();
+        TimeLimiterConfig custom = TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(50)).build();
+        configs.put("custom", custom);
+
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(configs);
+
+        assertThat(timeLimiterRegistry.getDefaultConfig()).isNotNull();
+        assertThat(timeLimiterRegistry.timeLimiter("testName", "custom").getTimeLimiterConfig()).isSameAs(custom);
+    }
+
+    @Test
+    public void shouldPublishEntryAddedEvent() {
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+        Map<String, TimeLimiter> added = new HashMap<>();
+        timeLimiterRegistry.getEventPublisher().onEntryAdded(event -> added.put(event.getAddedEntry().getName(), event.getAddedEntry()));
+
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter("testName");
+
+        assertThat(added).containsEntry("testName", timeLimiter);
+    }
+
+    @Test
+    public void testWithNotExistingConfig() {
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+
+        assertThatThrownBy(() -> timeLimiterRegistry.timeLimiter("test", "doesNotExist"))
+                .isInstanceOf(ConfigurationNotFoundException.class);
+    }
+}
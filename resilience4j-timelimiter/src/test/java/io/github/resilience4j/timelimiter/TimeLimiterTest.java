@@ -76,4 +76,63 @@ public class TimeLimiterTest {
         Integer result = timeLimiter.executeFutureSupplier(supplier);
         Assertions.assertThat(result).isEqualTo(42);
     }
+
+    @Test
+    public void shouldRecordCallsWithMetricsRecorder() throws Exception {
+        Duration timeoutDuration = Duration.ofSeconds(1);
+        TimeLimiter timeLimiter = TimeLimiter.of(timeoutDuration);
+        TimeLimiter.MetricsRecorder metricsRecorder = mock(TimeLimiter.MetricsRecorder.class);
+        timeLimiter.addMetricsRecorder(metricsRecorder);
+
+        @SuppressWarnings("unchecked")
+        Future<Integer> mockFuture = (Future<Integer>) mock(Future.class);
+
+        Supplier<Future<Integer>> supplier = () -> mockFuture;
+        when(mockFuture.get(timeoutDuration.toMillis(), TimeUnit.MILLISECONDS))
+                .thenReturn(42)
+                .thenThrow(new TimeoutException());
+
+        timeLimiter.executeFutureSupplier(supplier);
+        Try.ofCallable(TimeLimiter.decorateFutureSupplier(timeLimiter, supplier));
+
+        verify(metricsRecorder).onSuccess(anyLong());
+        verify(metricsRecorder).onTimeout(anyLong());
+        verify(metricsRecorder, never()).onError(anyLong());
+    }
+
+    @Test
+    public void shouldNotRecordCallsWithRemovedMetricsRecorder() {
+        TimeLimiter timeLimiter = TimeLimiter.of(Duration.ofSeconds(1));
+        TimeLimiter.MetricsRecorder metricsRecorder = mock(TimeLimiter.MetricsRecorder.class);
+        timeLimiter.addMetricsRecorder(metricsRecorder);
+
+        Assertions.assertThat(timeLimiter.removeMetricsRecorder(metricsRecorder)).isTrue();
+        Assertions.assertThat(timeLimiter.removeMetricsRecorder(metricsRecorder)).isFalse();
+        timeLimiter.onSuccess(1);
+
+        verifyZeroInteractions(metricsRecorder);
+    }
+
+    @Test
+    public void shouldRecordInterruptedAndCancelledCallsAsErrors() throws Exception {
+        Duration timeoutDuration = Duration.ofSeconds(1);
+        TimeLimiter timeLimiter = TimeLimiter.of(timeoutDuration);
+        TimeLimiter.MetricsRecorder metricsRecorder = mock(TimeLimiter.MetricsRecorder.class);
+        timeLimiter.addMetricsRecorder(metricsRecorder);
+
+        @SuppressWarnings("unchecked")
+        Future<Integer> mockFuture = (Future<Integer>) mock(Future.class);
+
+        Supplier<Future<Integer>> supplier = () -> mockFuture;
+        when(mockFuture.get(timeoutDuration.toMillis(), TimeUnit.MILLISECONDS))
+                .thenThrow(new InterruptedException())
+                .thenThrow(new CancellationException());
+
+        Callable<Integer> decorated = TimeLimiter.decorateFutureSupplier(timeLimiter, supplier);
+
+        Assertions.assertThatThrownBy(decorated::call).isInstanceOf(InterruptedException.class);
+        Assertions.assertThatThrownBy(decorated::call).isInstanceOf(CancellationException.class);
+        verify(metricsRecorder, times(2)).onError(anyLong());
+        verify(metricsRecorder, never()).onTimeout(anyLong());
+    }
 }
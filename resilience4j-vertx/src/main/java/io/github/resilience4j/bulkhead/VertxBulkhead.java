@@ -0,0 +1,77 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.bulkhead;
+
+import io.vertx.core.Future;
+
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead decorators for Vert.x
+ * <p>
+ * A permission is only tried to be acquired, so that the event loop is never blocked by a full bulkhead.
+ */
+public interface VertxBulkhead {
+
+    /**
+     * Decorates and executes the decorated Future.
+     *
+     * @param bulkhead the Bulkhead
+     * @param supplier the Future Supplier
+     * @param <T> the type of results returned by this Future
+     * @return a future which is decorated by a Bulkhead.
+     */
+    static <T> Future<T> executeFuture(Bulkhead bulkhead, Supplier<Future<T>> supplier){
+        return decorateFuture(bulkhead, supplier).get();
+    }
+
+    /**
+     * Returns a Future which is decorated by a Bulkhead.
+     *
+     * @param bulkhead the Bulkhead
+     * @param supplier the Future supplier
+     * @param <T> the type of the returned Future's result
+     * @return a future which is decorated by a Bulkhead.
+     */
+    static <T> Supplier<Future<T>> decorateFuture(Bulkhead bulkhead, Supplier<Future<T>> supplier){
+        return () -> {
+            final Future<T> future = Future.future();
+
+            if (!bulkhead.tryAcquirePermission()) {
+                future.fail(new BulkheadFullException(bulkhead));
+
+            } else {
+                try {
+                    supplier.get().setHandler(result -> {
+                        bulkhead.onComplete();
+                        if (result.failed()) {
+                            future.fail(result.cause());
+                        } else {
+                            future.complete(result.result());
+                        }
+                    });
+                } catch (Exception exception) {
+                    bulkhead.onComplete();
+                    future.fail(exception);
+                }
+            }
+            return future;
+        };
+    }
+}
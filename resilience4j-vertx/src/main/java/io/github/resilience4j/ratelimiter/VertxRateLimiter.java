@@ -0,0 +1,80 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.ratelimiter;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * RateLimiter decorators for Vert.x
+ * <p>
+ * A permission is reserved instead of being waited for. If the permission becomes available in the future, the
+ * supplier is invoked by a Vert.x timer, so that the event loop is never blocked.
+ */
+public interface VertxRateLimiter {
+
+    /**
+     * Decorates and executes the decorated Future.
+     *
+     * @param vertx the Vert.x instance which schedules delayed invocations
+     * @param rateLimiter the RateLimiter
+     * @param supplier the Future Supplier
+     * @param <T> the type of results returned by this Future
+     * @return a future which is decorated by a RateLimiter.
+     */
+    static <T> Future<T> executeFuture(Vertx vertx, RateLimiter rateLimiter, Supplier<Future<T>> supplier){
+        return decorateFuture(vertx, rateLimiter, supplier).get();
+    }
+
+    /**
+     * Returns a Future which is decorated by a RateLimiter.
+     *
+     * @param vertx the Vert.x instance which schedules delayed invocations
+     * @param rateLimiter the RateLimiter
+     * @param supplier the Future supplier
+     * @param <T> the type of the returned Future's result
+     * @return a future which is decorated by a RateLimiter.
+     */
+    static <T> Supplier<Future<T>> decorateFuture(Vertx vertx, RateLimiter rateLimiter, Supplier<Future<T>> supplier){
+        return () -> {
+            final Future<T> future = Future.future();
+            final Runnable invocation = () -> {
+                try {
+                    supplier.get().setHandler(future);
+                } catch (Exception exception) {
+                    future.fail(exception);
+                }
+            };
+
+            long nanosToWait = rateLimiter.reservePermission();
+            if (nanosToWait < 0) {
+                future.fail(new RequestNotPermitted(rateLimiter));
+            } else if (nanosToWait == 0) {
+                invocation.run();
+            } else {
+                long millisToWait = TimeUnit.NANOSECONDS.toMillis(nanosToWait + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+                vertx.setTimer(millisToWait, timerId -> invocation.run());
+            }
+            return future;
+        };
+    }
+}
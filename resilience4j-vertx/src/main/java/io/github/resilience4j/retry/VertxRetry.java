@@ -0,0 +1,116 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retry;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.function.Supplier;
+
+/**
+ * Retry decorators for Vert.x
+ * <p>
+ * The wait interval between the attempts is awaited by a Vert.x timer, so that the event loop is never blocked.
+ */
+public interface VertxRetry {
+
+    /**
+     * Decorates and executes the decorated Future.
+     *
+     * @param vertx the Vert.x instance which schedules the retries
+     * @param retry the Retry
+     * @param supplier the Future Supplier
+     * @param <T> the type of results returned by this Future
+     * @return a future which is decorated by a Retry.
+     */
+    static <T> Future<T> executeFuture(Vertx vertx, Retry retry, Supplier<Future<T>> supplier){
+        return decorateFuture(vertx, retry, supplier).get();
+    }
+
+    /**
+     * Returns a Future which is decorated by a Retry.
+     *
+     * @param vertx the Vert.x instance which schedules the retries
+     * @param retry the Retry
+     * @param supplier the Future supplier
+     * @param <T> the type of the returned Future's result
+     * @return a future which is decorated by a Retry.
+     */
+    static <T> Supplier<Future<T>> decorateFuture(Vertx vertx, Retry retry, Supplier<Future<T>> supplier){
+        return () -> {
+            final Future<T> future = Future.future();
+            new VertxRetryBlock<>(vertx, retry.asyncContext(), supplier, future).run();
+            return future;
+        };
+    }
+
+    final class VertxRetryBlock<T> {
+        private final Vertx vertx;
+        private final Retry.AsyncContext<T> retryContext;
+        private final Supplier<Future<T>> supplier;
+        private final Future<T> future;
+
+        VertxRetryBlock(Vertx vertx, Retry.AsyncContext<T> retryContext, Supplier<Future<T>> supplier, Future<T> future) {
+            this.vertx = vertx;
+            this.retryContext = retryContext;
+            this.supplier = supplier;
+            this.future = future;
+        }
+
+        void run() {
+            final Future<T> attempt;
+            try {
+                attempt = supplier.get();
+            } catch (Exception exception) {
+                onError(exception);
+                return;
+            }
+            attempt.setHandler(result -> {
+                if (result.succeeded()) {
+                    onResult(result.result());
+                } else if (result.cause() instanceof Exception) {
+                    onError((Exception) result.cause());
+                } else {
+                    future.fail(result.cause());
+                }
+            });
+        }
+
+        private void onError(Exception exception) {
+            final long delay = retryContext.onError(exception);
+
+            if (delay < 1) {
+                future.fail(exception);
+            } else {
+                vertx.setTimer(delay, timerId -> run());
+            }
+        }
+
+        private void onResult(T result) {
+            final long delay = retryContext.onResult(result);
+
+            if (delay < 1) {
+                retryContext.onSuccess();
+                future.complete(result);
+            } else {
+                vertx.setTimer(delay, timerId -> run());
+            }
+        }
+    }
+}
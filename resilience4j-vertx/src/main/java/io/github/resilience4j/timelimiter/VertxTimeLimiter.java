@@ -0,0 +1,95 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.timelimiter;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * TimeLimiter decorators for Vert.x
+ * <p>
+ * The timeout is observed by a Vert.x timer instead of a blocking wait. A Vert.x Future can not be cancelled, hence
+ * {@link TimeLimiterConfig#shouldCancelRunningFuture()} has no effect and the result of a late future is dropped.
+ */
+public interface VertxTimeLimiter {
+
+    /**
+     * Decorates and executes the decorated Future.
+     *
+     * @param vertx the Vert.x instance which observes the timeout
+     * @param timeLimiter the TimeLimiter
+     * @param supplier the Future Supplier
+     * @param <T> the type of results returned by this Future
+     * @return a future which is decorated by a TimeLimiter.
+     */
+    static <T> Future<T> executeFuture(Vertx vertx, TimeLimiter timeLimiter, Supplier<Future<T>> supplier){
+        return decorateFuture(vertx, timeLimiter, supplier).get();
+    }
+
+    /**
+     * Returns a Future which is decorated by a TimeLimiter.
+     *
+     * @param vertx the Vert.x instance which observes the timeout
+     * @param timeLimiter the TimeLimiter
+     * @param supplier the Future supplier
+     * @param <T> the type of the returned Future's result
+     * @return a future which is decorated by a TimeLimiter.
+     */
+    static <T> Supplier<Future<T>> decorateFuture(Vertx vertx, TimeLimiter timeLimiter, Supplier<Future<T>> supplier){
+        return () -> {
+            final Future<T> future = Future.future();
+            final AtomicBoolean completed = new AtomicBoolean();
+
+            long start = System.nanoTime();
+            try {
+                Future<T> timedFuture = supplier.get();
+                long timeoutInMillis = Math.max(1, timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis());
+                long timerId = vertx.setTimer(timeoutInMillis, id -> {
+                    if (completed.compareAndSet(false, true)) {
+                        timeLimiter.onTimeout(System.nanoTime() - start);
+                        future.fail(new TimeoutException("TimeLimiter '" + timeLimiter.getName() + "' timed out after " + timeoutInMillis + "ms"));
+                    }
+                });
+                timedFuture.setHandler(result -> {
+                    vertx.cancelTimer(timerId);
+                    long durationInNanos = System.nanoTime() - start;
+                    if (!completed.compareAndSet(false, true)) {
+                        return;
+                    }
+                    if (result.failed()) {
+                        timeLimiter.onError(durationInNanos, result.cause());
+                        future.fail(result.cause());
+                    } else {
+                        timeLimiter.onSuccess(durationInNanos);
+                        future.complete(result.result());
+                    }
+                });
+            } catch (Exception exception) {
+                completed.set(true);
+                timeLimiter.onError(System.nanoTime() - start, exception);
+                future.fail(exception);
+            }
+            return future;
+        };
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.bulkhead;
+
+import io.github.resilience4j.circuitbreaker.test.VertxHelloWorldService;
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VertxBulkheadTest {
+
+    private VertxHelloWorldService helloWorldService;
+
+    @Before
+    public void setUp() {
+        helloWorldService = Mockito.mock(VertxHelloWorldService.class);
+    }
+
+    @Test
+    public void shouldExecuteFutureAndReleasePermissionOnSuccess() {
+        // Given
+        Bulkhead bulkhead = Bulkhead.of("testName", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.succeededFuture("Hello world"));
+
+        //When
+        Future<String> future = VertxBulkhead.executeFuture(bulkhead, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo("Hello world");
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        BDDMockito.then(helloWorldService).should(Mockito.times(1)).returnHelloWorld();
+    }
+
+    @Test
+    public void shouldExecuteFutureAndReleasePermissionOnFailure() {
+        // Given
+        Bulkhead bulkhead = Bulkhead.of("testName", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.failedFuture(new RuntimeException("BAM!")));
+
+        //When
+        Future<String> future = VertxBulkhead.executeFuture(bulkhead, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RuntimeException.class);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldHoldPermissionUntilFutureIsCompleted() {
+        // Given
+        Bulkhead bulkhead = Bulkhead.of("testName", BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitTime(0).build());
+        Future<String> pending = Future.future();
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(pending);
+
+        //When
+        Future<String> first = VertxBulkhead.executeFuture(bulkhead, helloWorldService::returnHelloWorld);
+        Future<String> second = VertxBulkhead.executeFuture(bulkhead, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(first.isComplete()).isFalse();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.cause()).isInstanceOf(BulkheadFullException.class);
+        BDDMockito.then(helloWorldService).should(Mockito.times(1)).returnHelloWorld();
+
+        pending.complete("Hello world");
+        assertThat(first.result()).isEqualTo("Hello world");
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+}
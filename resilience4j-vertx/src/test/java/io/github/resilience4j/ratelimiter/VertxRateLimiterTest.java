@@ -0,0 +1,113 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.ratelimiter;
+
+import io.github.resilience4j.circuitbreaker.test.VertxHelloWorldService;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class VertxRateLimiterTest {
+
+    private Vertx vertx;
+    private VertxHelloWorldService helloWorldService;
+
+    @Before
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        helloWorldService = Mockito.mock(VertxHelloWorldService.class);
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.succeededFuture("Hello world"));
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void shouldExecuteFutureIfPermissionIsAvailable() {
+        // Given
+        RateLimiter rateLimiter = RateLimiter.of("testName", RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofSeconds(10))
+            .timeoutDuration(Duration.ZERO)
+            .build());
+
+        //When
+        Future<String> future = VertxRateLimiter.executeFuture(vertx, rateLimiter, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo("Hello world");
+        BDDMockito.then(helloWorldService).should(Mockito.times(1)).returnHelloWorld();
+    }
+
+    @Test
+    public void shouldFailWithRequestNotPermittedIfNoPermissionCanBeReserved() {
+        // Given
+        RateLimiter rateLimiter = RateLimiter.of("testName", RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofSeconds(10))
+            .timeoutDuration(Duration.ZERO)
+            .build());
+        rateLimiter.acquirePermission();
+
+        //When
+        Future<String> future = VertxRateLimiter.executeFuture(vertx, rateLimiter, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RequestNotPermitted.class);
+        BDDMockito.then(helloWorldService).should(Mockito.never()).returnHelloWorld();
+    }
+
+    @Test
+    public void shouldExecuteFutureOnTimerIfPermissionIsReserved(TestContext context) {
+        // Given
+        RateLimiter rateLimiter = RateLimiter.of("testName", RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofMillis(200))
+            .timeoutDuration(Duration.ofSeconds(1))
+            .build());
+        rateLimiter.acquirePermission();
+
+        //When
+        Future<String> future = VertxRateLimiter.executeFuture(vertx, rateLimiter, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.isComplete()).isFalse();
+        BDDMockito.then(helloWorldService).should(Mockito.never()).returnHelloWorld();
+        future.setHandler(context.asyncAssertSuccess(result -> {
+            context.assertEquals("Hello world", result);
+            BDDMockito.then(helloWorldService).should(Mockito.times(1)).returnHelloWorld();
+        }));
+    }
+}
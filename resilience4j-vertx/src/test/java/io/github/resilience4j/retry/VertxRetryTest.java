@@ -0,0 +1,106 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.retry;
+
+import io.github.resilience4j.circuitbreaker.test.VertxHelloWorldService;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+@RunWith(VertxUnitRunner.class)
+public class VertxRetryTest {
+
+    private Vertx vertx;
+    private VertxHelloWorldService helloWorldService;
+    private Retry retry;
+
+    @Before
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        helloWorldService = Mockito.mock(VertxHelloWorldService.class);
+        retry = Retry.of("testName", RetryConfig.custom()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(10))
+            .build());
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void shouldNotRetryIfFutureSucceeds(TestContext context) {
+        // Given
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.succeededFuture("Hello world"));
+
+        //When
+        Future<String> future = VertxRetry.executeFuture(vertx, retry, helloWorldService::returnHelloWorld);
+
+        //Then
+        future.setHandler(context.asyncAssertSuccess(result -> {
+            context.assertEquals("Hello world", result);
+            BDDMockito.then(helloWorldService).should(Mockito.times(1)).returnHelloWorld();
+            context.assertEquals(1L, retry.getMetrics().getNumberOfSuccessfulCallsWithoutRetryAttempt());
+        }));
+    }
+
+    @Test
+    public void shouldRetryOnTimerUntilFutureSucceeds(TestContext context) {
+        // Given
+        BDDMockito.given(helloWorldService.returnHelloWorld())
+            .willReturn(Future.failedFuture(new RuntimeException("BAM!")))
+            .willReturn(Future.succeededFuture("Hello world"));
+
+        //When
+        Future<String> future = VertxRetry.executeFuture(vertx, retry, helloWorldService::returnHelloWorld);
+
+        //Then
+        future.setHandler(context.asyncAssertSuccess(result -> {
+            context.assertEquals("Hello world", result);
+            BDDMockito.then(helloWorldService).should(Mockito.times(2)).returnHelloWorld();
+            context.assertEquals(1L, retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt());
+        }));
+    }
+
+    @Test
+    public void shouldFailAfterMaxAttempts(TestContext context) {
+        // Given
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.failedFuture(new RuntimeException("BAM!")));
+
+        //When
+        Future<String> future = VertxRetry.executeFuture(vertx, retry, helloWorldService::returnHelloWorld);
+
+        //Then
+        future.setHandler(context.asyncAssertFailure(cause -> {
+            context.assertEquals("BAM!", cause.getMessage());
+            BDDMockito.then(helloWorldService).should(Mockito.times(3)).returnHelloWorld();
+            context.assertEquals(1L, retry.getMetrics().getNumberOfFailedCallsWithRetryAttempt());
+        }));
+    }
+}
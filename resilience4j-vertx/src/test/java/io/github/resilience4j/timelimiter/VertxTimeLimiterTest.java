@@ -0,0 +1,109 @@
+/*
+ *
+ *  Copyright 2019 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.resilience4j.timelimiter;
+
+import io.github.resilience4j.circuitbreaker.test.VertxHelloWorldService;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class VertxTimeLimiterTest {
+
+    private Vertx vertx;
+    private VertxHelloWorldService helloWorldService;
+    private TimeLimiter timeLimiter;
+
+    @Before
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        helloWorldService = Mockito.mock(VertxHelloWorldService.class);
+        timeLimiter = TimeLimiter.of(Duration.ofMillis(50));
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void shouldExecuteFutureAndReturnWithSuccess() {
+        // Given
+        AtomicInteger successes = new AtomicInteger();
+        timeLimiter.getEventPublisher().onSuccess(event -> successes.incrementAndGet());
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.succeededFuture("Hello world"));
+
+        //When
+        Future<String> future = VertxTimeLimiter.executeFuture(vertx, timeLimiter, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo("Hello world");
+        assertThat(successes.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldExecuteFutureAndReturnWithException() {
+        // Given
+        AtomicInteger errors = new AtomicInteger();
+        timeLimiter.getEventPublisher().onError(event -> errors.incrementAndGet());
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(Future.failedFuture(new RuntimeException("BAM!")));
+
+        //When
+        Future<String> future = VertxTimeLimiter.executeFuture(vertx, timeLimiter, helloWorldService::returnHelloWorld);
+
+        //Then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("BAM!");
+        assertThat(errors.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFailWithTimeoutExceptionIfFutureDoesNotCompleteInTime(TestContext context) {
+        // Given
+        AtomicInteger timeouts = new AtomicInteger();
+        timeLimiter.getEventPublisher().onTimeout(event -> timeouts.incrementAndGet());
+        Future<String> pending = Future.future();
+        BDDMockito.given(helloWorldService.returnHelloWorld()).willReturn(pending);
+
+        //When
+        Future<String> future = VertxTimeLimiter.executeFuture(vertx, timeLimiter, helloWorldService::returnHelloWorld);
+
+        //Then
+        future.setHandler(context.asyncAssertFailure(cause -> {
+            context.assertTrue(cause instanceof TimeoutException);
+            context.assertEquals(1, timeouts.get());
+            pending.complete("Hello world");
+            context.assertTrue(future.failed());
+        }));
+    }
+}